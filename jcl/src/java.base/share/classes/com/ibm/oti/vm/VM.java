@@ -136,6 +136,7 @@ public final class VM {
 	/*[PR CMVC 189091] Perf: EnumSet.allOf() is slow */
 	/*[PR CMVC 191554] Provide access to ClassLoader methods to improve performance */
 	private static VMLangAccess javalangVMaccess;
+	private static VMRefAccess javalangrefVMaccess;
 
 	static {
 		/* Note this is never called - the VM marks this class as initialized immediately after loading.
@@ -580,6 +581,22 @@ public static VMLangAccess getVMLangAccess() {
 	return javalangVMaccess;
 }
 
+public static void setVMRefAccess(VMRefAccess access) {
+	/*[MSG "K05ba", "Cannot set access twice"]*/
+	if (javalangrefVMaccess != null) throw new SecurityException(Msg.getString("K05ba")); //$NON-NLS-1$
+	javalangrefVMaccess = access;
+}
+
+/**
+ * Answers the access to the java.lang.ref internals, such as draining
+ * a ReferenceQueue in bulk.
+ *
+ * @return the VMRefAccess
+ */
+public static VMRefAccess getVMRefAccess() {
+	return javalangrefVMaccess;
+}
+
 /**
  * Set the current thread as a JVM System Thread
  * @return 0 on success, -1 on failure
@@ -674,6 +691,36 @@ public static Properties internalGetProperties() {
 	return getVMLangAccess().internalGetProperties();
 }
 
+/**
+ * Defines a batch of classes in a classloader. The result is the same as calling
+ * defineClass() for each class in order, but the class files are parsed, statically
+ * verified and translated by several threads at once. The classes are then defined
+ * and linked in order by the calling thread, stopping at the first class that fails.
+ *
+ * The class file arrays must not be modified until this method returns.
+ *
+ * Like the protected ClassLoader.defineClass(), this may only be called by a bootstrap
+ * class, or by a ClassLoader subclass for a loader that is an instance of that subclass.
+ *
+ * @param loader the classloader in which to define the classes
+ * @param classNames the names of the classes
+ * @param classReps the class files
+ * @param protectionDomain the protection domain of the classes, or null
+ * @return the defined classes, in the same order as classNames
+ *
+ * @throws SecurityException if the caller may not define classes in loader
+ */
+@CallerSensitive
+public static Class<?>[] defineClasses(ClassLoader loader, String[] classNames, byte[][] classReps, java.security.ProtectionDomain protectionDomain) {
+	Class<?> callerClass = getStackClass(1);
+	if (!isBootstrapClassLoader(getStackClassLoader(1))
+		&& !(ClassLoader.class.isAssignableFrom(callerClass) && callerClass.isInstance(loader))
+	) {
+		throw new SecurityException();
+	}
+	return getVMLangAccess().defineClasses(loader, classNames, classReps, protectionDomain);
+}
+
 /*[IF JFR_SUPPORT]*/
 
 public static native boolean isJFREnabled();
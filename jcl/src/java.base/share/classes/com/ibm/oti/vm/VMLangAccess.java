@@ -173,6 +173,17 @@ public interface VMLangAccess {
 	public void addPackageToList(Class<?> newClass, ClassLoader loader);
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 
+	/**
+	 * Defines a batch of classes in a classloader. See VM.defineClasses().
+	 *
+	 * @param loader the classloader in which to define the classes
+	 * @param classNames the names of the classes
+	 * @param classReps the class files
+	 * @param protectionDomain the protection domain of the classes
+	 * @return the defined classes, in the same order as classNames
+	 */
+	public Class<?>[] defineClasses(ClassLoader loader, String[] classNames, byte[][] classReps, java.security.ProtectionDomain protectionDomain);
+
 	/**
 	 * Create a thread that it has runnable as its run object, has threadName as its name, has contextClassLoader as its context ClassLoader,
 	 * has an option to be part of system thread group, has an option to inherit ThreadLocals or not, and has an option to set isDaemon.
@@ -0,0 +1,47 @@
+/*[INCLUDE-IF JAVA_SPEC_VERSION >= 8]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package com.ibm.oti.vm;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+
+/**
+ * Interface to allow privileged access to classes
+ * from outside the java.lang.ref package.
+ */
+public interface VMRefAccess {
+	/**
+	 * Removes up to length enqueued references from the queue, without waiting,
+	 * and stores them in refs starting at offset. This is cheaper than calling
+	 * ReferenceQueue.poll() for each reference when draining a busy queue.
+	 *
+	 * @param queue the queue to remove the references from
+	 * @param refs the array to store the references in
+	 * @param offset the index of the first reference in refs
+	 * @param length the maximum number of references to remove
+	 * @return the number of references removed
+	 */
+	public int drain(ReferenceQueue<?> queue, Reference<?>[] refs, int offset, int length);
+
+}
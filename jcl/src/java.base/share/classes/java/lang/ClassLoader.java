@@ -623,6 +623,62 @@ final Class<?> defineClassInternal(
 	/*[PR CVMC 124584] checkPackageAccess(), not defineClassImpl(), should use ProtectionDomain */
 	Class<?> answer = defineClassImpl(className, classRep, offset, length, pd);
 
+	postDefineClass(answer, pd, certs);
+	return answer;
+}
+
+/**
+ * Defines a batch of classes as if by calling defineClass(className, classRep, 0, classRep.length, protectionDomain)
+ * for each of them in order. The class files are parsed, verified and translated by several threads before the
+ * classes are defined in order by the calling thread. Definition stops at the first class that cannot be defined;
+ * the classes before it remain defined.
+ *
+ * @param classNames the names of the classes
+ * @param classReps the class files, which must not be modified until this method returns
+ * @param protectionDomain the protection domain of the classes
+ * @return the defined classes, in the same order as classNames
+ *
+ * @throws ClassFormatError when the bytes of a class are invalid
+ */
+final Class<?>[] defineClassesInternal(String[] classNames, byte[][] classReps, ProtectionDomain protectionDomain)
+		throws java.lang.ClassFormatError
+{
+	int count = classReps.length;
+	if (classNames.length != count) {
+		throw new IllegalArgumentException();
+	}
+
+	Certificate[] certs = null;
+	if (protectionDomain != null) {
+		final CodeSource cs = protectionDomain.getCodeSource();
+		if (cs != null) certs = cs.getCertificates();
+	}
+	for (int i = 0; i < count; i++) {
+		String className = classNames[i];
+		if ((className == null) || (classReps[i] == null)) {
+			throw new NullPointerException();
+		}
+		checkPackageSigners(checkClassName(className), className, certs);
+	}
+
+	if (protectionDomain == null) {
+		protectionDomain = getDefaultProtectionDomain();
+	}
+
+	Class<?>[] answers = new Class<?>[count];
+	try {
+		defineClassesImpl(classNames, classReps, protectionDomain, answers);
+	} finally {
+		for (Class<?> answer : answers) {
+			if (answer != null) {
+				postDefineClass(answer, protectionDomain, certs);
+			}
+		}
+	}
+	return answers;
+}
+
+private void postDefineClass(Class<?> answer, ProtectionDomain pd, Certificate[] certs) {
 	if (certs != null) {
 		setSigners(answer, certs);
 	}
@@ -647,7 +703,6 @@ final Class<?> defineClassInternal(
 		String location = (url != null) ? url.toString() : "<unknown>"; //$NON-NLS-1$
 		com.ibm.oti.vm.VM.dumpString("class load: " + answer.getName() + " from: " + location + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 	}
-	return answer;
 }
 
 /*[IF JAVA_SPEC_VERSION >= 15]*/
@@ -784,6 +839,12 @@ private final ProtectionDomain getDefaultProtectionDomainHelper() {
  */
 private final native Class<?> defineClassImpl(String className, byte [] classRep, int offset, int length, Object protectionDomain);
 
+/*
+ * VM level support for defining a batch of classes. The defined classes are stored
+ * in classes; on failure the classes defined before the failing one are stored.
+ */
+private final native void defineClassesImpl(String[] classNames, byte[][] classReps, Object protectionDomain, Class<?>[] classes);
+
 /**
  * Overridden by subclasses, by default throws ClassNotFoundException.
  * This method is called by loadClass() after the parent ClassLoader
@@ -245,6 +245,11 @@ final class VMAccess implements VMLangAccess {
 	}
 	/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 
+	@Override
+	public Class<?>[] defineClasses(ClassLoader loader, String[] classNames, byte[][] classReps, java.security.ProtectionDomain protectionDomain) {
+		return loader.defineClassesInternal(classNames, classReps, protectionDomain);
+	}
+
 	@Override
 	public Thread createThread(Runnable runnable, String threadName, boolean isSystemThreadGroup, boolean inheritThreadLocals, boolean isDaemon, ClassLoader contextClassLoader) {
 		return new Thread(runnable, threadName, isSystemThreadGroup, inheritThreadLocals, isDaemon, contextClassLoader);
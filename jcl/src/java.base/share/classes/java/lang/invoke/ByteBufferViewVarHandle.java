@@ -23,10 +23,10 @@
 package java.lang.invoke;
 
 import static java.lang.invoke.ByteBufferViewVarHandle.ByteBufferViewVarHandleOperations.*;
-import static java.lang.invoke.MethodHandles.Lookup.IMPL_LOOKUP;
 import static java.lang.invoke.MethodType.methodType;
 
 import com.ibm.oti.util.Msg;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.ReadOnlyBufferException;
@@ -88,131 +88,89 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 	@SuppressWarnings("unused")
 	static class ByteBufferViewVarHandleOperations extends ViewVarHandle.ViewVarHandleOperations {
 
-		/**
-		 * A ByteBuffer may be on-heap or off-heap. On-heap buffers are backed by a byte[],
-		 * and off-heap buffers have a base memory address. This class abstracts away the
-		 * difference so that a buffer element can simply be referenced by base and offset.
+		/* Offsets of the ByteBuffer fields which locate an element. An on-heap buffer is backed
+		 * by hb and its address is the offset of the first element within hb. An off-heap (direct)
+		 * buffer has a null hb and an absolute address. Either way an element is found at
+		 * (hb, address + index), so accesses need neither a branch on the kind of buffer nor an
+		 * intermediate object, and reduce to a single Unsafe load or store which the JIT can inline.
 		 */
-		private static class BufferElement {
-			private static final int INDEX_OFFSET = Unsafe.ARRAY_BYTE_BASE_OFFSET;
-			private static final MethodHandle directBufferAddressMH;
-			private static final MethodHandle onHeapBufferArrayMH;
-			private static final MethodHandle bufferOffsetMH;
-
-			final Object base;
-			final long offset;
-
-			static {
-				MethodHandle addressMH = null;
-				MethodHandle arrayMH = null;
-				MethodHandle offsetMH = null;
-				try {
-					addressMH = IMPL_LOOKUP.findGetter(ByteBuffer.class, "address", long.class);
-					arrayMH = IMPL_LOOKUP.findGetter(ByteBuffer.class, "hb", byte[].class);
-					offsetMH = IMPL_LOOKUP.findGetter(ByteBuffer.class, "offset", int.class);
-				} catch (Throwable t) {
-					throw new InternalError("Could not create MethodHandles for ByteBuffer fields", t);
-				}
-				directBufferAddressMH = addressMH;
-				onHeapBufferArrayMH = arrayMH;
-				bufferOffsetMH = offsetMH;
-			}
-
-			BufferElement(ByteBuffer buffer, int viewTypeSize, int index) {
-				if (buffer.isDirect()) {
-					this.base = null;
-					this.offset = computeAddress(buffer, index, viewTypeSize);
-				} else {
-					this.base = getArray(buffer);
-					this.offset = computeOffset(buffer, index, viewTypeSize);
-				}
-			}
-
-			private final byte[] getArray(ByteBuffer buffer) {
-				try {
-					return (byte[])onHeapBufferArrayMH.invokeExact(buffer);
-				} catch (Throwable e) {
-					throw new InternalError("Could not get ByteBuffer backing array", e);
-				}
-			}
-
-			private static final long computeOffset(ByteBuffer buffer, int index, int viewTypeSize) {
-				int arrayOffset = 0;
-				try {
-					arrayOffset = (int)bufferOffsetMH.invokeExact(buffer);
-				} catch (Throwable e) {
-					throw new InternalError("Could not get ByteBuffer offset", e);
-				}
-				return (long)INDEX_OFFSET + arrayOffset + index;
-			}
-
-			private static final long computeAddress(ByteBuffer buffer, int index, int viewTypeSize) {
-				long base = 0;
-				try {
-					base = (long)directBufferAddressMH.invokeExact(buffer);
-				} catch (Throwable e) {
-					throw new InternalError("Could not get ByteBuffer address", e);
-				}
-				return (long)base + index;
-			}
-		}
+		private static final long BUFFER_ADDRESS_OFFSET = _unsafe.objectFieldOffset(Buffer.class, "address"); //$NON-NLS-1$
+		private static final long BYTE_BUFFER_HB_OFFSET = _unsafe.objectFieldOffset(ByteBuffer.class, "hb"); //$NON-NLS-1$
 
-		static BufferElement checkAndGetBufferElement(ByteBuffer receiver, int viewTypeSize, int index, boolean readOnlyOperation, boolean allowUnaligned) {
+		/**
+		 * Checks that an element may be accessed and computes its offset.
+		 *
+		 * @param receiver The ByteBuffer to access.
+		 * @param viewTypeSize The size of the element in bytes.
+		 * @param index The byte index of the element within the buffer.
+		 * @param readOnlyOperation true if the access does not modify the buffer.
+		 * @param allowUnaligned true if the access does not need to be aligned.
+		 * @return The offset of the element, relative to the base returned by {@link #getBufferBase(ByteBuffer)}.
+		 */
+		static final long checkAndGetBufferOffset(ByteBuffer receiver, int viewTypeSize, int index, boolean readOnlyOperation, boolean allowUnaligned) {
 			receiver.getClass();
 			boundsCheck(receiver.limit(), viewTypeSize, index);
 			if ((!readOnlyOperation) && receiver.isReadOnly()) {
 				throw new ReadOnlyBufferException();
 			}
-			BufferElement be = new BufferElement(receiver, viewTypeSize, index);
-			alignmentCheck(be.offset, viewTypeSize, allowUnaligned);
-			return be;
+			long offset = _unsafe.getLong(receiver, BUFFER_ADDRESS_OFFSET) + index;
+			alignmentCheck(offset, viewTypeSize, allowUnaligned);
+			return offset;
+		}
+
+		/**
+		 * @param receiver The ByteBuffer to access.
+		 * @return The backing array of an on-heap buffer, or null for an off-heap buffer.
+		 */
+		static final Object getBufferBase(ByteBuffer receiver) {
+			return _unsafe.getObject(receiver, BYTE_BUFFER_HB_OFFSET);
 		}
 
 		static final class OpChar extends ByteBufferViewVarHandleOperations {
 			private static final int BYTES = Character.BYTES;
 
 			private static final char get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getChar(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getChar(getBufferBase(receiver), offset);
 
 			}
 
 			private static final void set(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putChar(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putChar(getBufferBase(receiver), offset, value);
 			}
 
 			private static final char getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getCharVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getCharVolatile(getBufferBase(receiver), offset);
 
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharVolatile(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharVolatile(getBufferBase(receiver), offset, value);
 			}
 
 			private static final char getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getCharOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getCharOpaque(getBufferBase(receiver), offset);
 
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharOpaque(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharOpaque(getBufferBase(receiver), offset, value);
 			}
 
 			private static final char getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getCharAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getCharAcquire(getBufferBase(receiver), offset);
 
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, char testValue, char newValue, VarHandle varHandle) {
@@ -312,98 +270,98 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Double.BYTES;
 
 			private static final double get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getDouble(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getDouble(getBufferBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putDouble(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putDouble(getBufferBase(receiver), offset, value);
 			}
 
 			private static final double getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getDoubleVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getDoubleVolatile(getBufferBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleVolatile(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleVolatile(getBufferBase(receiver), offset, value);
 			}
 
 			private static final double getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getDoubleOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getDoubleOpaque(getBufferBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleOpaque(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleOpaque(getBufferBase(receiver), offset, value);
 			}
 
 			private static final double getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getDoubleAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getDoubleAcquire(getBufferBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetDouble(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetDouble(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final double compareAndExchange(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeDouble(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeDouble(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final double compareAndExchangeAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeDoubleAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeDoubleAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final double compareAndExchangeRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeDoubleRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeDoubleRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoublePlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoubleAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoubleAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoubleRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoubleRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoublePlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final double getAndSet(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetDouble(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetDouble(getBufferBase(receiver), offset, value);
 			}
 
 			private static final double getAndSetAcquire(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetDoubleAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetDoubleAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final double getAndSetRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetDoubleRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetDoubleRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final double getAndAdd(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
@@ -459,98 +417,98 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Float.BYTES;
 
 			private static final float get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getFloat(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getFloat(getBufferBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putFloat(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putFloat(getBufferBase(receiver), offset, value);
 			}
 
 			private static final float getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getFloatVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getFloatVolatile(getBufferBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatVolatile(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatVolatile(getBufferBase(receiver), offset, value);
 			}
 
 			private static final float getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getFloatOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getFloatOpaque(getBufferBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatOpaque(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatOpaque(getBufferBase(receiver), offset, value);
 			}
 
 			private static final float getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getFloatAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getFloatAcquire(getBufferBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetFloat(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetFloat(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final float compareAndExchange(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeFloat(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeFloat(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final float compareAndExchangeAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeFloatAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeFloatAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final float compareAndExchangeRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeFloatRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeFloatRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatPlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatPlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final float getAndSet(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetFloat(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetFloat(getBufferBase(receiver), offset, value);
 			}
 
 			private static final float getAndSetAcquire(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetFloatAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetFloatAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final float getAndSetRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetFloatRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetFloatRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final float getAndAdd(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
@@ -606,158 +564,158 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Integer.BYTES;
 
 			private static final int get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getInt(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getInt(getBufferBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putInt(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putInt(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getIntVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getIntVolatile(getBufferBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntVolatile(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntVolatile(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getIntOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getIntOpaque(getBufferBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntOpaque(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntOpaque(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getIntAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getIntAcquire(getBufferBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetInt(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetInt(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final int compareAndExchange(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeInt(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeInt(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final int compareAndExchangeAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeIntAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeIntAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final int compareAndExchangeRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeIntRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeIntRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntPlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntPlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final int getAndSet(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetInt(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetInt(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndSetAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetIntAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndSetRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetIntRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndAdd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddInt(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddInt(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndAddAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddIntAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndAddRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddIntRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseAnd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndInt(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndInt(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseAndAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndIntAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseAndRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndIntRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseOr(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrInt(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrInt(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseOrAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrIntAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseOrRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrIntRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseXor(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorInt(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorInt(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseXorAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorIntAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorIntAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final int getAndBitwiseXorRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorIntRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorIntRelease(getBufferBase(receiver), offset, value);
 			}
 		}
 
@@ -765,158 +723,158 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Long.BYTES;
 
 			private static final long get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getLong(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getLong(getBufferBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putLong(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putLong(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getLongVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getLongVolatile(getBufferBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongVolatile(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongVolatile(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getLongOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getLongOpaque(getBufferBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongOpaque(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongOpaque(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getLongAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getLongAcquire(getBufferBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetLong(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetLong(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final long compareAndExchange(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeLong(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeLong(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final long compareAndExchangeAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeLongAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeLongAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final long compareAndExchangeRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndExchangeLongRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndExchangeLongRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongPlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongAcquire(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongAcquire(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongRelease(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongRelease(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, testValue, newValue);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongPlain(getBufferBase(receiver), offset, testValue, newValue);
 			}
 
 			private static final long getAndSet(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetLong(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetLong(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndSetAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetLongAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndSetRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndSetLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndSetLongRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndAdd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddLong(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddLong(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndAddAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddLongAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndAddRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndAddLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndAddLongRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseAnd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndLong(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndLong(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseAndAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndLongAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseAndRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseAndLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseAndLongRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseOr(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrLong(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrLong(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseOrAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrLongAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseOrRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseOrLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseOrLongRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseXor(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorLong(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorLong(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseXorAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorLongAcquire(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorLongAcquire(getBufferBase(receiver), offset, value);
 			}
 
 			private static final long getAndBitwiseXorRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.getAndBitwiseXorLongRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.getAndBitwiseXorLongRelease(getBufferBase(receiver), offset, value);
 			}
 		}
 
@@ -924,43 +882,43 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Short.BYTES;
 
 			private static final short get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				return _unsafe.getShort(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				return _unsafe.getShort(getBufferBase(receiver), offset);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putShort(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putShort(getBufferBase(receiver), offset, value);
 			}
 
 			private static final short getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getShortVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getShortVolatile(getBufferBase(receiver), offset);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortVolatile(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortVolatile(getBufferBase(receiver), offset, value);
 			}
 
 			private static final short getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getShortOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getShortOpaque(getBufferBase(receiver), offset);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortOpaque(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortOpaque(getBufferBase(receiver), offset, value);
 			}
 
 			private static final short getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				return _unsafe.getShortAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				return _unsafe.getShortAcquire(getBufferBase(receiver), offset);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortRelease(be.base, be.offset, value);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortRelease(getBufferBase(receiver), offset, value);
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, short testValue, short newValue, VarHandle varHandle) {
@@ -1060,47 +1018,47 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Character.BYTES;
 
 			private static final char get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				char result = _unsafe.getChar(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				char result = _unsafe.getChar(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putChar(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putChar(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final char getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				char result = _unsafe.getCharVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				char result = _unsafe.getCharVolatile(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharVolatile(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final char getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				char result = _unsafe.getCharOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				char result = _unsafe.getCharOpaque(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharOpaque(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final char getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				char result = _unsafe.getCharAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				char result = _unsafe.getCharAcquire(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, char value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putCharRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putCharRelease(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, char testValue, char newValue, VarHandle varHandle) {
@@ -1200,107 +1158,107 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Double.BYTES;
 
 			private static final double get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				double result = _unsafe.getDouble(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				double result = _unsafe.getDouble(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putDouble(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putDouble(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final double getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				double result = _unsafe.getDoubleVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				double result = _unsafe.getDoubleVolatile(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleVolatile(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final double getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				double result = _unsafe.getDoubleOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				double result = _unsafe.getDoubleOpaque(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleOpaque(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final double getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				double result = _unsafe.getDoubleAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				double result = _unsafe.getDoubleAcquire(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putDoubleRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putDoubleRelease(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetDouble(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetDouble(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final double compareAndExchange(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.compareAndExchangeDouble(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.compareAndExchangeDouble(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final double compareAndExchangeAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.compareAndExchangeDoubleAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.compareAndExchangeDoubleAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final double compareAndExchangeRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.compareAndExchangeDoubleRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.compareAndExchangeDoubleRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoublePlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoubleAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoubleAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoubleRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoubleRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, double testValue, double newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetDoublePlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetDoublePlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final double getAndSet(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.getAndSetDouble(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.getAndSetDouble(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final double getAndSetAcquire(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.getAndSetDoubleAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.getAndSetDoubleAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final double getAndSetRelease(ByteBuffer receiver, int index, double value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				double result = _unsafe.getAndSetDoubleRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				double result = _unsafe.getAndSetDoubleRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
@@ -1357,107 +1315,107 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Float.BYTES;
 
 			private static final float get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				float result = _unsafe.getFloat(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				float result = _unsafe.getFloat(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putFloat(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putFloat(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final float getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				float result = _unsafe.getFloatVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				float result = _unsafe.getFloatVolatile(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatVolatile(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final float getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				float result = _unsafe.getFloatOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				float result = _unsafe.getFloatOpaque(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatOpaque(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final float getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				float result = _unsafe.getFloatAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				float result = _unsafe.getFloatAcquire(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putFloatRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putFloatRelease(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetFloat(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetFloat(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final float compareAndExchange(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.compareAndExchangeFloat(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.compareAndExchangeFloat(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final float compareAndExchangeAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.compareAndExchangeFloatAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.compareAndExchangeFloatAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final float compareAndExchangeRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.compareAndExchangeFloatRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.compareAndExchangeFloatRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatPlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, float testValue, float newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetFloatPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetFloatPlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final float getAndSet(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.getAndSetFloat(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.getAndSetFloat(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final float getAndSetAcquire(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.getAndSetFloatAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.getAndSetFloatAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final float getAndSetRelease(ByteBuffer receiver, int index, float value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				float result = _unsafe.getAndSetFloatRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				float result = _unsafe.getAndSetFloatRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
@@ -1514,179 +1472,179 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Integer.BYTES;
 
 			private static final int get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				int result = _unsafe.getInt(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				int result = _unsafe.getInt(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putInt(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final int getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				int result = _unsafe.getIntVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				int result = _unsafe.getIntVolatile(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntVolatile(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final int getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				int result = _unsafe.getIntOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				int result = _unsafe.getIntOpaque(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntOpaque(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final int getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				int result = _unsafe.getIntAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				int result = _unsafe.getIntAcquire(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putIntRelease(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetInt(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetInt(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final int compareAndExchange(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.compareAndExchangeInt(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.compareAndExchangeInt(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final int compareAndExchangeAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.compareAndExchangeIntAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.compareAndExchangeIntAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final int compareAndExchangeRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.compareAndExchangeIntRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.compareAndExchangeIntRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntPlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, int testValue, int newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetIntPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetIntPlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final int getAndSet(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndSetInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndSetInt(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndSetAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndSetIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndSetIntAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndSetRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndSetIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndSetIntRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndAdd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndAddInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndAddInt(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndAddAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndAddIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndAddIntAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndAddRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndAddIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndAddIntRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseAnd(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseAndInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseAndInt(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseAndAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseAndIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseAndIntAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseAndRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseAndIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseAndIntRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseOr(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseOrInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseOrInt(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseOrAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseOrIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseOrIntAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseOrRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseOrIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseOrIntRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseXor(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseXorInt(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseXorInt(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseXorAcquire(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseXorIntAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseXorIntAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final int getAndBitwiseXorRelease(ByteBuffer receiver, int index, int value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				int result = _unsafe.getAndBitwiseXorIntRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				int result = _unsafe.getAndBitwiseXorIntRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 		}
@@ -1695,179 +1653,179 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Long.BYTES;
 
 			private static final long get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				long result = _unsafe.getLong(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				long result = _unsafe.getLong(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putLong(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final long getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				long result = _unsafe.getLongVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				long result = _unsafe.getLongVolatile(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongVolatile(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final long getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				long result = _unsafe.getLongOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				long result = _unsafe.getLongOpaque(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongOpaque(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final long getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				long result = _unsafe.getLongAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				long result = _unsafe.getLongAcquire(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putLongRelease(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.compareAndSetLong(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.compareAndSetLong(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final long compareAndExchange(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.compareAndExchangeLong(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.compareAndExchangeLong(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final long compareAndExchangeAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.compareAndExchangeLongAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.compareAndExchangeLongAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final long compareAndExchangeRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.compareAndExchangeLongRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.compareAndExchangeLongRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 				return convertEndian(result);
 			}
 
 			private static final boolean weakCompareAndSet(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongPlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetAcquire(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongAcquire(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongAcquire(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetRelease(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongRelease(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongRelease(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final boolean weakCompareAndSetPlain(ByteBuffer receiver, int index, long testValue, long newValue, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				return _unsafe.weakCompareAndSetLongPlain(be.base, be.offset, convertEndian(testValue), convertEndian(newValue));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				return _unsafe.weakCompareAndSetLongPlain(getBufferBase(receiver), offset, convertEndian(testValue), convertEndian(newValue));
 			}
 
 			private static final long getAndSet(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndSetLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndSetLong(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndSetAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndSetLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndSetLongAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndSetRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndSetLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndSetLongRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndAdd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndAddLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndAddLong(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndAddAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndAddLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndAddLongAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndAddRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndAddLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndAddLongRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseAnd(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseAndLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseAndLong(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseAndAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseAndLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseAndLongAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseAndRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseAndLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseAndLongRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseOr(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseOrLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseOrLong(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseOrAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseOrLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseOrLongAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseOrRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseOrLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseOrLongRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseXor(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseXorLong(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseXorLong(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseXorAcquire(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseXorLongAcquire(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseXorLongAcquire(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 
 			private static final long getAndBitwiseXorRelease(ByteBuffer receiver, int index, long value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				long result = _unsafe.getAndBitwiseXorLongRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				long result = _unsafe.getAndBitwiseXorLongRelease(getBufferBase(receiver), offset, convertEndian(value));
 				return convertEndian(result);
 			}
 		}
@@ -1876,47 +1834,47 @@ final class ByteBufferViewVarHandle extends ViewVarHandle {
 			private static final int BYTES = Short.BYTES;
 
 			private static final short get(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, true);
-				short result = _unsafe.getShort(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, true);
+				short result = _unsafe.getShort(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void set(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, true);
-				_unsafe.putShort(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, true);
+				_unsafe.putShort(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final short getVolatile(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				short result = _unsafe.getShortVolatile(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				short result = _unsafe.getShortVolatile(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setVolatile(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortVolatile(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortVolatile(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final short getOpaque(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				short result = _unsafe.getShortOpaque(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				short result = _unsafe.getShortOpaque(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setOpaque(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortOpaque(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortOpaque(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final short getAcquire(ByteBuffer receiver, int index, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, true, false);
-				short result = _unsafe.getShortAcquire(be.base, be.offset);
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, true, false);
+				short result = _unsafe.getShortAcquire(getBufferBase(receiver), offset);
 				return convertEndian(result);
 			}
 
 			private static final void setRelease(ByteBuffer receiver, int index, short value, VarHandle varHandle) {
-				BufferElement be = checkAndGetBufferElement(receiver, BYTES, index, false, false);
-				_unsafe.putShortRelease(be.base, be.offset, convertEndian(value));
+				long offset = checkAndGetBufferOffset(receiver, BYTES, index, false, false);
+				_unsafe.putShortRelease(getBufferBase(receiver), offset, convertEndian(value));
 			}
 
 			private static final boolean compareAndSet(ByteBuffer receiver, int index, short testValue, short newValue, VarHandle varHandle) {
@@ -22,15 +22,22 @@
  */
 package java.lang.ref;
 
+import java.util.concurrent.locks.LockSupport;
+
+import com.ibm.oti.vm.VM;
+import com.ibm.oti.vm.VMRefAccess;
+
 /*[IF JAVA_SPEC_VERSION < 9]*/
 import sun.misc.Cleaner;
 /*[ELSEIF JAVA_SPEC_VERSION < 26]*/
 import jdk.internal.ref.Cleaner;
 /*[ENDIF] JAVA_SPEC_VERSION < 9 */
 
-/*[IF JAVA_SPEC_VERSION >= 24]*/
-import jdk.internal.vm.Continuation;
-/*[ENDIF] JAVA_SPEC_VERSION >= 24*/
+/*[IF JAVA_SPEC_VERSION >= 9]*/
+import jdk.internal.misc.Unsafe;
+/*[ELSE] JAVA_SPEC_VERSION >= 9 */
+import sun.misc.Unsafe;
+/*[ENDIF] JAVA_SPEC_VERSION >= 9 */
 
 /*[IF CRIU_SUPPORT]*/
 import openj9.internal.criu.NotCheckpointSafe;
@@ -47,11 +54,40 @@ import openj9.internal.criu.NotCheckpointSafe;
  */
 
 public class ReferenceQueue<T> extends Object {
-	private Reference[] references;
-	private int head, tail;
-	private boolean empty;
+	/*
+	 * The queue is a lock-free linked list (Michael and Scott), so enqueuing
+	 * threads and polling threads never contend on a monitor. head is a sentinel
+	 * node, the references are held by the nodes which follow it. Threads waiting
+	 * in remove() push themselves on the waiters stack and park, which does not
+	 * pin a virtual thread to its carrier.
+	 */
+	private volatile Node head;
+	private volatile Node tail;
+	private volatile Waiter waiters;
 
-	static private final int DEFAULT_QUEUE_SIZE = 128;
+	private static final class Node {
+		Reference<?> reference;
+		volatile Node next;
+
+		Node(Reference<?> reference) {
+			this.reference = reference;
+		}
+	}
+
+	private static final class Waiter {
+		volatile Thread thread;
+		Waiter next;
+
+		Waiter(Thread thread) {
+			this.thread = thread;
+		}
+	}
+
+	private static final Unsafe unsafe = Unsafe.getUnsafe();
+	private static final long headOffset;
+	private static final long tailOffset;
+	private static final long waitersOffset;
+	private static final long nextOffset;
 
 	private static final Class reflectRefClass;
 
@@ -75,8 +111,41 @@ public class ReferenceQueue<T> extends Object {
 			tmpClass2 = Class.forName("java.lang.ClassLoader$ClassNameLockRef"); //$NON-NLS-1$
 		} catch (ClassNotFoundException e) {}
 		classNameLockRefClass = tmpClass2;
+
+		/*[IF JAVA_SPEC_VERSION >= 11]*/
+		headOffset = unsafe.objectFieldOffset(ReferenceQueue.class, "head"); //$NON-NLS-1$
+		tailOffset = unsafe.objectFieldOffset(ReferenceQueue.class, "tail"); //$NON-NLS-1$
+		waitersOffset = unsafe.objectFieldOffset(ReferenceQueue.class, "waiters"); //$NON-NLS-1$
+		nextOffset = unsafe.objectFieldOffset(Node.class, "next"); //$NON-NLS-1$
+		/*[ELSE] JAVA_SPEC_VERSION >= 11 */
+		try {
+			headOffset = unsafe.objectFieldOffset(ReferenceQueue.class.getDeclaredField("head")); //$NON-NLS-1$
+			tailOffset = unsafe.objectFieldOffset(ReferenceQueue.class.getDeclaredField("tail")); //$NON-NLS-1$
+			waitersOffset = unsafe.objectFieldOffset(ReferenceQueue.class.getDeclaredField("waiters")); //$NON-NLS-1$
+			nextOffset = unsafe.objectFieldOffset(Node.class.getDeclaredField("next")); //$NON-NLS-1$
+		} catch (NoSuchFieldException e) {
+			throw new InternalError(e);
+		}
+		/*[ENDIF] JAVA_SPEC_VERSION >= 11 */
+
+		VM.setVMRefAccess(new VMRefAccess() {
+			@Override
+			public int drain(ReferenceQueue<?> queue, Reference<?>[] refs, int offset, int length) {
+				return queue.drain(refs, offset, length);
+			}
+		});
 	}
 
+private static boolean compareAndSet(Object obj, long offset, Object expected, Object value) {
+	/*[IF JAVA_SPEC_VERSION >= 23]*/
+	return unsafe.compareAndSetReference(obj, offset, expected, value);
+	/*[ELSEIF JAVA_SPEC_VERSION >= 9]*/
+	return unsafe.compareAndSetObject(obj, offset, expected, value);
+	/*[ELSE] JAVA_SPEC_VERSION >= 9 */
+	return unsafe.compareAndSwapObject(obj, offset, expected, value);
+	/*[ENDIF] JAVA_SPEC_VERSION >= 23 */
+}
+
 /**
  * Returns the next available reference from the queue
  * if one is enqueued, null otherwise.  Does not wait
@@ -89,41 +158,71 @@ public class ReferenceQueue<T> extends Object {
 @NotCheckpointSafe
 /*[ENDIF] CRIU_SUPPORT */
 public Reference<? extends T> poll () {
-	Reference ref;
-
-	/* Optimization to return immediately and not synchronize if there is nothing in the queue */
-	if(empty) {
-		return null;
+	for (;;) {
+		Node first = head;
+		Node next = first.next;
+		if (null == next) {
+			return null;
+		}
+		if (compareAndSet(this, headOffset, first, next)) {
+			/* next is the new sentinel, only this thread reads its reference */
+			Reference ref = next.reference;
+			next.reference = null;
+			ref.dequeue();
+			return ref;
+		}
 	}
+}
 
-	/*[IF JAVA_SPEC_VERSION >= 24]*/
-	boolean isVirtual = false;
-	if (Thread.currentThread().isVirtual()) {
-		isVirtual = true;
-		Continuation.pin();
+/**
+ * Removes up to length enqueued references from the queue, without waiting,
+ * and stores them in refs starting at offset. The references are claimed
+ * with a single update of the queue head.
+ *
+ * @param		refs
+ *					the array to store the references in.
+ * @param		offset
+ *					the index of the first reference in refs.
+ * @param		length
+ *					the maximum number of references to remove.
+ * @return		the number of references removed.
+ */
+/*[IF CRIU_SUPPORT]*/
+@NotCheckpointSafe
+/*[ENDIF] CRIU_SUPPORT */
+int drain(Reference<?>[] refs, int offset, int length) {
+	if ((offset < 0) || (length < 0) || (offset > (refs.length - length))) {
+		throw new ArrayIndexOutOfBoundsException();
 	}
-	/*[ENDIF] JAVA_SPEC_VERSION >= 24*/
-	synchronized(this) {
-		if(empty) {
-			return null;
-		}
-		ref = references[head];
-		/*[PR 115652] null References when removed */
-		references[head++] = null;
-		ref.dequeue();
-		if(head == references.length) {
-			head = 0;
+	if (0 == length) {
+		return 0;
+	}
+	Node first;
+	Node last;
+	int count;
+	do {
+		first = head;
+		last = first;
+		count = 0;
+		for (Node next = last.next; (null != next) && (count < length); next = next.next) {
+			last = next;
+			count += 1;
 		}
-		if(head == tail) {
-			empty = true;
+		if (0 == count) {
+			return 0;
 		}
+	} while (!compareAndSet(this, headOffset, first, last));
+
+	/* the nodes after first up to last now belong to this thread */
+	Node node = first;
+	for (int i = 0; i < count; i++) {
+		node = node.next;
+		Reference<?> ref = node.reference;
+		node.reference = null;
+		ref.dequeue();
+		refs[offset + i] = ref;
 	}
-	/*[IF JAVA_SPEC_VERSION >= 24]*/
-	if (isVirtual) {
-		Continuation.unpin();
-	}
-	/*[ENDIF] JAVA_SPEC_VERSION >= 24*/
-	return ref;
+	return count;
 }
 
 /**
@@ -165,26 +264,60 @@ public Reference<? extends T> remove() throws InterruptedException {
 public Reference<? extends T> remove(long timeout) throws IllegalArgumentException, InterruptedException {
 	if (timeout < 0) throw new IllegalArgumentException();
 
-	Reference ref;
-	synchronized(this) {
-		if(empty) {
-			wait(timeout);
-			if(empty) return null;
+	if (Thread.interrupted()) {
+		throw new InterruptedException();
+	}
+	Reference<? extends T> ref = poll();
+	if (null != ref) {
+		return ref;
+	}
+
+	/* a timeout too large to represent in nanoseconds is the same as waiting forever */
+	boolean timed = (timeout > 0) && (timeout < (Long.MAX_VALUE / 1000000L));
+	long deadline = timed ? (System.nanoTime() + (timeout * 1000000L)) : 0L;
+	Thread self = Thread.currentThread();
+	for (;;) {
+		Waiter waiter = new Waiter(self);
+		pushWaiter(waiter);
+		/* check again now the waiter is visible to enqueue() so that a wakeup can't be missed */
+		ref = poll();
+		if (null == ref) {
+			if (timed) {
+				long remaining = deadline - System.nanoTime();
+				if (remaining > 0) {
+					LockSupport.parkNanos(this, remaining);
+				}
+			} else {
+				LockSupport.park(this);
+			}
+			ref = poll();
 		}
-		ref = references[head];
-		/*[PR 115652] null References when removed */
-		references[head++] = null;
-		ref.dequeue();
-		if(head == references.length) {
-			head = 0;
+		waiter.thread = null;
+		if (null != ref) {
+			return ref;
 		}
-		if(head == tail) {
-			empty = true;
-		} else {
-			notifyAll();
+		if (Thread.interrupted()) {
+			throw new InterruptedException();
+		}
+		if (timed && ((deadline - System.nanoTime()) <= 0)) {
+			return null;
+		}
+	}
+}
+
+private void pushWaiter(Waiter waiter) {
+	for (;;) {
+		Waiter first = waiters;
+		Waiter top = first;
+		/* discard the waiters which have already stopped waiting */
+		while ((null != top) && (null == top.thread)) {
+			top = top.next;
+		}
+		waiter.next = top;
+		if (compareAndSet(this, waitersOffset, first, waiter)) {
+			return;
 		}
 	}
-	return ref;
 }
 
 /**
@@ -210,29 +343,34 @@ void enqueue(Reference<? extends T> reference) {
 		((Runnable)reference).run();
 		return;
 	}
-	synchronized(this) {
-		/*[PR CMVC 181985] Perf: zWAS ftprint regressed 6% Java7 vs 626FP1 -ReferenceQueue */
-		if (references == null) {
-			references =  new Reference[DEFAULT_QUEUE_SIZE];
-		} else if (!empty && (head == tail)) {
-			/* Queue is full - grow */
-			int newQueueSize = (int)(references.length * 1.10);
-			Reference newQueue[] = new Reference[newQueueSize];
-			System.arraycopy(references, head, newQueue, 0, references.length - head);
-			if (tail > 0) {
-				System.arraycopy(references, 0, newQueue, references.length - head, tail);
+
+	/* the state must be set before the reference can be polled */
+	reference.setEnqueued();
+	Node node = new Node(reference);
+	for (;;) {
+		Node last = tail;
+		Node next = last.next;
+		if (null == next) {
+			if (compareAndSet(last, nextOffset, null, node)) {
+				compareAndSet(this, tailOffset, last, node);
+				break;
 			}
-			head = 0;
-			tail = references.length;
-			references = newQueue;
+		} else {
+			/* help a concurrent enqueue which has not updated tail yet */
+			compareAndSet(this, tailOffset, last, next);
 		}
-		references[tail++] = reference;
-		if (tail == references.length) {
-			tail = 0;
+	}
+
+	/* wake all the waiting threads, those that find the queue empty wait again */
+	Waiter waiter;
+	do {
+		waiter = waiters;
+	} while ((null != waiter) && !compareAndSet(this, waitersOffset, waiter, null));
+	for (; null != waiter; waiter = waiter.next) {
+		Thread thread = waiter.thread;
+		if (null != thread) {
+			LockSupport.unpark(thread);
 		}
-		empty = false;
-		reference.setEnqueued();
-		notifyAll();
 	}
 }
 
@@ -249,8 +387,8 @@ ReferenceQueue(int value) {
  * Constructs a new instance of this class.
  */
 public ReferenceQueue() {
-	head = 0;
-	tail = 0;
-	empty = true;
+	Node sentinel = new Node(null);
+	head = sentinel;
+	tail = sentinel;
 }
 }
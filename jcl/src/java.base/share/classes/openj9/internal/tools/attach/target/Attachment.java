@@ -283,6 +283,20 @@ final class Attachment extends Thread implements Response {
 				} catch (Exception e) {
 					replyWithProperties(DiagnosticProperties.makeExceptionProperties(e));
 				}
+			} else if (cmd.startsWith(Command.ATTACH_DIAGNOSTICS_STREAM_PREFIX)) {
+				String diagnosticCommand = cmd.substring(Command.ATTACH_DIAGNOSTICS_STREAM_PREFIX.length());
+				DiagnosticProperties result;
+				try (DiagnosticStreamWriter output = new DiagnosticStreamWriter(cmdStream, respStream)) {
+					result = DiagnosticUtils.executeStreamingDiagnosticCommand(diagnosticCommand, output);
+				} catch (IOException e) {
+					/* the attacher stopped reading the output */
+					throw e;
+				} catch (Exception e) {
+					result = DiagnosticProperties.makeExceptionProperties(e);
+				}
+				replyWithProperties(result);
+			} else if (cmd.startsWith(Command.ATTACH_SAMPLE_COUNTERS)) {
+				VMCounters.streamSamples(cmd.substring(Command.ATTACH_SAMPLE_COUNTERS.length()), cmdStream, respStream);
 			} else {
 				AttachmentConnection.streamSend(respStream, Response.ERROR
 						+ " command invalid: " + cmd); //$NON-NLS-1$
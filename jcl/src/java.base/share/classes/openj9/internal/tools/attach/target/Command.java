@@ -56,4 +56,16 @@ public interface Command {
 	static final String START_LOCAL_MANAGEMENT_AGENT = "ATTACH_START_LOCAL_MANAGEMENT_AGENT"; //$NON-NLS-1$
 	static final String ATTACH_DIAGNOSTICS_PREFIX = "ATTACH_DIAGNOSTICS:"; //$NON-NLS-1$
 
+	/**
+	 * Run a diagnostic command, returning its output as a sequence of chunks.
+	 * The attacher acknowledges each chunk with {@link #ATTACH_DIAGNOSTICS_STREAM_NEXT}.
+	 */
+	static final String ATTACH_DIAGNOSTICS_STREAM_PREFIX = "ATTACH_DIAGNOSTICS_STREAM:"; //$NON-NLS-1$
+	static final String ATTACH_DIAGNOSTICS_STREAM_NEXT = "ATTACH_DIAGNOSTICS_STREAM_NEXT"; //$NON-NLS-1$
+
+	/**
+	 * Sample VM counters periodically, returning binary records. See {@link VMCounters}.
+	 */
+	static final String ATTACH_SAMPLE_COUNTERS = "ATTACH_SAMPLE_COUNTERS:"; //$NON-NLS-1$
+
 }
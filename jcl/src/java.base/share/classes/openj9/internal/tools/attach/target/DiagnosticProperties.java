@@ -49,6 +49,11 @@ public class DiagnosticProperties {
 	 */
 	public static final String DIAGNOSTICS_STRING_RESULT = OPENJ9_DIAGNOSTICS_PREFIX + "string_result"; //$NON-NLS-1$
 
+	/**
+	 * Set to "true" in each partial result of a streamed command; the final message of the stream omits it.
+	 */
+	public static final String DIAGNOSTICS_STREAM_CHUNK = OPENJ9_DIAGNOSTICS_PREFIX + "stream_chunk"; //$NON-NLS-1$
+
 	private static final String JAVA_LANG_STRING = "java.lang.String"; //$NON-NLS-1$
 
 	/**
@@ -343,6 +348,28 @@ public class DiagnosticProperties {
 		return props;
 	}
 
+	/**
+	 * Create a properties file to hold one chunk of the output of a streamed command.
+	 *
+	 * @param text text of the chunk
+	 * @return DiagnosticProperties object
+	 */
+	public static DiagnosticProperties makeStreamChunk(String text) {
+		DiagnosticProperties props = new DiagnosticProperties();
+		props.put(DIAGNOSTICS_STREAM_CHUNK, true);
+		props.put(DIAGNOSTICS_STRING_RESULT, text);
+		return props;
+	}
+
+	/**
+	 * Check if these properties hold a partial result of a streamed command.
+	 *
+	 * @return true if more messages follow in the stream
+	 */
+	public boolean isStreamChunk() {
+		return Boolean.parseBoolean(getPropertyOrNull(DIAGNOSTICS_STREAM_CHUNK));
+	}
+
 	/**
 	 * Return the underlying properties object by reference.
 	 *
@@ -0,0 +1,117 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+package openj9.internal.tools.attach.target;
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * Sends the output of a diagnostic command to the attacher in chunks of bounded size.
+ * Each chunk is sent as a properties file and the next one is not sent until the attacher
+ * has acknowledged it, so that the target never buffers more than one chunk of output.
+ */
+final class DiagnosticStreamWriter extends Writer {
+	/* number of characters of output accumulated before a chunk is sent */
+	static final int CHUNK_SIZE = 32 * 1024;
+
+	private final InputStream commandStream;
+	private final OutputStream responseStream;
+	private final StringBuilder pending;
+	private boolean closed;
+
+	/**
+	 * @param commandStream  channel for acknowledgements from the attacher
+	 * @param responseStream channel to send chunks to the attacher
+	 */
+	DiagnosticStreamWriter(InputStream commandStream, OutputStream responseStream) {
+		this.commandStream = commandStream;
+		this.responseStream = responseStream;
+		this.pending = new StringBuilder(CHUNK_SIZE);
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if (closed) {
+			throw new IOException("stream closed"); //$NON-NLS-1$
+		}
+		while (len > 0) {
+			int count = Math.min(len, CHUNK_SIZE - pending.length());
+			pending.append(cbuf, off, count);
+			off += count;
+			len -= count;
+			if (pending.length() >= CHUNK_SIZE) {
+				sendChunk();
+			}
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		if (closed) {
+			throw new IOException("stream closed"); //$NON-NLS-1$
+		}
+		while (len > 0) {
+			int count = Math.min(len, CHUNK_SIZE - pending.length());
+			pending.append(str, off, off + count);
+			off += count;
+			len -= count;
+			if (pending.length() >= CHUNK_SIZE) {
+				sendChunk();
+			}
+		}
+	}
+
+	/**
+	 * Send any pending output to the attacher.
+	 */
+	@Override
+	public void flush() throws IOException {
+		if (!closed && (pending.length() > 0)) {
+			sendChunk();
+		}
+	}
+
+	/**
+	 * Send any pending output. This does not close the underlying connection.
+	 */
+	@Override
+	public void close() throws IOException {
+		flush();
+		closed = true;
+	}
+
+	private void sendChunk() throws IOException {
+		DiagnosticProperties chunk = DiagnosticProperties.makeStreamChunk(pending.toString());
+		pending.setLength(0);
+		IPC.sendProperties(chunk.toProperties(), responseStream);
+		responseStream.flush();
+		/* wait until the attacher is ready for more output */
+		String ack = AttachmentConnection.streamReceiveString(commandStream, Command.ATTACH_DIAGNOSTICS_STREAM_NEXT.length() + 1);
+		if (!Command.ATTACH_DIAGNOSTICS_STREAM_NEXT.equals(ack)) {
+			closed = true;
+			throw new IOException("unexpected reply to diagnostic output: " + ack); //$NON-NLS-1$
+		}
+	}
+}
@@ -24,8 +24,10 @@
 package openj9.internal.tools.attach.target;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -178,6 +180,15 @@ public class DiagnosticUtils {
 	// load JVMTI agent
 	private static final String DIAGNOSTICS_LOAD_JVMTI_AGENT = "JVMTI.agent_load";
 
+	/**
+	 * Report or control monitor contention profiling
+	 */
+	private static final String DIAGNOSTICS_MONITOR_CONTENTION = "Monitor.contention";
+	private static final String MONITOR_CONTENTION_ENABLE_OPTION = "enable";
+	private static final String MONITOR_CONTENTION_DISABLE_OPTION = "disable";
+	private static final String MONITOR_CONTENTION_RESET_OPTION = "reset";
+	private static final int MONITOR_CONTENTION_DEFAULT_COUNT = 10;
+
 	/**
 	 * Key for the command sent to executeDiagnosticCommand()
 	 */
@@ -197,6 +208,7 @@ public class DiagnosticUtils {
 	private static final String THREAD_LOCKED_SYNCHRONIZERS_OPTION = "-l";
 
 	private static final Map<String, Function<String, DiagnosticProperties>> commandTable;
+	private static final Map<String, StreamingCommand> streamingCommandTable;
 	private static final Map<String, String> helpTable;
 
 	/**
@@ -272,6 +284,9 @@ public class DiagnosticUtils {
 
 	private static native String getHeapClassStatisticsImpl();
 	private static native String triggerDumpsImpl(String dumpOptions, String event) throws InvalidDumpOptionExceptionBase;
+	private static native String getMonitorContentionImpl(int maxCount);
+	private static native boolean setMonitorContentionProfilingImpl(boolean enable);
+	private static native void resetMonitorContentionImpl();
 
 	/**
 	 * Run a diagnostic command and return the result in a properties file
@@ -295,7 +310,68 @@ public class DiagnosticUtils {
 		return result;
 	}
 
+	/**
+	 * A diagnostic command which writes its text output incrementally.
+	 */
+	@FunctionalInterface
+	private interface StreamingCommand {
+		/**
+		 * @param diagnosticCommand String containing the command and options
+		 * @param output destination for the text produced by the command
+		 * @return an empty string result on success, or diagnostic information in case of error
+		 * @throws IOException if the output cannot be written
+		 */
+		DiagnosticProperties apply(String diagnosticCommand, Writer output) throws IOException;
+	}
+
+	/**
+	 * Run a diagnostic command, writing its text output to a stream as it is produced
+	 * rather than accumulating it in the result. Commands which do not support streaming
+	 * return their entire output in the result.
+	 *
+	 * @param diagnosticCommand String containing the command and options
+	 * @param output destination for the text produced by the command
+	 * @return command result or diagnostic information in case of error
+	 * @throws IOException if the output cannot be written
+	 */
+	static DiagnosticProperties executeStreamingDiagnosticCommand(String diagnosticCommand, Writer output) throws IOException {
+		IPC.logMessage("executeStreamingDiagnosticCommand: ", diagnosticCommand);
+
+		DiagnosticProperties result;
+		String[] commandRoot = diagnosticCommand.split(DiagnosticUtils.DIAGNOSTICS_OPTION_SEPARATOR);
+		StreamingCommand cmd = streamingCommandTable.get(commandRoot[0]);
+		if (null == cmd) {
+			result = executeDiagnosticCommand(diagnosticCommand);
+		} else {
+			result = cmd.apply(diagnosticCommand, output);
+			result.put(DiagnosticUtils.COMMAND_STRING, diagnosticCommand);
+		}
+		return result;
+	}
+
+	/**
+	 * Run a streaming command and return its entire output as a string result.
+	 */
+	private static DiagnosticProperties collectOutput(String diagnosticCommand, StreamingCommand cmd) {
+		DiagnosticProperties result;
+		StringWriter buffer = new StringWriter(2000);
+		try {
+			result = cmd.apply(diagnosticCommand, buffer);
+			if (!Boolean.parseBoolean(result.getPropertyOrNull(IPC.PROPERTY_DIAGNOSTICS_ERROR))) {
+				result = DiagnosticProperties.makeStringResult(buffer.toString());
+			}
+		} catch (IOException e) {
+			/* not expected when writing to a StringWriter */
+			result = DiagnosticProperties.makeExceptionProperties(e);
+		}
+		return result;
+	}
+
 	private static DiagnosticProperties getHeapStatistics(String diagnosticCommand) {
+		return collectOutput(diagnosticCommand, DiagnosticUtils::writeHeapStatistics);
+	}
+
+	private static DiagnosticProperties writeHeapStatistics(String diagnosticCommand, Writer output) throws IOException {
 		DiagnosticProperties result = null;
 		boolean invalidArg = false;
 		boolean doLive = false;
@@ -315,18 +391,35 @@ public class DiagnosticUtils {
 			if (doLive) {
 				runGC();
 			}
+			/* The native returns the whole histogram as one String, so the memory used by
+			 * the command is not bounded by streaming it. Writing it a line at a time only
+			 * avoids making a second copy to convert the line separators.
+			 */
 			String hcsi = getHeapClassStatisticsImpl();
 			String lineSeparator = System.lineSeparator();
-			final String unixLineSeparator = "\n";
-			if (!unixLineSeparator.equals(lineSeparator)) {
-				hcsi = hcsi.replace(unixLineSeparator, lineSeparator);
+			int length = hcsi.length();
+			int lineStart = 0;
+			while (lineStart < length) {
+				int lineEnd = hcsi.indexOf('\n', lineStart);
+				if (lineEnd < 0) {
+					output.write(hcsi, lineStart, length - lineStart);
+					break;
+				}
+				output.write(hcsi, lineStart, lineEnd - lineStart);
+				output.write(lineSeparator);
+				lineStart = lineEnd + 1;
 			}
-			result = DiagnosticProperties.makeStringResult(hcsi);
+			output.flush();
+			result = DiagnosticProperties.makeStringResult("");
 		}
 		return result;
 	}
 
 	private static DiagnosticProperties getThreadInfo(String diagnosticCommand) {
+		return collectOutput(diagnosticCommand, DiagnosticUtils::writeThreadInfo);
+	}
+
+	private static DiagnosticProperties writeThreadInfo(String diagnosticCommand, Writer output) throws IOException {
 		DiagnosticProperties result = null;
 		boolean okay = true;
 		boolean addSynchronizers = false;
@@ -349,8 +442,7 @@ public class DiagnosticUtils {
 		if (!okay) {
 			result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
 		} else {
-			StringWriter buffer = new StringWriter(2000);
-			PrintWriter bufferPrinter = new PrintWriter(buffer);
+			PrintWriter bufferPrinter = new PrintWriter(output);
 			bufferPrinter.println(System.getProperty("java.vm.info"));
 			bufferPrinter.println();
 			ThreadInfoBase[] threadInfoBases = dumpAllThreadsImpl(true, addSynchronizers, Integer.MAX_VALUE);
@@ -366,8 +458,11 @@ public class DiagnosticUtils {
 				}
 				bufferPrinter.println();
 			}
-			bufferPrinter.flush();
-			result = DiagnosticProperties.makeStringResult(buffer.toString());
+			/* checkError() also flushes the output */
+			if (bufferPrinter.checkError()) {
+				throw new IOException("Error writing thread information");
+			}
+			result = DiagnosticProperties.makeStringResult("");
 		}
 		return result;
 	}
@@ -611,6 +706,53 @@ public class DiagnosticUtils {
 		return DiagnosticProperties.makeStringResult(buffer.toString());
 	}
 
+	private static DiagnosticProperties getMonitorContention(String diagnosticCommand) {
+		DiagnosticProperties result = null;
+		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
+		if (parts.length > 2) {
+			result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+		} else if (parts.length == 1) {
+			result = printMonitorContention(MONITOR_CONTENTION_DEFAULT_COUNT);
+		} else {
+			String option = parts[1].trim();
+			if (MONITOR_CONTENTION_ENABLE_OPTION.equalsIgnoreCase(option)) {
+				if (setMonitorContentionProfilingImpl(true)) {
+					result = DiagnosticProperties.makeStringResult("Monitor contention profiling enabled");
+				} else {
+					result = DiagnosticProperties.makeStatusProperties(true, "Monitor contention profiling could not be enabled");
+				}
+			} else if (MONITOR_CONTENTION_DISABLE_OPTION.equalsIgnoreCase(option)) {
+				setMonitorContentionProfilingImpl(false);
+				result = DiagnosticProperties.makeStringResult("Monitor contention profiling disabled");
+			} else if (MONITOR_CONTENTION_RESET_OPTION.equalsIgnoreCase(option)) {
+				resetMonitorContentionImpl();
+				result = DiagnosticProperties.makeStringResult("Monitor contention statistics discarded");
+			} else {
+				try {
+					int count = Integer.parseInt(option);
+					if (count < 0) {
+						result = DiagnosticProperties.makeErrorProperties("Invalid monitor count: " + option);
+					} else {
+						result = printMonitorContention(count);
+					}
+				} catch (NumberFormatException e) {
+					result = DiagnosticProperties.makeErrorProperties("Command not recognized: " + diagnosticCommand);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static DiagnosticProperties printMonitorContention(int maxCount) {
+		String contention = getMonitorContentionImpl(maxCount);
+		String lineSeparator = System.lineSeparator();
+		final String unixLineSeparator = "\n";
+		if (!unixLineSeparator.equals(lineSeparator)) {
+			contention = contention.replace(unixLineSeparator, lineSeparator);
+		}
+		return DiagnosticProperties.makeStringResult(contention);
+	}
+
 	private static DiagnosticProperties loadJVMTIAgent(String diagnosticCommand) {
 		DiagnosticProperties result;
 		String[] parts = diagnosticCommand.split(DIAGNOSTICS_OPTION_SEPARATOR);
@@ -774,6 +916,15 @@ public class DiagnosticUtils {
 			+ "          agentLibrary: the absolute path of the agent%n"
 			+ "          agent option: (Optional) the agent option string%n";
 
+	private static final String DIAGNOSTICS_MONITOR_CONTENTION_HELP = "Report the most contended Java monitors.%n"
+			+ FORMAT_PREFIX + DIAGNOSTICS_MONITOR_CONTENTION + " [<count>|enable|disable|reset]%n"
+			+ "        count : print the <count> monitors with the longest blocked time (default "
+			+ MONITOR_CONTENTION_DEFAULT_COUNT + ")%n"
+			+ "       enable : start recording monitor contention%n"
+			+ "      disable : stop recording monitor contention, keeping the statistics%n"
+			+ "        reset : discard the statistics%n"
+			+ " Times are in microseconds. Recording can also be enabled with -XX:+MonitorContentionProfiling.%n";
+
 /*[IF CRAC_SUPPORT]*/
 	private static final String DIAGNOSTICS_JDK_CHECKPOINT_HELP = "Produce a JVM checkpoint via CRIUSupport.%n"
 			+ FORMAT_PREFIX + DIAGNOSTICS_JDK_CHECKPOINT + "%n"
@@ -805,18 +956,21 @@ public class DiagnosticUtils {
 	static {
 		IDCacheInitializer.init();
 		commandTable = new HashMap<>();
+		streamingCommandTable = new HashMap<>();
 		helpTable = new HashMap<>();
 
 		commandTable.put(DIAGNOSTICS_HELP, DiagnosticUtils::doHelp);
 		helpTable.put(DIAGNOSTICS_HELP, DIAGNOSTICS_HELP_HELP);
 
 		commandTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DiagnosticUtils::getHeapStatistics);
+		streamingCommandTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DiagnosticUtils::writeHeapStatistics);
 		helpTable.put(DIAGNOSTICS_GC_CLASS_HISTOGRAM, DIAGNOSTICS_GC_CLASS_HISTOGRAM_HELP);
 
 		commandTable.put(DIAGNOSTICS_GC_RUN, s -> runGC());
 		helpTable.put(DIAGNOSTICS_GC_RUN, DIAGNOSTICS_GC_RUN_HELP);
 
 		commandTable.put(DIAGNOSTICS_THREAD_PRINT, DiagnosticUtils::getThreadInfo);
+		streamingCommandTable.put(DIAGNOSTICS_THREAD_PRINT, DiagnosticUtils::writeThreadInfo);
 		helpTable.put(DIAGNOSTICS_THREAD_PRINT, DIAGNOSTICS_THREAD_PRINT_HELP);
 
 		commandTable.put(DIAGNOSTICS_DUMP_HEAP, DiagnosticUtils::doDump);
@@ -840,6 +994,9 @@ public class DiagnosticUtils {
 		commandTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DiagnosticUtils::loadJVMTIAgent);
 		helpTable.put(DIAGNOSTICS_LOAD_JVMTI_AGENT, DIAGNOSTICS_LOAD_JVMTI_AGENT_HELP);
 
+		commandTable.put(DIAGNOSTICS_MONITOR_CONTENTION, DiagnosticUtils::getMonitorContention);
+		helpTable.put(DIAGNOSTICS_MONITOR_CONTENTION, DIAGNOSTICS_MONITOR_CONTENTION_HELP);
+
 /*[IF CRAC_SUPPORT]*/
 		if (InternalCRIUSupport.isCRaCSupportEnabled()) {
 			commandTable.put(DIAGNOSTICS_JDK_CHECKPOINT, DiagnosticUtils::doCRaCCheckpointJVM);
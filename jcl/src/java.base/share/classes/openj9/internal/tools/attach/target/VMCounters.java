@@ -0,0 +1,212 @@
+/*[INCLUDE-IF Sidecar18-SE]*/
+package openj9.internal.tools.attach.target;
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodic sampling of VM counters over an attach connection.
+ * <p>
+ * The attacher sends {@link Command#ATTACH_SAMPLE_COUNTERS} followed by
+ * <code>&lt;interval&gt;,&lt;count&gt;</code>, the interval between samples in milliseconds
+ * and the number of samples, where 0 requests samples until the connection is closed.
+ * The target replies with a properties file describing the records. If the reply reports
+ * success, the attacher sends {@link Command#ATTACH_DIAGNOSTICS_STREAM_NEXT} and the target
+ * then writes the records, without any framing, one record per interval. After the last
+ * record the connection returns to accepting commands.
+ * <p>
+ * Each record is {@link #FIELD_COUNT} big-endian signed 64-bit integers, in the order of the
+ * field index constants in this class. Times are in milliseconds and sizes in bytes. A counter
+ * which is not available is reported as -1. Fields may be added at the end of the record in later
+ * versions of the schema, so collectors should use the record size given in the reply.
+ */
+public final class VMCounters {
+	/**
+	 * Version of the record schema.
+	 */
+	public static final int SCHEMA_VERSION = 1;
+
+	/** Wall clock time of the sample, in milliseconds since the epoch. */
+	public static final int TIMESTAMP = 0;
+	/** Time since the VM started. */
+	public static final int UPTIME = 1;
+	/** Heap memory in use. */
+	public static final int HEAP_USED = 2;
+	/** Heap memory committed. */
+	public static final int HEAP_COMMITTED = 3;
+	/** Maximum heap size. */
+	public static final int HEAP_MAX = 4;
+	/** Number of garbage collections, summed over all collectors. */
+	public static final int GC_COUNT = 5;
+	/** Time spent in garbage collection, summed over all collectors. */
+	public static final int GC_TIME = 6;
+	/** Time spent compiling by the JIT, or -1 if the JIT is disabled. */
+	public static final int COMPILATION_TIME = 7;
+	/** Number of classes currently loaded. */
+	public static final int CLASSES_LOADED = 8;
+	/** Number of classes unloaded since the VM started. */
+	public static final int CLASSES_UNLOADED = 9;
+	/** Number of live threads. */
+	public static final int THREADS_LIVE = 10;
+	/** Number of live daemon threads. */
+	public static final int THREADS_DAEMON = 11;
+	/** Peak number of live threads. */
+	public static final int THREADS_PEAK = 12;
+	/** Number of threads started since the VM started. */
+	public static final int THREADS_STARTED = 13;
+
+	/**
+	 * Number of fields in a record.
+	 */
+	public static final int FIELD_COUNT = 14;
+
+	/**
+	 * Size of a record in bytes.
+	 */
+	public static final int RECORD_SIZE = FIELD_COUNT * Long.BYTES;
+
+	private static final String[] FIELD_NAMES = {
+			"timestamp", //$NON-NLS-1$
+			"uptime", //$NON-NLS-1$
+			"heap_used", //$NON-NLS-1$
+			"heap_committed", //$NON-NLS-1$
+			"heap_max", //$NON-NLS-1$
+			"gc_count", //$NON-NLS-1$
+			"gc_time", //$NON-NLS-1$
+			"compilation_time", //$NON-NLS-1$
+			"classes_loaded", //$NON-NLS-1$
+			"classes_unloaded", //$NON-NLS-1$
+			"threads_live", //$NON-NLS-1$
+			"threads_daemon", //$NON-NLS-1$
+			"threads_peak", //$NON-NLS-1$
+			"threads_started", //$NON-NLS-1$
+	};
+
+	/**
+	 * Keys for the reply to a sampling request.
+	 */
+	public static final String PROPERTY_SCHEMA_VERSION = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "counters.schema_version"; //$NON-NLS-1$
+	public static final String PROPERTY_RECORD_SIZE = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "counters.record_size"; //$NON-NLS-1$
+	public static final String PROPERTY_FIELDS = DiagnosticProperties.OPENJ9_DIAGNOSTICS_PREFIX + "counters.fields"; //$NON-NLS-1$
+
+	/**
+	 * Shortest interval between samples, in milliseconds.
+	 */
+	public static final long MINIMUM_INTERVAL = 10;
+
+	private VMCounters() {
+	}
+
+	/**
+	 * @param field field index
+	 * @return name of the field as reported in the reply to a sampling request
+	 */
+	public static String getFieldName(int field) {
+		return FIELD_NAMES[field];
+	}
+
+	/**
+	 * Create the arguments of a sampling request.
+	 *
+	 * @param interval milliseconds between samples
+	 * @param count number of samples, or 0 to sample until the connection is closed
+	 * @return formatted string
+	 */
+	public static String makeSampleCommand(long interval, int count) {
+		return Command.ATTACH_SAMPLE_COUNTERS + interval + DiagnosticUtils.DIAGNOSTICS_OPTION_SEPARATOR + count;
+	}
+
+	private static native void getVMCountersImpl(long[] counters);
+
+	/**
+	 * Handle a sampling request from an attacher.
+	 *
+	 * @param arguments text of the command following the command name
+	 * @param commandStream channel for commands from the attacher
+	 * @param responseStream channel to send the reply and records to the attacher
+	 * @throws IOException if the attacher closes the connection or the sampling is interrupted
+	 */
+	static void streamSamples(String arguments, InputStream commandStream, OutputStream responseStream) throws IOException {
+		long interval = 0;
+		int count = -1;
+		String[] parts = arguments.split(DiagnosticUtils.DIAGNOSTICS_OPTION_SEPARATOR);
+		if (2 == parts.length) {
+			try {
+				interval = Long.parseLong(parts[0]);
+				count = Integer.parseInt(parts[1]);
+			} catch (NumberFormatException e) {
+				count = -1;
+			}
+		}
+		if ((interval < MINIMUM_INTERVAL) || (count < 0)) {
+			DiagnosticProperties error = DiagnosticProperties.makeErrorProperties("Invalid sampling arguments: " + arguments //$NON-NLS-1$
+					+ ", expected <interval>,<count> with interval at least " + MINIMUM_INTERVAL + "ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			IPC.sendProperties(error.toProperties(), responseStream);
+			return;
+		}
+
+		DiagnosticProperties reply = DiagnosticProperties.makeCommandSucceeded();
+		reply.put(PROPERTY_SCHEMA_VERSION, SCHEMA_VERSION);
+		reply.put(PROPERTY_RECORD_SIZE, RECORD_SIZE);
+		reply.put(PROPERTY_FIELDS, String.join(DiagnosticUtils.DIAGNOSTICS_OPTION_SEPARATOR, FIELD_NAMES));
+		IPC.sendProperties(reply.toProperties(), responseStream);
+		responseStream.flush();
+
+		/* the records are not framed, so wait until the attacher has consumed the reply */
+		String ack = AttachmentConnection.streamReceiveString(commandStream, Command.ATTACH_DIAGNOSTICS_STREAM_NEXT.length() + 1);
+		if (!Command.ATTACH_DIAGNOSTICS_STREAM_NEXT.equals(ack)) {
+			throw new IOException("unexpected reply to counter sampling: " + ack); //$NON-NLS-1$
+		}
+
+		/* the underlying stream must stay open, so this is flushed but never closed */
+		DataOutputStream records = new DataOutputStream(new BufferedOutputStream(responseStream, RECORD_SIZE));
+		long[] counters = new long[FIELD_COUNT];
+		long intervalNanos = TimeUnit.MILLISECONDS.toNanos(interval);
+		long nextSample = System.nanoTime();
+		for (int i = 0; (0 == count) || (i < count); ++i) {
+			if (i > 0) {
+				/* sample at a fixed rate, without accumulating the time taken to send each record */
+				nextSample += intervalNanos;
+				long delay = nextSample - System.nanoTime();
+				if (delay > 0) {
+					try {
+						TimeUnit.NANOSECONDS.sleep(delay);
+					} catch (InterruptedException e) {
+						throw new InterruptedIOException("counter sampling interrupted"); //$NON-NLS-1$
+					}
+				}
+			}
+			getVMCountersImpl(counters);
+			for (long value : counters) {
+				records.writeLong(value);
+			}
+			records.flush();
+		}
+	}
+}
@@ -113,6 +113,57 @@ public final class CompilationMXBeanImpl implements CompilationMXBean {
 		return this.isCompilationTimeMonitoringSupportedImpl();
 	}
 
+	/**
+	 * @return the JIT CPU budget as a percentage of the CPU entitlement of the VM
+	 * @see #getCompilationCPUBudget()
+	 */
+	private native int getCompilationCPUBudgetImpl();
+
+	/**
+	 * Returns the percentage of the CPU entitlement of the virtual machine
+	 * that compilation threads are allowed to use, as set with
+	 * <code>-Xjit:compThreadCPUBudget=</code>.
+	 *
+	 * @return the compilation CPU budget, or 0 if no budget is set
+	 */
+	public int getCompilationCPUBudget() {
+		return this.getCompilationCPUBudgetImpl();
+	}
+
+	/**
+	 * @return the percentage of the JIT CPU budget used over the last window
+	 * @see #getCompilationCPUBudgetUsage()
+	 */
+	private native int getCompilationCPUBudgetUsageImpl();
+
+	/**
+	 * Returns the CPU time used by compilation threads over the most recent
+	 * measurement window, as a percentage of the compilation CPU budget.
+	 * Values above 100 mean the budget is being exceeded.
+	 *
+	 * @return the budget usage, or -1 if no budget is set or the usage
+	 *         is not yet known
+	 */
+	public int getCompilationCPUBudgetUsage() {
+		return this.getCompilationCPUBudgetUsageImpl();
+	}
+
+	/**
+	 * @return the number of deferred compilation requests
+	 * @see #getDeferredCompilationCount()
+	 */
+	private native long getDeferredCompilationCountImpl();
+
+	/**
+	 * Returns the number of compilation requests that have been deferred
+	 * because compilation threads exceeded their CPU budget.
+	 *
+	 * @return the number of deferred compilation requests
+	 */
+	public long getDeferredCompilationCount() {
+		return this.getDeferredCompilationCountImpl();
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -662,6 +662,7 @@ public final class ManagementUtils {
 		private static final String HYPERVISOR_MXBEAN_NAME = "com.ibm.virtualization.management:type=Hypervisor"; //$NON-NLS-1$
 
 		private static final String JVM_CPU_MONITOR_MXBEAN_NAME = "com.ibm.lang.management:type=JvmCpuMonitor"; //$NON-NLS-1$
+		private static final String MONITOR_CONTENTION_MXBEAN_NAME = "com.ibm.lang.management:type=MonitorContention"; //$NON-NLS-1$
 		private static final String OPENJ9_DIAGNOSTICS_MXBEAN_NAME = "openj9.lang.management:type=OpenJ9Diagnostics"; //$NON-NLS-1$
 
 		static void registerAll() {
@@ -711,6 +712,10 @@ public final class ManagementUtils {
 				.addInterface(com.ibm.lang.management.JvmCpuMonitorMXBean.class)
 				.validateAndRegister();
 
+			create(MONITOR_CONTENTION_MXBEAN_NAME, com.ibm.lang.management.internal.MonitorContention.getInstance())
+				.addInterface(com.ibm.lang.management.MonitorContentionMXBean.class)
+				.validateAndRegister();
+
 			create(OPENJ9_DIAGNOSTICS_MXBEAN_NAME, openj9.lang.management.internal.OpenJ9DiagnosticsMXBeanImpl.getInstance())
 				.addInterface(openj9.lang.management.OpenJ9DiagnosticsMXBean.class)
 				.validateAndRegister();
@@ -722,7 +727,8 @@ public final class ManagementUtils {
 /*[ENDIF] CRAC_SUPPORT */
 
 			// Register standard optional beans for JDK8.
-			create(ManagementFactory.COMPILATION_MXBEAN_NAME, CompilationMXBeanImpl.getInstance())
+			create(ManagementFactory.COMPILATION_MXBEAN_NAME, com.ibm.lang.management.internal.ExtendedCompilationMXBeanImpl.getInstance())
+				.addInterface(com.ibm.lang.management.CompilationMXBean.class)
 				.addInterface(java.lang.management.CompilationMXBean.class)
 				.validateAndRegister();
 
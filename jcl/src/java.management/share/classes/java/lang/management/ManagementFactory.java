@@ -45,8 +45,8 @@ import javax.management.StandardEmitterMBean;
 import javax.management.StandardMBean;
 
 import com.ibm.java.lang.management.internal.ClassLoadingMXBeanImpl;
-import com.ibm.java.lang.management.internal.CompilationMXBeanImpl;
 import com.ibm.java.lang.management.internal.ManagementUtils;
+import com.ibm.lang.management.internal.ExtendedCompilationMXBeanImpl;
 import com.ibm.lang.management.internal.ExtendedMemoryMXBeanImpl;
 import com.ibm.lang.management.internal.ExtendedOperatingSystemMXBeanImpl;
 import com.ibm.lang.management.internal.ExtendedRuntimeMXBeanImpl;
@@ -146,7 +146,7 @@ public class ManagementFactory {
 	 *         virtual machine.
 	 */
 	public static CompilationMXBean getCompilationMXBean() {
-		return CompilationMXBeanImpl.getInstance();
+		return ExtendedCompilationMXBeanImpl.getInstance();
 	}
 
 	/**
@@ -26,6 +26,7 @@ package com.ibm.tools.attach.attacher;
 import static com.ibm.oti.util.Msg.getString;
 
 import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -41,6 +42,7 @@ import java.security.PrivilegedExceptionAction;
 /*[ENDIF] JAVA_SPEC_VERSION < 24 */
 import java.util.List;
 import java.util.Properties;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -55,6 +57,7 @@ import openj9.internal.tools.attach.target.IPC;
 import openj9.internal.tools.attach.target.Reply;
 import openj9.internal.tools.attach.target.Response;
 import openj9.internal.tools.attach.target.TargetDirectory;
+import openj9.internal.tools.attach.target.VMCounters;
 import com.sun.tools.attach.AgentInitializationException;
 import com.sun.tools.attach.AgentLoadException;
 import com.sun.tools.attach.AttachNotSupportedException;
@@ -335,6 +338,75 @@ public final class OpenJ9VirtualMachine extends VirtualMachine implements Respon
 		return IPC.receiveProperties(responseStream, true);
 	}
 
+	/**
+	 * Execute a diagnostic command on a target VM, receiving its text output in chunks
+	 * as the target produces it. If the target does not support streaming, the command
+	 * is executed by {@link #executeDiagnosticCommand(String)} and no chunks are received.
+	 *
+	 * @param diagnosticCommand name of command to execute
+	 * @param output receives each chunk of text output, in order
+	 * @return properties object containing the serialized final result, including any output not passed to the consumer
+	 * @throws IOException in case of a communication error
+	 */
+	public Properties executeStreamingDiagnosticCommand(String diagnosticCommand, Consumer<String> output) throws IOException {
+		IPC.logMessage("OpenJ9VirtualMachine enter executeStreamingDiagnosticCommand ", diagnosticCommand); //$NON-NLS-1$
+		AttachmentConnection.streamSend(commandStream, Command.ATTACH_DIAGNOSTICS_STREAM_PREFIX + diagnosticCommand);
+		Properties props = IPC.receiveProperties(responseStream, true);
+		if (props.containsKey(Response.ERROR)) {
+			/* older targets reject the command without closing the connection */
+			IPC.logMessage("executeStreamingDiagnosticCommand not supported by target: ", props.getProperty(Response.ERROR)); //$NON-NLS-1$
+			return executeDiagnosticCommand(diagnosticCommand);
+		}
+		DiagnosticProperties diagProps = new DiagnosticProperties(props);
+		while (diagProps.isStreamChunk()) {
+			output.accept(diagProps.getPropertyOrNull(DiagnosticProperties.DIAGNOSTICS_STRING_RESULT));
+			AttachmentConnection.streamSend(commandStream, Command.ATTACH_DIAGNOSTICS_STREAM_NEXT);
+			props = IPC.receiveProperties(responseStream, true);
+			diagProps = new DiagnosticProperties(props);
+		}
+		return props;
+	}
+
+	/**
+	 * Sample counters such as GC, JIT, class loading and thread statistics periodically on a target VM.
+	 * The samples are received as binary records described by {@link VMCounters}.
+	 *
+	 * @param interval milliseconds between samples
+	 * @param count number of samples, or 0 to sample until the connection is closed
+	 * @param output receives the counters of each sample, indexed by the field indices in {@link VMCounters};
+	 * the array is reused for each sample
+	 * @throws IOException in case of a communication error, or if the target rejects the request
+	 */
+	public void sampleCounters(long interval, int count, Consumer<long[]> output) throws IOException {
+		IPC.logMessage("OpenJ9VirtualMachine enter sampleCounters ", Long.toString(interval)); //$NON-NLS-1$
+		AttachmentConnection.streamSend(commandStream, VMCounters.makeSampleCommand(interval, count));
+		Properties props = IPC.receiveProperties(responseStream, true);
+		if (props.containsKey(Response.ERROR)) {
+			/*[MSG "K080B", "Target does not support counter sampling"]*/
+			throw new IOException(getString("K080B")); //$NON-NLS-1$
+		}
+		DiagnosticProperties diagProps = new DiagnosticProperties(props);
+		if (diagProps.getBoolean(IPC.PROPERTY_DIAGNOSTICS_ERROR)) {
+			throw new IOException(diagProps.getPropertyOrNull(IPC.PROPERTY_DIAGNOSTICS_ERRORMSG));
+		}
+		/* later schema versions may append fields, which are skipped */
+		int recordSize = diagProps.getInt(VMCounters.PROPERTY_RECORD_SIZE);
+		if (recordSize < VMCounters.RECORD_SIZE) {
+			/*[MSG "K080C", "Unsupported counter record size: {0}"]*/
+			throw new IOException(getString("K080C", recordSize)); //$NON-NLS-1$
+		}
+		AttachmentConnection.streamSend(commandStream, Command.ATTACH_DIAGNOSTICS_STREAM_NEXT);
+		DataInputStream records = new DataInputStream(responseStream);
+		long[] counters = new long[VMCounters.FIELD_COUNT];
+		for (int i = 0; (0 == count) || (i < count); ++i) {
+			for (int field = 0; field < counters.length; ++field) {
+				counters[field] = records.readLong();
+			}
+			records.skipBytes(recordSize - VMCounters.RECORD_SIZE);
+			output.accept(counters);
+		}
+	}
+
 	private void lockAllAttachNotificationSyncFiles(
 			List<VirtualMachineDescriptor> vmds) {
 
@@ -27,6 +27,7 @@ import static com.ibm.oti.util.Msg.getString;
 
 import java.io.IOException;
 import java.util.Properties;
+import java.util.function.Consumer;
 
 import com.ibm.tools.attach.attacher.OpenJ9AttachProvider;
 import com.ibm.tools.attach.attacher.OpenJ9VirtualMachine;
@@ -59,6 +60,37 @@ public class AttacherDiagnosticsProvider {
 		return info;
 	}
 
+	/**
+	 * Run a diagnostic command on a target VM, receiving its text output incrementally.
+	 *
+	 * @param diagnosticCommand name of command to execute
+	 * @param output receives each chunk of text output, in order
+	 * @return properties object containing the final result of the command
+	 * @throws IOException in case of a communication error
+	 */
+	public Properties executeStreamingDiagnosticCommand(String diagnosticCommand, Consumer<String> output) throws IOException {
+		IPC.logMessage("AttacherDiagnosticsProvider enter executeStreamingDiagnosticCommand ", diagnosticCommand); //$NON-NLS-1$
+		checkAttached();
+		Properties info = vm.executeStreamingDiagnosticCommand(diagnosticCommand, output);
+		DiagnosticProperties.dumpPropertiesIfDebug("Properties from target:", info); //$NON-NLS-1$
+		return info;
+	}
+
+	/**
+	 * Sample counters periodically on a target VM.
+	 *
+	 * @param interval milliseconds between samples
+	 * @param count number of samples, or 0 to sample until the connection is closed
+	 * @param output receives the counters of each sample, indexed by the field indices in
+	 * openj9.internal.tools.attach.target.VMCounters
+	 * @throws IOException in case of a communication error
+	 */
+	public void sampleCounters(long interval, int count, Consumer<long[]> output) throws IOException {
+		IPC.logMessage("AttacherDiagnosticsProvider enter sampleCounters ", Long.toString(interval)); //$NON-NLS-1$
+		checkAttached();
+		vm.sampleCounters(interval, count, output);
+	}
+
 	/**
 	 * Call equivalent com.sun.tools.attach.VirtualMachine method.
 	 *
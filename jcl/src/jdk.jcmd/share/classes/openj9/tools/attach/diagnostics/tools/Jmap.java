@@ -85,7 +85,7 @@ public class Jmap {
 				}
 				diagProvider.attach(vmid);
 				if (histo) {
-					Util.runCommandAndPrintResult(diagProvider, DiagnosticUtils.makeHeapHistoCommand(live), "jmap"); //$NON-NLS-1$
+					Util.runStreamingCommandAndPrintResult(diagProvider, DiagnosticUtils.makeHeapHistoCommand(live), "jmap"); //$NON-NLS-1$
 				}
 			} catch (Exception e) {
 				System.err.printf("Error getting data from %s", vmid); //$NON-NLS-1$
@@ -74,7 +74,7 @@ public class Jstack {
 			try {
 				diagProvider.attach(vmid);
 				out.printf("Virtual machine: %s JVM information:%n", vmid); //$NON-NLS-1$
-				Util.runCommandAndPrintResult(diagProvider, DiagnosticUtils.makeThreadPrintCommand(printSynchronizers), "jstack"); //$NON-NLS-1$
+				Util.runStreamingCommandAndPrintResult(diagProvider, DiagnosticUtils.makeThreadPrintCommand(printSynchronizers), "jstack"); //$NON-NLS-1$
 
 				if (printProperties) {
 					out.println("System properties:"); //$NON-NLS-1$
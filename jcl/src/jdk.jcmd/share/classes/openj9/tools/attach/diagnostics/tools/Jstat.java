@@ -28,6 +28,7 @@ import java.io.IOException;
 import openj9.internal.tools.attach.target.AttachHandler;
 import openj9.internal.tools.attach.target.DiagnosticProperties;
 import openj9.internal.tools.attach.target.IPC;
+import openj9.internal.tools.attach.target.VMCounters;
 import openj9.tools.attach.diagnostics.attacher.AttacherDiagnosticsProvider;
 
 /**
@@ -39,12 +40,51 @@ public class Jstat {
 
 	private static String vmid;
 	private static String statOption;
+	private static Column[] columns;
+	private static long interval;
+	private static int count;
 
 	private static final String OPTION_CLASS = "-class";
-	private static final String[] OPTIONS = { OPTION_CLASS };
+	private static final String OPTION_COMPILER = "-compiler";
+	private static final String OPTION_COUNTERS = "-counters";
+	private static final String OPTION_GC = "-gc";
+	private static final String[] OPTIONS = { OPTION_CLASS, OPTION_COMPILER, OPTION_COUNTERS, OPTION_GC };
+
+	private static final int MINIMUM_COLUMN_WIDTH = 12;
+	private static final String COLUMN_SEPARATOR = "    ";
+	private static final long KB = 1024;
+
+	private static final Column[] CLASS_COLUMNS = {
+			new Column("Class Loaded", VMCounters.CLASSES_LOADED),
+			new Column("Class Unloaded", VMCounters.CLASSES_UNLOADED)
+	};
+
+	private static final Column[] COMPILER_COLUMNS = {
+			new Column("Compile Time(ms)", VMCounters.COMPILATION_TIME)
+	};
+
+	private static final Column[] GC_COLUMNS = {
+			new Column("Heap Used(KB)", VMCounters.HEAP_USED, KB),
+			new Column("Heap Committed(KB)", VMCounters.HEAP_COMMITTED, KB),
+			new Column("Heap Max(KB)", VMCounters.HEAP_MAX, KB),
+			new Column("GC Count", VMCounters.GC_COUNT),
+			new Column("GC Time(ms)", VMCounters.GC_TIME)
+	};
+
+	private static final Column[] COUNTERS_COLUMNS;
+
+	static {
+		/* all the counters except the wall clock time */
+		COUNTERS_COLUMNS = new Column[VMCounters.FIELD_COUNT - 1];
+		for (int field = VMCounters.UPTIME; field < VMCounters.FIELD_COUNT; ++field) {
+			COUNTERS_COLUMNS[field - 1] = new Column(VMCounters.getFieldName(field), field);
+		}
+	}
 
 	private static final String ERROR_AN_ARG_REQUIRED = "An argument is required";
 	private static final String ERROR_INVALID_ARG = "An invalid argument";
+	private static final String ERROR_INVALID_COUNT = "The count must be a positive integer";
+	private static final String ERROR_INVALID_INTERVAL = "The interval must be at least ";
 	private static final String ERROR_INVALID_OPTION = "An invalid option";
 	private static final String ERROR_INVALID_VMID = "Can't monitor this utility JVM itself: ";
 	private static final String ERROR_NOT_EXIST_VMID = "No such process for vmid: ";
@@ -53,14 +93,19 @@ public class Jstat {
 
 	private static String HELPTEXT = "jstat: obtain statistics information about a Java process%n"
 			+ " Usage:%n"
-			+ "    jstat [<option>] [<vmid>]%n"
+			+ "    jstat [<option>] [<vmid>] [<interval>[s|ms] [<count>]]%n"
 			+ "%n"
 			+ "  option:%n"
 			+ "   -J : supply arguments to the Java VM running jstat%n"
 			+ "   -h : print this help message%n"
 			+ "   -options : list the available command options%n"
 			+ "   -class : Classloading statistics%n"
+			+ "   -compiler : JIT compilation statistics%n"
+			+ "   -gc : Heap and garbage collection statistics%n"
+			+ "   -counters : All GC, JIT, classloading and thread counters%n"
 			+ "  <vmid>: Attach API VM ID as shown in jps or other Attach API-based tools%n"
+			+ "  <interval>: Sampling interval, in milliseconds unless a unit is given%n"
+			+ "  <count>: Number of samples, otherwise sample until the target VM exits%n"
 			+ "NOTE: this utility might significantly affect the performance of the target VM.%n"
 			+ "At least one option must be selected.%n";
 
@@ -94,7 +139,17 @@ public class Jstat {
 
 			try {
 				diagProvider.attach(vmid);
-				Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
+				if ((null != statOption) && (0 == interval)) {
+					/* a single sample is available from older VMs without counter sampling */
+					Util.runCommandAndPrintResult(diagProvider, statOption, "jstat");
+				} else {
+					if (0 == interval) {
+						interval = VMCounters.MINIMUM_INTERVAL;
+						count = 1;
+					}
+					printHeader();
+					diagProvider.sampleCounters(interval, count, Jstat::printSample);
+				}
 			} catch (Exception e) {
 				System.err.printf("Error getting data from %s", vmid);
 				final String msg = e.getMessage();
@@ -149,6 +204,16 @@ public class Jstat {
 						switch (arg) {
 						case OPTION_CLASS:
 							statOption = "jstat.class";
+							columns = CLASS_COLUMNS;
+							break;
+						case OPTION_COMPILER:
+							columns = COMPILER_COLUMNS;
+							break;
+						case OPTION_COUNTERS:
+							columns = COUNTERS_COLUMNS;
+							break;
+						case OPTION_GC:
+							columns = GC_COLUMNS;
 							break;
 						default:
 							// invalid option was specified, print error message and help text, and exit
@@ -156,14 +221,18 @@ public class Jstat {
 						}
 					}
 				} else {
-					if (statOption == null) {
+					if (columns == null) {
 						// no option was specified, print error message and help text, and exit
 						Util.exitJVMWithReasonAndHelp(ERROR_OPTION_REQUIRED, HELPTEXT);
-					} else if (vmid != null) {
-						// one vmid has already been set, print error message and help text, and exit
-						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
-					} else {
+					} else if (vmid == null) {
 						vmid = arg;
+					} else if (interval == 0) {
+						interval = parseInterval(arg);
+					} else if (count == 0) {
+						count = parseCount(arg);
+					} else {
+						// interval and count have already been set, print error message and help text, and exit
+						Util.exitJVMWithReasonAndHelp(ERROR_INVALID_ARG, HELPTEXT);
 					}
 				}
 			}
@@ -171,4 +240,86 @@ public class Jstat {
 
 		return foundStatOption;
 	}
+
+	private static long parseInterval(String arg) {
+		long result = 0;
+		long scale = 1;
+		String digits = arg;
+		if (arg.endsWith("ms")) {
+			digits = arg.substring(0, arg.length() - 2);
+		} else if (arg.endsWith("s")) {
+			digits = arg.substring(0, arg.length() - 1);
+			scale = 1000;
+		}
+		try {
+			result = Long.parseLong(digits) * scale;
+		} catch (NumberFormatException e) {
+			result = 0;
+		}
+		if (result < VMCounters.MINIMUM_INTERVAL) {
+			Util.exitJVMWithReasonAndHelp(ERROR_INVALID_INTERVAL + VMCounters.MINIMUM_INTERVAL + "ms", HELPTEXT);
+		}
+		return result;
+	}
+
+	private static int parseCount(String arg) {
+		int result = 0;
+		try {
+			result = Integer.parseInt(arg);
+		} catch (NumberFormatException e) {
+			result = 0;
+		}
+		if (result <= 0) {
+			Util.exitJVMWithReasonAndHelp(ERROR_INVALID_COUNT, HELPTEXT);
+		}
+		return result;
+	}
+
+	private static void printHeader() {
+		StringBuilder header = new StringBuilder();
+		for (Column column : columns) {
+			if (header.length() > 0) {
+				header.append(COLUMN_SEPARATOR);
+			}
+			header.append(String.format("%" + column.width + "s", column.header));
+		}
+		System.out.println(header);
+	}
+
+	private static void printSample(long[] counters) {
+		StringBuilder row = new StringBuilder();
+		for (Column column : columns) {
+			if (row.length() > 0) {
+				row.append(COLUMN_SEPARATOR);
+			}
+			long value = counters[column.field];
+			if (value > 0) {
+				value /= column.scale;
+			}
+			row.append(String.format("%" + column.width + "d", Long.valueOf(value)));
+		}
+		System.out.println(row);
+		System.out.flush();
+	}
+
+	/**
+	 * A column of the table printed for a statistics option.
+	 */
+	private static final class Column {
+		final String header;
+		final int field;
+		final long scale;
+		final int width;
+
+		Column(String header, int field) {
+			this(header, field, 1);
+		}
+
+		Column(String header, int field, long scale) {
+			this.header = header;
+			this.field = field;
+			this.scale = scale;
+			this.width = Math.max(header.length(), MINIMUM_COLUMN_WIDTH);
+		}
+	}
 }
@@ -85,6 +85,19 @@ public class Util {
 		System.out.print(responseString);
 	}
 
+	/**
+	 * Run a command which may produce a large amount of output, printing the output
+	 * as it is received from the target rather than after the command completes.
+	 */
+	static void runStreamingCommandAndPrintResult(AttacherDiagnosticsProvider diagProvider, String cmd, String commandName)
+			throws IOException {
+		Properties props = diagProvider.executeStreamingDiagnosticCommand(cmd, System.out::print);
+		DiagnosticProperties.dumpPropertiesIfDebug(commandName + " result:", props); //$NON-NLS-1$
+		String responseString = new DiagnosticProperties(props).printStringResult();
+		IPC.logMessage("Util.runStreamingCommandAndPrintResult(): " + responseString); //$NON-NLS-1$
+		System.out.print(responseString);
+	}
+
 	static void handleCommandException(String vmid, Exception e) {
 		String format = "Error getting data from %s"; //$NON-NLS-1$
 		final String msg = e.getMessage();
@@ -0,0 +1,273 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.CompilationEventInfoUtil;
+
+/**
+ * <code>CompilationEventInfo</code> describes one JIT compilation event, as recorded
+ * by the {@link CompilationMXBean}. An event is either a compilation, which includes
+ * a body loaded from the AOT cache, or the invalidation of a compiled body.
+ * <p>
+ * Durations and queue times are in nanoseconds. The compilation fields of an
+ * invalidation event are zero, and the invalidation reason of a compilation event
+ * is the empty string.
+ */
+public final class CompilationEventInfo {
+
+	private final boolean invalidation;
+	private final String method;
+	private final long timestamp;
+	private final int compileID;
+	private final int compileLevel;
+	private final boolean osr;
+	private final boolean aot;
+	private final boolean remote;
+	private final long duration;
+	private final long queueTime;
+	private final long codeSize;
+	private final long inlinedBytes;
+	private final String reason;
+
+	/**
+	 * Creates a new <code>CompilationEventInfo</code> instance.
+	 *
+	 * @param invalidation true if a compiled body was invalidated, false if a body was installed
+	 * @param method the class, name and signature of the method, for example <code>java.lang.String.hashCode()I</code>
+	 * @param timestamp the time the event was recorded, in milliseconds since the epoch
+	 * @param compileID the identifier of the compilation
+	 * @param compileLevel the JIT optimization level of the compilation
+	 * @param osr true if the body is an on-stack replacement body
+	 * @param aot true if the body is AOT code, either compiled for or loaded from the AOT cache
+	 * @param remote true if the body was compiled by a JITServer
+	 * @param duration the compilation time
+	 * @param queueTime the time the request waited to be compiled, or -1 if unknown
+	 * @param codeSize the size of the generated code in bytes
+	 * @param inlinedBytes the total bytecode size of the inlined methods
+	 * @param reason the reason the body was invalidated
+	 * @throws IllegalArgumentException if method or reason is null, or a size or the duration is negative
+	 */
+	public CompilationEventInfo(boolean invalidation, String method, long timestamp,
+			int compileID, int compileLevel, boolean osr, boolean aot, boolean remote,
+			long duration, long queueTime, long codeSize, long inlinedBytes, String reason) {
+		super();
+		if ((null == method) || (null == reason)
+				|| (duration < 0) || (codeSize < 0) || (inlinedBytes < 0)) {
+			throw new IllegalArgumentException();
+		}
+		this.invalidation = invalidation;
+		this.method = method;
+		this.timestamp = timestamp;
+		this.compileID = compileID;
+		this.compileLevel = compileLevel;
+		this.osr = osr;
+		this.aot = aot;
+		this.remote = remote;
+		this.duration = duration;
+		this.queueTime = queueTime;
+		this.codeSize = codeSize;
+		this.inlinedBytes = inlinedBytes;
+		this.reason = reason;
+	}
+
+	/**
+	 * @return true if a compiled body was invalidated, false if a body was installed
+	 */
+	public boolean isInvalidation() {
+		return invalidation;
+	}
+
+	/**
+	 * @return the class, name and signature of the method, for example <code>java.lang.String.hashCode()I</code>
+	 */
+	public String getMethod() {
+		return method;
+	}
+
+	/**
+	 * @return the time the event was recorded, in milliseconds since the epoch
+	 */
+	public long getTimestamp() {
+		return timestamp;
+	}
+
+	/**
+	 * @return the identifier of the compilation, shared with the JFR events of the compilation
+	 */
+	public int getCompileID() {
+		return compileID;
+	}
+
+	/**
+	 * @return the JIT optimization level of the compilation; higher levels optimize more aggressively
+	 */
+	public int getCompileLevel() {
+		return compileLevel;
+	}
+
+	/**
+	 * @return true if the body is an on-stack replacement body
+	 */
+	public boolean isOsr() {
+		return osr;
+	}
+
+	/**
+	 * @return true if the body is AOT code, either compiled for or loaded from the AOT cache
+	 */
+	public boolean isAot() {
+		return aot;
+	}
+
+	/**
+	 * @return true if the body was compiled by a JITServer
+	 */
+	public boolean isRemote() {
+		return remote;
+	}
+
+	/**
+	 * @return the compilation time, in nanoseconds
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @return the time, in nanoseconds, the request waited to be compiled, or -1 if unknown
+	 */
+	public long getQueueTime() {
+		return queueTime;
+	}
+
+	/**
+	 * @return the size of the generated code in bytes
+	 */
+	public long getCodeSize() {
+		return codeSize;
+	}
+
+	/**
+	 * @return the total bytecode size of the inlined methods
+	 */
+	public long getInlinedBytes() {
+		return inlinedBytes;
+	}
+
+	/**
+	 * @return the reason the body was invalidated, or the empty string for a compilation
+	 */
+	public String getReason() {
+		return reason;
+	}
+
+	/**
+	 * Receives a {@link CompositeData} representing a <code>CompilationEventInfo</code>
+	 * object and attempts to return the root <code>CompilationEventInfo</code> instance.
+	 *
+	 * @param cd a <code>CompositeDate</code> that represents a <code>CompilationEventInfo</code>.
+	 * @return if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 *         <code>CompilationEventInfo</code>. If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 * @throws IllegalArgumentException if argument <code>cd</code> does not correspond to a
+	 *         <code>CompilationEventInfo</code>.
+	 */
+	public static CompilationEventInfo from(CompositeData cd) {
+		CompilationEventInfo result = null;
+
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new CompilationEventInfo ?
+			if (!CompilationEventInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new CompilationEventInfo(
+						((Boolean) cd.get("invalidation")).booleanValue(), //$NON-NLS-1$
+						(String) cd.get("method"), //$NON-NLS-1$
+						((Long) cd.get("timestamp")).longValue(), //$NON-NLS-1$
+						((Integer) cd.get("compileID")).intValue(), //$NON-NLS-1$
+						((Integer) cd.get("compileLevel")).intValue(), //$NON-NLS-1$
+						((Boolean) cd.get("osr")).booleanValue(), //$NON-NLS-1$
+						((Boolean) cd.get("aot")).booleanValue(), //$NON-NLS-1$
+						((Boolean) cd.get("remote")).booleanValue(), //$NON-NLS-1$
+						((Long) cd.get("duration")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("queueTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("codeSize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("inlinedBytes")).longValue(), //$NON-NLS-1$
+						(String) cd.get("reason")); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link CompilationEventInfo} object.
+	 *
+	 * @return Text description of this {@link CompilationEventInfo} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		if (invalidation) {
+			sb.append("invalidated "); //$NON-NLS-1$
+			sb.append(method);
+			sb.append(": reason = "); //$NON-NLS-1$
+			sb.append(reason);
+		} else {
+			sb.append("compiled "); //$NON-NLS-1$
+			sb.append(method);
+			sb.append(": compileID = "); //$NON-NLS-1$
+			sb.append(compileID);
+			sb.append(", compileLevel = "); //$NON-NLS-1$
+			sb.append(compileLevel);
+			if (osr) {
+				sb.append(", osr"); //$NON-NLS-1$
+			}
+			if (aot) {
+				sb.append(", aot"); //$NON-NLS-1$
+			}
+			if (remote) {
+				sb.append(", remote"); //$NON-NLS-1$
+			}
+			sb.append(", duration = "); //$NON-NLS-1$
+			sb.append(duration);
+			sb.append(", queueTime = "); //$NON-NLS-1$
+			sb.append(queueTime);
+			sb.append(", codeSize = "); //$NON-NLS-1$
+			sb.append(codeSize);
+			sb.append(", inlinedBytes = "); //$NON-NLS-1$
+			sb.append(inlinedBytes);
+		}
+		return sb.toString();
+	}
+
+}
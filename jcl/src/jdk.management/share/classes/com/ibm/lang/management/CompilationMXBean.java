@@ -0,0 +1,104 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+/**
+ * The OpenJ9 extension interface for the compilation system of the virtual machine.
+ * <p>
+ * When the JIT is given a CPU budget with <code>-Xjit:compThreadCPUBudget=&lt;percent&gt;</code>,
+ * the CPU time used by compilation threads is measured over a sliding window
+ * (<code>-Xjit:compThreadCPUBudgetWindow=&lt;ms&gt;</code>) and recompilations and
+ * low priority compilation requests are deferred while the budget is exceeded.
+ * This interface reports how that budget is being used.
+ * </p>
+ * <p>
+ * The interface can also record JIT compilation events. While recording is enabled,
+ * each installed body, including bodies loaded from the AOT cache, and each invalidated
+ * body is kept in a bounded buffer until it is drained with {@link #drainCompilationEvents()}.
+ * When the buffer is full, the oldest event is discarded.
+ * </p>
+ *
+ * @since 1.8
+ */
+public interface CompilationMXBean extends java.lang.management.CompilationMXBean {
+
+	/**
+	 * Returns the percentage of the CPU entitlement of the virtual machine
+	 * that compilation threads are allowed to use. In a container, the CPU
+	 * entitlement reflects the container CPU quota.
+	 *
+	 * @return the compilation CPU budget, or 0 if no budget is set
+	 */
+	public int getCompilationCPUBudget();
+
+	/**
+	 * Returns the CPU time used by compilation threads over the most recent
+	 * measurement window, as a percentage of the compilation CPU budget.
+	 * Values above 100 mean the budget is being exceeded.
+	 *
+	 * @return the budget usage, or -1 if no budget is set or the usage
+	 *         is not yet known
+	 */
+	public int getCompilationCPUBudgetUsage();
+
+	/**
+	 * Returns the number of compilation requests that have been deferred
+	 * because compilation threads exceeded their CPU budget. Each request
+	 * is counted once, no matter how many times it was deferred.
+	 *
+	 * @return the number of deferred compilation requests
+	 */
+	public long getDeferredCompilationCount();
+
+	/**
+	 * Returns whether JIT compilation events are being recorded.
+	 *
+	 * @return true if compilation events are being recorded
+	 */
+	public boolean isCompilationEventRecordingEnabled();
+
+	/**
+	 * Enables or disables recording of JIT compilation events. Events that were
+	 * already recorded are kept when recording is disabled.
+	 *
+	 * @param enable true to start recording compilation events, false to stop
+	 * @throws UnsupportedOperationException if recording could not be enabled
+	 */
+	public void setCompilationEventRecordingEnabled(boolean enable);
+
+	/**
+	 * Removes the recorded compilation events from the buffer and returns them.
+	 *
+	 * @return the events recorded since the previous call, oldest first
+	 */
+	public CompilationEventInfo[] drainCompilationEvents();
+
+	/**
+	 * Returns the number of compilation events that were discarded because the
+	 * buffer was full before they were drained.
+	 *
+	 * @return the number of discarded compilation events
+	 */
+	public long getDroppedCompilationEventCount();
+
+}
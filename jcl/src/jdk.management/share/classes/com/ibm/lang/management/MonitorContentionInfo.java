@@ -0,0 +1,295 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.MonitorContentionInfoUtil;
+
+/**
+ * <code>MonitorContentionInfo</code> is a snapshot of the contention statistics
+ * of one Java monitor, as collected by the {@link MonitorContentionMXBean}.
+ * <p>
+ * Times are in nanoseconds. The histograms have {@link #HISTOGRAM_BUCKETS} buckets
+ * of microseconds: bucket 0 counts times below 1us, bucket <code>i</code> counts
+ * times from 2<sup>i-1</sup>us up to, but not including, 2<sup>i</sup>us, and the
+ * last bucket also counts all longer times.
+ * <p>
+ * The JLM counters (enter, slow enter, spin and yield counts and the hold time)
+ * are only available while Java Lock Monitor (JLM) profiling is enabled, and are
+ * zero otherwise.
+ */
+public final class MonitorContentionInfo {
+
+	/**
+	 * The number of buckets in the blocked and waited time histograms.
+	 */
+	public static final int HISTOGRAM_BUCKETS = 24;
+
+	private final String className;
+	private final long monitorId;
+	private final long blockedCount;
+	private final long blockedTime;
+	private final long maxBlockedTime;
+	private final long[] blockedTimeHistogram;
+	private final long waitedCount;
+	private final long waitedTime;
+	private final long[] waitedTimeHistogram;
+	private final long enterCount;
+	private final long slowEnterCount;
+	private final long spinCount;
+	private final long yieldCount;
+	private final long holdTime;
+
+	/**
+	 * Creates a new <code>MonitorContentionInfo</code> instance.
+	 *
+	 * @param className the name of the class of the object that owns the monitor
+	 * @param monitorId an identifier of the monitor, unique among the monitors alive at the same time
+	 * @param blockedCount the number of times a thread blocked entering the monitor
+	 * @param blockedTime the total time threads were blocked entering the monitor
+	 * @param maxBlockedTime the longest time a thread was blocked entering the monitor
+	 * @param blockedTimeHistogram the histogram of blocked times
+	 * @param waitedCount the number of times a thread waited on the monitor
+	 * @param waitedTime the total time threads waited on the monitor
+	 * @param waitedTimeHistogram the histogram of waited times
+	 * @param enterCount the JLM count of monitor enters
+	 * @param slowEnterCount the JLM count of monitor enters that were not satisfied immediately
+	 * @param spinCount the JLM count of spin loop iterations
+	 * @param yieldCount the JLM count of yields while spinning
+	 * @param holdTime the JLM total hold time, in the ticks of the platform's high-resolution clock
+	 * @throws IllegalArgumentException if className is null, a count or time is negative
+	 * or a histogram does not have {@link #HISTOGRAM_BUCKETS} buckets
+	 */
+	public MonitorContentionInfo(String className, long monitorId,
+			long blockedCount, long blockedTime, long maxBlockedTime, long[] blockedTimeHistogram,
+			long waitedCount, long waitedTime, long[] waitedTimeHistogram,
+			long enterCount, long slowEnterCount, long spinCount, long yieldCount, long holdTime) {
+		super();
+		if ((null == className)
+				|| (blockedCount < 0) || (blockedTime < 0) || (maxBlockedTime < 0)
+				|| (waitedCount < 0) || (waitedTime < 0)
+				|| (enterCount < 0) || (slowEnterCount < 0) || (spinCount < 0) || (yieldCount < 0) || (holdTime < 0)
+				|| (null == blockedTimeHistogram) || (HISTOGRAM_BUCKETS != blockedTimeHistogram.length)
+				|| (null == waitedTimeHistogram) || (HISTOGRAM_BUCKETS != waitedTimeHistogram.length)) {
+			throw new IllegalArgumentException();
+		}
+		this.className = className;
+		this.monitorId = monitorId;
+		this.blockedCount = blockedCount;
+		this.blockedTime = blockedTime;
+		this.maxBlockedTime = maxBlockedTime;
+		this.blockedTimeHistogram = blockedTimeHistogram.clone();
+		this.waitedCount = waitedCount;
+		this.waitedTime = waitedTime;
+		this.waitedTimeHistogram = waitedTimeHistogram.clone();
+		this.enterCount = enterCount;
+		this.slowEnterCount = slowEnterCount;
+		this.spinCount = spinCount;
+		this.yieldCount = yieldCount;
+		this.holdTime = holdTime;
+	}
+
+	/**
+	 * @return the name of the class of the object that owns the monitor
+	 */
+	public String getClassName() {
+		return className;
+	}
+
+	/**
+	 * @return an identifier of the monitor; identifiers can be reused once a monitor is freed
+	 */
+	public long getMonitorId() {
+		return monitorId;
+	}
+
+	/**
+	 * @return the number of times a thread blocked entering the monitor
+	 */
+	public long getBlockedCount() {
+		return blockedCount;
+	}
+
+	/**
+	 * @return the total time, in nanoseconds, threads were blocked entering the monitor
+	 */
+	public long getBlockedTime() {
+		return blockedTime;
+	}
+
+	/**
+	 * @return the longest time, in nanoseconds, a thread was blocked entering the monitor
+	 */
+	public long getMaxBlockedTime() {
+		return maxBlockedTime;
+	}
+
+	/**
+	 * @return a copy of the histogram of the times threads were blocked entering the monitor
+	 */
+	public long[] getBlockedTimeHistogram() {
+		return blockedTimeHistogram.clone();
+	}
+
+	/**
+	 * @return the number of times a thread waited on the monitor
+	 */
+	public long getWaitedCount() {
+		return waitedCount;
+	}
+
+	/**
+	 * @return the total time, in nanoseconds, threads waited on the monitor
+	 */
+	public long getWaitedTime() {
+		return waitedTime;
+	}
+
+	/**
+	 * @return a copy of the histogram of the times threads waited on the monitor
+	 */
+	public long[] getWaitedTimeHistogram() {
+		return waitedTimeHistogram.clone();
+	}
+
+	/**
+	 * @return the JLM count of monitor enters, or 0 if JLM is not enabled
+	 */
+	public long getEnterCount() {
+		return enterCount;
+	}
+
+	/**
+	 * @return the JLM count of monitor enters that were not satisfied immediately, or 0 if JLM is not enabled
+	 */
+	public long getSlowEnterCount() {
+		return slowEnterCount;
+	}
+
+	/**
+	 * @return the JLM count of spin loop iterations, or 0 if JLM is not enabled
+	 */
+	public long getSpinCount() {
+		return spinCount;
+	}
+
+	/**
+	 * @return the JLM count of yields while spinning, or 0 if JLM is not enabled
+	 */
+	public long getYieldCount() {
+		return yieldCount;
+	}
+
+	/**
+	 * @return the JLM total hold time in the ticks of the platform's high-resolution clock,
+	 * or 0 if JLM hold time profiling is not enabled
+	 */
+	public long getHoldTime() {
+		return holdTime;
+	}
+
+	/**
+	 * Receives a {@link CompositeData} representing a <code>MonitorContentionInfo</code>
+	 * object and attempts to return the root <code>MonitorContentionInfo</code> instance.
+	 *
+	 * @param cd a <code>CompositeDate</code> that represents a <code>MonitorContentionInfo</code>.
+	 * @return if <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 *         <code>MonitorContentionInfo</code>. If <code>cd</code> is <code>null</code>, returns <code>null</code>.
+	 * @throws IllegalArgumentException if argument <code>cd</code> does not correspond to a
+	 *         <code>MonitorContentionInfo</code>.
+	 */
+	public static MonitorContentionInfo from(CompositeData cd) {
+		MonitorContentionInfo result = null;
+
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new MonitorContentionInfo ?
+			if (!MonitorContentionInfoUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			try {
+				result = new MonitorContentionInfo(
+						(String) cd.get("className"), //$NON-NLS-1$
+						((Long) cd.get("monitorId")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("blockedCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("blockedTime")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("maxBlockedTime")).longValue(), //$NON-NLS-1$
+						(long[]) cd.get("blockedTimeHistogram"), //$NON-NLS-1$
+						((Long) cd.get("waitedCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("waitedTime")).longValue(), //$NON-NLS-1$
+						(long[]) cd.get("waitedTimeHistogram"), //$NON-NLS-1$
+						((Long) cd.get("enterCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("slowEnterCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("spinCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("yieldCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("holdTime")).longValue()); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link MonitorContentionInfo} object.
+	 *
+	 * @return Text description of this {@link MonitorContentionInfo} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(className);
+		sb.append("@0x"); //$NON-NLS-1$
+		sb.append(Long.toHexString(monitorId));
+		sb.append(": blockedCount = "); //$NON-NLS-1$
+		sb.append(blockedCount);
+		sb.append(", blockedTime = "); //$NON-NLS-1$
+		sb.append(blockedTime);
+		sb.append(", maxBlockedTime = "); //$NON-NLS-1$
+		sb.append(maxBlockedTime);
+		sb.append(", waitedCount = "); //$NON-NLS-1$
+		sb.append(waitedCount);
+		sb.append(", waitedTime = "); //$NON-NLS-1$
+		sb.append(waitedTime);
+		if (0 != enterCount) {
+			sb.append(", enterCount = "); //$NON-NLS-1$
+			sb.append(enterCount);
+			sb.append(", slowEnterCount = "); //$NON-NLS-1$
+			sb.append(slowEnterCount);
+			sb.append(", spinCount = "); //$NON-NLS-1$
+			sb.append(spinCount);
+			sb.append(", yieldCount = "); //$NON-NLS-1$
+			sb.append(yieldCount);
+			sb.append(", holdTime = "); //$NON-NLS-1$
+			sb.append(holdTime);
+		}
+		return sb.toString();
+	}
+
+}
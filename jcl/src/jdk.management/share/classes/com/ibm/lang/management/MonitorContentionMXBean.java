@@ -0,0 +1,90 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import java.lang.management.PlatformManagedObject;
+
+/**
+ * <p>
+ * This interface provides per-monitor lock contention statistics. While profiling
+ * is enabled, the JVM records for each contended Java monitor how often and for how
+ * long threads were blocked entering it or waited on it, together with the name of
+ * the class of the object that owns it.
+ * <p>
+ * Only the contended paths are instrumented, so the cost of profiling is proportional
+ * to the amount of contention and uncontended locking is not slowed down. Profiling can
+ * be enabled at startup with <code>-XX:+MonitorContentionProfiling</code>, through
+ * {@link #setProfilingEnabled(boolean)}, or with the <code>Monitor.contention</code>
+ * jcmd command.
+ * <p>
+ * When Java Lock Monitor (JLM) profiling is also enabled, the statistics include the
+ * JLM enter, spin, yield and hold time counters of each monitor.
+ * <br>
+ * <b>Usage example for the {@link MonitorContentionMXBean}</b>
+ * <pre>
+ * {@code
+ *   ...
+ *   MonitorContentionMXBean bean = ManagementFactory.getPlatformMXBean(MonitorContentionMXBean.class);
+ *   bean.setProfilingEnabled(true);
+ *   ...
+ *   for (MonitorContentionInfo info : bean.getContendedMonitors(10)) {
+ *      System.out.println(info);
+ *   }
+ *   ...
+ * }
+ * </pre>
+ */
+public interface MonitorContentionMXBean extends PlatformManagedObject {
+
+	/**
+	 * Returns whether monitor contention profiling is enabled.
+	 *
+	 * @return true if monitor contention is being recorded
+	 */
+	public boolean isProfilingEnabled();
+
+	/**
+	 * Enables or disables monitor contention profiling. Statistics that were already
+	 * collected are kept when profiling is disabled.
+	 *
+	 * @param enable true to start recording monitor contention, false to stop
+	 * @throws UnsupportedOperationException if profiling could not be enabled
+	 */
+	public void setProfilingEnabled(boolean enable);
+
+	/**
+	 * Discards the statistics collected so far.
+	 */
+	public void reset();
+
+	/**
+	 * Returns the statistics of the most contended monitors, ordered by decreasing
+	 * total blocked time, then by decreasing total waited time.
+	 *
+	 * @param maxCount the maximum number of monitors to return
+	 * @return the statistics of at most <code>maxCount</code> monitors
+	 * @throws IllegalArgumentException if <code>maxCount</code> is negative
+	 */
+	public MonitorContentionInfo[] getContendedMonitors(int maxCount);
+
+}
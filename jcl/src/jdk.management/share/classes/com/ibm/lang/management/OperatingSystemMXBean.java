@@ -321,6 +321,35 @@ public interface OperatingSystemMXBean extends com.sun.management.OperatingSyste
 	 */
 	public MemoryUsage retrieveMemoryUsage() throws MemoryUsageRetrievalException;
 
+	/**
+	 * Returns an updated {@link com.ibm.lang.management.OperatingSystemMetrics} object that
+	 * represents a snapshot of the process, memory, processor and container statistics,
+	 * all sampled by a single call into the operating system layer.
+	 * <p>
+	 * Samples are shared: if the latest sample is younger than the minimum refresh interval,
+	 * its values are returned rather than sampling again. The interval is set, in milliseconds,
+	 * with the system property
+	 * <code>com.ibm.lang.management.OperatingSystemMXBean.metricsRefreshInterval</code>;
+	 * the default is 100.
+	 *
+	 * @param metricsObj User provided {@link com.ibm.lang.management.OperatingSystemMetrics} object.
+	 *
+	 * @return The updated {@link com.ibm.lang.management.OperatingSystemMetrics} object.
+	 *
+	 * @throws NullPointerException if a null reference is passed as parameter.
+	 */
+	public OperatingSystemMetrics retrieveMetrics(OperatingSystemMetrics metricsObj)
+			throws NullPointerException;
+
+	/**
+	 * Instantiates and returns an instance of {@link com.ibm.lang.management.OperatingSystemMetrics}
+	 * that represents a snapshot of the process, memory, processor and container statistics.
+	 *
+	 * @return The new {@link com.ibm.lang.management.OperatingSystemMetrics} object.
+	 * @see #retrieveMetrics(OperatingSystemMetrics)
+	 */
+	public OperatingSystemMetrics retrieveMetrics();
+
 	/**
 	 * Instantiates and returns an instance of a {@link java.lang.String} object containing
 	 * hardware model information
@@ -0,0 +1,423 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.InvalidKeyException;
+
+import com.ibm.lang.management.internal.OperatingSystemMetricsUtil;
+
+/**
+ * This represents a snapshot of the process, memory, processor and container
+ * statistics reported by the {@link OperatingSystemMXBean}, sampled together.
+ * <p>
+ * An instance can be reused: {@link OperatingSystemMXBean#retrieveMetrics(OperatingSystemMetrics)}
+ * overwrites all of its values. Values that are not available on the current
+ * platform are reported as -1.
+ */
+public class OperatingSystemMetrics {
+
+	static {
+		OperatingSystemMetricsUtil.setAccess(new OperatingSystemMetricsUtil.Access() {
+			@Override
+			public void copy(OperatingSystemMetrics from, OperatingSystemMetrics to) {
+				to.copyFrom(from);
+			}
+
+			@Override
+			public void setProcessCpuLoad(OperatingSystemMetrics metrics, double processCpuLoad) {
+				metrics.processCpuLoad = processCpuLoad;
+			}
+		});
+	}
+
+	private long timestamp;
+	private long processCpuTime;
+	private double processCpuLoad;
+	private double systemCpuLoad;
+	private long processPhysicalMemorySize;
+	private long processPrivateMemorySize;
+	private long processVirtualMemorySize;
+	private long openFileDescriptorCount;
+	private long maxFileDescriptorCount;
+	private long totalPhysicalMemorySize;
+	private long freePhysicalMemorySize;
+	private long totalSwapSpaceSize;
+	private long freeSwapSpaceSize;
+	private long cachedMemorySize;
+	private long bufferedMemorySize;
+	private int onlineProcessors;
+	private int availableProcessors;
+	private long containerMemoryLimit;
+	private boolean containerized;
+
+	/**
+	 * Creates a new {@link com.ibm.lang.management.OperatingSystemMetrics} instance.
+	 */
+	public OperatingSystemMetrics() {
+		super();
+	}
+
+	/**
+	 * The time when the statistics were sampled, in milliseconds since the epoch.
+	 *
+	 * @return Timestamp in milliseconds.
+	 */
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	/**
+	 * The processor time used by the process in both kernel and user modes.
+	 *
+	 * @return Process CPU time in nanoseconds or -1 if info not available.
+	 */
+	public long getProcessCpuTime() {
+		return this.processCpuTime;
+	}
+
+	/**
+	 * The CPU usage of the process since the previous sample, in the [0.0, 1.0]
+	 * interval. There is no previous sample the first time the statistics are
+	 * retrieved.
+	 *
+	 * @return Process CPU load, or a negative error code from {@link CpuLoadCalculationConstants}.
+	 */
+	public double getProcessCpuLoad() {
+		return this.processCpuLoad;
+	}
+
+	/**
+	 * The CPU usage of the whole system, in the [0.0, 1.0] interval.
+	 *
+	 * @return System CPU load, or a negative error code from {@link CpuLoadCalculationConstants}.
+	 * @see OperatingSystemMXBean#getSystemCpuLoad()
+	 */
+	public double getSystemCpuLoad() {
+		return this.systemCpuLoad;
+	}
+
+	/**
+	 * The amount of physical memory used by the process (the resident set size).
+	 *
+	 * @return Process physical memory in bytes or -1 if info not available.
+	 */
+	public long getProcessPhysicalMemorySize() {
+		return this.processPhysicalMemorySize;
+	}
+
+	/**
+	 * The amount of private memory used by the process.
+	 *
+	 * @return Process private memory in bytes or -1 if info not available.
+	 */
+	public long getProcessPrivateMemorySize() {
+		return this.processPrivateMemorySize;
+	}
+
+	/**
+	 * The amount of virtual memory committed to the process.
+	 *
+	 * @return Process virtual memory in bytes or -1 if info not available.
+	 */
+	public long getProcessVirtualMemorySize() {
+		return this.processVirtualMemorySize;
+	}
+
+	/**
+	 * The number of file descriptors the process has open.
+	 * <ul>
+	 * <li>File descriptor counts are not available on Windows.
+	 * </ul>
+	 *
+	 * @return Open file descriptor count or -1 if info not available.
+	 */
+	public long getOpenFileDescriptorCount() {
+		return this.openFileDescriptorCount;
+	}
+
+	/**
+	 * The maximum number of file descriptors the process can open.
+	 * <ul>
+	 * <li>File descriptor counts are not available on Windows.
+	 * </ul>
+	 *
+	 * @return Maximum file descriptor count, {@link Long#MAX_VALUE} if unlimited,
+	 * or -1 if info not available.
+	 */
+	public long getMaxFileDescriptorCount() {
+		return this.maxFileDescriptorCount;
+	}
+
+	/**
+	 * The total amount of usable physical memory. Inside a container with a
+	 * memory limit, this is the limit.
+	 *
+	 * @return Total physical memory in bytes or -1 if info not available.
+	 */
+	public long getTotalPhysicalMemorySize() {
+		return this.totalPhysicalMemorySize;
+	}
+
+	/**
+	 * The amount of free physical memory. Inside a container with a memory
+	 * limit, this is the memory left before the limit is reached.
+	 *
+	 * @return Free physical memory in bytes or -1 if info not available.
+	 */
+	public long getFreePhysicalMemorySize() {
+		return this.freePhysicalMemorySize;
+	}
+
+	/**
+	 * The amount of total swap space.
+	 *
+	 * @return Total swap space in bytes or -1 if info not available.
+	 */
+	public long getTotalSwapSpaceSize() {
+		return this.totalSwapSpaceSize;
+	}
+
+	/**
+	 * The amount of free swap space.
+	 *
+	 * @return Free swap space in bytes or -1 if info not available.
+	 */
+	public long getFreeSwapSpaceSize() {
+		return this.freeSwapSpaceSize;
+	}
+
+	/**
+	 * The amount of cached memory.
+	 *
+	 * @return Cached memory in bytes or -1 if info not available.
+	 * @see MemoryUsage#getCached()
+	 */
+	public long getCachedMemorySize() {
+		return this.cachedMemorySize;
+	}
+
+	/**
+	 * The amount of buffered memory.
+	 *
+	 * @return Buffered memory in bytes or -1 if info not available.
+	 * @see MemoryUsage#getBuffered()
+	 */
+	public long getBufferedMemorySize() {
+		return this.bufferedMemorySize;
+	}
+
+	/**
+	 * The number of processors that are online.
+	 *
+	 * @return Online processor count.
+	 */
+	public int getOnlineProcessors() {
+		return this.onlineProcessors;
+	}
+
+	/**
+	 * The number of processors available to the Java virtual machine. This honours
+	 * the CPU quota of the container, if any, and the <code>-XX:ActiveProcessorCount</code>
+	 * option.
+	 *
+	 * @return Available processor count.
+	 * @see Runtime#availableProcessors()
+	 */
+	public int getAvailableProcessors() {
+		return this.availableProcessors;
+	}
+
+	/**
+	 * The memory limit of the container (cgroup) the process runs in. A cgroup
+	 * limit is reported even if {@link #isContainerized()} returns false.
+	 *
+	 * @return Container memory limit in bytes or -1 if no limit is set or info not available.
+	 */
+	public long getContainerMemoryLimit() {
+		return this.containerMemoryLimit;
+	}
+
+	/**
+	 * Whether the process runs in a container.
+	 *
+	 * @return True if the process runs in a container, false otherwise.
+	 */
+	public boolean isContainerized() {
+		return this.containerized;
+	}
+
+	/* (non-Javadoc)
+	 * Setter method used by the native to update the values of an
+	 * {@link OperatingSystemMetrics} instance, other than processCpuLoad,
+	 * which is derived from consecutive samples.
+	 */
+	void updateValues(long timestamp,
+			long processCpuTime,
+			double systemCpuLoad,
+			long processPhysicalMemorySize,
+			long processPrivateMemorySize,
+			long processVirtualMemorySize,
+			long openFileDescriptorCount,
+			long maxFileDescriptorCount,
+			long totalPhysicalMemorySize,
+			long freePhysicalMemorySize,
+			long totalSwapSpaceSize,
+			long freeSwapSpaceSize,
+			long cachedMemorySize,
+			long bufferedMemorySize,
+			int onlineProcessors,
+			int availableProcessors,
+			long containerMemoryLimit,
+			boolean containerized)
+	{
+		this.timestamp = timestamp;
+		this.processCpuTime = processCpuTime;
+		this.systemCpuLoad = systemCpuLoad;
+		this.processPhysicalMemorySize = processPhysicalMemorySize;
+		this.processPrivateMemorySize = processPrivateMemorySize;
+		this.processVirtualMemorySize = processVirtualMemorySize;
+		this.openFileDescriptorCount = openFileDescriptorCount;
+		this.maxFileDescriptorCount = maxFileDescriptorCount;
+		this.totalPhysicalMemorySize = totalPhysicalMemorySize;
+		this.freePhysicalMemorySize = freePhysicalMemorySize;
+		this.totalSwapSpaceSize = totalSwapSpaceSize;
+		this.freeSwapSpaceSize = freeSwapSpaceSize;
+		this.cachedMemorySize = cachedMemorySize;
+		this.bufferedMemorySize = bufferedMemorySize;
+		this.onlineProcessors = onlineProcessors;
+		this.availableProcessors = availableProcessors;
+		this.containerMemoryLimit = containerMemoryLimit;
+		this.containerized = containerized;
+	}
+
+	private void copyFrom(OperatingSystemMetrics other) {
+		updateValues(other.timestamp,
+				other.processCpuTime,
+				other.systemCpuLoad,
+				other.processPhysicalMemorySize,
+				other.processPrivateMemorySize,
+				other.processVirtualMemorySize,
+				other.openFileDescriptorCount,
+				other.maxFileDescriptorCount,
+				other.totalPhysicalMemorySize,
+				other.freePhysicalMemorySize,
+				other.totalSwapSpaceSize,
+				other.freeSwapSpaceSize,
+				other.cachedMemorySize,
+				other.bufferedMemorySize,
+				other.onlineProcessors,
+				other.availableProcessors,
+				other.containerMemoryLimit,
+				other.containerized);
+		this.processCpuLoad = other.processCpuLoad;
+	}
+
+	/**
+	 * Receives a {@link javax.management.openmbean.CompositeData} representing an
+	 * {@link com.ibm.lang.management.OperatingSystemMetrics}.
+	 *
+	 * @param cd A {@link javax.management.openmbean.CompositeData} that represents an
+	 * 	   {@link com.ibm.lang.management.OperatingSystemMetrics}
+	 *
+	 * @return If <code>cd</code> is non- <code>null</code>, returns a new instance of
+	 * 	   {@link com.ibm.lang.management.OperatingSystemMetrics}, If <code>cd</code> is
+	 * 	   <code>null</code>, returns <code>null</code>.
+	 *
+	 * @throws IllegalArgumentException if argument <code>cd</code> does not correspond
+	 * 	   to an {@link com.ibm.lang.management.OperatingSystemMetrics}.
+	 */
+	public static OperatingSystemMetrics from(CompositeData cd) {
+		OperatingSystemMetrics result = null;
+		if (null != cd) {
+			// Is the new received CompositeData of the required type to create
+			// a new OperatingSystemMetrics ?
+			if (!OperatingSystemMetricsUtil.getCompositeType().isValue(cd)) {
+				/*[MSG "K05E5", "CompositeData is not of the expected type."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E5")); //$NON-NLS-1$
+			}
+
+			result = new OperatingSystemMetrics();
+			try {
+				result.updateValues(
+						((Long) cd.get("timestamp")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("processCpuTime")).longValue(), //$NON-NLS-1$
+						((Double) cd.get("systemCpuLoad")).doubleValue(), //$NON-NLS-1$
+						((Long) cd.get("processPhysicalMemorySize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("processPrivateMemorySize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("processVirtualMemorySize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("openFileDescriptorCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("maxFileDescriptorCount")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("totalPhysicalMemorySize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("freePhysicalMemorySize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("totalSwapSpaceSize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("freeSwapSpaceSize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("cachedMemorySize")).longValue(), //$NON-NLS-1$
+						((Long) cd.get("bufferedMemorySize")).longValue(), //$NON-NLS-1$
+						((Integer) cd.get("onlineProcessors")).intValue(), //$NON-NLS-1$
+						((Integer) cd.get("availableProcessors")).intValue(), //$NON-NLS-1$
+						((Long) cd.get("containerMemoryLimit")).longValue(), //$NON-NLS-1$
+						((Boolean) cd.get("containerized")).booleanValue()); //$NON-NLS-1$
+				result.processCpuLoad = ((Double) cd.get("processCpuLoad")).doubleValue(); //$NON-NLS-1$
+			} catch (InvalidKeyException e) {
+				/*[MSG "K05E6", "CompositeData object does not contain expected key."]*/
+				throw new IllegalArgumentException(com.ibm.oti.util.Msg.getString("K05E6")); //$NON-NLS-1$
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Text description of this {@link com.ibm.lang.management.OperatingSystemMetrics} object.
+	 *
+	 * @return a text description of this {@link com.ibm.lang.management.OperatingSystemMetrics} object.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("\n========== "); //$NON-NLS-1$
+		sb.append(this.getClass().getSimpleName());
+		sb.append(" ==========\n\n"); //$NON-NLS-1$
+		sb.append("timestamp = ").append(this.timestamp).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("processCpuTime = ").append(this.processCpuTime).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("processCpuLoad = ").append(this.processCpuLoad).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("systemCpuLoad = ").append(this.systemCpuLoad).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("processPhysicalMemorySize = ").append(this.processPhysicalMemorySize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("processPrivateMemorySize = ").append(this.processPrivateMemorySize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("processVirtualMemorySize = ").append(this.processVirtualMemorySize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("openFileDescriptorCount = ").append(this.openFileDescriptorCount).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("maxFileDescriptorCount = ").append(this.maxFileDescriptorCount).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("totalPhysicalMemorySize = ").append(this.totalPhysicalMemorySize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("freePhysicalMemorySize = ").append(this.freePhysicalMemorySize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("totalSwapSpaceSize = ").append(this.totalSwapSpaceSize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("freeSwapSpaceSize = ").append(this.freeSwapSpaceSize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("cachedMemorySize = ").append(this.cachedMemorySize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("bufferedMemorySize = ").append(this.bufferedMemorySize).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("onlineProcessors = ").append(this.onlineProcessors).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("availableProcessors = ").append(this.availableProcessors).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("containerMemoryLimit = ").append(this.containerMemoryLimit).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		sb.append("containerized = ").append(this.containerized).append("\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		return sb.toString();
+	}
+
+}
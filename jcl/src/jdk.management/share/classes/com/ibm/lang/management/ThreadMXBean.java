@@ -71,6 +71,26 @@ public interface ThreadMXBean extends com.sun.management.ThreadMXBean
 			/*[ENDIF] JAVA_SPEC_VERSION >= 24 */
 			;
 
+	/**
+	 * Fetches the identifiers of all live threads together with the memory allocated by,
+	 * and the CPU time used by, each of them. All values are sampled in one pass over the
+	 * threads, which is considerably cheaper than calling getAllThreadIds() followed by
+	 * getThreadAllocatedBytes(long[]) and getThreadCpuTime(long[]) when there are many threads.
+	 * @return Three arrays of the same length: the thread identifiers (as returned by
+	 * 			java/lang/Thread.getId()); the bytes allocated by each thread, or -1 if thread
+	 * 			memory allocation measurement is disabled; and the CPU time of each thread in
+	 * 			nanoseconds, or -1 if thread CPU time measurement is not supported or disabled.
+	/*[IF JAVA_SPEC_VERSION < 24]
+	 * @throws SecurityException is thrown if the caller does not have sufficient permissions
+	 * (ManagementPermission("monitor"))
+	/*[ENDIF] JAVA_SPEC_VERSION >= 24
+	 */
+	public long[][] retrieveAllThreadResourceUsage()
+			/*[IF JAVA_SPEC_VERSION < 24]*/
+			throws SecurityException
+			/*[ENDIF] JAVA_SPEC_VERSION >= 24 */
+			;
+
 	/**
 	 * API method that fetches an array of ExtendedThreadInfo objects corresponding to
 	 * threads in the virtual machine during the time it is invoked.
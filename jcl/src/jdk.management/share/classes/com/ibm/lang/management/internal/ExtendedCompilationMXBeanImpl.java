@@ -0,0 +1,178 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.ObjectName;
+
+import com.ibm.java.lang.management.internal.CompilationMXBeanImpl;
+import com.ibm.lang.management.CompilationEventInfo;
+import com.ibm.lang.management.CompilationMXBean;
+
+/**
+ * Runtime type for {@link com.ibm.lang.management.CompilationMXBean}.
+ * <p>
+ * The attributes are those of the {@link CompilationMXBeanImpl} singleton,
+ * which this bean exposes through the extended interface.
+ * </p>
+ *
+ * @since 1.8
+ */
+public final class ExtendedCompilationMXBeanImpl implements CompilationMXBean {
+
+	private static final CompilationMXBean instance = createInstance();
+
+	private final CompilationMXBeanImpl compilationBean;
+
+	private static CompilationMXBean createInstance() {
+		CompilationMXBeanImpl compilationBean = CompilationMXBeanImpl.getInstance();
+		return (compilationBean == null) ? null : new ExtendedCompilationMXBeanImpl(compilationBean);
+	}
+
+	/**
+	 * Singleton accessor method.
+	 *
+	 * @return the <code>ExtendedCompilationMXBeanImpl</code> singleton,
+	 *         or null if the JIT is not enabled
+	 */
+	public static CompilationMXBean getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Constructor intentionally private to prevent instantiation by others.
+	 */
+	private ExtendedCompilationMXBeanImpl(CompilationMXBeanImpl compilationBean) {
+		super();
+		this.compilationBean = compilationBean;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getName() {
+		return compilationBean.getName();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getTotalCompilationTime() {
+		return compilationBean.getTotalCompilationTime();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCompilationTimeMonitoringSupported() {
+		return compilationBean.isCompilationTimeMonitoringSupported();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getCompilationCPUBudget() {
+		return compilationBean.getCompilationCPUBudget();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getCompilationCPUBudgetUsage() {
+		return compilationBean.getCompilationCPUBudgetUsage();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getDeferredCompilationCount() {
+		return compilationBean.getDeferredCompilationCount();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isCompilationEventRecordingEnabled() {
+		return isCompilationEventRecordingEnabledImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setCompilationEventRecordingEnabled(boolean enable) {
+		if (!setCompilationEventRecordingEnabledImpl(enable)) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CompilationEventInfo[] drainCompilationEvents() {
+		List<CompilationEventInfo> events = new ArrayList<>();
+		drainCompilationEventsImpl(events);
+		return events.toArray(new CompilationEventInfo[events.size()]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getDroppedCompilationEventCount() {
+		return getDroppedCompilationEventCountImpl();
+	}
+
+	/* Called by drainCompilationEventsImpl() for each event, in order. */
+	private void addEvent(List<CompilationEventInfo> events, boolean invalidation, String method, long timestamp,
+			int compileID, int compileLevel, boolean osr, boolean aot, boolean remote,
+			long duration, long queueTime, long codeSize, long inlinedBytes, String reason) {
+		events.add(new CompilationEventInfo(invalidation, method, timestamp,
+				compileID, compileLevel, osr, aot, remote,
+				duration, queueTime, codeSize, inlinedBytes, reason));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		return compilationBean.getObjectName();
+	}
+
+	private native boolean isCompilationEventRecordingEnabledImpl();
+	private native boolean setCompilationEventRecordingEnabledImpl(boolean enable);
+	private native void drainCompilationEventsImpl(List<CompilationEventInfo> events);
+	private native long getDroppedCompilationEventCountImpl();
+
+}
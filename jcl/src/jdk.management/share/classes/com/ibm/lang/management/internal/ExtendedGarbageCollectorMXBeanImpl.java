@@ -79,7 +79,7 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 
 	static GcInfo buildGcInfo(long index, long startTime, long endTime,
 							long[] initialSize, long[] preUsed, long[] preCommitted, long[] preMax,
-							long[] postUsed, long[] postCommitted, long[] postMax) {
+							long[] postUsed, long[] postCommitted, long[] postMax, long[] phaseInfo) {
 		/* retrieve the names of MemoryPools*/
 		if (null == poolNames) {
 			poolNames = ExtendedMemoryMXBeanImpl.getInstance().getMemoryPoolMXBeans(false)
@@ -101,7 +101,7 @@ public final class ExtendedGarbageCollectorMXBeanImpl
 			usageBeforeGc.put(poolNames[count], new MemoryUsage(initialSize[count], preUsed[count], preCommitted[count], preMax[count]));
 			usageAfterGc.put(poolNames[count], new MemoryUsage(initialSize[count], postUsed[count], postCommitted[count], postMax[count]));
 		}
-		return GcInfoUtil.newGcInfoInstance(index, startTime, endTime, usageBeforeGc, usageAfterGc);
+		return GcInfoUtil.newGcInfoInstance(index, startTime, endTime, usageBeforeGc, usageAfterGc, phaseInfo);
 	}
 
 }
@@ -26,6 +26,7 @@ package com.ibm.lang.management.internal;
 import java.security.PrivilegedAction;
 /*[ENDIF] JAVA_SPEC_VERSION < 24 */
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import javax.management.MBeanNotificationInfo;
 
@@ -36,6 +37,7 @@ import com.ibm.lang.management.CpuLoadCalculationConstants;
 import com.ibm.lang.management.MemoryUsage;
 import com.ibm.lang.management.MemoryUsageRetrievalException;
 import com.ibm.lang.management.OperatingSystemMXBean;
+import com.ibm.lang.management.OperatingSystemMetrics;
 import com.ibm.lang.management.ProcessingCapacityNotificationInfo;
 import com.ibm.lang.management.ProcessorUsage;
 import com.ibm.lang.management.ProcessorUsageRetrievalException;
@@ -107,6 +109,13 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 
 	private HwEmulResult isHwEmulated = HwEmulResult.UNKNOWN;
 
+	/*
+	 * The latest sample taken by retrieveMetrics(), shared by all callers, and the
+	 * System.nanoTime() when it was taken, or -1. Both are guarded by latestMetrics.
+	 */
+	private final OperatingSystemMetrics latestMetrics = new OperatingSystemMetrics();
+	private long latestMetricsTime = -1;
+
 	/**
 	 * Protected constructor to prevent instantiation by others, but let subclasses use it.
 	 */
@@ -150,9 +159,10 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 	 * @param endCpuTime Cpu time consumed at the end of the interval.
 	 * @param startTs Timestamp at the beginning of the interval.
 	 * @param startCpuTime Cpu time sampled at the onset of the interval.
+	 * @param processors The number of online CPUs.
 	 * @return number in [0.0, 1.0], or ERROR_VALUE in case of error
 	 */
-	private double calculateProcessCpuLoad(long endTs, long endCpuTime, long startTs, long startCpuTime) {
+	private static double calculateProcessCpuLoad(long endTs, long endCpuTime, long startTs, long startCpuTime, int processors) {
 		double timestampDelta = endTs - startTs;
 		double processTimeDelta = endCpuTime - startCpuTime;
 		if ((timestampDelta <= 0) || (processTimeDelta < 0)) {
@@ -160,7 +170,7 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 			return CpuLoadCalculationConstants.ERROR_VALUE;
 		}
 		/* Ensure that the load doesn't go over 1.0. */
-		return Math.min(processTimeDelta / (getOnlineProcessorsImpl() * timestampDelta), 1.0);
+		return Math.min(processTimeDelta / (processors * timestampDelta), 1.0);
 	}
 
 	/*[IF JAVA_SPEC_VERSION < 14] - inherit the default method in Java 14+ */
@@ -301,7 +311,8 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 			processCpuLoad = calculateProcessCpuLoad(latestTime,
 					latestCpuTime,
 					interimTime,
-					interimCpuTime);
+					interimCpuTime,
+					getOnlineProcessorsImpl());
 			if (processCpuLoad >= 0.0) { /* no errors detected in the statistics */
 				/* Save the interim counters as old and update the interim counters with the
 				 * latest ones (that we obtained on this invocation).
@@ -324,7 +335,8 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 			processCpuLoad = calculateProcessCpuLoad(latestTime,
 					latestCpuTime,
 					oldTime,
-					oldCpuTime);
+					oldCpuTime,
+					getOnlineProcessorsImpl());
 			if (processCpuLoad < 0) {
 				/* the stats look bogus. Discard them */
 				oldTime = latestTime;
@@ -575,6 +587,59 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 		return getMemoryUsageImpl(Objects.requireNonNull(memoryUsageObj));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final OperatingSystemMetrics retrieveMetrics() {
+		return retrieveMetrics(new OperatingSystemMetrics());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public final OperatingSystemMetrics retrieveMetrics(OperatingSystemMetrics metricsObj) throws NullPointerException {
+		Objects.requireNonNull(metricsObj);
+		OperatingSystemMetricsUtil.Access access = OperatingSystemMetricsUtil.getAccess();
+
+		synchronized (latestMetrics) {
+			long now = System.nanoTime();
+
+			/* Sample again only if the shared sample is older than the refresh interval. */
+			if ((-1 == latestMetricsTime) || ((now - latestMetricsTime) >= MetricsRefreshIntervalHolder.interval)) {
+				long previousTime = latestMetricsTime;
+				long previousCpuTime = latestMetrics.getProcessCpuTime();
+				double processCpuLoad = CpuLoadCalculationConstants.ERROR_VALUE;
+
+				getMetricsImpl(latestMetrics);
+
+				/* The process CPU load is measured between this sample and the previous one. */
+				if ((-1 != previousTime) && (previousCpuTime >= 0) && (latestMetrics.getProcessCpuTime() >= 0)) {
+					processCpuLoad = calculateProcessCpuLoad(now,
+							latestMetrics.getProcessCpuTime(),
+							previousTime,
+							previousCpuTime,
+							latestMetrics.getOnlineProcessors());
+				}
+				access.setProcessCpuLoad(latestMetrics, processCpuLoad);
+				latestMetricsTime = now;
+			}
+
+			access.copy(latestMetrics, metricsObj);
+		}
+
+		return metricsObj;
+	}
+
+	/**
+	 * Samples the process, memory, processor and container statistics
+	 * into the given object, other than the process CPU load.
+	 *
+	 * @param metrics the object to update
+	 */
+	private native void getMetricsImpl(OperatingSystemMetrics metrics);
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -678,6 +743,29 @@ public class ExtendedOperatingSystemMXBeanImpl extends OperatingSystemMXBeanImpl
 		}
 	}
 
+	/**
+	 * Do lazy initialization of the minimum interval between samples taken by retrieveMetrics().
+	 * By default, it is 100 ms. The user can override this by
+	 * -Dcom.ibm.lang.management.OperatingSystemMXBean.metricsRefreshInterval=<milliseconds>
+	 */
+	private static final class MetricsRefreshIntervalHolder {
+		static final long interval = getInterval();
+
+		private static long getInterval() {
+			long millis = 100;
+			String property = VM.internalGetProperties().getProperty("com.ibm.lang.management.OperatingSystemMXBean.metricsRefreshInterval"); //$NON-NLS-1$
+
+			if (null != property) {
+				try {
+					millis = Math.max(0, Long.parseLong(property));
+				} catch (NumberFormatException e) {
+					/* use the default */
+				}
+			}
+			return TimeUnit.MILLISECONDS.toNanos(millis);
+		}
+	}
+
 	@Override
 	public boolean isProcessRunning(long pid) {
 		/*[IF JAVA_SPEC_VERSION < 24]*/
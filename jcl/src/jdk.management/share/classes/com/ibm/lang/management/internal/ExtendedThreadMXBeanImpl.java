@@ -23,7 +23,11 @@
 package com.ibm.lang.management.internal;
 
 import java.lang.management.ThreadInfo;
+import java.util.Arrays;
 
+/*[IF JAVA_SPEC_VERSION < 24]*/
+import com.ibm.java.lang.management.internal.ManagementPermissionHelper;
+/*[ENDIF] JAVA_SPEC_VERSION < 24 */
 import com.ibm.java.lang.management.internal.ThreadMXBeanImpl;
 import com.ibm.lang.management.ExtendedThreadInfo;
 import com.ibm.lang.management.ThreadMXBean;
@@ -69,6 +73,28 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 
 	private native static long getThreadAllocatedBytesImpl(long threadID);
 
+	/**
+	 * Stores the bytes allocated by, and the CPU time used by, each of the given threads
+	 * into the corresponding elements of the result arrays; either may be null if not
+	 * required. Elements for threads that are not alive are set to -1.
+	 * The threads are looked up in a single pass over the thread list.
+	 *
+	 * @param threadIDs the thread identifiers
+	 * @param allocatedBytes the array to store the allocated bytes into, or null
+	 * @param cpuTimes the array to store the CPU times into, or null
+	 */
+	private native static void getThreadResourceUsageImpl(long[] threadIDs, long[] allocatedBytes, long[] cpuTimes);
+
+	/**
+	 * Samples all live threads in a single pass over the thread list.
+	 *
+	 * @param allocatedBytes whether to sample the bytes allocated by each thread
+	 * @param cpuTime whether to sample the CPU time of each thread
+	 * @return for each thread, its identifier, allocated bytes and CPU time, in that order;
+	 * values not sampled are -1
+	 */
+	private native static long[] getAllThreadResourceUsageImpl(boolean allocatedBytes, boolean cpuTime);
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -90,11 +116,15 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 	 */
 	@Override
 	public long[] getThreadAllocatedBytes(long[] threadIds) {
-		int length = threadIds.length;
-		long[] allocatedBytes = new long[length];
+		long[] allocatedBytes = new long[threadIds.length];
 
-		for (int i = 0; i < length; i++) {
-			allocatedBytes[i] = getThreadAllocatedBytes(threadIds[i]);
+		if (!isThreadAllocatedMemorySupported()) {
+			throw new UnsupportedOperationException();
+		}
+		if (isThreadAllocatedMemoryEnabled()) {
+			getThreadResourceUsageImpl(threadIds, allocatedBytes, null);
+		} else {
+			Arrays.fill(allocatedBytes, -1);
 		}
 
 		return allocatedBytes;
@@ -114,8 +144,9 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 			return -1;
 		}
 		long total = 0;
-		long[] allocatedBytes = getThreadAllocatedBytes(getAllThreadIds());
-		for (long threadAllocated : allocatedBytes) {
+		long[] usage = getAllThreadResourceUsageImpl(true, false);
+		for (int i = 1; i < usage.length; i += 3) {
+			long threadAllocated = usage[i];
 			if (threadAllocated != -1) {
 				total += threadAllocated;
 			}
@@ -138,9 +169,7 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 		}
 		if (isCurrentThreadCpuTimeSupported()) {
 			if (isThreadCpuTimeEnabled()) {
-				for (int i = 0; i < threadIds.length; i++) {
-					result[i] = getThreadCpuTime(threadIds[i]);
-				}
+				getThreadResourceUsageImpl(threadIds, null, result);
 			}
 		} else {
 			/*[MSG "K05F6", "CPU time measurement is not supported on this virtual machine."]*/
@@ -175,6 +204,32 @@ public final class ExtendedThreadMXBeanImpl extends ThreadMXBeanImpl implements
 		return result;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long[][] retrieveAllThreadResourceUsage() {
+		/*[IF JAVA_SPEC_VERSION < 24]*/
+		@SuppressWarnings("removal")
+		SecurityManager security = System.getSecurityManager();
+		if (null != security) {
+			security.checkPermission(ManagementPermissionHelper.MPMONITOR);
+		}
+		/*[ENDIF] JAVA_SPEC_VERSION < 24 */
+		boolean cpuTime = isThreadCpuTimeSupported() && isThreadCpuTimeEnabled();
+		long[] usage = getAllThreadResourceUsageImpl(isThreadAllocatedMemoryEnabled(), cpuTime);
+		int count = usage.length / 3;
+		long[][] result = new long[3][count];
+
+		for (int i = 0; i < count; i++) {
+			result[0][i] = usage[3 * i];
+			result[1][i] = usage[(3 * i) + 1];
+			result[2][i] = usage[(3 * i) + 2];
+		}
+
+		return result;
+	}
+
 	private boolean isThreadAllocatedMemoryEnabled = true;
 
 	/**
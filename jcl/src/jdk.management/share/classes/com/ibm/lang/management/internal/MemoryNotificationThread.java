@@ -87,14 +87,16 @@ final class MemoryNotificationThread implements Runnable {
 	 *            the amounts of all memory pools that is guaranteed to be available for use after the garbage collection
 	 * @param postMax
 	 *            the maximum amounts of memory pools that can be used after the garbage collection
+	 * @param phaseInfo
+	 *            the per-phase statistics of the garbage collection
 	 * @param sequenceNumber
 	 *            the sequence identifier of the current notification
 	 */
 	private void dispatchGCNotificationHelper(String gcName, String gcAction, String gcCause, long index,
 			long startTime, long endTime, long[] initialSize, long[] preUsed,
 			long[] preCommitted, long[] preMax, long[] postUsed, long[] postCommitted, long[] postMax,
-			long sequenceNumber) {
-		GcInfo gcInfo = ExtendedGarbageCollectorMXBeanImpl.buildGcInfo(index, startTime, endTime, initialSize, preUsed, preCommitted, preMax, postUsed, postCommitted, postMax);
+			long[] phaseInfo, long sequenceNumber) {
+		GcInfo gcInfo = ExtendedGarbageCollectorMXBeanImpl.buildGcInfo(index, startTime, endTime, initialSize, preUsed, preCommitted, preMax, postUsed, postCommitted, postMax, phaseInfo);
 		GarbageCollectionNotificationInfo info = new GarbageCollectionNotificationInfo(gcName, gcAction, gcCause, gcInfo);
 
 		for (MemoryManagerMXBean bean : memBean.getMemoryManagerMXBeans(false)) {
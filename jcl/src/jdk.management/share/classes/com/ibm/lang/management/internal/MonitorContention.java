@@ -0,0 +1,125 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+import com.ibm.lang.management.MonitorContentionInfo;
+import com.ibm.lang.management.MonitorContentionMXBean;
+
+/**
+ * Runtime type for {@link MonitorContentionMXBean}.
+ */
+public final class MonitorContention implements MonitorContentionMXBean {
+
+	private static final MonitorContention instance = new MonitorContention();
+
+	/**
+	 * Singleton accessor method. Returns an instance of {@link MonitorContention}
+	 *
+	 * @return a static instance of {@link MonitorContention}
+	 */
+	public static MonitorContention getInstance() {
+		return instance;
+	}
+
+	private MonitorContention() {
+		super();
+	}
+
+	/**
+	 * Returns the object name of the MXBean
+	 *
+	 * @return objectName representing the MXBean
+	 */
+	@Override
+	public ObjectName getObjectName() {
+		try {
+			ObjectName name = new ObjectName("com.ibm.lang.management:type=MonitorContention"); //$NON-NLS-1$
+			return name;
+		} catch (MalformedObjectNameException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isProfilingEnabled() {
+		return isProfilingEnabledImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setProfilingEnabled(boolean enable) {
+		if (!setProfilingEnabledImpl(enable)) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void reset() {
+		resetImpl();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public MonitorContentionInfo[] getContendedMonitors(int maxCount) {
+		if (maxCount < 0) {
+			throw new IllegalArgumentException();
+		}
+		List<MonitorContentionInfo> monitors = new ArrayList<>();
+		if (maxCount > 0) {
+			getContendedMonitorsImpl(monitors, maxCount);
+		}
+		return monitors.toArray(new MonitorContentionInfo[monitors.size()]);
+	}
+
+	/* Called by getContendedMonitorsImpl() for each monitor, in order. */
+	private void addMonitor(List<MonitorContentionInfo> monitors, String className, long monitorId,
+			long blockedCount, long blockedTime, long maxBlockedTime, long[] blockedTimeHistogram,
+			long waitedCount, long waitedTime, long[] waitedTimeHistogram,
+			long enterCount, long slowEnterCount, long spinCount, long yieldCount, long holdTime) {
+		monitors.add(new MonitorContentionInfo(className, monitorId,
+				blockedCount, blockedTime, maxBlockedTime, blockedTimeHistogram,
+				waitedCount, waitedTime, waitedTimeHistogram,
+				enterCount, slowEnterCount, spinCount, yieldCount, holdTime));
+	}
+
+	private native boolean isProfilingEnabledImpl();
+	private native boolean setProfilingEnabledImpl(boolean enable);
+	private native void resetImpl();
+	private native void getContendedMonitorsImpl(List<MonitorContentionInfo> monitors, int maxCount);
+}
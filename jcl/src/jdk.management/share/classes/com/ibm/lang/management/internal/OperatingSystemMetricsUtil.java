@@ -0,0 +1,176 @@
+/*[INCLUDE-IF Sidecar17]*/
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.lang.management.internal;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+
+import com.ibm.java.lang.management.internal.ManagementUtils;
+import com.ibm.lang.management.OperatingSystemMetrics;
+import com.ibm.oti.util.Msg;
+
+/**
+ * Support for the {@link OperatingSystemMetrics} class.
+ */
+public final class OperatingSystemMetricsUtil {
+
+	/**
+	 * Interface to allow privileged access to {@link OperatingSystemMetrics}
+	 * from outside the com.ibm.lang.management package.
+	 */
+	public interface Access {
+
+		/**
+		 * Copies all values of one {@link OperatingSystemMetrics} object into another.
+		 *
+		 * @param from the object to copy from
+		 * @param to the object to update
+		 */
+		void copy(OperatingSystemMetrics from, OperatingSystemMetrics to);
+
+		/**
+		 * Sets the process CPU load, which is derived from consecutive samples
+		 * rather than read by the native.
+		 *
+		 * @param metrics the object to update
+		 * @param processCpuLoad the process CPU load
+		 */
+		void setProcessCpuLoad(OperatingSystemMetrics metrics, double processCpuLoad);
+	}
+
+	private static final String[] NAMES = { "timestamp", //$NON-NLS-1$
+			"processCpuTime", "processCpuLoad", "systemCpuLoad", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"processPhysicalMemorySize", "processPrivateMemorySize", "processVirtualMemorySize", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			"openFileDescriptorCount", "maxFileDescriptorCount", //$NON-NLS-1$ //$NON-NLS-2$
+			"totalPhysicalMemorySize", "freePhysicalMemorySize", "totalSwapSpaceSize", "freeSwapSpaceSize", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"cachedMemorySize", "bufferedMemorySize", //$NON-NLS-1$ //$NON-NLS-2$
+			"onlineProcessors", "availableProcessors", "containerMemoryLimit", "containerized" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+	private static CompositeType compositeType;
+
+	private static Access access;
+
+	/**
+	 * Sets the access object for {@link OperatingSystemMetrics}. This should only be called once.
+	 *
+	 * @param newAccess the access object
+	 */
+	public static void setAccess(Access newAccess) {
+		if (null != access) {
+			/*[MSG "K05ba", "Cannot set access twice"]*/
+			throw new SecurityException(Msg.getString("K05ba")); //$NON-NLS-1$
+		}
+		access = newAccess;
+	}
+
+	/**
+	 * Gets the access object for {@link OperatingSystemMetrics}. The class
+	 * must have been initialized.
+	 *
+	 * @return the access object
+	 */
+	static Access getAccess() {
+		return access;
+	}
+
+	/**
+	 * @return an instance of {@link CompositeType} for the {@link OperatingSystemMetrics} class
+	 */
+	public static CompositeType getCompositeType() {
+		if (null == compositeType) {
+			try {
+				OpenType<?>[] types = { SimpleType.LONG,
+						SimpleType.LONG, SimpleType.DOUBLE, SimpleType.DOUBLE,
+						SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
+						SimpleType.LONG, SimpleType.LONG,
+						SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
+						SimpleType.LONG, SimpleType.LONG,
+						SimpleType.INTEGER, SimpleType.INTEGER, SimpleType.LONG, SimpleType.BOOLEAN };
+
+				compositeType = new CompositeType(
+						OperatingSystemMetrics.class.getName(),
+						OperatingSystemMetrics.class.getName(),
+						NAMES,
+						NAMES,
+						types);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return compositeType;
+	}
+
+	/**
+	 * @param metrics an {@link OperatingSystemMetrics} object
+	 * @return a {@link CompositeData} object that represents the supplied <code>metrics</code> object
+	 */
+	public static CompositeData toCompositeData(OperatingSystemMetrics metrics) {
+		CompositeData result = null;
+
+		if (null != metrics) {
+			CompositeType type = getCompositeType();
+			Object[] values = {
+					Long.valueOf(metrics.getTimestamp()),
+					Long.valueOf(metrics.getProcessCpuTime()),
+					Double.valueOf(metrics.getProcessCpuLoad()),
+					Double.valueOf(metrics.getSystemCpuLoad()),
+					Long.valueOf(metrics.getProcessPhysicalMemorySize()),
+					Long.valueOf(metrics.getProcessPrivateMemorySize()),
+					Long.valueOf(metrics.getProcessVirtualMemorySize()),
+					Long.valueOf(metrics.getOpenFileDescriptorCount()),
+					Long.valueOf(metrics.getMaxFileDescriptorCount()),
+					Long.valueOf(metrics.getTotalPhysicalMemorySize()),
+					Long.valueOf(metrics.getFreePhysicalMemorySize()),
+					Long.valueOf(metrics.getTotalSwapSpaceSize()),
+					Long.valueOf(metrics.getFreeSwapSpaceSize()),
+					Long.valueOf(metrics.getCachedMemorySize()),
+					Long.valueOf(metrics.getBufferedMemorySize()),
+					Integer.valueOf(metrics.getOnlineProcessors()),
+					Integer.valueOf(metrics.getAvailableProcessors()),
+					Long.valueOf(metrics.getContainerMemoryLimit()),
+					Boolean.valueOf(metrics.isContainerized()) };
+
+			try {
+				result = new CompositeDataSupport(type, NAMES, values);
+			} catch (OpenDataException e) {
+				if (ManagementUtils.VERBOSE_MODE) {
+					e.printStackTrace(System.err);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private OperatingSystemMetricsUtil() {
+		super();
+	}
+
+}
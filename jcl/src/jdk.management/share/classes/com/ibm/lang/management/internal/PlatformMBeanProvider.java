@@ -30,6 +30,7 @@ import java.util.List;
 import com.ibm.java.lang.management.internal.ComponentBuilder;
 import com.ibm.java.lang.management.internal.ManagementUtils;
 import com.ibm.lang.management.JvmCpuMonitorMXBean;
+import com.ibm.lang.management.MonitorContentionMXBean;
 import com.ibm.virtualization.management.internal.GuestOS;
 import com.ibm.virtualization.management.internal.HypervisorMXBeanImpl;
 import openj9.lang.management.OpenJ9DiagnosticsMXBean;
@@ -61,11 +62,15 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 		 * Inherited from DefaultPlatformMBeanProvider:
 		 *     BufferPoolMXBean
 		 *     ClassLoadingMXBean
-		 *     CompilationMXBean
 		 *     PlatformLoggingMXBean
 		 */
 
 		// register OpenJ9 extensions of standard singleton beans
+		ComponentBuilder.create(ManagementFactory.COMPILATION_MXBEAN_NAME, ExtendedCompilationMXBeanImpl.getInstance())
+			.addInterface(com.ibm.lang.management.CompilationMXBean.class)
+			.addInterface(java.lang.management.CompilationMXBean.class)
+			.register(allComponents);
+
 		ComponentBuilder.create(ManagementFactory.MEMORY_MXBEAN_NAME, ExtendedMemoryMXBeanImpl.getInstance())
 			.addInterface(com.ibm.lang.management.MemoryMXBean.class)
 			.addInterface(java.lang.management.MemoryMXBean.class)
@@ -102,6 +107,10 @@ public final class PlatformMBeanProvider extends sun.management.spi.PlatformMBea
 			.addInterface(JvmCpuMonitorMXBean.class)
 			.register(allComponents);
 
+		ComponentBuilder.create("com.ibm.lang.management:type=MonitorContention", MonitorContention.getInstance()) //$NON-NLS-1$
+			.addInterface(MonitorContentionMXBean.class)
+			.register(allComponents);
+
 		/* OpenJ9DiagnosticsMXBeanImpl depends on openj9.jvm. If openj9.jvm is not
 		 * available exclude this component.
 		 */
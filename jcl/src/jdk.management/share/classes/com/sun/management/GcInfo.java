@@ -46,6 +46,26 @@ import com.sun.management.internal.GcInfoUtil;
  *   <li>Memory usage before the collection starts</li>
  *   <li>Memory usage after the collection ends</li>
  * </ul>
+ * <p>
+ * The GC-specific attributes, available through {@link #get(String)}, break the
+ * collection down by phase. Times are in microseconds; phases that were not part
+ * of the collection report 0, and attributes that are not known report -1.
+ * <ul>
+ *   <li>GcThreadCount - the number of GC threads that took part (<code>java.lang.Integer</code>)</li>
+ *   <li>copyTimeMicros - time spent scavenging or copy-forwarding</li>
+ *   <li>markTimeMicros - time spent marking</li>
+ *   <li>sweepTimeMicros - time spent sweeping</li>
+ *   <li>compactTimeMicros - time spent compacting</li>
+ *   <li>classUnloadTimeMicros - time spent unloading classes</li>
+ *   <li>stallTimeMicros - time GC threads spent waiting for work or for each other</li>
+ *   <li>bytesCopied - bytes copied, including bytes tenured</li>
+ *   <li>bytesTenured - bytes copied to the tenure area</li>
+ *   <li>bytesCompacted - bytes moved by compaction</li>
+ *   <li>bytesFreed - the decrease in heap usage</li>
+ *   <li>referencesCleared - soft, weak and phantom references cleared</li>
+ *   <li>referencesEnqueued - soft, weak and phantom references enqueued</li>
+ * </ul>
+ * The GC-specific attributes other than GcThreadCount are <code>java.lang.Long</code>.
  *
  * @since 9
  */
@@ -76,11 +96,16 @@ public class GcInfo implements CompositeData, CompositeDataView {
 	 */
 	private final Map<String, MemoryUsage> usageAfterGc;
 
+	/**
+	 * The GC-specific attributes, in the order given by GcInfoUtil, or null if not known.
+	 */
+	private final long[] phaseInfo;
+
 	private CompositeData cdata;
 
 	private CompositeData getCompositeData() {
 		if (null == cdata) {
-			cdata = GcInfoUtil.toCompositeData(this);
+			cdata = GcInfoUtil.toCompositeData(this, phaseInfo);
 		}
 		return cdata;
 	}
@@ -102,14 +127,17 @@ public class GcInfo implements CompositeData, CompositeDataView {
 	 * 			  the memory usage of all memory pools at the beginning of this GC.
 	 * @param usageAfterGc
 	 * 			  the memory usage of all memory pools at the end of this GC.
+	 * @param phaseInfo
+	 * 			  the GC-specific attributes of this GC, or null if not known.
 	 */
-	private GcInfo(long index, long startTime, long endTime, Map<String, MemoryUsage> usageBeforeGc, Map<String, MemoryUsage> usageAfterGc) {
+	private GcInfo(long index, long startTime, long endTime, Map<String, MemoryUsage> usageBeforeGc, Map<String, MemoryUsage> usageAfterGc, long[] phaseInfo) {
 		super();
 		this.index = index;
 		this.startTime = startTime;
 		this.endTime = endTime;
 		this.usageBeforeGc = usageBeforeGc;
 		this.usageAfterGc = usageAfterGc;
+		this.phaseInfo = phaseInfo;
 	}
 
 	/**
@@ -212,6 +240,7 @@ public class GcInfo implements CompositeData, CompositeDataView {
 	 *   <td><code>javax.management.openmbean.TabularData</code></td>
 	 * </tr>
 	 * </table>
+	 * It may also contain all of the GC-specific attributes described above.
 	 *
 	 * @param cd <code>CompositeData</code> representing a <code>GcInfo</code>
 	 *
@@ -228,7 +257,8 @@ public class GcInfo implements CompositeData, CompositeDataView {
 		if (cd != null) {
 			// Does cd meet the necessary criteria to create a new GcInfo?
 			// If not then exit on an IllegalArgumentException.
-			ManagementUtils.verifyFieldNumber(cd, 5);
+			long[] phaseInfoVal = GcInfoUtil.getPhaseInfo(cd);
+			ManagementUtils.verifyFieldNumber(cd, (null == phaseInfoVal) ? 5 : GcInfoUtil.getCompositeType().keySet().size());
 			String[] attributeNames = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
 			ManagementUtils.verifyFieldNames(cd, attributeNames);
 			String[] attributeTypes = { "java.lang.Long", //$NON-NLS-1$
@@ -246,7 +276,7 @@ public class GcInfo implements CompositeData, CompositeDataView {
 			Map<String, MemoryUsage> usageBeforeGcVal = convertTabularDataToMemoryUsageMap((TabularData) attributeVals[3]);
 			Map<String, MemoryUsage> usageAfterGcVal = convertTabularDataToMemoryUsageMap((TabularData) attributeVals[4]);
 
-			result = new GcInfo(indexVal, startTimeVal, endTimeVal, usageBeforeGcVal, usageAfterGcVal);
+			result = new GcInfo(indexVal, startTimeVal, endTimeVal, usageBeforeGcVal, usageAfterGcVal, phaseInfoVal);
 			result.setCompositeData(cd);
 		}
 
@@ -45,6 +45,18 @@ import com.sun.management.GcInfo;
  */
 public final class GcInfoUtil {
 
+	private static final String[] NAMES = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+
+	/**
+	 * The GC-specific attributes, in the order of the fields of the VM's
+	 * J9GarbageCollectionPhaseInfo structure.
+	 */
+	private static final String[] PHASE_INFO_NAMES = { "GcThreadCount", //$NON-NLS-1$
+			"copyTimeMicros", "markTimeMicros", "sweepTimeMicros", "compactTimeMicros", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"classUnloadTimeMicros", "stallTimeMicros", //$NON-NLS-1$ //$NON-NLS-2$
+			"bytesCopied", "bytesTenured", "bytesCompacted", "bytesFreed", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			"referencesCleared", "referencesEnqueued" }; //$NON-NLS-1$ //$NON-NLS-2$
+
 	private static CompositeType compositeType;
 
 	private static Constructor<GcInfo> gcInfoPrivateConstructor = null;
@@ -56,7 +68,7 @@ public final class GcInfoUtil {
 		if (null == gcInfoPrivateConstructor) {
 			/*[IF JAVA_SPEC_VERSION >= 24]*/
 			try {
-				gcInfoPrivateConstructor = GcInfo.class.getDeclaredConstructor(Long.TYPE, Long.TYPE, Long.TYPE, Map.class, Map.class);
+				gcInfoPrivateConstructor = GcInfo.class.getDeclaredConstructor(Long.TYPE, Long.TYPE, Long.TYPE, Map.class, Map.class, long[].class);
 				gcInfoPrivateConstructor.setAccessible(true);
 			} catch (NoSuchMethodException e) {
 				/* Handle all sorts of internal errors arising due to reflection by rethrowing an InternalError. */
@@ -70,7 +82,7 @@ public final class GcInfoUtil {
 				@Override
 				public Constructor<GcInfo> run() {
 					try {
-						Constructor<GcInfo> constructor = GcInfo.class.getDeclaredConstructor(Long.TYPE, Long.TYPE, Long.TYPE, Map.class, Map.class);
+						Constructor<GcInfo> constructor = GcInfo.class.getDeclaredConstructor(Long.TYPE, Long.TYPE, Long.TYPE, Map.class, Map.class, long[].class);
 						constructor.setAccessible(true);
 						return constructor;
 					} catch (NoSuchMethodException e) {
@@ -92,17 +104,24 @@ public final class GcInfoUtil {
 	 */
 	public static CompositeType getCompositeType() {
 		if (null == compositeType) {
-			String[] names = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
-			String[] descs = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
-			OpenType<?>[] types = { SimpleType.LONG, SimpleType.LONG, SimpleType.LONG,
-					MemoryUsageUtil.getTabularType(), MemoryUsageUtil.getTabularType() };
+			String[] names = getAllNames();
+			OpenType<?>[] types = new OpenType<?>[names.length];
+			types[0] = SimpleType.LONG;
+			types[1] = SimpleType.LONG;
+			types[2] = SimpleType.LONG;
+			types[3] = MemoryUsageUtil.getTabularType();
+			types[4] = MemoryUsageUtil.getTabularType();
+			types[NAMES.length] = SimpleType.INTEGER;
+			for (int i = NAMES.length + 1; i < names.length; ++i) {
+				types[i] = SimpleType.LONG;
+			}
 
 			try {
 				compositeType = new CompositeType(
 						GcInfo.class.getName(),
 						GcInfo.class.getName(),
 						names,
-						descs,
+						names,
 						types);
 			} catch (OpenDataException e) {
 				if (ManagementUtils.VERBOSE_MODE) {
@@ -114,21 +133,53 @@ public final class GcInfoUtil {
 		return compositeType;
 	}
 
+	private static String[] getAllNames() {
+		String[] names = new String[NAMES.length + PHASE_INFO_NAMES.length];
+		System.arraycopy(NAMES, 0, names, 0, NAMES.length);
+		System.arraycopy(PHASE_INFO_NAMES, 0, names, NAMES.length, PHASE_INFO_NAMES.length);
+		return names;
+	}
+
 	/**
 	 * @param info the garbage collection information
-	 * @return a new {@link CompositeData} instance that represents the supplied <code>info</code> object
+	 * @return a new {@link CompositeData} instance that represents the supplied <code>info</code> object,
+	 * including its GC-specific attributes if it has them
 	 */
 	public static CompositeData toCompositeData(GcInfo info) {
+		CompositeData result = null;
+		if (null != info) {
+			long[] phaseInfo = null;
+			if (info.containsKey(PHASE_INFO_NAMES[0])) {
+				phaseInfo = new long[PHASE_INFO_NAMES.length];
+				for (int i = 0; i < phaseInfo.length; ++i) {
+					phaseInfo[i] = ((Number) info.get(PHASE_INFO_NAMES[i])).longValue();
+				}
+			}
+			result = toCompositeData(info, phaseInfo);
+		}
+		return result;
+	}
+
+	/**
+	 * @param info the garbage collection information
+	 * @param phaseInfo the GC-specific attributes of the collection, or null if not known
+	 * @return a new {@link CompositeData} instance that represents the supplied <code>info</code> object
+	 */
+	public static CompositeData toCompositeData(GcInfo info, long[] phaseInfo) {
 		CompositeData result = null;
 		if (null != info) {
 			CompositeType type = getCompositeType();
-			String[] names = { "index", "startTime", "endTime", "usageBeforeGc", "usageAfterGc" }; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
-			Object[] values = {
-					Long.valueOf(info.getId()),
-					Long.valueOf(info.getStartTime()),
-					Long.valueOf(info.getEndTime()),
-					MemoryUsageUtil.toTabularData(info.getMemoryUsageBeforeGc()),
-					MemoryUsageUtil.toTabularData(info.getMemoryUsageAfterGc()) };
+			String[] names = getAllNames();
+			Object[] values = new Object[names.length];
+			values[0] = Long.valueOf(info.getId());
+			values[1] = Long.valueOf(info.getStartTime());
+			values[2] = Long.valueOf(info.getEndTime());
+			values[3] = MemoryUsageUtil.toTabularData(info.getMemoryUsageBeforeGc());
+			values[4] = MemoryUsageUtil.toTabularData(info.getMemoryUsageAfterGc());
+			for (int i = 0; i < PHASE_INFO_NAMES.length; ++i) {
+				long value = (null == phaseInfo) ? -1 : phaseInfo[i];
+				values[NAMES.length + i] = (0 == i) ? (Object) Integer.valueOf((int) value) : (Object) Long.valueOf(value);
+			}
 
 			try {
 				result = new CompositeDataSupport(type, names, values);
@@ -141,6 +192,33 @@ public final class GcInfoUtil {
 		return result;
 	}
 
+	/**
+	 * Extracts the GC-specific attributes from a {@link CompositeData} representing a {@link GcInfo}.
+	 *
+	 * @param cd the composite data
+	 * @return the GC-specific attributes, or null if <code>cd</code> has none of them
+	 * @throws IllegalArgumentException if <code>cd</code> has some, but not all, of the attributes
+	 */
+	public static long[] getPhaseInfo(CompositeData cd) {
+		long[] result = null;
+		if (cd.containsKey(PHASE_INFO_NAMES[0])) {
+			String[] attributeTypes = new String[PHASE_INFO_NAMES.length];
+			attributeTypes[0] = "java.lang.Integer"; //$NON-NLS-1$
+			for (int i = 1; i < attributeTypes.length; ++i) {
+				attributeTypes[i] = "java.lang.Long"; //$NON-NLS-1$
+			}
+			ManagementUtils.verifyFieldNames(cd, PHASE_INFO_NAMES);
+			ManagementUtils.verifyFieldTypes(cd, PHASE_INFO_NAMES, attributeTypes);
+
+			Object[] attributeVals = cd.getAll(PHASE_INFO_NAMES);
+			result = new long[attributeVals.length];
+			for (int i = 0; i < result.length; ++i) {
+				result[i] = ((Number) attributeVals[i]).longValue();
+			}
+		}
+		return result;
+	}
+
 	/**
 	 * @param index
 	 * 			  the identifier of this garbage collection which is the number of collections that this collector has done
@@ -152,13 +230,15 @@ public final class GcInfoUtil {
 	 * 			  the memory usage of all memory pools at the beginning of this GC.
 	 * @param usageAfterGc
 	 * 			  the memory usage of all memory pools at the end of this GC.
+	 * @param phaseInfo
+	 * 			  the GC-specific attributes of this GC, or null if not known.
 	 * @return a <code>GcInfo</code> object
 	 */
-	public static GcInfo newGcInfoInstance(long index, long startTime, long endTime, Map<String,MemoryUsage> usageBeforeGc, Map<String,MemoryUsage> usageAfterGc) {
+	public static GcInfo newGcInfoInstance(long index, long startTime, long endTime, Map<String,MemoryUsage> usageBeforeGc, Map<String,MemoryUsage> usageAfterGc, long[] phaseInfo) {
 		GcInfo gcInfo = null;
 		Constructor<GcInfo> gcInfoConstructor = getGcInfoPrivateConstructor();
 		try {
-			gcInfo = gcInfoConstructor.newInstance(index, startTime, endTime, usageBeforeGc, usageAfterGc);
+			gcInfo = gcInfoConstructor.newInstance(index, startTime, endTime, usageBeforeGc, usageAfterGc, phaseInfo);
 		} catch (Exception e) {
 			/*[MSG "K0661", "Internal error while obtaining GcInfo instance."]*/
 			InternalError error = new InternalError(com.ibm.oti.util.Msg.getString("K0661")); //$NON-NLS-1$
@@ -31,6 +31,8 @@ package com.ibm.jvm;
  * <li>softmx heap memory</li>
  * <li>free physical memory</li>
  * <li>total physical memory</li>
+ * <li>JNI critical region copies and stalls</li>
+ * <li>stack trace interning hits and memory saved</li>
  * </ul>
  * All this info is retrieved without any allocation of new objects.
  */
@@ -43,6 +45,13 @@ public class Stats {
 	private long totPhysicalMem;
 	private double sysLoadAvg;
 	private long cpuTime;
+	private long jniCriticalCopies;
+	private long jniCriticalCopyBytes;
+	private long jniCriticalStalls;
+	private long jniCriticalStallTime;
+	private long stackTraceInternWalkbackHits;
+	private long stackTraceInternStackTraceHits;
+	private long stackTraceInternSavedBytes;
 
 	/**
 	 * Construct a new instance.
@@ -76,6 +85,38 @@ public class Stats {
 		this.softmxHeap = softmxHeap;
 	}
 
+	/** To avoid allocating new objects, this function merely sets
+	 *  the JNI critical region member variables of this class as it
+	 *  is called from a native.
+	 *
+	 * @param copies is the number of times a JNI critical function copied the data
+	 * @param copyBytes is the number of bytes copied by JNI critical functions
+	 * @param stalls is the number of exclusive VM access requests delayed by JNI critical regions
+	 * @param stallTime is the time exclusive VM access requests waited for JNI critical regions (microseconds)
+	 */
+	public void setJNICriticalFields(long copies, long copyBytes, long stalls, long stallTime)
+	{
+		this.jniCriticalCopies = copies;
+		this.jniCriticalCopyBytes = copyBytes;
+		this.jniCriticalStalls = stalls;
+		this.jniCriticalStallTime = stallTime;
+	}
+
+	/** To avoid allocating new objects, this function merely sets
+	 *  the stack trace interning member variables of this class as it
+	 *  is called from a native.
+	 *
+	 * @param walkbackHits is the number of walkbacks shared with an identical walkback
+	 * @param stackTraceHits is the number of stack traces shared with an identical stack trace
+	 * @param savedBytes is the number of heap bytes that sharing avoided allocating
+	 */
+	public void setStackTraceInternFields(long walkbackHits, long stackTraceHits, long savedBytes)
+	{
+		this.stackTraceInternWalkbackHits = walkbackHits;
+		this.stackTraceInternStackTraceHits = stackTraceHits;
+		this.stackTraceInternSavedBytes = savedBytes;
+	}
+
 	/**
 	 * @return the committed heap (reserved memory) in bytes
 	 */
@@ -136,6 +177,78 @@ public class Stats {
 		return cpuTime;
 	}
 
+	/**
+	 * Returns the number of times GetPrimitiveArrayCritical or GetStringCritical
+	 * returned a copy of the data instead of a direct pointer, for example for
+	 * discontiguous arrays, compressed Strings, or when copying is forced with
+	 * -XX:+AlwaysCopyJNICritical. Otherwise direct pointers are returned for
+	 * arrays whose data is contiguous. Under -Xcheck:jni:alwayscopy the critical
+	 * functions are replaced by Get&lt;Type&gt;ArrayElements and GetStringChars,
+	 * whose copies are not counted.
+	 *
+	 * @return the number of JNI critical copies since the start of the jvm
+	 */
+	public long getJNICriticalCopies() {
+		return jniCriticalCopies;
+	}
+
+	/**
+	 * @return the number of bytes copied by JNI critical functions since the start of the jvm
+	 */
+	public long getJNICriticalCopyBytes() {
+		return jniCriticalCopyBytes;
+	}
+
+	/**
+	 * Returns the number of exclusive VM access requests, such as those made for
+	 * garbage collections, that had to wait for threads to leave JNI critical regions.
+	 *
+	 * @return the number of JNI critical region stalls since the start of the jvm
+	 */
+	public long getJNICriticalStalls() {
+		return jniCriticalStalls;
+	}
+
+	/**
+	 * @return the total time exclusive VM access requests waited for threads
+	 *         to leave JNI critical regions, in microseconds
+	 */
+	public long getJNICriticalStallTime() {
+		return jniCriticalStallTime;
+	}
+
+	/**
+	 * Returns the number of times Throwable.fillInStackTrace() reused the
+	 * walkback of an earlier exception thrown from the same stack, instead of
+	 * allocating a new one. Stack traces are only shared when the VM is started
+	 * with -XX:+InternStackTraces.
+	 *
+	 * @return the number of shared walkbacks since the start of the jvm
+	 */
+	public long getStackTraceInternWalkbackHits() {
+		return stackTraceInternWalkbackHits;
+	}
+
+	/**
+	 * Returns the number of times the StackTraceElement array of an exception
+	 * was shared with an earlier exception thrown from the same stack, instead
+	 * of being created again. Stack traces are only shared when the VM is started
+	 * with -XX:+InternStackTraces.
+	 *
+	 * @return the number of shared stack traces since the start of the jvm
+	 */
+	public long getStackTraceInternStackTraceHits() {
+		return stackTraceInternStackTraceHits;
+	}
+
+	/**
+	 * @return the number of heap bytes that shared walkbacks and stack traces
+	 *         avoided allocating since the start of the jvm
+	 */
+	public long getStackTraceInternSavedBytes() {
+		return stackTraceInternSavedBytes;
+	}
+
 	/**
 	 * Native method used to retrieve the heap/OS stats.
 	 */
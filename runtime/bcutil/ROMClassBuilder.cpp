@@ -194,6 +194,71 @@ j9bcutil_buildRomClass(J9LoadROMClassData *loadData, U_8 * intermediateData, UDA
 	return IDATA(result);
 }
 
+extern "C" void *
+j9bcutil_allocROMClassImageBuilder(J9JavaVM *javaVM)
+{
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+	J9BytecodeVerificationData *verifyBuffers = javaVM->bytecodeVerificationData;
+	ROMClassBuilder *romClassBuilder = (ROMClassBuilder *)j9mem_allocate_memory(sizeof(ROMClassBuilder), J9MEM_CATEGORY_CLASSES);
+	if (NULL != romClassBuilder) {
+		/* No string intern table: images must not refer to UTF8s outside of themselves. */
+		new(romClassBuilder) ROMClassBuilder(javaVM, PORTLIB, 0,
+				(NULL == verifyBuffers ? NULL : verifyBuffers->excludeAttribute),
+				(NULL == verifyBuffers ? NULL : j9bcv_verifyClassStructure));
+	}
+	return romClassBuilder;
+}
+
+extern "C" void
+j9bcutil_freeROMClassImageBuilder(J9JavaVM *javaVM, void *builder)
+{
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+	ROMClassBuilder *romClassBuilder = (ROMClassBuilder *)builder;
+	if (NULL != romClassBuilder) {
+		romClassBuilder->~ROMClassBuilder();
+		j9mem_free_memory(romClassBuilder);
+	}
+}
+
+extern "C" IDATA
+j9bcutil_buildRomClassImage(void *builder, J9JavaVM *javaVM, J9ClassLoader *classLoader, U_8 *className, UDATA classNameLength,
+		U_8 *classData, UDATA classDataLength, UDATA bctFlags, UDATA findClassFlags, J9ROMClass **romClassImage)
+{
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+	ROMClassBuilder *romClassBuilder = (ROMClassBuilder *)builder;
+	/* Interning and verbose statistics use VM-wide state that is only safe to touch while holding the classTableMutex. */
+	UDATA bcuFlags = javaVM->dynamicLoadBuffers->flags & ~(UDATA)(BCU_ENABLE_INVARIANT_INTERNING | BCU_VERBOSE);
+	J9TranslationLocalBuffer localBuffer = {J9_CP_INDEX_NONE, LOAD_LOCATION_UNKNOWN, NULL};
+	J9PortAllocationStrategy portAllocationStrategy(PORTLIB);
+
+	ROMClassCreationContext context(
+			PORTLIB, javaVM, classData, classDataLength, bctFlags, bcuFlags, findClassFlags, &portAllocationStrategy,
+			className, classNameLength, NULL, 0, NULL, 0, NULL, NULL,
+			classLoader, false, false, &localBuffer);
+	context.recordErrorsLocally();
+
+	*romClassImage = NULL;
+	BuildResult result = romClassBuilder->buildROMClass(&context);
+	if (OK == result) {
+		*romClassImage = context.romClass();
+	}
+	return IDATA(result);
+}
+
+extern "C" J9ROMClass *
+j9bcutil_copyROMClassImage(J9JavaVM *javaVM, J9ClassLoader *classLoader, J9ROMClass *romClassImage)
+{
+	ROMClassSegmentAllocationStrategy romClassSegmentAllocationStrategy(javaVM, classLoader);
+	UDATA romSize = romClassImage->romSize;
+	U_8 *romClass = romClassSegmentAllocationStrategy.allocate(romSize);
+	if (NULL != romClass) {
+		/* ROMClasses only contain self relative pointers, so the image can be copied as is. */
+		memcpy(romClass, romClassImage, romSize);
+		romClassSegmentAllocationStrategy.updateFinalROMSize(romSize);
+	}
+	return (J9ROMClass *)romClass;
+}
+
 extern "C" IDATA
 j9bcutil_transformROMClass(J9JavaVM *javaVM, J9PortLibrary *portLibrary, J9ROMClass *romClass, U_8 **classData, U_32 *size)
 {
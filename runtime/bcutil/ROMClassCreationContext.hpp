@@ -74,7 +74,8 @@ public:
 		_existingRomMethod(NULL),
 		_reusingIntermediateClassData(false),
 		_creatingIntermediateROMClass(false),
-		_patchMap(NULL)
+		_patchMap(NULL),
+		_recordErrorsInVM(true)
 	{
 	}
 
@@ -113,7 +114,8 @@ public:
 		_existingRomMethod(NULL),
 		_reusingIntermediateClassData(false),
 		_creatingIntermediateROMClass(false),
-		_patchMap(NULL)
+		_patchMap(NULL),
+		_recordErrorsInVM(true)
 	{
 	}
 
@@ -159,7 +161,8 @@ public:
 		_existingRomMethod(NULL),
 		_reusingIntermediateClassData(false),
 		_creatingIntermediateROMClass(creatingIntermediateROMClass),
-		_patchMap(NULL)
+		_patchMap(NULL),
+		_recordErrorsInVM(true)
 	{
 		if ((NULL != _javaVM) && (NULL != _javaVM->dynamicLoadBuffers)) {
 			/* localBuffer should not be NULL */
@@ -563,9 +566,19 @@ public:
 		_romClass = romClass;
 	}
 
+	/*
+	 * ROMClass images are built concurrently with other class loads, so errors must not
+	 * be recorded in the VM-wide dynamicLoadBuffers. The caller rebuilds a failing class
+	 * the usual way to report the error.
+	 */
+	void recordErrorsLocally()
+	{
+		_recordErrorsInVM = false;
+	}
+
 	void recordCFRError(U_8 *cfrError)
 	{
-		if ((NULL != _javaVM) && (NULL != _javaVM->dynamicLoadBuffers)) {
+		if (_recordErrorsInVM && (NULL != _javaVM) && (NULL != _javaVM->dynamicLoadBuffers)) {
 			_javaVM->dynamicLoadBuffers->classFileError = cfrError;
 		}
 	}
@@ -577,7 +590,7 @@ public:
 		 * into _javaVM->dynamicLoadBuffers->classFileError, if the internal buffer that is free'd matches the one in
 		 * _javaVM->dynamicLoadBuffers->classFileError, then it must be set to NULL to avoid a double free in
 		 * j9bcutil_freeTranslationBuffers()*/
-		if ((NULL != _javaVM) && (NULL != _javaVM->dynamicLoadBuffers) && (buffer == _javaVM->dynamicLoadBuffers->classFileError)) {
+		if (_recordErrorsInVM && (NULL != _javaVM) && (NULL != _javaVM->dynamicLoadBuffers) && (buffer == _javaVM->dynamicLoadBuffers->classFileError)) {
 			_javaVM->dynamicLoadBuffers->classFileError = NULL;
 		}
 		j9mem_free_memory(buffer);
@@ -826,6 +839,7 @@ private:
 	bool _reusingIntermediateClassData;
 	bool _creatingIntermediateROMClass;
 	J9ClassPatchMap *_patchMap;
+	bool _recordErrorsInVM;
 
 	J9ROMMethod * romMethodFromOffset(IDATA offset);
 };
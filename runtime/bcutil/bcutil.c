@@ -159,6 +159,10 @@ bcutil_J9VMDllMain(J9JavaVM* vm, IDATA stage, void* reserved)
 #endif
 			vm->jimageIntf = jimageIntf;
 			vm->dynamicLoadBuffers = translationBuffers;
+#if defined(J9VM_OPT_DYNAMIC_LOAD_SUPPORT)
+			/* Without the pool, batches of classes are defined without building their ROM classes ahead of time. */
+			initializeROMClassImagePool(vm);
+#endif /* defined(J9VM_OPT_DYNAMIC_LOAD_SUPPORT) */
 			vm->mapMemoryBufferSize = MAP_MEMORY_DEFAULT + MAP_MEMORY_RESULTS_BUFFER_SIZE;
 			vm->mapMemoryResultsBuffer = j9mem_allocate_memory(vm->mapMemoryBufferSize, J9MEM_CATEGORY_CLASSES);
 
@@ -180,6 +184,9 @@ bcutil_J9VMDllMain(J9JavaVM* vm, IDATA stage, void* reserved)
 		case LIBRARIES_ONUNLOAD :
 			loadInfo = FIND_DLL_TABLE_ENTRY( THIS_DLL_NAME );
 			if (IS_STAGE_COMPLETED(loadInfo->completedBits, BUFFERS_ALLOC_STAGE) && vm->dynamicLoadBuffers) {
+#if defined(J9VM_OPT_DYNAMIC_LOAD_SUPPORT)
+				shutdownROMClassImagePool(vm);
+#endif /* defined(J9VM_OPT_DYNAMIC_LOAD_SUPPORT) */
 				shutdownROMClassBuilder(vm);
 				j9bcutil_freeAllTranslationBuffers(vm->portLibrary, vm->dynamicLoadBuffers);
 				vm->dynamicLoadBuffers = 0;
@@ -368,6 +375,7 @@ initializeTranslationBuffers(J9PortLibrary * portLib, J9TranslationBufferSet * t
 
 	translationBuffers->internalLoadROMClassFunction = internalLoadROMClass;
 	translationBuffers->transformROMClassFunction = j9bcutil_transformROMClass;
+	translationBuffers->buildROMClassImagesFunction = buildROMClassImages;
 
 #if defined(J9VM_OPT_INVARIANT_INTERNING)
 	/* invariant interning support */
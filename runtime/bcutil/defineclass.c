@@ -37,20 +37,53 @@
 
 #if defined(J9VM_OPT_DYNAMIC_LOAD_SUPPORT) /* File Level Build Flags */
 
+/* A batch submitted to buildROMClassImages(). Batches with unclaimed entries are queued on the pool. */
+typedef struct J9ROMClassImageBatch {
+	J9ClassLoader *classLoader;
+	J9ROMClassBatchEntry *entries;
+	UDATA count;
+	UDATA options;
+	UDATA translationFlags;
+	UDATA nextEntry;
+	UDATA finishedEntries;
+	struct J9ROMClassImageBatch *next;
+} J9ROMClassImageBatch;
+
+/* The worker threads shared by all batches. They are started when the first batch is submitted
+ * and stopped when bcutil is unloaded. All fields are protected by the monitor.
+ */
+typedef struct J9ROMClassImagePool {
+	J9JavaVM *vm;
+	omrthread_monitor_t monitor;
+	J9ROMClassImageBatch *batches;
+	UDATA threadCount;
+	UDATA maxThreads;
+	BOOLEAN shutdown;
+} J9ROMClassImagePool;
+
 static UDATA classCouldPossiblyBeShared(J9VMThread * vmThread, J9LoadROMClassData * loadData);
 static J9ROMClass * createROMClassFromClassFile (J9VMThread *currentThread, J9LoadROMClassData * loadData, J9TranslationLocalBuffer *localBuffer);
 static void throwNoClassDefFoundError (J9VMThread* vmThread, J9LoadROMClassData * loadData);
 static void reportROMClassLoadEvents (J9VMThread* vmThread, J9ROMClass* romClass, J9ClassLoader* classLoader);
 static J9Class* checkForExistingClass (J9VMThread* vmThread, J9LoadROMClassData * loadData);
+static UDATA getTranslationFlags(J9VMThread *vmThread, J9LoadROMClassData *loadData);
 static UDATA callDynamicLoader(J9VMThread* vmThread, J9LoadROMClassData *loadData, U_8 * intermediateClassData, UDATA intermediateClassDataLength, UDATA translationFlags, UDATA classFileBytesReplacedByRIA, UDATA classFileBytesReplacedByRCA, J9TranslationLocalBuffer *localBuffer);
 
 static BOOLEAN hasSamePackageName(J9ROMClass *anonROMClass, J9ROMClass *hostROMClass);
 static char* createErrorMessage(J9VMThread *vmStruct, J9ROMClass *anonROMClass, J9ROMClass *hostROMClass, const char* errorMsg);
 static void setIllegalArgumentExceptionHostClassAnonClassHaveDifferentPackages(J9VMThread *vmStruct, J9ROMClass *anonROMClass, J9ROMClass *hostROMClass);
 static void freeAnonROMClass(J9JavaVM *vm, J9ROMClass *romClass);
+static BOOLEAN canUseROMClassImages(J9JavaVM *vm, UDATA options);
+static void startROMClassImageThreads(J9ROMClassImagePool *pool);
+static void unlinkROMClassImageBatch(J9ROMClassImagePool *pool, J9ROMClassImageBatch *batch);
+static BOOLEAN buildNextROMClassImage(J9ROMClassImagePool *pool, J9ROMClassImageBatch *batch, void *builder);
+static int J9THREAD_PROC romClassImageThreadProc(void *entryArg);
 
 #define GET_CLASS_LOADER_FROM_ID(vm, classLoader) ((classLoader) != NULL ? (classLoader) : (vm)->systemClassLoader)
 
+/* The maximum number of threads, including the caller, building ROMClass images at once. */
+#define ROM_CLASS_IMAGE_MAX_THREADS 8
+
 /*
  * Warning: sender must hold class table mutex before calling.
  */
@@ -142,6 +175,20 @@ internalDefineClass(
 		}
 	}
 
+	if ((NULL == romClass)
+		&& (NULL == loadData.romClass)
+		&& (NULL != localBuffer)
+		&& (NULL != localBuffer->romClassImage)
+		&& (NULL == localBuffer->patchMap)
+		&& canUseROMClassImages(vm, options)
+	) {
+		/* The romClass was built ahead of time by buildROMClassImages(), it only needs to be copied to the class loader.
+		 * If that fails, create the romClass from the class file as usual to report the error.
+		 */
+		romClass = j9bcutil_copyROMClassImage(vm, classLoader, localBuffer->romClassImage);
+		Trc_BCU_internalDefineClass_copyROMClassImage(vmThread, localBuffer->romClassImage, romClass);
+	}
+
 	if (NULL == romClass) {
 		/* Attempt to create the romClass.
 		 * When romClass exists in the cache, this call gives JVM a chance to trigger ClassFileLoadHook events.
@@ -481,85 +528,7 @@ internalLoadROMClass(J9VMThread * vmThread, J9LoadROMClassData *loadData, J9Tran
 		}
 	}
 
-	/* Set up translation flags */
-
-#ifdef J9VM_ENV_LITTLE_ENDIAN
-	translationFlags = BCT_LittleEndianOutput;
-#else
-	translationFlags = BCT_BigEndianOutput;
-#endif
-
-	/*
-	 * RECORD_ALL is set by shared classes when it wishes to keep all debug information in the cache
-	 * classCouldPossiblyBeShared() returns true when the classloader is a shared classes enabled loader AND the cache is NOT full
-	 *
-	 * do NOT attempt to strip debug information when RECORD_ALL is set AND the class could end up the cache.
-	 *
-	 */
-	if ((J9VM_DEBUG_ATTRIBUTE_RECORD_ALL == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_RECORD_ALL))
-			&& classCouldPossiblyBeShared(vmThread, loadData)) {
-		/* Shared Classes has requested that all debug information be kept and the class will be shared. */
-	} else if (0 != (vm->runtimeFlags & J9_RUNTIME_XFUTURE)) {
-		/* Don't strip debug information with Xfuture */
-	} else {
-		/* either the class is not going to be shared  -or- shared classes does not require the debug information to be maintained */
-		UDATA stripFlags = 0;
-
-		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_LOCAL_VARIABLE_TABLE)) {
-			stripFlags |= BCT_StripDebugVars;
-		}
-		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_LINE_NUMBER_TABLE)) {
-			stripFlags |= BCT_StripDebugLines;
-		}
-		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_SOURCE_FILE)) {
-			stripFlags |= BCT_StripDebugSource;
-		}
-		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_SOURCE_DEBUG_EXTENSION)) {
-			stripFlags |= BCT_StripSourceDebugExtension;
-		}
-
-		if (stripFlags == (BCT_StripDebugVars | BCT_StripDebugLines | BCT_StripDebugSource | BCT_StripSourceDebugExtension)) {
-			stripFlags = BCT_StripDebugAttributes;
-		}
-		translationFlags |= stripFlags;
-	}
-
-	if (J9_ARE_ANY_BITS_SET(vm->runtimeFlags, J9_RUNTIME_VERIFY)) {
-		translationFlags |= BCT_StaticVerification;
-	}
-
-	if (0 != (vm->runtimeFlags & J9_RUNTIME_XFUTURE)) {
-		translationFlags |= BCT_Xfuture;
-	} else {
-		/* Disable static verification for the bootstrap loader if Xfuture not present */
-		if ((vm->systemClassLoader == loadData->classLoader)
-		&& ((NULL == vm->bytecodeVerificationData) || (0 == (vm->bytecodeVerificationData->verificationFlags & J9_VERIFY_BOOTCLASSPATH_STATIC)))
-		&& (NULL == vm->sharedClassConfig)
-		) {
-			translationFlags &= ~BCT_StaticVerification;
-		}
-	}
-
-	if (J9_ARE_ANY_BITS_SET(vm->runtimeFlags, J9_RUNTIME_ALWAYS_SPLIT_BYTECODES)) {
-		translationFlags |= BCT_AlwaysSplitBytecodes;
-	}
-	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_ENABLE_PREVIEW)) {
-		translationFlags |= BCT_EnablePreview;
-	}
-#if (JAVA_SPEC_VERSION == 8) && defined(J9ZOS390) && defined(J9VM_ENV_DATA64)
-	/* This code duplication is intentional, it works around a JDK8 z/OS 64bit (non-compressedrefs) compiler issue, RTC 147197. */
-	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_ENABLE_PREVIEW)) {
-		translationFlags |= BCT_EnablePreview;
-	}
-#endif
-	/* Determine allowed class file version */
-#ifdef J9VM_OPT_SIDECAR
-	{
-		/* Using local variable majorVer avoids a z/OS 64-bit compiler issue. */
-		U_32 majorVer = BCT_JavaMaxMajorVersionShifted;
-		translationFlags |= majorVer;
-	}
-#endif
+	translationFlags = getTranslationFlags(vmThread, loadData);
 
 	/* TODO toss tracepoint?? Trc_BCU_internalLoadROMClass_AttemptExisting(vmThread, segment, romAvailable, bytesRequired); */
 	/* Attempt dynamic load */
@@ -668,6 +637,96 @@ done:
 	return result;
 }
 
+/*
+ * Answer the translation flags for creating the ROMClass described by loadData.
+ */
+static UDATA
+getTranslationFlags(J9VMThread *vmThread, J9LoadROMClassData *loadData)
+{
+	J9JavaVM *vm = vmThread->javaVM;
+	UDATA translationFlags = 0;
+
+#ifdef J9VM_ENV_LITTLE_ENDIAN
+	translationFlags = BCT_LittleEndianOutput;
+#else
+	translationFlags = BCT_BigEndianOutput;
+#endif
+
+	/*
+	 * RECORD_ALL is set by shared classes when it wishes to keep all debug information in the cache
+	 * classCouldPossiblyBeShared() returns true when the classloader is a shared classes enabled loader AND the cache is NOT full
+	 *
+	 * do NOT attempt to strip debug information when RECORD_ALL is set AND the class could end up the cache.
+	 *
+	 */
+	if ((J9VM_DEBUG_ATTRIBUTE_RECORD_ALL == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_RECORD_ALL))
+			&& classCouldPossiblyBeShared(vmThread, loadData)) {
+		/* Shared Classes has requested that all debug information be kept and the class will be shared. */
+	} else if (0 != (vm->runtimeFlags & J9_RUNTIME_XFUTURE)) {
+		/* Don't strip debug information with Xfuture */
+	} else {
+		/* either the class is not going to be shared  -or- shared classes does not require the debug information to be maintained */
+		UDATA stripFlags = 0;
+
+		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_LOCAL_VARIABLE_TABLE)) {
+			stripFlags |= BCT_StripDebugVars;
+		}
+		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_LINE_NUMBER_TABLE)) {
+			stripFlags |= BCT_StripDebugLines;
+		}
+		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_SOURCE_FILE)) {
+			stripFlags |= BCT_StripDebugSource;
+		}
+		if (0 == (vm->requiredDebugAttributes & J9VM_DEBUG_ATTRIBUTE_SOURCE_DEBUG_EXTENSION)) {
+			stripFlags |= BCT_StripSourceDebugExtension;
+		}
+
+		if (stripFlags == (BCT_StripDebugVars | BCT_StripDebugLines | BCT_StripDebugSource | BCT_StripSourceDebugExtension)) {
+			stripFlags = BCT_StripDebugAttributes;
+		}
+		translationFlags |= stripFlags;
+	}
+
+	if (J9_ARE_ANY_BITS_SET(vm->runtimeFlags, J9_RUNTIME_VERIFY)) {
+		translationFlags |= BCT_StaticVerification;
+	}
+
+	if (0 != (vm->runtimeFlags & J9_RUNTIME_XFUTURE)) {
+		translationFlags |= BCT_Xfuture;
+	} else {
+		/* Disable static verification for the bootstrap loader if Xfuture not present */
+		if ((vm->systemClassLoader == loadData->classLoader)
+		&& ((NULL == vm->bytecodeVerificationData) || (0 == (vm->bytecodeVerificationData->verificationFlags & J9_VERIFY_BOOTCLASSPATH_STATIC)))
+		&& (NULL == vm->sharedClassConfig)
+		) {
+			translationFlags &= ~BCT_StaticVerification;
+		}
+	}
+
+	if (J9_ARE_ANY_BITS_SET(vm->runtimeFlags, J9_RUNTIME_ALWAYS_SPLIT_BYTECODES)) {
+		translationFlags |= BCT_AlwaysSplitBytecodes;
+	}
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_ENABLE_PREVIEW)) {
+		translationFlags |= BCT_EnablePreview;
+	}
+#if (JAVA_SPEC_VERSION == 8) && defined(J9ZOS390) && defined(J9VM_ENV_DATA64)
+	/* This code duplication is intentional, it works around a JDK8 z/OS 64bit (non-compressedrefs) compiler issue, RTC 147197. */
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags2, J9_EXTENDED_RUNTIME2_ENABLE_PREVIEW)) {
+		translationFlags |= BCT_EnablePreview;
+	}
+#endif
+	/* Determine allowed class file version */
+#ifdef J9VM_OPT_SIDECAR
+	{
+		/* Using local variable majorVer avoids a z/OS 64-bit compiler issue. */
+		U_32 majorVer = BCT_JavaMaxMajorVersionShifted;
+		translationFlags |= majorVer;
+	}
+#endif
+
+	return translationFlags;
+}
+
 static UDATA
 callDynamicLoader(J9VMThread *vmThread, J9LoadROMClassData *loadData, U_8 * intermediateClassData, UDATA intermediateClassDataLength, UDATA translationFlags, UDATA classFileBytesReplacedByRIA, UDATA classFileBytesReplacedByRCA, J9TranslationLocalBuffer *localBuffer)
 {
@@ -1082,4 +1141,238 @@ freeAnonROMClass(J9JavaVM *vm, J9ROMClass *romClass) {
 	}
 }
 
+/*
+ * ROMClass images bypass the class load hooks, the shared class cache and the
+ * dynamic load statistics, so they can only be used when none of those are active.
+ */
+static BOOLEAN
+canUseROMClassImages(J9JavaVM *vm, UDATA options)
+{
+	return (NULL == vm->sharedClassConfig)
+		&& J9_ARE_NO_BITS_SET(options, J9_FINDCLASS_FLAG_ANON | J9_FINDCLASS_FLAG_HIDDEN | J9_FINDCLASS_FLAG_REDEFINING | J9_FINDCLASS_FLAG_RETRANSFORMING)
+		&& J9_ARE_NO_BITS_SET(vm->extendedRuntimeFlags, J9_EXTENDED_RUNTIME_RECREATE_CLASSFILE_ONLOAD)
+		&& J9_ARE_NO_BITS_SET(vm->dynamicLoadBuffers->flags, BCU_VERBOSE)
+		&& !J9_EVENT_IS_HOOKED(vm->hookInterface, J9HOOK_VM_CLASS_LOAD_HOOK)
+		&& !J9_EVENT_IS_HOOKED(vm->hookInterface, J9HOOK_VM_CLASS_LOAD_HOOK2);
+}
+
+UDATA
+initializeROMClassImagePool(J9JavaVM *vm)
+{
+	J9ROMClassImagePool *pool = NULL;
+	UDATA cpus = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	cpus = j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET);
+	if (cpus < 2) {
+		/* The calling thread would build every image anyway. */
+		return 0;
+	}
+	pool = (J9ROMClassImagePool *)j9mem_allocate_memory(sizeof(J9ROMClassImagePool), J9MEM_CATEGORY_CLASSES);
+	if (NULL == pool) {
+		return 1;
+	}
+	memset(pool, 0, sizeof(J9ROMClassImagePool));
+	pool->vm = vm;
+	/* The calling thread builds images too. */
+	pool->maxThreads = OMR_MIN(cpus, ROM_CLASS_IMAGE_MAX_THREADS) - 1;
+	if (0 != omrthread_monitor_init_with_name(&pool->monitor, 0, "ROM class image pool")) {
+		j9mem_free_memory(pool);
+		return 1;
+	}
+	vm->dynamicLoadBuffers->romClassImagePool = pool;
+	return 0;
+}
+
+void
+shutdownROMClassImagePool(J9JavaVM *vm)
+{
+	J9ROMClassImagePool *pool = vm->dynamicLoadBuffers->romClassImagePool;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL != pool) {
+		vm->dynamicLoadBuffers->romClassImagePool = NULL;
+		omrthread_monitor_enter(pool->monitor);
+		pool->shutdown = TRUE;
+		omrthread_monitor_notify_all(pool->monitor);
+		while (0 != pool->threadCount) {
+			omrthread_monitor_wait(pool->monitor);
+		}
+		omrthread_monitor_exit(pool->monitor);
+		omrthread_monitor_destroy(pool->monitor);
+		j9mem_free_memory(pool);
+	}
+}
+
+/*
+ * Start worker threads until the pool has maxThreads of them.
+ * The caller must hold the pool monitor.
+ */
+static void
+startROMClassImageThreads(J9ROMClassImagePool *pool)
+{
+	while (pool->threadCount < pool->maxThreads) {
+		if (0 != omrthread_create(NULL, pool->vm->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, romClassImageThreadProc, pool)) {
+			/* Do not retry for every batch, make do with the threads already running. */
+			pool->maxThreads = pool->threadCount;
+			break;
+		}
+		pool->threadCount += 1;
+	}
+}
+
+/*
+ * Remove a batch whose entries have all been claimed from the queue.
+ * The caller must hold the pool monitor.
+ */
+static void
+unlinkROMClassImageBatch(J9ROMClassImagePool *pool, J9ROMClassImageBatch *batch)
+{
+	J9ROMClassImageBatch **link = &pool->batches;
+
+	while (NULL != *link) {
+		if (batch == *link) {
+			*link = batch->next;
+			break;
+		}
+		link = &(*link)->next;
+	}
+	batch->next = NULL;
+}
+
+/*
+ * Claim the next entry of the batch and build its image. The caller must hold the pool
+ * monitor, which is released while the image is built.
+ * Answer FALSE if all the entries of the batch have already been claimed.
+ */
+static BOOLEAN
+buildNextROMClassImage(J9ROMClassImagePool *pool, J9ROMClassImageBatch *batch, void *builder)
+{
+	J9ROMClassBatchEntry *entry = NULL;
+	IDATA result = 0;
+
+	if (batch->nextEntry >= batch->count) {
+		return FALSE;
+	}
+	entry = &batch->entries[batch->nextEntry];
+	batch->nextEntry += 1;
+	if (batch->nextEntry == batch->count) {
+		unlinkROMClassImageBatch(pool, batch);
+	}
+	omrthread_monitor_exit(pool->monitor);
+
+	result = j9bcutil_buildRomClassImage(builder, pool->vm, batch->classLoader,
+			entry->className, entry->classNameLength, entry->classData, entry->classDataLength,
+			batch->translationFlags, batch->options, &entry->romClassImage);
+	if (BCT_ERR_NO_ERROR != result) {
+		/* The class is created from the class file when it is defined, which reports the error. */
+		entry->romClassImage = NULL;
+	}
+
+	omrthread_monitor_enter(pool->monitor);
+	batch->finishedEntries += 1;
+	if (batch->finishedEntries == batch->count) {
+		omrthread_monitor_notify_all(pool->monitor);
+	}
+	return TRUE;
+}
+
+static int J9THREAD_PROC
+romClassImageThreadProc(void *entryArg)
+{
+	J9ROMClassImagePool *pool = (J9ROMClassImagePool *)entryArg;
+	void *builder = j9bcutil_allocROMClassImageBuilder(pool->vm);
+
+	omrthread_monitor_enter(pool->monitor);
+	if (NULL != builder) {
+		while (!pool->shutdown) {
+			if (NULL == pool->batches) {
+				omrthread_monitor_wait(pool->monitor);
+			} else {
+				buildNextROMClassImage(pool, pool->batches, builder);
+			}
+		}
+		j9bcutil_freeROMClassImageBuilder(pool->vm, builder);
+	}
+	pool->threadCount -= 1;
+	omrthread_monitor_notify_all(pool->monitor);
+	/* exit the monitor and terminate the thread */
+	omrthread_exit(pool->monitor);
+	return 0;
+}
+
+UDATA
+buildROMClassImages(J9VMThread *vmThread, J9ClassLoader *classLoader, J9ROMClassBatchEntry *entries, UDATA count, UDATA options)
+{
+	J9JavaVM *vm = vmThread->javaVM;
+	J9ROMClassImagePool *pool = vm->dynamicLoadBuffers->romClassImagePool;
+	J9ROMClassImageBatch batch;
+	J9LoadROMClassData loadData;
+	UDATA threadCount = 1;
+	UDATA built = 0;
+	UDATA i = 0;
+	void *builder = NULL;
+
+	for (i = 0; i < count; i++) {
+		entries[i].romClassImage = NULL;
+	}
+
+	/* A single class gains nothing from being built ahead of its definition. */
+	if ((count < 2) || (NULL == pool) || !canUseROMClassImages(vm, options)) {
+		goto done;
+	}
+
+	memset(&loadData, 0, sizeof(loadData));
+	loadData.classLoader = classLoader;
+	loadData.options = options;
+
+	memset(&batch, 0, sizeof(batch));
+	batch.classLoader = classLoader;
+	batch.entries = entries;
+	batch.count = count;
+	batch.options = options;
+	batch.translationFlags = getTranslationFlags(vmThread, &loadData);
+	if (NULL != vm->bytecodeVerificationData) {
+		batch.translationFlags |= (vm->bytecodeVerificationData->verificationFlags & (J9_VERIFY_IGNORE_STACK_MAPS | J9_VERIFY_NO_FALLBACK));
+	}
+
+	builder = j9bcutil_allocROMClassImageBuilder(vm);
+	if (NULL == builder) {
+		goto done;
+	}
+
+	omrthread_monitor_enter(pool->monitor);
+	if (!pool->shutdown) {
+		J9ROMClassImageBatch **tail = &pool->batches;
+
+		startROMClassImageThreads(pool);
+		while (NULL != *tail) {
+			tail = &(*tail)->next;
+		}
+		*tail = &batch;
+		omrthread_monitor_notify_all(pool->monitor);
+
+		/* The calling thread builds images too, then waits for the entries claimed by the workers. */
+		while (buildNextROMClassImage(pool, &batch, builder)) {
+		}
+		while (batch.finishedEntries < batch.count) {
+			omrthread_monitor_wait(pool->monitor);
+		}
+		threadCount += pool->threadCount;
+	}
+	omrthread_monitor_exit(pool->monitor);
+	j9bcutil_freeROMClassImageBuilder(vm, builder);
+
+	for (i = 0; i < count; i++) {
+		if (NULL != entries[i].romClassImage) {
+			built += 1;
+		}
+	}
+
+	Trc_BCU_buildROMClassImages(vmThread, classLoader, built, count, threadCount);
+
+done:
+	return built;
+}
+
 #endif /* J9VM_OPT_DYNAMIC_LOAD_SUPPORT */ /* End File Level Build Flags */
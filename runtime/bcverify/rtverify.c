@@ -63,17 +63,9 @@ j9rtv_verifierGetRAMClass( J9BytecodeVerificationData *verifyData, J9ClassLoader
 	J9JavaVM *vm = verifyData->vmStruct->javaVM;
 	(*jniVM)->GetEnv(jniVM, (void**)&threadEnv, J9THREAD_VERSION_1_1);
 
-#ifdef J9VM_THR_PREEMPTIVE
-	threadEnv->monitor_enter(vm->classTableMutex);
-#endif
-
 	/* Sniff the class table to see if already loaded */
 	Trc_RTV_j9rtv_verifierGetRAMClass_Entry(verifyData->vmStruct, classLoader, nameLength, className);
-	found = vm->internalVMFunctions->hashClassTableAt (classLoader, className, nameLength, 0);
-
-#ifdef J9VM_THR_PREEMPTIVE
-	threadEnv->monitor_exit(vm->classTableMutex);
-#endif
+	found = vm->internalVMFunctions->peekClassHashTable(verifyData->vmStruct, classLoader, className, nameLength);
 
 	if (!found) {
 		/* Set reasonCode to BCV_ERR_CLASS_RELATIONSHIP_RECORD_REQUIRED if -XX:+ClassRelationshipVerifier is used, the class is not already loaded and if the classfile major version is at least 51 (Java 7) */
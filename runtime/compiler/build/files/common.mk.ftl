@@ -59,6 +59,7 @@ JIT_PRODUCT_BACKEND_SOURCES+=\
     compiler/optimizer/OSRGuardInsertion.cpp \
     compiler/optimizer/OSRGuardRemoval.cpp \
     compiler/optimizer/ProfileGenerator.cpp \
+    compiler/optimizer/ProfiledColdBlockMarking.cpp \
     compiler/optimizer/SequentialStoreSimplifier.cpp \
     compiler/optimizer/SignExtendLoads.cpp \
     compiler/optimizer/SPMDParallelizer.cpp \
@@ -397,6 +397,8 @@ public:
       SUSPEND_COMP_THREAD_EXCEED_CPU_ENTITLEMENT,
       THROTTLE_COMP_THREAD_EXCEED_CPU_ENTITLEMENT,
       SUSPEND_COMP_THREAD_EMPTY_QUEUE,
+      SUSPEND_COMP_THREAD_EXCEED_CPU_BUDGET,
+      THROTTLE_COMP_THREAD_EXCEED_CPU_BUDGET,
       UNDEFINED_ACTION
       };
 
@@ -732,6 +734,7 @@ public:
    TR_YesNoMaybe exceedsCompCpuEntitlement() const { return _exceedsCompCpuEntitlement; }
    void setExceedsCompCpuEntitlement(TR_YesNoMaybe value) { _exceedsCompCpuEntitlement = value; }
    int32_t computeCompThreadSleepTime(int32_t compilationTimeMs);
+   int32_t computeCompThreadSleepTimeForCPUBudget(int32_t compilationTimeMs);
    bool                   isQueuedForCompilation(J9Method *, void *oldStartPC);
    void *                 startPCIfAlreadyCompiled(J9VMThread *, TR::IlGeneratorMethodDetails & details, void *oldStartPC);
 
@@ -959,6 +962,11 @@ public:
    void computeAndCacheCpuEntitlement() { _cpuEntitlement.computeAndCacheCpuEntitlement(); }
    double getJvmCpuEntitlement() const { return _cpuEntitlement.getJvmCpuEntitlement(); }
 
+   TR_CompThreadCPUBudget *getCompThreadCPUBudget() { return &_compThreadCPUBudget; }
+   bool isDeferrableUnderCPUBudget(TR_MethodToBeCompiled *entry) const;
+   bool deferUnderCPUBudget(TR_MethodToBeCompiled *entry);
+   void publishCompThreadCPUBudgetStats();
+
    bool importantMethodForStartup(J9Method *method);
    bool shouldDowngradeCompReq(TR_MethodToBeCompiled *entry);
 
@@ -1174,6 +1182,8 @@ public:
 #endif /* defined(J9VM_OPT_JITSERVER) */
    uint32_t getNumTotalCompilations() const { return _numSyncCompilations + _numAsyncCompilations; }
    uint32_t getNumCompsUsedForCompDensityCalculations() const { return _numCompsUsedForCompDensityCalculations; }
+   // Identifier shared by the events reported through the J9HOOK_VM_JIT_* hooks for one compilation
+   uint32_t getNextCompilationEventID() { return (uint32_t)VM_AtomicSupport::add(&_compilationEventID, 1); }
 
    static void replenishInvocationCount(J9Method* method, TR::Compilation* comp);
 
@@ -1264,6 +1274,7 @@ private:
    uint32_t               _numSyncCompilations;
    uint32_t               _numAsyncCompilations;
    uint32_t               _numCompsUsedForCompDensityCalculations;
+   volatile uintptr_t     _compilationEventID;
    int32_t                _numCompThreadsActive;
    int32_t                _numCompThreadsJobless; // threads are not suspended, but have no work to do
    int32_t                _numCompThreadsCompilingHotterMethods; // allow only one at a time; use compQmonitor to change
@@ -1373,6 +1384,7 @@ private:
    TR_JProfilingQueue      _JProfilingQueue;
 
    TR_CpuEntitlement _cpuEntitlement;
+   TR_CompThreadCPUBudget _compThreadCPUBudget;
    TR_JitSampleInfo  _jitSampleInfo;
    TR_SharedCacheRelocationRuntime _sharedCacheReloRuntime;
    uintptr_t _vmStateOfCrashedThread; // Set by Jit Dump; used by diagnostic thread
@@ -1296,6 +1296,8 @@ TR::CompilationInfo::CompilationInfo(J9JITConfig *jitConfig) :
    _lowPriorityCompilationScheduler.setCompInfo(this);
    _JProfilingQueue.setCompInfo(this);
    _interpSamplTrackingInfo = new (PERSISTENT_NEW) TR_InterpreterSamplingTracking(this);
+   _compilationEventID = 0;
+   _compThreadCPUBudget.init();
 #if defined(J9VM_OPT_JITSERVER)
    _clientSessionHT = NULL; // This will be set later when options are processed
    _unloadedClassesTempList = NULL;
@@ -1889,6 +1891,10 @@ bool TR::CompilationInfo::canProcessLowPriorityRequest()
    if (getLowCompDensityMode())
       return false;
 
+   // Compilation threads have used up their CPU budget; LPQ requests can wait
+   if (_compThreadCPUBudget.isOverBudget())
+      return false;
+
    if (compileFromLPQRegardlessOfCPU())
       return true;
 
@@ -4354,6 +4360,7 @@ TR::CompilationInfoPerThread::processEntries()
             break;
 
          case TR::CompilationInfo::SUSPEND_COMP_THREAD_EXCEED_CPU_ENTITLEMENT:
+         case TR::CompilationInfo::SUSPEND_COMP_THREAD_EXCEED_CPU_BUDGET:
          case TR::CompilationInfo::SUSPEND_COMP_THREAD_EMPTY_QUEUE:
             TR_ASSERT(compInfo->getNumCompThreadsActive() > 1, "Should not suspend the last active compilation thread: %d\n", compInfo->getNumCompThreadsActive());
             setCompilationThreadState(COMPTHREAD_SIGNAL_SUSPEND);
@@ -4363,7 +4370,8 @@ TR::CompilationInfoPerThread::processEntries()
                TR_VerboseLog::writeLineLocked(TR_Vlog_INFO, "t=%6u Suspending compThread %d due to %s Qweight=%d active=%d overallCompCpuUtil=%d",
                   (uint32_t)compInfo->getPersistentInfo()->getElapsedTime(),
                   getCompThreadId(),
-                  compThreadAction == TR::CompilationInfo::SUSPEND_COMP_THREAD_EXCEED_CPU_ENTITLEMENT ? "exceeding CPU entitlement" : "empty queue",
+                  compThreadAction == TR::CompilationInfo::SUSPEND_COMP_THREAD_EXCEED_CPU_ENTITLEMENT ? "exceeding CPU entitlement" :
+                  compThreadAction == TR::CompilationInfo::SUSPEND_COMP_THREAD_EXCEED_CPU_BUDGET ? "exceeding CPU budget" : "empty queue",
                   compInfo->getQueueWeight(),
                   compInfo->getNumCompThreadsActive(),
                   compInfo->getOverallCompCpuUtilization());
@@ -4371,15 +4379,20 @@ TR::CompilationInfoPerThread::processEntries()
             break;
 
          case TR::CompilationInfo::THROTTLE_COMP_THREAD_EXCEED_CPU_ENTITLEMENT:
+         case TR::CompilationInfo::THROTTLE_COMP_THREAD_EXCEED_CPU_BUDGET:
             {
             TR_ASSERT(compInfo->getNumCompThreadsActive() <= 1, "Throttling when we have several comp threads active: %d\n", compInfo->getNumCompThreadsActive());
-            int32_t sleepTimeMs = compInfo->computeCompThreadSleepTime(getLastCompilationDuration());
+            bool overBudget = compThreadAction == TR::CompilationInfo::THROTTLE_COMP_THREAD_EXCEED_CPU_BUDGET;
+            int32_t sleepTimeMs = overBudget ?
+               compInfo->computeCompThreadSleepTimeForCPUBudget(getLastCompilationDuration()) :
+               compInfo->computeCompThreadSleepTime(getLastCompilationDuration());
             if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerboseCompilationThreads))
                {
-               TR_VerboseLog::writeLineLocked(TR_Vlog_INFO, "t=%6u compThread %d sleeping %d ms due to throttling Qweight=%d active=%d overallCompCpuUtil=%d",
+               TR_VerboseLog::writeLineLocked(TR_Vlog_INFO, "t=%6u compThread %d sleeping %d ms due to %s Qweight=%d active=%d overallCompCpuUtil=%d",
                   (uint32_t)compInfo->getPersistentInfo()->getElapsedTime(),
                   getCompThreadId(),
                   sleepTimeMs,
+                  overBudget ? "exceeding CPU budget" : "throttling",
                   compInfo->getQueueWeight(),
                   compInfo->getNumCompThreadsActive(),
                   compInfo->getOverallCompCpuUtilization());
@@ -5156,7 +5169,8 @@ TR::CompilationInfo::addMethodToBeCompiled(TR::IlGeneratorMethodDetails & detail
          _intervalStats._numFirstTimeCompilationsInInterval++;
          _numQueuedFirstTimeCompilations++;
          }
-      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance)
+          || J9_EVENT_IS_HOOKED(_jitConfig->javaVM->hookInterface, J9HOOK_VM_JIT_COMPILATION_COMPLETED))
          {
          PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
          cur->_entryTime = j9time_usec_clock();
@@ -5648,27 +5662,42 @@ TR::CompilationInfo::getNextMethodToBeCompiled(TR::CompilationInfoPerThread *com
             else
                *compThreadAction = THROTTLE_COMP_THREAD_EXCEED_CPU_ENTITLEMENT;
             }
-         // Avoid two concurrent hot compilations
-         else if (getNumCompThreadsCompilingHotterMethods() <= 0 || // no hot compilation in progress
-                  _methodQueue->_weight < TR::Options::_expensiveCompWeight) // This is a cheaper comp
+         // Avoid two concurrent hot compilations, and while compilation threads are over
+         // their CPU budget, leave recompilations and low priority requests in the queue
+         else if ((getNumCompThreadsCompilingHotterMethods() <= 0 || // no hot compilation in progress
+                  _methodQueue->_weight < TR::Options::_expensiveCompWeight) && // This is a cheaper comp
+                  !deferUnderCPUBudget(_methodQueue))
             {
             nextMethodToBeCompiled = _methodQueue;
             _methodQueue = _methodQueue->_next;
             }
-         else // scan for a cold/warm method
+         else // scan for a cold/warm method that does not have to wait for the CPU budget
             {
+            bool hotCompInProgress = getNumCompThreadsCompilingHotterMethods() > 0;
             TR_MethodToBeCompiled *prev = _methodQueue;
             for (nextMethodToBeCompiled = _methodQueue->_next; nextMethodToBeCompiled; prev = nextMethodToBeCompiled, nextMethodToBeCompiled = nextMethodToBeCompiled->_next)
                {
-               if (nextMethodToBeCompiled->_optimizationPlan->getOptLevel() <= warm || // cheaper comp
+               if ((!hotCompInProgress ||
+                  nextMethodToBeCompiled->_optimizationPlan->getOptLevel() <= warm || // cheaper comp
                   nextMethodToBeCompiled->_priority >= CP_SYNC_MIN ||       // sync comp
-                  nextMethodToBeCompiled->_methodIsInSharedCache == TR_yes) // very cheap relocation
+                  nextMethodToBeCompiled->_methodIsInSharedCache == TR_yes) && // very cheap relocation
+                  !deferUnderCPUBudget(nextMethodToBeCompiled))
                   {
                   prev->_next = nextMethodToBeCompiled->_next;
                   break;
                   }
                }
-            if (!nextMethodToBeCompiled)
+            if (_compThreadCPUBudget.isOverBudget())
+               publishCompThreadCPUBudgetStats();
+            if (!nextMethodToBeCompiled && !hotCompInProgress)
+               {
+               // Everything in the queue can wait until CPU consumption drops below the budget
+               if (getNumCompThreadsActive() > 1)
+                  *compThreadAction = SUSPEND_COMP_THREAD_EXCEED_CPU_BUDGET;
+               else
+                  *compThreadAction = THROTTLE_COMP_THREAD_EXCEED_CPU_BUDGET;
+               }
+            else if (!nextMethodToBeCompiled)
                {
                *compThreadAction = GO_TO_SLEEP_CONCURRENT_EXPENSIVE_REQUESTS;
 
@@ -5799,6 +5828,40 @@ TR::CompilationInfo::getNextMethodToBeCompiled(TR::CompilationInfoPerThread *com
    return nextMethodToBeCompiled;
    }
 
+//----------------------------- isDeferrableUnderCPUBudget ----------------------
+// Recompilations and low priority requests are postponed while compilation
+// threads are over their CPU budget (-Xjit:compThreadCPUBudget=).
+// Sync requests and AOT loads are never deferred.
+//-------------------------------------------------------------------------------
+bool TR::CompilationInfo::isDeferrableUnderCPUBudget(TR_MethodToBeCompiled *entry) const
+   {
+   if (entry->_priority >= CP_SYNC_MIN || entry->_methodIsInSharedCache == TR_yes)
+      return false;
+   return entry->_oldStartPC != NULL || entry->_priority < CP_ASYNC_NORMAL;
+   }
+
+// Answer true if entry has to stay in the queue because compilation threads
+// are over their CPU budget. Each deferred request is counted only once.
+bool TR::CompilationInfo::deferUnderCPUBudget(TR_MethodToBeCompiled *entry)
+   {
+   if (!_compThreadCPUBudget.isOverBudget() || !isDeferrableUnderCPUBudget(entry))
+      return false;
+   if (!entry->_deferredByCPUBudget)
+      {
+      entry->_deferredByCPUBudget = true;
+      _compThreadCPUBudget.incNumDeferredRequests();
+      }
+   return true;
+   }
+
+// Make the CPU budget statistics visible to the JCL (CompilationMXBean)
+void TR::CompilationInfo::publishCompThreadCPUBudgetStats()
+   {
+   _jitConfig->compThreadCPUBudget = TR::Options::_compThreadCPUBudget;
+   _jitConfig->compThreadCPUBudgetUsage = _compThreadCPUBudget.getUsage();
+   _jitConfig->compThreadCPUBudgetDeferredCount = (UDATA)_compThreadCPUBudget.getNumDeferredRequests();
+   }
+
 //----------------------------- computeCompThreadSleepTime ----------------------
 // Compute how much the compilation thread should sleep for throttling purposes
 // Parameters: compilationTimeMs is the wall clock time spent by previous
@@ -5820,6 +5883,34 @@ int32_t TR::CompilationInfo::computeCompThreadSleepTime(int32_t compilationTimeM
    return sleepTimeMs;
    }
 
+//------------------------- computeCompThreadSleepTimeForCPUBudget --------------
+// Compute how much the last active compilation thread should sleep when all
+// compilation threads together exceed -Xjit:compThreadCPUBudget=
+// Parameters: compilationTimeMs is the wall clock time spent by previous
+// compilation
+// The return value is in ms.
+//-------------------------------------------------------------------------------
+int32_t TR::CompilationInfo::computeCompThreadSleepTimeForCPUBudget(int32_t compilationTimeMs)
+   {
+   int32_t sleepTimeMs = 1;
+   // The budget is a percentage of the JVM CPU entitlement, which is 100 per CPU
+   double allowedCpus = (double)TR::Options::_compThreadCPUBudget * getJvmCpuEntitlement() / 10000.0;
+   if (allowedCpus > 0 && allowedCpus < 1.0)
+      {
+      // Sleep long enough for a single thread to stay within its share of one CPU
+      sleepTimeMs = (int32_t)(compilationTimeMs * (1.0 / allowedCpus - 1.0));
+      }
+   // Usage is measured over a sliding window; the further above the budget, the longer the pause
+   int32_t usage = _compThreadCPUBudget.getUsage();
+   if (usage > 100)
+      sleepTimeMs = (int32_t)((int64_t)sleepTimeMs * usage / 100);
+   if (sleepTimeMs < TR::Options::_minSleepTimeMsForCompThrottling)
+      sleepTimeMs = TR::Options::_minSleepTimeMsForCompThrottling;
+   if (sleepTimeMs > TR::Options::_maxSleepTimeMsForCompThrottling)
+      sleepTimeMs = TR::Options::_maxSleepTimeMsForCompThrottling;
+   return sleepTimeMs;
+   }
+
 // FIXME: this should be called only when running async - i have not yet figured
 // out how to figure this info out for interpreted methods scheduled for their
 // first compilation
@@ -7139,7 +7230,8 @@ void TR::CompilationInfo::queueForcedAOTUpgrade(TR_MethodToBeCompiled *originalE
    methodInfo->setReasonForRecompilation(TR_PersistentMethodInfo::RecompDueToForcedAOTUpgrade);
    _statNumForcedAotUpgrades++;
 
-   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+   if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance)
+       || J9_EVENT_IS_HOOKED(_jitConfig->javaVM->hookInterface, J9HOOK_VM_JIT_COMPILATION_COMPLETED))
       {
       PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
       cur->_entryTime = j9time_usec_clock();
@@ -10963,6 +11055,67 @@ TR::CompilationInfoPerThreadBase::methodCanBeCompiled(TR_Memory *trMemory, TR_Fr
    return TR::Options::getDebug()->methodCanBeCompiled(trMemory, method, filter);
    }
 
+// Report a successful compilation or AOT load, and every call site inlined into it, through the VM
+// hook interface so that profilers like JFR can see what the JIT did without parsing the verbose log.
+// The call sites are read from the installed metadata, which has them for local, remote and AOT bodies.
+// The caller must hold VM access.
+void TR::CompilationInfoPerThreadBase::triggerCompilationEventHooks(
+   J9VMThread *vmThread,
+   J9Method *method,
+   TR::Compilation *compiler,
+   TR_MethodMetaData *metaData,
+   uintptr_t translationTime
+   )
+   {
+   J9JavaVM *javaVM = _jitConfig->javaVM;
+   PORT_ACCESS_FROM_JAVAVM(javaVM);
+   uint32_t compileID = _compInfo.getNextCompilationEventID();
+   uintptr_t inlinedBytes = 0;
+   uint32_t numInlinedCallSites = getNumInlinedCallSites(metaData);
+
+   for (uint32_t i = 0; i < numInlinedCallSites; i++)
+      {
+      TR_InlinedCallSite *site = (TR_InlinedCallSite *)getInlinedCallSiteArrayElement(metaData, i);
+      J9Method *callee = (J9Method *)site->_methodInfo;
+      int32_t callerIndex = site->_byteCodeInfo.getCallerIndex();
+      J9Method *caller = method;
+      if (callerIndex >= 0)
+         caller = (J9Method *)((TR_InlinedCallSite *)getInlinedCallSiteArrayElement(metaData, callerIndex))->_methodInfo;
+
+      inlinedBytes += TR::CompilationInfo::getMethodBytecodeSize(callee);
+      TRIGGER_J9HOOK_VM_JIT_METHOD_INLINED(javaVM->hookInterface, vmThread, compileID, caller, callee, site->_byteCodeInfo.getByteCodeIndex());
+      }
+
+   if (J9_EVENT_IS_HOOKED(javaVM->hookInterface, J9HOOK_VM_JIT_COMPILATION_COMPLETED))
+      {
+      // translationTime and _entryTime are in usec, JFR ticks are j9time_nano_time() nanoseconds
+      int64_t duration = (int64_t)translationTime * 1000;
+      int64_t startTicks = j9time_nano_time() - duration;
+      int64_t queueTime = -1;
+      if (0 != _methodBeingCompiled->_entryTime)
+         queueTime = (int64_t)(getTimeWhenCompStarted() - _methodBeingCompiled->_entryTime) * 1000;
+
+      uintptr_t codeSize = metaData->endWarmPC - metaData->startPC;
+      if (metaData->startColdPC)
+         codeSize += metaData->endPC - metaData->startColdPC;
+
+      ALWAYS_TRIGGER_J9HOOK_VM_JIT_COMPILATION_COMPLETED(
+         javaVM->hookInterface,
+         vmThread,
+         method,
+         compileID,
+         (U_32)compiler->getMethodHotness(),
+         _methodBeingCompiled->isDLTCompile(),
+         compiler->compileRelocatableCode() || _methodBeingCompiled->isAotLoad(),
+         _methodBeingCompiled->isRemoteCompReq(),
+         startTicks,
+         duration,
+         queueTime,
+         codeSize,
+         inlinedBytes);
+      }
+   }
+
 void TR::CompilationInfoPerThreadBase::logCompilationSuccess(
    J9VMThread * vmThread,
    TR_J9VMBase &vm,
@@ -10974,9 +11127,19 @@ void TR::CompilationInfoPerThreadBase::logCompilationSuccess(
    TR_OptimizationPlan * optimizationPlan
    )
    {
+   J9JavaVM * javaVM = _jitConfig->javaVM;
+
+   // AOT loads are reported too, as they install a body just like a compilation
+   if ((NULL != metaData)
+       && (J9_EVENT_IS_HOOKED(javaVM->hookInterface, J9HOOK_VM_JIT_COMPILATION_COMPLETED)
+          || J9_EVENT_IS_HOOKED(javaVM->hookInterface, J9HOOK_VM_JIT_METHOD_INLINED)))
+      {
+      PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
+      triggerCompilationEventHooks(vmThread, method, compiler, metaData, j9time_usec_clock() - getTimeWhenCompStarted());
+      }
+
    if (!_methodBeingCompiled->isAotLoad())
       {
-      J9JavaVM * javaVM = _jitConfig->javaVM;
       // Dump mixed mode disassembly listing.
       //
       if (compiler->getOption(TR_TraceAll))
@@ -13313,6 +13476,10 @@ void TR_JProfilingQueue::purge()
 // time to allow the generation of JProfiling bodies
 bool TR::CompilationInfo::canProcessJProfilingRequest()
    {
+   // Compilation threads have used up their CPU budget; JProfiling bodies can wait
+   if (_compThreadCPUBudget.isOverBudget())
+      return false;
+
    // Once we allow the generation of JProfiling bodies
    // we will not go back
    if (getJProfilingCompQueue().getAllowProcessing())
@@ -13381,7 +13548,8 @@ TR::CompilationInfo::addOutOfProcessMethodToBeCompiled(JITServer::ServerStream *
       // This needs to be served as soon as possible, so we give it a higher priority
       CompilationPriority priority = (stream == LOAD_AOTCACHE_REQUEST) ? CP_SYNC_BELOW_MAX : CP_SYNC_NORMAL;
       entry->initialize(details, NULL, priority, NULL);
-      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+      if (TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance)
+          || J9_EVENT_IS_HOOKED(_jitConfig->javaVM->hookInterface, J9HOOK_VM_JIT_COMPILATION_COMPLETED))
          {
          PORT_ACCESS_FROM_JITCONFIG(_jitConfig);
          entry->_entryTime = j9time_usec_clock();
@@ -436,6 +436,13 @@ private:
       TR_MethodMetaData *metadata,
       TR_OptimizationPlan * optimizationPlan);
 
+   void triggerCompilationEventHooks(
+      J9VMThread *vmThread,
+      J9Method *method,
+      TR::Compilation *compiler,
+      TR_MethodMetaData *metadata,
+      uintptr_t translationTime);
+
    void processException(
       J9VMThread *vmThread,
       const TR::SegmentAllocator &scratchSegmentProvider,
@@ -5768,6 +5768,24 @@ void CPUThrottleLogic(TR::CompilationInfo *compInfo, uint64_t crtTime)
       }
    }
 
+/// Updates the CPU consumed by compilation threads over the sliding window and
+/// decides whether recompilations and low priority requests should be deferred
+static void compThreadCPUBudgetLogic(TR::CompilationInfo *compInfo, uint64_t crtTime)
+   {
+   TR_CompThreadCPUBudget *budget = compInfo->getCompThreadCPUBudget();
+   bool changed = budget->update(crtTime, compInfo->getCpuTimeSpentInCompilation(), compInfo->getJvmCpuEntitlement(),
+                                 TR::Options::_compThreadCPUBudget, TR::Options::_compThreadCPUBudgetWindow);
+   compInfo->publishCompThreadCPUBudgetStats();
+   if (changed && TR::Options::getCmdLineOptions()->getVerboseOption(TR_VerbosePerformance))
+      {
+      TR_VerboseLog::writeLineLocked(TR_Vlog_INFO, "t=%6u Compilation threads %s their CPU budget; budgetUsage=%d%% deferredRequests=%llu",
+         (uint32_t)crtTime,
+         budget->isOverBudget() ? "exceeded" : "are back within",
+         budget->getUsage(),
+         (unsigned long long)budget->getNumDeferredRequests());
+      }
+   }
+
 /// When many classes are loaded per second (like in Websphere startup)
 /// we would like to decrease the initial level of compilation from warm to cold
 /// The following fragment of code uses a heuristic to detect when we are
@@ -7037,6 +7055,9 @@ static int32_t J9THREAD_PROC samplerThreadProc(void * entryarg)
                CalculateOverallCompCPUUtilization(compInfo, crtTime, samplerThread);
                }
 
+            if (TR::Options::_compThreadCPUBudget > 0)
+               compThreadCPUBudgetLogic(compInfo, crtTime);
+
 #if defined(J9VM_OPT_JITSERVER)
 #if defined(LINUX)
             static uint64_t lastMallocTrimTime = 0;
@@ -131,6 +131,9 @@ bool J9::Options::_userClassLoadingPhase = false;
 int32_t J9::Options::_bigAppSampleThresholdAdjust = 3; //amount to shift the hot and scorching threshold
 int32_t J9::Options::_availableCPUPercentage = 100;
 int32_t J9::Options::_cpuCompTimeExpensiveThreshold = 4000;
+bool J9::Options::_enableFPAutoSIMDReduction = false;
+bool J9::Options::_enableProfiledColdBlockMarking = false;
+int32_t J9::Options::_profiledColdBlockFrequencyThreshold = -1;
 uintptr_t J9::Options::_compThreadAffinityMask = 0;
 
 #if defined(J9VM_OPT_JITSERVER)
@@ -168,6 +171,8 @@ int32_t J9::Options::_compilationExpirationTime = -1;
 
 int32_t J9::Options::_minSamplingPeriod = 10; // ms
 int32_t J9::Options::_compilationBudget = 0;  // ms; 0 means disabled
+int32_t J9::Options::_compThreadCPUBudget = 0; // percentage of JVM CPU entitlement; 0 means disabled
+int32_t J9::Options::_compThreadCPUBudgetWindow = 5000; // ms
 
 int32_t J9::Options::_compilationThreadPriorityCode = 4; // these codes are converted into
                                                          // priorities in startCompilationThread
@@ -959,6 +964,13 @@ TR::OptionTable OMR::Options::_feOptions[] = {
    {"compilationYieldStatsThreshold=", "M<nnn>\tprint stats about compilation yield points if the "
                                        "threshold is exceeded. Default 1000 usec. ",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compYieldStatsThreshold, 0, "F%d", NOT_IN_SUBSET},
+   {"compThreadCPUBudget=", "M<nnn>\tpercentage of the CPU entitlement of the JVM that compilation threads "
+                            "may use over a sliding window. When exceeded, recompilations and low priority "
+                            "requests are deferred. Default is 0 which means no budget",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compThreadCPUBudget, 0, "F%d", NOT_IN_SUBSET},
+   {"compThreadCPUBudgetWindow=", "M<nnn>\tlength in ms of the sliding window over which the "
+                                  "compilation thread CPU budget is measured",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compThreadCPUBudgetWindow, 0, "F%d", NOT_IN_SUBSET},
    {"compThreadPriority=",    "M<nnn>\tThe priority of the compilation thread. "
                               "Use an integer between 0 and 4. Default is 4 (highest priority)",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_compilationThreadPriorityCode, 0, "F%d", NOT_IN_SUBSET},
@@ -987,6 +999,12 @@ TR::OptionTable OMR::Options::_feOptions[] = {
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_disableIProfilerClassUnloadThreshold, 0, "F%d", NOT_IN_SUBSET},
    {"dltPostponeThreshold=",      "M<nnn>\tNumber of dlt attempts inv. count for a method is seen not advancing",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_dltPostponeThreshold, 0, "F%d", NOT_IN_SUBSET },
+   {"enableFPAutoSIMDReduction", "O\tallow auto-SIMD to vectorize float and double reductions. "
+                                 "Reassociates FP add/mul, so results may differ from strict left-to-right evaluation",
+        TR::Options::setStaticBool, (intptr_t)&TR::Options::_enableFPAutoSIMDReduction, 1, "F%d", NOT_IN_SUBSET},
+   {"enableProfiledColdBlockMarking", "O\tmark blocks that block frequency profiling shows are rarely executed as cold "
+                                      "so they are outlined to the cold code region",
+        TR::Options::setStaticBool, (intptr_t)&TR::Options::_enableProfiledColdBlockMarking, 1, "F%d", NOT_IN_SUBSET},
    {"exclude=",           "D<xxx>\tdo not compile methods beginning with xxx", TR::Options::limitOption, 1, 0, "P%s"},
    {"expensiveCompWeight=", "M<nnn>\tweight of a comp request to be considered expensive",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_expensiveCompWeight, 0, "F%d", NOT_IN_SUBSET },
@@ -1183,6 +1201,8 @@ TR::OptionTable OMR::Options::_feOptions[] = {
 #endif /* defined(J9VM_OPT_JITSERVER) */
    {"profileAllTheTime=",    "R<nnn>\tInterpreter profiling will be on all the time",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_profileAllTheTime, 0, "F%d", NOT_IN_SUBSET},
+   {"profiledColdBlockFrequencyThreshold=", "O<nnn>\tblock frequency at or below which enableProfiledColdBlockMarking treats a block as cold",
+        TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_profiledColdBlockFrequencyThreshold, 0, "F%d", NOT_IN_SUBSET},
    {"queuedInvReqThresholdToDowngradeOptLevel=", "M<nnn>\tDowngrade opt level if too many inv req",
         TR::Options::setStaticNumeric, (intptr_t)&TR::Options::_numQueuedInvReqToDowngradeOptLevel , 0, "F%d", NOT_IN_SUBSET},
    {"queueSizeThresholdToDowngradeDuringCLP=", "M<nnn>\tCompilation queue size threshold (interpreted methods) when opt level is downgraded during class load phase",
@@ -307,6 +307,12 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
    static int32_t _cpuCompTimeExpensiveThreshold;
    int32_t getCpuCompTimeExpensiveThreshold() { return _cpuCompTimeExpensiveThreshold; }
 
+   // auto-SIMD options
+   static bool _enableFPAutoSIMDReduction; // allow reassociation of float/double reductions in SPMD auto-vectorization
+
+   static bool _enableProfiledColdBlockMarking;
+   static int32_t _profiledColdBlockFrequencyThreshold; // -1 means MAX_COLD_BLOCK_COUNT
+
    static uintptr_t _compThreadAffinityMask;
    static int32_t _interpreterSamplingThreshold;
    static int32_t _interpreterSamplingDivisor;
@@ -388,6 +394,8 @@ class OMR_EXTENSIBLE Options : public OMR::OptionsConnector
    static int32_t _minSamplingPeriod;
    int32_t getMinSamplingPeriod() {return _minSamplingPeriod;}
    static int32_t _compilationBudget;
+   static int32_t _compThreadCPUBudget; // percentage of the JVM CPU entitlement; 0 means disabled
+   static int32_t _compThreadCPUBudgetWindow; // ms
 
    static int32_t _compYieldStatsThreshold;
    static int32_t _compYieldStatsHeartbeatPeriod;
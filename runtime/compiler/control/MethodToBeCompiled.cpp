@@ -85,6 +85,7 @@ void TR_MethodToBeCompiled::initialize(TR::IlGeneratorMethodDetails &details, vo
    _entryIsCountedAsInvRequest = false;
    _GCRrequest = false;
    _hasIncrementedNumCompThreadsCompilingHotterMethods = false;
+   _deferredByCPUBudget = false;
 
    _weight = 0;
    _jitStateWhenQueued = UNDEFINED_STATE;
@@ -148,6 +148,7 @@ struct TR_MethodToBeCompiled
                                        // the entry is queued, but change afterwards if method receives samples
                                        // to be upgraded to hot or scorching
    bool                   _hasIncrementedNumCompThreadsCompilingHotterMethods;
+   bool                   _deferredByCPUBudget; // request has already been counted as deferred because compilation threads exceeded their CPU budget
 
    int16_t                _index;
    uint8_t                _freeTag; // temporary to catch a nasty bug
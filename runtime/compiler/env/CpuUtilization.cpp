@@ -484,3 +484,46 @@ void TR_CpuEntitlement::computeAndCacheCpuEntitlement()
       }
    }
 
+bool TR_CompThreadCPUBudget::update(uint64_t crtTime, int64_t compCpuTime, double jvmCpuEntitlement, int32_t budget, int32_t window)
+   {
+   bool oldOverBudget = _overBudget;
+   if (compCpuTime < 0 || budget <= 0 || jvmCpuEntitlement <= 0)
+      {
+      // Conservative decision is not to defer anything in case of error
+      _numSamples = 0;
+      _usage = -1;
+      _overBudget = false;
+      return oldOverBudget != _overBudget;
+      }
+
+   _lastSample = (_lastSample + 1) % MAX_SAMPLES;
+   _sampleTime[_lastSample] = crtTime;
+   _sampleCpuTime[_lastSample] = compCpuTime;
+   if (_numSamples < MAX_SAMPLES)
+      _numSamples++;
+
+   // Find the oldest sample that is still inside the window
+   int32_t oldest = _lastSample;
+   for (int32_t i = 1; i < _numSamples; i++)
+      {
+      int32_t index = (_lastSample - i + MAX_SAMPLES) % MAX_SAMPLES;
+      if (crtTime - _sampleTime[index] > (uint64_t)window)
+         break;
+      oldest = index;
+      }
+
+   uint64_t elapsedTime = crtTime - _sampleTime[oldest];
+   int64_t cpuTime = compCpuTime - _sampleCpuTime[oldest];
+   if (elapsedTime == 0 || cpuTime < 0) // not enough history, or a compilation thread went away
+      {
+      _usage = -1;
+      return false;
+      }
+
+   // jvmCpuEntitlement is 100 per CPU and budget is a percentage of it
+   double allowedCpuTime = (double)elapsedTime * 1000000.0 * jvmCpuEntitlement / 100.0 * budget / 100.0;
+   _usage = (int32_t)(cpuTime * 100.0 / allowedCpuTime);
+   // Some hysteresis: once over budget, usage must drop 10 percentage points below the budget
+   _overBudget = oldOverBudget ? _usage > 90 : _usage > 100;
+   return oldOverBudget != _overBudget;
+   }
@@ -235,4 +235,37 @@ private:
    J9JITConfig * _jitConfig;
    };
 
+
+// Keeps track of the CPU consumed by all compilation threads over a sliding
+// window and compares it against a budget given as a percentage of the JVM CPU
+// entitlement (-Xjit:compThreadCPUBudget=). The sampler thread updates it
+// periodically; compilation threads consult isOverBudget() to decide whether
+// low priority requests should be deferred.
+// Like TR_CpuEntitlement, an object of this type is embedded into
+// TR::CompilationInfo which is zeroed out at construction time, so it cannot
+// have virtual functions.
+class TR_CompThreadCPUBudget
+   {
+public:
+   static const int32_t MAX_SAMPLES = 32; // enough for the default window and sampling interval
+
+   void init() { _usage = -1; }
+   // Record the total CPU time (ns) spent by compilation threads at time crtTime (ms).
+   // Returns true if the over budget state has changed.
+   bool update(uint64_t crtTime, int64_t compCpuTime, double jvmCpuEntitlement, int32_t budget, int32_t window);
+   bool isOverBudget() const { return _overBudget; }
+   int32_t getUsage() const { return _usage; } // percentage of the budget used over the window; -1 if not known
+   uint64_t getNumDeferredRequests() const { return _numDeferredRequests; }
+   void incNumDeferredRequests() { _numDeferredRequests++; } // must have compilation queue monitor in hand
+
+private:
+   uint64_t _sampleTime[MAX_SAMPLES]; // ms
+   int64_t  _sampleCpuTime[MAX_SAMPLES]; // ns
+   int32_t  _numSamples;
+   int32_t  _lastSample;
+   int32_t  _usage;
+   bool     _overBudget;
+   uint64_t _numDeferredRequests;
+   };
+
 #endif // CPUUTILIZATION_HPP
@@ -85,6 +85,7 @@
 #include "optimizer/HandleRecompilationOps.hpp"
 #include "optimizer/MethodHandleTransformer.hpp"
 #include "optimizer/VectorAPIExpansion.hpp"
+#include "optimizer/ProfiledColdBlockMarking.hpp"
 #include "optimizer/CatchBlockProfiler.hpp"
 
 
@@ -449,6 +450,8 @@ const OptimizationStrategy hotStrategyOpts[] =
    { OMR::recognizedCallTransformer,             OMR::MarkLastRun              },
 #endif
    { OMR::blockManipulationGroup                                          },
+   { OMR::profiledColdBlockMarking                                        }, // mark blocks the profile shows are not executed
+   { OMR::coldBlockOutlining,                    OMR::IfEnabled                }, // move them out of the hot path
    { OMR::lateLocalGroup                                                  },
    { OMR::sequentialStoreSimplificationGroup,                             }, // reduce sequential stores into an arrayset
    { OMR::redundantAsyncCheckRemoval,            OMR::IfNotJitProfiling        }, // optimize async check placement
@@ -546,6 +549,8 @@ const OptimizationStrategy scorchingStrategyOpts[] =
    { OMR::recognizedCallTransformer,             OMR::MarkLastRun },
 #endif
    { OMR::blockManipulationGroup                             },
+   { OMR::profiledColdBlockMarking                           }, // mark blocks the profile shows are not executed
+   { OMR::coldBlockOutlining,                    OMR::IfEnabled }, // move them out of the hot path
    { OMR::lateLocalGroup                                     },
    { OMR::sequentialStoreSimplificationGroup                 }, // reduce sequential stores into an arrayset
    { OMR::redundantAsyncCheckRemoval,            OMR::IfNotJitProfiling        }, // optimize async check placement
@@ -725,6 +730,8 @@ J9::Optimizer::Optimizer(TR::Compilation *comp, TR::ResolvedMethodSymbol *method
       new (comp->allocator()) TR::OptimizationManager(self(), TR_VectorAPIExpansion::create, OMR::vectorAPIExpansion);
    _opts[OMR::catchBlockProfiler] =
       new (comp->allocator()) TR::OptimizationManager(self(), TR::CatchBlockProfiler::create, OMR::catchBlockProfiler);
+   _opts[OMR::profiledColdBlockMarking] =
+      new (comp->allocator()) TR::OptimizationManager(self(), TR::ProfiledColdBlockMarking::create, OMR::profiledColdBlockMarking);
    // NOTE: Please add new J9 optimizations here!
 
    // initialize additional J9 optimization groups
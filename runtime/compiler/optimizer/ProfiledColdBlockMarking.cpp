@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0
+ * or the Apache License, Version 2.0 which accompanies this distribution
+ * and is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception [1] and GNU General Public
+ * License, version 2 with the OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include "compile/Compilation.hpp"
+#include "control/Options.hpp"
+#include "control/Options_inlines.hpp"
+#include "il/Block.hpp"
+#include "infra/Cfg.hpp"
+#include "optimizer/ProfiledColdBlockMarking.hpp"
+#include "optimizer/Optimization.hpp"
+#include "optimizer/Optimizations.hpp"
+#include "optimizer/Optimization_inlines.hpp"
+#include "optimizer/Optimizer.hpp"
+#include "ras/DebugCounter.hpp"
+#include "ras/Logger.hpp"
+#include "runtime/J9Profiler.hpp"
+
+TR::ProfiledColdBlockMarking::ProfiledColdBlockMarking(TR::OptimizationManager *manager)
+   : TR::Optimization(manager)
+   {}
+
+int32_t TR::ProfiledColdBlockMarking::perform()
+   {
+   OMR::Logger *log = comp()->log();
+
+   if (!TR::Options::_enableProfiledColdBlockMarking)
+      return 0;
+
+   // Block frequencies are only meaningful if they were derived from a profile of this method
+   if (!TR_BlockFrequencyInfo::get(comp()))
+      {
+      if (trace())
+         log->prints("Profiled Cold Block Marking skipped because there is no block frequency profile\n");
+      return 0;
+      }
+
+   int32_t threshold = TR::Options::_profiledColdBlockFrequencyThreshold;
+   if (threshold < 0)
+      threshold = MAX_COLD_BLOCK_COUNT;
+
+   if (trace())
+      log->printf("Starting Profiled Cold Block Marking with frequency threshold %d\n", threshold);
+
+   int32_t numMarked = 0;
+   TR::Block *startBlock = comp()->getStartBlock();
+
+   for (TR::Block *b = startBlock; b; b = b->getNextBlock())
+      {
+      if (b == startBlock || b->isCold() || b->isOSRCatchBlock() || b->isOSRCodeBlock())
+         continue;
+
+      int32_t frequency = b->getFrequency();
+
+      // a negative frequency means the block was created after the profile was applied
+      if (frequency < 0 || frequency > threshold)
+         continue;
+
+      if (performTransformation(comp(), "%sMarking block_%d with frequency %d as cold\n", optDetailString(), b->getNumber(), frequency))
+         {
+         b->setIsCold();
+         numMarked++;
+         }
+      }
+
+   if (numMarked > 0)
+      {
+      requestOpt(OMR::coldBlockOutlining);
+
+      // Emit the outlined blocks in the cold region of the code cache. Relocatable and
+      // out of process bodies are kept in one piece, as they are for the code generator.
+      if (!comp()->compileRelocatableCode() && !comp()->isOutOfProcessCompilation())
+         {
+         if (trace())
+            log->prints("Requesting splitting of warm and cold blocks\n");
+         comp()->setOption(TR_SplitWarmAndColdBlocks);
+         }
+
+      TR::DebugCounter::incStaticDebugCounter(comp(),
+         TR::DebugCounter::debugCounterName(comp(), "profiledColdBlocks/(%s)", comp()->getHotnessName(comp()->getMethodHotness())),
+         numMarked);
+      }
+
+   if (trace())
+      log->printf("\nEnding Profiled Cold Block Marking, %d blocks marked cold\n", numMarked);
+
+   return 1;
+   }
+
+const char *
+TR::ProfiledColdBlockMarking::optDetailString() const throw()
+   {
+   return "O^O PROFILED COLD BLOCK MARKING: ";
+   }
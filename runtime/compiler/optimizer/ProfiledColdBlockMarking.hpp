@@ -0,0 +1,53 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0
+ * or the Apache License, Version 2.0 which accompanies this distribution
+ * and is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License, v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception [1] and GNU General Public
+ * License, version 2 with the OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#ifndef PROFILEDCOLDBLOCKMARKING_INCL
+#define PROFILEDCOLDBLOCKMARKING_INCL
+
+#include "optimizer/Optimization.hpp"
+#include "optimizer/OptimizationManager.hpp"
+
+
+namespace TR {
+
+/**
+   @class ProfiledColdBlockMarking
+   @brief Marks blocks that block frequency profiling (JProfilingBlock counters or
+          IProfiler branch data) shows to be rarely or never executed as cold, and
+          requests cold block outlining so that they are moved to the end of the
+          method. It also enables TR_SplitWarmAndColdBlocks for the compilation, so
+          that the code generator emits these blocks in the cold region of the code
+          cache, away from the hot code of the method.
+ */
+class ProfiledColdBlockMarking : public TR::Optimization
+   {
+   public:
+   ProfiledColdBlockMarking(TR::OptimizationManager *manager);
+   static TR::Optimization *create(TR::OptimizationManager *manager)
+      {
+      return new (manager->allocator()) ProfiledColdBlockMarking(manager);
+      }
+
+   virtual int32_t perform();
+   virtual const char * optDetailString() const throw();
+   };
+}
+#endif
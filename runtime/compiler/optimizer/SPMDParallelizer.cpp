@@ -990,14 +990,17 @@ bool TR_SPMDKernelParallelizer::autoSIMDReductionSupported(TR::Compilation *comp
    bool trace = comp->trace(OMR::SPMDKernelParallelization);
    OMR::Logger *log = comp->log();
 
-   //float and double not currently supported.
+   //Vectorizing a float or double reduction computes VECTOR_LENGTH partial results that are combined
+   //at the loop exit, which reassociates the FP operations. Java requires strict left-to-right
+   //evaluation, so this is only done when the user explicitly permits reassociation.
    static bool enableFPAutoSIMDReduction = feGetEnv("TR_enableFPAutoSIMDReduction") ? true : false;
 
    if (!enableFPAutoSIMDReduction
+       && !TR::Options::_enableFPAutoSIMDReduction
        && !_fpreductionAnnotation
        && (node->getDataType() == TR::Float || node->getDataType() == TR::Double))
       {
-      logprintf(trace, log, "   autoSIMDReductionSupported: float and double reduction are not supported right now. node: %p\n", node);
+      logprintf(trace, log, "   autoSIMDReductionSupported: float and double reduction require -Xjit:enableFPAutoSIMDReduction. node: %p\n", node);
       return false;
       }
 
@@ -1251,10 +1254,11 @@ bool TR_SPMDKernelParallelizer::reductionLoopEntranceProcessing(TR::Compilation
          constNode->setLongInt(identity);
          break;
       case TR::Float:
-         constNode->setFloat(identity);
+         //-0.0 is the additive identity for FP: -0.0 + x == x for every x, including x == -0.0
+         constNode->setFloat(reductionOp == Reduction_Add ? -0.0f : (float)identity);
          break;
       case TR::Double:
-         constNode->setDouble(identity);
+         constNode->setDouble(reductionOp == Reduction_Add ? -0.0 : (double)identity);
          break;
       default:
          logprints(trace, log, "   reductionLoopEntranceProcessing: Unknown vector data type during transformation phase.\n");
@@ -24,6 +24,8 @@
 
 #include <math.h>
 #include "env/jittypes.h"
+#include "control/Recompilation.hpp"
+#include "control/RecompilationInfo.hpp"
 #include "env/CompilerEnv.hpp"
 #include "env/VMAccessCriticalSection.hpp"
 #include "env/VMJ9.h"
@@ -33,11 +35,19 @@
 #include "optimizer/Optimization_inlines.hpp"
 #include "ras/DebugCounter.hpp"
 #include "ras/Logger.hpp"
+#include "runtime/J9Profiler.hpp"
+#include "runtime/J9ValueProfiler.hpp"
 
 #define OPT_DETAILS "O^O STRINGBUILDER TRANSFORMER: "
 
 static const char* StringBuilderClassName = "java/lang/StringBuilder";
 
+/// The minimum number of profiled lengths before the profile is trusted over the heuristic capacity
+static const uint32_t MinProfiledFrequency = 10;
+
+/// The largest capacity a profiled length may raise the heuristic capacity to
+static const int32_t MaxProfiledCapacity = 1024;
+
 /** \note
  *     This optimization is disabled for AOT compilations due to a functional issue. Consider an AOT compilation of the
  *     following FireTruck.toString()Ljava/lang/String; method:
@@ -136,7 +146,9 @@ int32_t TR_StringBuilderTransformer::performOnBlock(TR::Block* block)
                {
                List<TR_Pair<TR::Node*, TR::RecognizedMethod> > appendArguments (trMemory());
 
-               if (findStringBuilderChainedAppendArguments(iter, currentNode, appendArguments) != NULL)
+               TR::Node* toStringNode = findStringBuilderChainedAppendArguments(iter, currentNode, appendArguments);
+
+               if (toStringNode != NULL)
                   {
                   int32_t capacity = computeHeuristicStringBuilderInitCapacity(appendArguments);
 
@@ -149,6 +161,22 @@ int32_t TR_StringBuilderTransformer::performOnBlock(TR::Block* block)
                      return 1;
                      }
 
+                  static const bool disableProfiling = feGetEnv("TR_StringBuilderTransformerDisableProfiling") != NULL;
+
+                  if (!disableProfiling)
+                     {
+                     int32_t profiledCapacity = computeProfiledStringBuilderInitCapacity(toStringNode);
+
+                     if (profiledCapacity > capacity)
+                        {
+                        logprintf(trace(), comp()->log(), "[0x%p] Using profiled capacity = %d over heuristic capacity = %d.\n", toStringNode, profiledCapacity, capacity);
+
+                        capacity = profiledCapacity;
+                        }
+
+                     addStringBuilderLengthProfilingTrees(iter, toStringNode);
+                     }
+
                   if (performTransformation(comp(), "%sTransforming java/lang/StringBuilder.<init>()V call at node [0x%p] to java/lang/StringBuilder.<init>(I)V with capacity = %d\n", OPT_DETAILS, initNode, capacity))
                      {
                      static const bool collectAppendStatistics = feGetEnv("TR_StringBuilderTransformerCollectAppendStatistics") != NULL;
@@ -609,3 +637,111 @@ int32_t TR_StringBuilderTransformer::computeHeuristicStringBuilderInitCapacity(L
    // signalling that the capacity calculation has failed.
    return (int32_t) capacity;
    }
+
+/** \details
+ *     The profiled values are the StringBuilder.count field at the StringBuilder.toString() call. On Java 8 the top
+ *     bit of the count field is set when the StringBuilder is not compressed, so it is masked off to get the length.
+ *
+ *     We size for the longest profiled length rather than the most frequent one so that none of the profiled
+ *     StringBuilders have to grow, but never beyond \c MaxProfiledCapacity so that a few rare long Strings do not
+ *     inflate every allocation at the site.
+ *
+ * \returns The profiled capacity or -1 if there is no usable profiling information
+ */
+int32_t TR_StringBuilderTransformer::computeProfiledStringBuilderInitCapacity(TR::Node* toStringNode)
+   {
+   if (comp()->compileRelocatableCode())
+      {
+      return -1;
+      }
+
+   TR_ValueInfo* valueInfo = static_cast<TR_ValueInfo*>(TR_ValueProfileInfoManager::getProfiledValueInfo(toStringNode, comp(), ValueInfo, TR_ValueProfileInfoManager::justJITProfileInfo));
+
+   if (valueInfo == NULL || valueInfo->getTotalFrequency() < MinProfiledFrequency)
+      {
+      return -1;
+      }
+
+   TR_ScratchList<TR_ExtraValueInfo> profiledLengths(comp()->trMemory());
+   valueInfo->getSortedList(comp(), &profiledLengths);
+
+   int32_t capacity = -1;
+
+   ListIterator<TR_ExtraValueInfo> iter(&profiledLengths);
+   for (TR_ExtraValueInfo* profiledLength = iter.getFirst(); profiledLength != NULL; profiledLength = iter.getNext())
+      {
+      int32_t length = static_cast<int32_t>(profiledLength->_value & 0x7FFFFFFF);
+
+      if (length > capacity)
+         {
+         capacity = length;
+         }
+      }
+
+   if (capacity > MaxProfiledCapacity)
+      {
+      capacity = MaxProfiledCapacity;
+      }
+
+   TR::DebugCounter::incStaticDebugCounter(comp(), TR::DebugCounter::debugCounterName(comp(), "StringBuilderTransformer/Profiled/%d/%s", capacity, comp()->signature()));
+
+   return capacity;
+   }
+
+/** \details
+ *     The length is profiled by loading the count field of the receiver of the StringBuilder.toString() call just
+ *     before the call. The profiling information is recorded against the bytecode info of the StringBuilder.toString()
+ *     call so that \c computeProfiledStringBuilderInitCapacity can find it when the method is recompiled.
+ */
+void TR_StringBuilderTransformer::addStringBuilderLengthProfilingTrees(TR::TreeTopIterator iter, TR::Node* toStringNode)
+   {
+   TR::Recompilation* recomp = comp()->getRecompilationInfo();
+
+   if (recomp == NULL || !comp()->isProfilingCompilation() || comp()->compileRelocatableCode())
+      {
+      return;
+      }
+
+   TR_ValueProfiler* valueProfiler = recomp->getValueProfiler();
+
+   if (valueProfiler == NULL)
+      {
+      return;
+      }
+
+   // The call to StringBuilder.toString() is anchored in the block which contains the chained append calls
+   while (iter != NULL && !(iter.currentNode()->getNumChildren() > 0 && iter.currentNode()->getFirstChild() == toStringNode))
+      {
+      ++iter;
+      }
+
+   if (iter == NULL)
+      {
+      return;
+      }
+
+   TR_OpaqueClassBlock* stringBuilderClass = comp()->fej9()->getClassFromSignature("Ljava/lang/StringBuilder;", 25, comp()->getCurrentMethod());
+
+   if (stringBuilderClass == NULL)
+      {
+      return;
+      }
+
+   int32_t countOffset = comp()->fej9()->getInstanceFieldOffset(stringBuilderClass, "count", "I");
+
+   if (countOffset == -1)
+      {
+      return;
+      }
+
+   countOffset += static_cast<int32_t>(comp()->fe()->getObjectHeaderSizeInBytes());
+
+   if (performTransformation(comp(), "%sAdding profiling trees for the length of java/lang/StringBuilder at node [0x%p]\n", OPT_DETAILS, toStringNode))
+      {
+      TR::SymbolReference* countSymRef = comp()->getSymRefTab()->findOrFabricateShadowSymbol(stringBuilderClass, TR::Int32, countOffset, false, false, false, "count", "I");
+
+      TR::Node* countNode = TR::Node::createWithSymRef(toStringNode, TR::iloadi, 1, toStringNode->getFirstChild(), countSymRef);
+
+      valueProfiler->addProfilingTrees(countNode, iter.currentTree()->getPrevTreeTop(), 5);
+      }
+   }
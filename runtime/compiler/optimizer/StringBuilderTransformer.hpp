@@ -127,6 +127,19 @@ namespace TR { class Block; }
  *
  *     This environment variable can be used to override the final capacity that this optimization has heuristically
  *     calculated with the ### supplied.
+ *
+ *     \code
+ *     export TR_StringBuilderTransformerDisableProfiling=1;
+ *     \endcode
+ *
+ *     This environment variable disables the use of value profiling described below.
+ *
+ *  \section Profiling
+ *     The heuristic estimates for non-constant arguments are typically too small for Strings such as log messages or
+ *     serialized data, in which case the StringBuilder still has to grow one or more times. In a profiling compilation
+ *     this optimization adds value profiling trees which record the length of the StringBuilder at the call to
+ *     StringBuilder.toString(). When the method is recompiled the longest profiled length, up to a limit, is used as
+ *     the initial capacity whenever it is larger than the heuristically calculated one.
  */
 class TR_StringBuilderTransformer : public TR::Optimization
    {
@@ -227,6 +240,30 @@ class TR_StringBuilderTransformer : public TR::Optimization
     *     Heuristically calculated char length of the String that is the result of a call to StringBuilder.toString().
     */
    int32_t computeHeuristicStringBuilderInitCapacity(List<TR_Pair<TR::Node*, TR::RecognizedMethod> >& appendArguments);
+
+   /** \brief
+    *     Outputs the char length of the String that is the result of a call to StringBuilder.toString() as profiled
+    *     by a previous profiling compilation of this method.
+    *
+    *  \param toStringNode
+    *     The call to StringBuilder.toString() which terminates the sequence of chained StringBuilder.append(...) calls.
+    *
+    *  \return
+    *     The profiled char length or -1 if no profiling information is available.
+    */
+   int32_t computeProfiledStringBuilderInitCapacity(TR::Node* toStringNode);
+
+   /** \brief
+    *     In a profiling compilation adds value profiling trees which record the char length of the StringBuilder when
+    *     StringBuilder.toString() is called.
+    *
+    *  \param iter
+    *     The iterator to begin searching for the StringBuilder.toString() call from.
+    *
+    *  \param toStringNode
+    *     The call to StringBuilder.toString() which terminates the sequence of chained StringBuilder.append(...) calls.
+    */
+   void addStringBuilderLengthProfilingTrees(TR::TreeTopIterator iter, TR::Node* toStringNode);
    };
 
 #endif
@@ -2113,6 +2113,12 @@ TR_VectorAPIExpansion::transformIL(bool checkBoxing)
                         if (_nodeTable[node->getGlobalIndex()]._objectType == Mask)
                            operandObjectType = Mask;
                         }
+                     else if (index == TR::jdk_internal_vm_vector_VectorSupport_extract)
+                        {
+                        // Mask.laneIsSet() extracts from a mask, the result is a scalar
+                        if (getObjectTypeFromClassNode(comp(), node->getFirstChild()) == Mask)
+                           operandObjectType = Mask;
+                        }
 
                      TR::Node *unboxedOperand = unboxNode(node, operand, operandObjectType, checkBoxing);
 
@@ -3053,6 +3059,20 @@ TR::Node *TR_VectorAPIExpansion::naryIntrinsicHandler(TR_VectorAPIExpansion *opt
                return NULL;
                }
             }
+         else if (opCodeType == Convert && vectorAPIOpcode == VECTOR_OP_UCAST)
+            {
+            TR::DataType resultVectorType = TR::ILOpCode(vectorOpCode).getVectorResultDataType();
+
+            TR::ILOpCodes splatsOpCode = TR::ILOpCode::createVectorOpCode(TR::vsplats, resultVectorType);
+            TR::ILOpCodes andOpCode = TR::ILOpCode::createVectorOpCode(TR::vand, resultVectorType);
+
+            if (!isOpCodeImplemented(comp, splatsOpCode) ||
+                !isOpCodeImplemented(comp, andOpCode))
+               {
+               logprintf(opt->_trace, log, "Unsupported vsplats or vand opcode in node %p (no codegen)\n", node);
+               return NULL;
+               }
+            }
          else if (vectorAPIOpcode == VECTOR_OP_RROTATE)
             {
             TR::DataType vectorType = TR::DataType::createVectorType(elementType, vectorLength);
@@ -3090,7 +3110,8 @@ TR::Node *TR_VectorAPIExpansion::naryIntrinsicHandler(TR_VectorAPIExpansion *opt
       }
 
    return transformNary(opt, treeTop, node, elementType, vectorLength, numLanes, mode, scalarOpCode, vectorOpCode,
-                        firstOperand, numChildren, opCodeType, vectorAPIOpcode == VECTOR_OP_RROTATE);
+                        firstOperand, numChildren, opCodeType, vectorAPIOpcode == VECTOR_OP_RROTATE,
+                        opCodeType == Convert && vectorAPIOpcode == VECTOR_OP_UCAST);
    }
 
 TR::Node *TR_VectorAPIExpansion::blendIntrinsicHandler(TR_VectorAPIExpansion *opt, TR::TreeTop *treeTop, TR::Node *node,
@@ -3253,6 +3274,203 @@ TR::Node *TR_VectorAPIExpansion::convertIntrinsicHandler(TR_VectorAPIExpansion *
    return naryIntrinsicHandler(opt, treeTop, node, elementType, vectorLength, objectType, numLanes, mode, 1, Convert);
    }
 
+TR::Node *TR_VectorAPIExpansion::extractIntrinsicHandler(TR_VectorAPIExpansion *opt, TR::TreeTop *treeTop, TR::Node *node,
+                                                         TR::DataType elementType, TR::VectorLength vectorLength, vapiObjType objectType,
+                                                         int32_t numLanes, handlerMode mode)
+   {
+   TR::Compilation *comp = opt->comp();
+   TR::DataType vectorType = TR::DataType::createVectorType(elementType, vectorLength);
+   vapiObjType operandObjectType = opt->getObjectTypeFromClassNode(comp, node->getFirstChild());
+
+   if (mode == checkScalarization)
+      {
+      return NULL;
+      }
+   else if (mode == checkVectorization)
+      {
+      // VectorSupport.extract() is also used for Mask.laneIsSet(), which is expanded
+      // into a test of one bit of the mask's long bits. No species has more than 64 lanes.
+      if (operandObjectType == Mask)
+         return isOpCodeImplemented(comp, TR::ILOpCode::createVectorOpCode(TR::mToLongBits, vectorType)) ? node : NULL;
+
+      if (operandObjectType != Vector)
+         {
+         logprintf(opt->_trace, comp->log(), "Unsupported extract from %s in node %p\n", vapiObjTypeNames[operandObjectType], node);
+         return NULL;
+         }
+
+      return isOpCodeImplemented(comp, TR::ILOpCode::createVectorOpCode(TR::vgetelem, vectorType)) ? node : NULL;
+      }
+
+   logprintf(opt->_trace, comp->log(), "extractIntrinsicHandler for node %p\n", node);
+
+   TR::Node *vectorOperand = node->getChild(3);
+   TR::Node *laneIndex = node->getChild(4);
+
+   if (operandObjectType == Mask)
+      {
+      TR::ILOpCodes toLongBitsOpCode = TR::ILOpCode::createVectorOpCode(TR::mToLongBits, vectorType);
+
+      if (vectorOperand->getOpCodeValue() == TR::aload || vectorOperand->getOpCodeValue() == TR::acall)
+         vectorizeLoadOrStore(opt, vectorOperand, TR::DataType::createMaskType(elementType, vectorLength));
+
+      anchorOldChildren(opt, treeTop, node);
+
+      // (toLongBits(mask) >>> i) & 1
+      TR::Node *bitsNode = TR::Node::create(node, toLongBitsOpCode, 1);
+      bitsNode->setAndIncChild(0, vectorOperand);
+
+      TR::Node *shiftNode = TR::Node::create(node, TR::lushr, 2);
+      shiftNode->setAndIncChild(0, bitsNode);
+      shiftNode->setAndIncChild(1, laneIndex);
+
+      TR::Node::recreate(node, TR::land);
+      node->setAndIncChild(0, shiftNode);
+      node->setAndIncChild(1, TR::Node::lconst(node, 1));
+      node->setNumChildren(2);
+
+      if (TR::Options::getVerboseOption(TR_VerboseVectorAPI))
+         {
+         TR::ILOpCode ilOpCode(toLongBitsOpCode);
+         TR_VerboseLog::writeLine(TR_Vlog_VECTOR_API, "Vectorized using %s%s in %s at %s %s", ilOpCode.getName(),
+                                  TR::DataType::getName(vectorType), comp->signature(),
+                                  comp->getHotnessName(comp->getMethodHotness()), comp->isDLT() ? "DLT" : "");
+         }
+
+      return node;
+      }
+
+   if (vectorOperand->getOpCodeValue() == TR::aload || vectorOperand->getOpCodeValue() == TR::acall)
+      vectorizeLoadOrStore(opt, vectorOperand, vectorType);
+
+   anchorOldChildren(opt, treeTop, node);
+
+   TR::ILOpCodes getElemOpCode = TR::ILOpCode::createVectorOpCode(TR::vgetelem, vectorType);
+
+   // extract intrinsic returns the raw bits of the element as Long
+   if (elementType == TR::Int64)
+      {
+      // the element already is the Long to return
+      TR::Node::recreate(node, getElemOpCode);
+      node->setAndIncChild(0, vectorOperand);
+      node->setAndIncChild(1, laneIndex);
+      node->setNumChildren(2);
+      }
+   else
+      {
+      TR::Node *getElemNode = TR::Node::create(node, getElemOpCode, 2);
+      getElemNode->setAndIncChild(0, vectorOperand);
+      getElemNode->setAndIncChild(1, laneIndex);
+
+      TR::Node *childNode = getElemNode;
+      TR::ILOpCodes convOpCode = TR::BadILOp;
+
+      switch (elementType)
+         {
+         case TR::Int8:
+         case TR::Int16:
+         case TR::Int32:
+            convOpCode = TR::ILOpCode::getDataTypeConversion(elementType, TR::Int64);
+            break;
+         case TR::Float:
+            convOpCode = TR::i2l;
+            childNode = TR::Node::create(node, TR::ILOpCode::getDataTypeBitConversion(TR::Float, TR::Int32), 1, getElemNode);
+            break;
+         case TR::Double:
+            convOpCode = TR::ILOpCode::getDataTypeBitConversion(TR::Double, TR::Int64);
+            break;
+         default:
+            TR_ASSERT_FATAL(false, "Wrong vector element type for extract operation\n");
+         }
+
+      TR::Node::recreate(node, convOpCode);
+      node->setAndIncChild(0, childNode);
+      node->setNumChildren(1);
+      }
+
+   if (TR::Options::getVerboseOption(TR_VerboseVectorAPI))
+      {
+      TR_VerboseLog::writeLine(TR_Vlog_VECTOR_API, "Vectorized using vgetelem%s in %s at %s %s",
+                               TR::DataType::getName(vectorType), comp->signature(),
+                               comp->getHotnessName(comp->getMethodHotness()), comp->isDLT() ? "DLT" : "");
+      }
+
+   return node;
+   }
+
+TR::Node *TR_VectorAPIExpansion::insertIntrinsicHandler(TR_VectorAPIExpansion *opt, TR::TreeTop *treeTop, TR::Node *node,
+                                                        TR::DataType elementType, TR::VectorLength vectorLength, vapiObjType objectType,
+                                                        int32_t numLanes, handlerMode mode)
+   {
+   TR::Compilation *comp = opt->comp();
+   TR::DataType vectorType = TR::DataType::createVectorType(elementType, vectorLength);
+
+   if (mode == checkScalarization)
+      {
+      return NULL;
+      }
+   else if (mode == checkVectorization)
+      {
+      return isOpCodeImplemented(comp, TR::ILOpCode::createVectorOpCode(TR::vsetelem, vectorType)) ? node : NULL;
+      }
+
+   logprintf(opt->_trace, comp->log(), "insertIntrinsicHandler for node %p\n", node);
+
+   TR::Node *vectorOperand = node->getChild(3);
+   TR::Node *laneIndex = node->getChild(4);
+   TR::Node *value = node->getChild(5);
+
+   if (vectorOperand->getOpCodeValue() == TR::aload || vectorOperand->getOpCodeValue() == TR::acall)
+      vectorizeLoadOrStore(opt, vectorOperand, vectorType);
+
+   anchorOldChildren(opt, treeTop, node);
+
+   // insert intrinsic takes the raw bits of the element as Long
+   TR::Node *elementNode;
+
+   switch (elementType)
+      {
+      case TR::Int8:
+         elementNode = TR::Node::create(node, TR::l2b, 1, value);
+         break;
+      case TR::Int16:
+         elementNode = TR::Node::create(node, TR::l2s, 1, value);
+         break;
+      case TR::Int32:
+         elementNode = TR::Node::create(node, TR::l2i, 1, value);
+         break;
+      case TR::Int64:
+         elementNode = value;
+         break;
+      case TR::Float:
+         elementNode = TR::Node::create(node, TR::ibits2f, 1, TR::Node::create(node, TR::l2i, 1, value));
+         break;
+      case TR::Double:
+         elementNode = TR::Node::create(node, TR::lbits2d, 1, value);
+         break;
+      default:
+         TR_ASSERT_FATAL(false, "Wrong vector element type for insert operation\n");
+      }
+
+   TR::ILOpCodes opCode = TR::ILOpCode::createVectorOpCode(TR::vsetelem, vectorType);
+
+   TR::Node::recreate(node, opCode);
+   node->setAndIncChild(0, vectorOperand);
+   node->setAndIncChild(1, laneIndex);
+   node->setAndIncChild(2, elementNode);
+   node->setNumChildren(3);
+
+   if (TR::Options::getVerboseOption(TR_VerboseVectorAPI))
+      {
+      TR::ILOpCode ilOpCode(opCode);
+      TR_VerboseLog::writeLine(TR_Vlog_VECTOR_API, "Vectorized using %s%s in %s at %s %s", ilOpCode.getName(),
+                               TR::DataType::getName(ilOpCode.getVectorResultDataType()), comp->signature(),
+                               comp->getHotnessName(comp->getMethodHotness()), comp->isDLT() ? "DLT" : "");
+      }
+
+   return node;
+   }
+
 TR::ILOpCodes TR_VectorAPIExpansion::ILOpcodeFromVectorAPIOpcode(TR::Compilation *comp, int32_t vectorAPIOpCode,
                                                                  TR::DataType elementType, TR::VectorLength vectorLength,
                                                                  vapiObjType objectType, vapiOpCodeType opCodeType,
@@ -3280,7 +3498,12 @@ TR::ILOpCodes TR_VectorAPIExpansion::ILOpcodeFromVectorAPIOpcode(TR::Compilation
          case VECTOR_OP_CAST:
             return TR::ILOpCode::createVectorOpCode(TR::vconv, sourceVectorType, vectorType);
          case VECTOR_OP_UCAST:
-            return reportMissingOpCode(comp, vectorAPIOpCode, objectType, opCodeType, withMask);
+            // zero extension is a widening vconv followed by a vand, see transformNary()
+            if (!sourceElementType.isIntegral() || !elementType.isIntegral() ||
+                OMR::DataType::getSize(sourceElementType) >= OMR::DataType::getSize(elementType))
+               return reportMissingOpCode(comp, vectorAPIOpCode, objectType, opCodeType, withMask);
+
+            return TR::ILOpCode::createVectorOpCode(TR::vconv, sourceVectorType, vectorType);
          case VECTOR_OP_REINTERPRET:
             {
             TR::ILOpCodes opCode = TR::ILOpCode::createVectorOpCode(TR::vcast, sourceVectorType, vectorType);
@@ -3531,7 +3754,7 @@ TR::Node *TR_VectorAPIExpansion::transformNary(TR_VectorAPIExpansion *opt, TR::T
                                                handlerMode mode,
                                                TR::ILOpCodes scalarOpCode, TR::ILOpCodes vectorOpCode, int32_t firstOperand,
                                                int32_t numOperands, vapiOpCodeType opCodeType,
-                                               bool transformROR)
+                                               bool transformROR, bool zeroExtend)
    {
    TR::Compilation *comp = opt->comp();
 
@@ -3649,6 +3872,38 @@ TR::Node *TR_VectorAPIExpansion::transformNary(TR_VectorAPIExpansion *opt, TR::T
          node->setAndIncChild(0, childNode);
          node->setNumChildren(1);
          }
+      else if (zeroExtend)
+         {
+         // vconv sign extends the lanes, so clear the bits above the source element
+         TR::DataType resultVectorType = TR::ILOpCode(vectorOpCode).getVectorResultDataType();
+         TR::DataType resultElementType = resultVectorType.getVectorElementType();
+         int64_t laneMask = (((int64_t)1) << (OMR::DataType::getSize(elementType) * 8)) - 1;
+         TR::Node *laneMaskNode = NULL;
+
+         switch (resultElementType)
+            {
+            case TR::Int16:
+               laneMaskNode = TR::Node::sconst(node, (int16_t)laneMask);
+               break;
+            case TR::Int32:
+               laneMaskNode = TR::Node::iconst(node, (int32_t)laneMask);
+               break;
+            case TR::Int64:
+               laneMaskNode = TR::Node::lconst(node, laneMask);
+               break;
+            default:
+               TR_ASSERT_FATAL(false, "Wrong vector element type for unsigned cast\n");
+            }
+
+         TR::Node *splatsNode = TR::Node::create(node, TR::ILOpCode::createVectorOpCode(TR::vsplats, resultVectorType), 1);
+         splatsNode->setAndIncChild(0, laneMaskNode);
+
+         TR::Node::recreate(node, TR::ILOpCode::createVectorOpCode(TR::vand, resultVectorType));
+         vectorNode = TR::Node::create(node, vectorOpCode, numOperands);
+         node->setAndIncChild(0, vectorNode);
+         node->setAndIncChild(1, splatsNode);
+         node->setNumChildren(2);
+         }
       else
          {
          TR::Node::recreate(node, vectorOpCode);
@@ -3752,11 +4007,11 @@ TR_VectorAPIExpansion::methodTable[] =
    {compareIntrinsicHandler,              Mask,    1,  2, 3, 4,  5, 2,  7, {Unknown, Unknown, Unknown, ElementType, NumLanes, Vector, Vector, Mask}},   // jdk_internal_vm_vector_VectorSupport_compare
    {compressExpandOpIntrinsicHandler,     Unknown, 1,  2, 3, 4,  5, 2, -1, {Unknown, Unknown, Unknown, ElementType, NumLanes, Vector, Mask}},           // jdk_internal_vm_vector_VectorSupport_compressExpandOp
    {convertIntrinsicHandler,              Unknown,  1,  4, 5, 6,  7, 1, -1, {Unknown, Unknown, ElementType, NumLanes, Unknown, Unknown, Unknown, Vector}},   // jdk_internal_vm_vector_VectorSupport_convert
-   {unsupportedHandler,                   Invalid},  // jdk_internal_vm_vector_VectorSupport_extract
+   {extractIntrinsicHandler,              Scalar,  0, -1, 1, 2,  3, 1, -1, {Unknown, ElementType, NumLanes, Vector, Unknown, Unknown}},                // jdk_internal_vm_vector_VectorSupport_extract
    {fromBitsCoercedIntrinsicHandler,      Unknown, 0, -1, 1, 2, -1, 0, -1, {Unknown, ElementType, NumLanes, Unknown, Unknown, Unknown}},                // jdk_internal_vm_vector_VectorSupport_fromBitsCoerced
    {unsupportedHandler,                   Invalid},  // jdk_internal_vm_vector_VectorSupport_indexPartiallyInUpperRange
    {unsupportedHandler,                   Invalid},  // jdk_internal_vm_vector_VectorSupport_indexVector
-   {unsupportedHandler,                   Invalid},  // jdk_internal_vm_vector_VectorSupport_insert
+   {insertIntrinsicHandler,               Vector,  0, -1, 1, 2,  3, 1, -1, {Unknown, ElementType, NumLanes, Vector, Unknown, Unknown, Unknown}},       // jdk_internal_vm_vector_VectorSupport_insert
    {unsupportedHandler,                   Invalid},  // jdk_internal_vm_vector_VectorSupport_loadMasked
    {unsupportedHandler,                   Invalid},  // jdk_internal_vm_vector_VectorSupport_loadWithMap
    {maskReductionCoercedIntrinsicHandler, Scalar,  1, -1, 2, 3,  4, 1, -1, {Unknown, Unknown, ElementType, NumLanes, Mask}},                            // jdk_internal_vm_vector_VectorSupport_maskReductionCoerced
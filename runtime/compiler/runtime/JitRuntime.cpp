@@ -239,6 +239,15 @@ J9::Recompilation::sampleMethod(
       }
    }
 
+// Indexed by TR_JitBodyInvalidations::Reason
+static const char * const jitBodyInvalidationReasonNames[] =
+   {
+   "HCR",
+   "Preexistence",
+   "PostRestoreExclude",
+   "Unloading",
+   };
+
 void J9::Recompilation::invalidateMethodBody(
    void *startPC, TR_FrontEnd *fe, TR_JitBodyInvalidations::Reason reason)
    {
@@ -248,6 +257,17 @@ void J9::Recompilation::invalidateMethodBody(
    TR_PersistentJittedBodyInfo *bodyInfo = getJittedBodyInfoFromPC(startPC);
    bodyInfo->setIsInvalidated(reason); // bodyInfo must exist
 
+   J9JavaVM *javaVM = ((TR_J9VMBase *)fe)->getJ9JITConfig()->javaVM;
+   if (J9_EVENT_IS_HOOKED(javaVM->hookInterface, J9HOOK_VM_JIT_METHOD_INVALIDATED))
+      {
+      J9VMThread *vmThread = javaVM->internalVMFunctions->currentVMThread(javaVM);
+      if (vmThread)
+         {
+         J9Method *method = (J9Method *)bodyInfo->getMethodInfo()->getMethodInfo();
+         ALWAYS_TRIGGER_J9HOOK_VM_JIT_METHOD_INVALIDATED(javaVM->hookInterface, vmThread, method, startPC, jitBodyInvalidationReasonNames[reason]);
+         }
+      }
+
    // If the compilation has been attempted before then we are fine (in case of success,
    // each caller is being re-directed to the new method -- in case if failure, all callers
    // are being sent to the interpreter)
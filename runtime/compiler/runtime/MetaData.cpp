@@ -70,6 +70,7 @@
 #include "control/CompilationRuntime.hpp"
 #include "runtime/HWProfiler.hpp"
 #include "omrformatconsts.h"
+#include "ras/DebugCounter.hpp"
 #include "ras/Logger.hpp"
 
 typedef std::set<TR_GCStackMap*, std::less<TR_GCStackMap*>, TR::typed_allocator<TR_GCStackMap*, TR::Region&>> GCStackMapSet;
@@ -1514,9 +1515,22 @@ createMethodMetaData(
    data->startColdPC = (UDATA)comp->cg()->getColdCodeStart();
 
    if (data->startColdPC)
+      {
       data->endWarmPC = (UDATA)comp->cg()->getWarmCodeEnd();
+
+      // Report how much code was moved out of the warm region so the i-cache
+      // footprint of hot/cold splitting can be measured with staticDebugCounters
+      TR::DebugCounter::incStaticDebugCounter(comp,
+         TR::DebugCounter::debugCounterName(comp, "codeFootprint/warm/(%s)", comp->getHotnessName(comp->getMethodHotness())),
+         (int32_t)(data->endWarmPC - data->startPC));
+      TR::DebugCounter::incStaticDebugCounter(comp,
+         TR::DebugCounter::debugCounterName(comp, "codeFootprint/cold/(%s)", comp->getHotnessName(comp->getMethodHotness())),
+         (int32_t)(data->endPC - data->startColdPC));
+      }
    else
+      {
       data->endWarmPC = data->endPC;
+      }
 
    data->codeCacheAlloc = (UDATA)comp->cg()->getBinaryBufferStart();
 
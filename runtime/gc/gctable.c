@@ -53,6 +53,7 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9gc_pool_memoryusage,
 	j9gc_get_gc_action,
 	j9gc_get_gc_cause,
+	j9gc_get_gc_phase_info,
 	j9gc_get_private_hook_interface,
 	gcStartupHeapManagement,
 	gcShutdownHeapManagement,
@@ -217,6 +218,7 @@ J9MemoryManagerFunctions MemoryManagerFunctions = {
 	j9mm_iterate_roots,
 	j9mm_iterate_regions,
 	j9mm_iterate_region_objects,
+	j9mm_iterate_region_objects_by_id,
 	j9mm_find_region_for_pointer,
 	j9mm_iterate_object_slots,
 	j9mm_initialize_object_descriptor,
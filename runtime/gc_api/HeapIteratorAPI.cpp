@@ -283,6 +283,34 @@ j9mm_iterate_region_objects(
 	return returnCode;
 }
 
+/**
+ * Walk all objects for the region with the given id, call user provided function.
+ *
+ * Unlike the descriptor passed to j9mm_iterate_region_objects(), the id may be saved from a region
+ * descriptor and used after j9mm_iterate_regions() returns, provided the heap has not changed since.
+ *
+ * @param regionId The id of a region descriptor returned by j9mm_iterate_regions()
+ * @param flags The flags describing the walk (0 or j9mm_iterator_flag_include_holes)
+ * @param func The function to call on each object descriptor.
+ * @param userData Pointer to storage for userData.
+ */
+jvmtiIterationControl
+j9mm_iterate_region_objects_by_id(
+	J9JavaVM *vm,
+	J9PortLibrary *portLibrary,
+	UDATA regionId,
+	UDATA flags,
+	jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData),
+	void *userData)
+{
+	MM_GCExtensionsBase *extensions = MM_GCExtensionsBase::getExtensions(vm->omrVM);
+	J9MM_IterateRegionDescriptorPrivate regionDescription;
+
+	regionDescription.type = j9mm_region_type_region;
+	initializeRegionDescriptor(extensions, &regionDescription.descriptor, (MM_HeapRegionDescriptor *)regionId);
+	return j9mm_iterate_region_objects(vm, portLibrary, &(regionDescription.descriptor), flags, func, userData);
+}
+
 jvmtiIterationControl static
 iterateObjectSlotDo(
 		J9JavaVM *javaVM,
@@ -29,6 +29,7 @@
 #include "ObjectAccessBarrier.hpp"
 
 #include "j9protos.h"
+#include "jnichk_api.h"
 #include "ModronAssertions.h"
 #include "rommeth.h"
 
@@ -109,6 +110,19 @@ MM_ObjectAccessBarrier::tearDown(MM_EnvironmentBase *env)
 {
 }
 
+void
+MM_ObjectAccessBarrier::reportCriticalCopy(J9VMThread *vmThread, const char *function, J9Object *object, uintptr_t sizeInBytes)
+{
+	J9JavaVM *javaVM = vmThread->javaVM;
+
+	MM_AtomicOperations::add(&javaVM->jniCriticalCopies, 1);
+	MM_AtomicOperations::add(&javaVM->jniCriticalCopyBytes, sizeInBytes);
+	if (J9_ARE_ANY_BITS_SET(javaVM->checkJNIData.options, JNICHK_VERBOSE)) {
+		PORT_ACCESS_FROM_JAVAVM(javaVM);
+		j9tty_printf(PORTLIB, "<JNI %s: copied %zu bytes of %p>\n", function, (size_t)sizeInBytes, object);
+	}
+}
+
 void
 MM_ObjectAccessBarrier::copyArrayCritical(J9VMThread *vmThread, void **data, J9IndexableObject *arrayObject, jboolean *isCopy)
 {
@@ -124,6 +138,7 @@ MM_ObjectAccessBarrier::copyArrayCritical(J9VMThread *vmThread, void **data, J9I
 	} else {
 		indexableObjectModel->memcpyFromArray(*data, arrayObject, 0, sizeInElements);
 		vmThread->jniCriticalCopyCount += 1;
+		reportCriticalCopy(vmThread, "GetPrimitiveArrayCritical", (J9Object *)arrayObject, sizeInBytes);
 		if (NULL != isCopy) {
 			*isCopy = JNI_TRUE;
 		}
@@ -185,6 +200,7 @@ MM_ObjectAccessBarrier::copyStringCritical(J9VMThread *vmThread, jchar **data,
 		}
 		*data = copyArr;
 		vmThread->jniCriticalCopyCount += 1;
+		reportCriticalCopy(vmThread, "GetStringCritical", stringObject, sizeInBytes);
 	}
 }
 
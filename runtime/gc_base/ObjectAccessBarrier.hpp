@@ -84,6 +84,17 @@ protected:
 	virtual bool initialize(MM_EnvironmentBase *env);
 	virtual void tearDown(MM_EnvironmentBase *env);
 
+	/**
+	 * Record that a JNI critical function had to copy the data of an object
+	 * instead of returning a direct pointer, and report it if -verbose:jni is enabled.
+	 *
+	 * @param vmThread[in] the current J9VMThread.
+	 * @param function[in] the name of the JNI function.
+	 * @param object[in] the array or String being accessed.
+	 * @param sizeInBytes[in] the number of bytes copied.
+	 */
+	void reportCriticalCopy(J9VMThread *vmThread, const char *function, J9Object *object, uintptr_t sizeInBytes);
+
 	/**
 	 * Copy array data to an allocated native memory.
 	 *
@@ -579,6 +590,12 @@ public:
 	 * Implementation of the JNI GetPrimitiveArrayCritical API.
 	 * See the JNI spec for full details.
 	 *
+	 * A pointer into the heap is always returned for arrays whose data is contiguous, unless
+	 * copying is forced by -XX:+AlwaysCopyJNICritical (-Xcheck:jni:alwayscopy does not reach
+	 * this function, it calls GetPrimitiveArrayElements instead). Entering the critical region only updates
+	 * the calling thread's flags and critical count; an exclusive VM access request waits for
+	 * the thread to leave its outermost critical region. Copies are counted by reportCriticalCopy().
+	 *
 	 * @param vmThread		current J9VMThread (aka JNIEnv)
 	 * @param array			a JNI reference to the primitive array
 	 * @param isCopy		NULL, or a pointer to a jboolean that will set to JNI_TRUE if a copy is made
@@ -599,6 +616,8 @@ public:
 	 * Implementation of the JNI GetStringCritical API.
 	 * See the JNI spec for full details.
 	 *
+	 * Compressed Strings are always copied, as their data must be widened to jchar.
+	 *
 	 * @param vmThread		current J9VMThread (aka JNIEnv)
 	 * @param str			a JNI reference to the java/lang/String object
 	 * @param isCopy		NULL, or a pointer to a jboolean that will set to JNI_TRUE if a copy is made
@@ -54,6 +54,9 @@
 #include "VMInterface.hpp"
 #include "VMThreadListIterator.hpp"
 #include "VMAccess.hpp"
+#if defined(J9VM_GC_VLHGC)
+#include "CycleStateVLHGC.hpp"
+#endif /* defined(J9VM_GC_VLHGC) */
 
 #if defined(J9VM_OPT_CRIU_SUPPORT)
 #include "Configuration.hpp"
@@ -791,6 +794,106 @@ j9gc_get_gc_cause(OMR_VMThread *omrVMthread)
 	}
 	return ret;
 }
+
+/**
+ * Convert the interval between two hires clock samples to microseconds.
+ * Returns 0 if the phase did not run or the clock went backwards.
+ */
+static U_64
+getPhaseTimeInMicroSeconds(MM_EnvironmentBase *env, U_64 startTime, U_64 endTime)
+{
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+	U_64 result = 0;
+	if ((0 != startTime) && (endTime > startTime)) {
+		result = j9time_hires_delta(startTime, endTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
+	}
+	return result;
+}
+
+static void
+addReferenceStats(J9GarbageCollectionPhaseInfo *phaseInfo, MM_ReferenceStats *referenceStats)
+{
+	phaseInfo->referencesCleared += referenceStats->_cleared;
+	phaseInfo->referencesEnqueued += referenceStats->_enqueued;
+}
+
+/**
+ * retrieve the per-phase statistics of the current gc, only be called during gc-end callback.
+ * The values are taken from the same stats structures that verbose GC reports. Phases which
+ * are not part of the collection, or not tracked by the collector (for example the increments
+ * of a metronome cycle), are reported as 0. bytesFreed is left for the caller to fill in.
+ */
+void
+j9gc_get_gc_phase_info(OMR_VMThread *omrVMthread, UDATA gcID, J9GarbageCollectionPhaseInfo *phaseInfo)
+{
+	MM_EnvironmentBase *env = MM_EnvironmentBase::getEnvironment(omrVMthread);
+	MM_GCExtensions *extensions = MM_GCExtensions::getExtensions(env);
+	bool isLocal = (1 == j9gc_is_local_collector((J9JavaVM *)env->getLanguageVM(), gcID));
+	PORT_ACCESS_FROM_ENVIRONMENT(env);
+
+	memset(phaseInfo, 0, sizeof(*phaseInfo));
+	phaseInfo->workerThreads = extensions->dispatcher->activeThreadCount();
+
+#if defined(J9VM_GC_VLHGC)
+	if (extensions->isVLHGC()) {
+		MM_VLHGCIncrementStats *incrementStats = &static_cast<MM_CycleStateVLHGC *>(env->_cycleState)->_vlhgcIncrementStats;
+		MM_CopyForwardStats *copyForwardStats = &incrementStats->_copyForwardStats;
+		MM_MarkVLHGCStats *markStats = &incrementStats->_markStats;
+
+		phaseInfo->copyTime = getPhaseTimeInMicroSeconds(env, copyForwardStats->_startTime, copyForwardStats->_endTime);
+		phaseInfo->markTime = getPhaseTimeInMicroSeconds(env, markStats->_startTime, markStats->_endTime);
+		phaseInfo->sweepTime = getPhaseTimeInMicroSeconds(env, incrementStats->_sweepStats._startTime, incrementStats->_sweepStats._endTime);
+#if defined(J9VM_GC_MODRON_COMPACTION)
+		phaseInfo->compactTime = getPhaseTimeInMicroSeconds(env, incrementStats->_compactStats._startTime, incrementStats->_compactStats._endTime);
+		phaseInfo->bytesCompacted = incrementStats->_compactStats._movedBytes;
+#endif /* J9VM_GC_MODRON_COMPACTION */
+		phaseInfo->classUnloadTime = getPhaseTimeInMicroSeconds(env, incrementStats->_classUnloadStats._startTime, incrementStats->_classUnloadStats._endTime);
+		phaseInfo->stallTime = j9time_hires_delta(0, incrementStats->getTotalStallTime(), J9PORT_TIME_DELTA_IN_MICROSECONDS);
+		phaseInfo->bytesCopied = copyForwardStats->_copyBytesEden + copyForwardStats->_copyBytesNonEden;
+
+		addReferenceStats(phaseInfo, &copyForwardStats->_softReferenceStats);
+		addReferenceStats(phaseInfo, &copyForwardStats->_weakReferenceStats);
+		addReferenceStats(phaseInfo, &copyForwardStats->_phantomReferenceStats);
+		addReferenceStats(phaseInfo, &markStats->_softReferenceStats);
+		addReferenceStats(phaseInfo, &markStats->_weakReferenceStats);
+		addReferenceStats(phaseInfo, &markStats->_phantomReferenceStats);
+	} else
+#endif /* defined(J9VM_GC_VLHGC) */
+#if defined(J9VM_GC_MODRON_SCAVENGER)
+	if (isLocal && extensions->scavengerEnabled) {
+		MM_ScavengerStats *scavengerStats = &extensions->scavengerStats;
+		MM_ScavengerJavaStats *scavengerJavaStats = &extensions->scavengerJavaStats;
+
+		phaseInfo->copyTime = getPhaseTimeInMicroSeconds(env, scavengerStats->_startTime, scavengerStats->_endTime);
+		phaseInfo->stallTime = j9time_hires_delta(0, scavengerStats->_workStallTime + scavengerStats->_completeStallTime + scavengerStats->_syncStallTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
+		phaseInfo->bytesCopied = scavengerStats->_flipBytes + scavengerStats->_tenureAggregateBytes;
+		phaseInfo->bytesTenured = scavengerStats->_tenureAggregateBytes;
+
+		addReferenceStats(phaseInfo, &scavengerJavaStats->_softReferenceStats);
+		addReferenceStats(phaseInfo, &scavengerJavaStats->_weakReferenceStats);
+		addReferenceStats(phaseInfo, &scavengerJavaStats->_phantomReferenceStats);
+	} else
+#endif /* defined(J9VM_GC_MODRON_SCAVENGER) */
+	if (!isLocal && extensions->isStandardGC()) {
+		MM_GlobalGCStats *globalGCStats = &extensions->globalGCStats;
+		MM_MarkJavaStats *markJavaStats = &extensions->markJavaStats;
+
+		phaseInfo->markTime = getPhaseTimeInMicroSeconds(env, globalGCStats->markStats._startTime, globalGCStats->markStats._endTime);
+		phaseInfo->sweepTime = getPhaseTimeInMicroSeconds(env, globalGCStats->sweepStats._startTime, globalGCStats->sweepStats._endTime);
+		phaseInfo->stallTime = j9time_hires_delta(0, globalGCStats->markStats._syncStallTime, J9PORT_TIME_DELTA_IN_MICROSECONDS);
+#if defined(J9VM_GC_MODRON_COMPACTION)
+		phaseInfo->compactTime = getPhaseTimeInMicroSeconds(env, globalGCStats->compactStats._startTime, globalGCStats->compactStats._endTime);
+		phaseInfo->bytesCompacted = globalGCStats->compactStats._movedBytes;
+#endif /* J9VM_GC_MODRON_COMPACTION */
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+		phaseInfo->classUnloadTime = getPhaseTimeInMicroSeconds(env, globalGCStats->classUnloadStats._startTime, globalGCStats->classUnloadStats._endTime);
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+
+		addReferenceStats(phaseInfo, &markJavaStats->_softReferenceStats);
+		addReferenceStats(phaseInfo, &markJavaStats->_weakReferenceStats);
+		addReferenceStats(phaseInfo, &markJavaStats->_phantomReferenceStats);
+	}
+}
 /* -- new APIs for providing information about supported memorypools and garbage collectors by current jvm  -- end */
 
 /**
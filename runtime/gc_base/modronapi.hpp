@@ -79,6 +79,7 @@ UDATA j9gc_pool_maxmemory(J9JavaVM *javaVM, UDATA poolID);
 UDATA j9gc_pool_memoryusage(J9JavaVM *javaVM, UDATA poolID, UDATA *free, UDATA *total);
 const char *j9gc_get_gc_action(J9JavaVM *javaVM, UDATA gcID);
 const char *j9gc_get_gc_cause(OMR_VMThread *omrVMthread);
+void j9gc_get_gc_phase_info(OMR_VMThread *omrVMthread, UDATA gcID, J9GarbageCollectionPhaseInfo *phaseInfo);
 
 UDATA j9gc_get_overflow_safe_alloc_size(J9JavaVM *javaVM);
 UDATA j9gc_set_softmx(J9JavaVM *javaVM, UDATA newsoftMx);
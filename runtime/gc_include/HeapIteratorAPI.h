@@ -239,6 +239,21 @@ j9mm_iterate_regions(J9JavaVM *vm, J9PortLibrary *portLibrary, J9MM_IterateSpace
 jvmtiIterationControl
 j9mm_iterate_region_objects(J9JavaVM *vm, J9PortLibrary *portLibrary, J9MM_IterateRegionDescriptor *region, UDATA flags, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData), void *userData);
 
+/**
+ * Walk all objects for the region with the given id, call user provided function.
+ *
+ * The caller must have exclusive VM access. Use this rather than j9mm_iterate_region_objects()
+ * to walk regions after j9mm_iterate_regions() returns: the region descriptors passed to its
+ * callback are only valid during the callback, and copies of them can not be walked.
+ *
+ * @param regionId The id of a region descriptor returned by j9mm_iterate_regions()
+ * @param flags The flags describing the walk (0 or j9mm_iterator_flag_include_holes)
+ * @param func The function to call on each object descriptor.
+ * @param userData Pointer to storage for userData.
+ */
+jvmtiIterationControl
+j9mm_iterate_region_objects_by_id(J9JavaVM *vm, J9PortLibrary *portLibrary, UDATA regionId, UDATA flags, jvmtiIterationControl (*func)(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objectDesc, void *userData), void *userData);
+
 /**
  * Walk all object slots for the given object, call user provided function.
  * @param object The descriptor for the object that should be walked
@@ -79,6 +79,19 @@ Java_java_lang_ClassLoader_defineClassImpl(JNIEnv *env, jobject receiver, jstrin
 	return result;
 }
 
+void JNICALL
+Java_java_lang_ClassLoader_defineClassesImpl(JNIEnv *env, jobject receiver, jobjectArray classNames, jobjectArray classReps, jobject protectionDomain, jobjectArray classes)
+{
+	UDATA options = 0;
+
+	if (NULL == protectionDomain) {
+		/* See Java_java_lang_ClassLoader_defineClassImpl(). */
+		options |= J9_FINDCLASS_FLAG_UNSAFE;
+	}
+
+	defineClassesCommon(env, receiver, classNames, classReps, protectionDomain, options, classes);
+}
+
 #if JAVA_SPEC_VERSION >= 15
 jclass JNICALL
 Java_java_lang_ClassLoader_defineClassImpl1(JNIEnv *env, jobject receiver, jclass hostClass, jstring className, jbyteArray classRep, jobject protectionDomain, jboolean init, jint flags, jobject classData)
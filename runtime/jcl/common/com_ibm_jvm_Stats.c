@@ -35,6 +35,8 @@
  * 	 total physical memory,
  *   system load average
  *   cpuTime
+ *   JNI critical region copies and stalls
+ *   stack trace interning hits and memory saved
  *
  * This function avoids any allocation of a new object. Instead it sets the field
  * variables in the class Stats.java
@@ -105,4 +107,31 @@ Java_com_ibm_jvm_Stats_getStats(JNIEnv *env, jobject obj)
 	if (!((*env)->ExceptionCheck(env))) {
 		(*env)->CallVoidMethod(env, obj, methodID, committed, used, max, free, tot, sysLoadAvg, cpuTime, softmx);
 	}
+
+	methodID = JCL_CACHE_GET(env, MID_com_ibm_jvm_Stats_setJNICriticalFields);
+	if ((NULL == methodID) && !((*env)->ExceptionCheck(env))) {
+		methodID = (*env)->GetMethodID(env, setFieldsClass, "setJNICriticalFields", "(JJJJ)V");
+		JCL_CACHE_SET(env, MID_com_ibm_jvm_Stats_setJNICriticalFields, methodID);
+	}
+
+	if (!((*env)->ExceptionCheck(env))) {
+		(*env)->CallVoidMethod(env, obj, methodID,
+			(jlong) javaVM->jniCriticalCopies,
+			(jlong) javaVM->jniCriticalCopyBytes,
+			(jlong) javaVM->jniCriticalStalls,
+			(jlong) javaVM->jniCriticalStallTime);
+	}
+
+	methodID = JCL_CACHE_GET(env, MID_com_ibm_jvm_Stats_setStackTraceInternFields);
+	if ((NULL == methodID) && !((*env)->ExceptionCheck(env))) {
+		methodID = (*env)->GetMethodID(env, setFieldsClass, "setStackTraceInternFields", "(JJJ)V");
+		JCL_CACHE_SET(env, MID_com_ibm_jvm_Stats_setStackTraceInternFields, methodID);
+	}
+
+	if (!((*env)->ExceptionCheck(env))) {
+		(*env)->CallVoidMethod(env, obj, methodID,
+			(jlong) javaVM->stackTraceInternWalkbackHits,
+			(jlong) javaVM->stackTraceInternStackTraceHits,
+			(jlong) javaVM->stackTraceInternSavedBytes);
+	}
 }
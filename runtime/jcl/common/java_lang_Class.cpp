@@ -713,27 +713,47 @@ retry:
 				J9JNIMethodID *id = vm->reflectFunctions.idFromMethodObject(currentThread, methodObject);
 				currentMethod = id->method + 1;
 			}
+			/* Large classes are searched using the hashed name index rather than linearly. */
+			J9ReflectNameIndex *nameIndex = getReflectNameIndex(currentThread, clazz);
+			char nameBuffer[128];
+			UDATA nameLength = 0;
+			char *nameUTF8 = NULL;
+			if (NULL != nameIndex) {
+				nameUTF8 = vmFuncs->copyStringToUTF8WithMemAlloc(currentThread, nameObject, J9_STR_NONE, "", 0, nameBuffer, sizeof(nameBuffer), &nameLength);
+			}
+			bool hotSwapped = false;
 			while (currentMethod != endOfMethods) {
+				if (NULL != nameUTF8) {
+					currentMethod = findDeclaredMethodByName(nameIndex, clazz, (U_8 *)nameUTF8, nameLength, currentMethod);
+					if (NULL == currentMethod) {
+						break;
+					}
+				}
 				J9ROMMethod *romMethod = J9_ROM_METHOD_FROM_RAM_METHOD(currentMethod);
 				if (!isSpecialMethod(romMethod)) {
 					J9UTF8 *nameUTF = J9ROMMETHOD_NAME(romMethod);
 					J9UTF8 *signatureUTF = J9ROMMETHOD_SIGNATURE(romMethod);
-					if (0 != vmFuncs->compareStringToUTF8(currentThread, nameObject, FALSE, J9UTF8_DATA(nameUTF), J9UTF8_LENGTH(nameUTF))) {
+					if ((NULL != nameUTF8) || (0 != vmFuncs->compareStringToUTF8(currentThread, nameObject, FALSE, J9UTF8_DATA(nameUTF), J9UTF8_LENGTH(nameUTF)))) {
 						if (0 != compareJavaStringToPartialUTF8(currentThread, signatureObject, J9UTF8_DATA(signatureUTF), J9UTF8_LENGTH(signatureUTF))) {
 							j9object_t parameterTypesObject = NULL;
 							if (NULL != parameterTypes) {
 								parameterTypesObject = J9_JNI_UNWRAP_REFERENCE(parameterTypes);
 							}
 							resultObject = vm->reflectFunctions.createDeclaredMethodObject(currentMethod, clazz, (j9array_t)parameterTypesObject, currentThread);
-							if (vm->hotSwapCount != preCount) {
-								goto retry;
-							}
+							hotSwapped = (vm->hotSwapCount != preCount);
 							break;
 						}
 					}
 				}
 				currentMethod += 1;
 			}
+			if ((NULL != nameUTF8) && (nameBuffer != nameUTF8)) {
+				PORT_ACCESS_FROM_VMC(currentThread);
+				j9mem_free_memory(nameUTF8);
+			}
+			if (hotSwapped) {
+				goto retry;
+			}
 		}
 	}
 	jobject result = vmFuncs->j9jni_createLocalRef(env, resultObject);
@@ -46,7 +46,21 @@ Java_java_lang_J9VMInternals_getStackTrace(JNIEnv *env, jclass recv, jobject thr
 	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
 
 	vmFuncs->internalEnterVMFromJNI(currentThread);
-	j9object_t traceObject = (j9object_t)getStackTrace(currentThread, (j9object_t *)throwable, (UDATA)pruneConstructors);
+	j9object_t traceObject = NULL;
+	/* Only Throwable prunes its constructors, and it never exposes the array it caches (getStackTrace()
+	 * returns a copy), so with -XX:+InternStackTraces throwables with the same walkback can share it.
+	 */
+	bool internStackTrace = pruneConstructors
+		&& J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_INTERN_STACK_TRACES);
+	if (internStackTrace) {
+		traceObject = vmFuncs->findInternedStackTrace(currentThread, J9_JNI_UNWRAP_REFERENCE(throwable), TRUE);
+	}
+	if (NULL == traceObject) {
+		traceObject = (j9object_t)getStackTrace(currentThread, (j9object_t *)throwable, (UDATA)pruneConstructors);
+		if (internStackTrace && (NULL != traceObject) && (NULL == currentThread->currentException)) {
+			vmFuncs->internStackTrace(currentThread, J9_JNI_UNWRAP_REFERENCE(throwable), TRUE, traceObject);
+		}
+	}
 	jobject result = vmFuncs->j9jni_createLocalRef(env, traceObject);
 	vmFuncs->internalExitVMToJNI(currentThread);
 	return result;
@@ -27,9 +27,23 @@
 #include "j9jclnls.h"
 #include "j9vmnls.h"
 
+static jclass defineClassWithROMClassImage(JNIEnv *env, jobject classLoaderObject,
+	jstring className, jbyteArray classRep, jint offset, jint length, jobject protectionDomain, UDATA *options, J9Class *hostClass, J9ClassPatchMap *patchMap, BOOLEAN validateName, J9ROMClass *romClassImage);
+
 jclass 
 defineClassCommon(JNIEnv *env, jobject classLoaderObject,
 	jstring className, jbyteArray classRep, jint offset, jint length, jobject protectionDomain, UDATA *options, J9Class *hostClass, J9ClassPatchMap *patchMap, BOOLEAN validateName)
+{
+	return defineClassWithROMClassImage(env, classLoaderObject, className, classRep, offset, length, protectionDomain, options, hostClass, patchMap, validateName, NULL);
+}
+
+/*
+ * Define a class as defineClassCommon() does. If romClassImage is not NULL, it is a ROMClass
+ * built ahead of time from the same class file, which is used instead of creating one.
+ */
+static jclass
+defineClassWithROMClassImage(JNIEnv *env, jobject classLoaderObject,
+	jstring className, jbyteArray classRep, jint offset, jint length, jobject protectionDomain, UDATA *options, J9Class *hostClass, J9ClassPatchMap *patchMap, BOOLEAN validateName, J9ROMClass *romClassImage)
 {
 #ifdef J9VM_OPT_DYNAMIC_LOAD_SUPPORT
 
@@ -69,6 +83,7 @@ defineClassCommon(JNIEnv *env, jobject classLoaderObject,
 	if ((patchMap != NULL) && (patchMap->size != 0)) {
 		localBuffer.patchMap = patchMap;
 	}
+	localBuffer.romClassImage = romClassImage;
 
 	vmFuncs->internalEnterVMFromJNI(currentThread);
 	isContiguousClassBytes = J9ISCONTIGUOUSARRAY(currentThread, *(J9IndexableObject **)classRep);
@@ -305,3 +320,125 @@ done:
 	return NULL;
 #endif /* J9VM_OPT_DYNAMIC_LOAD_SUPPORT */
 }
+
+void
+defineClassesCommon(JNIEnv *env, jobject classLoaderObject,
+	jobjectArray classNames, jobjectArray classReps, jobject protectionDomain, UDATA options, jobjectArray classes)
+{
+#ifdef J9VM_OPT_DYNAMIC_LOAD_SUPPORT
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	J9TranslationBufferSet *dynFuncs = vm->dynamicLoadBuffers;
+	J9ROMClassBatchEntry *entries = NULL;
+	J9ClassLoader *classLoader = NULL;
+	jsize count = 0;
+	jsize i = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL == dynFuncs) {
+		throwNewInternalError(env, "Dynamic loader is unavailable");
+		return;
+	}
+
+	count = (*env)->GetArrayLength(env, classReps);
+	if (0 == count) {
+		return;
+	}
+	entries = (J9ROMClassBatchEntry *)j9mem_allocate_memory(count * sizeof(J9ROMClassBatchEntry), J9MEM_CATEGORY_CLASSES);
+	if (NULL == entries) {
+		vmFuncs->throwNativeOOMError(env, 0, 0);
+		return;
+	}
+	memset(entries, 0, count * sizeof(J9ROMClassBatchEntry));
+
+	/* Copy the class files so that ROMClasses can be built from them without VM access.
+	 * A class whose copy cannot be made is simply created when it is defined.
+	 */
+	for (i = 0; i < count; i++) {
+		J9ROMClassBatchEntry *entry = &entries[i];
+		jstring className = (jstring)(*env)->GetObjectArrayElement(env, classNames, i);
+		jbyteArray classRep = (jbyteArray)(*env)->GetObjectArrayElement(env, classReps, i);
+
+		if ((NULL != className) && (NULL != classRep)) {
+			jsize length = (*env)->GetArrayLength(env, classRep);
+			U_8 *classData = (U_8 *)j9mem_allocate_memory(length + 1, J9MEM_CATEGORY_CLASSES);
+
+			if (NULL != classData) {
+				(*env)->GetByteArrayRegion(env, classRep, 0, length, (jbyte *)classData);
+				vmFuncs->internalEnterVMFromJNI(currentThread);
+				entry->className = (U_8 *)vmFuncs->copyStringToUTF8WithMemAlloc(currentThread, J9_JNI_UNWRAP_REFERENCE(className),
+						J9_STR_NULL_TERMINATE_RESULT | J9_STR_XLAT, "", 0, NULL, 0, &entry->classNameLength);
+				vmFuncs->internalExitVMToJNI(currentThread);
+				if (NULL == entry->className) {
+					j9mem_free_memory(classData);
+				} else {
+					entry->classData = classData;
+					entry->classDataLength = (UDATA)length;
+				}
+			}
+		}
+		(*env)->DeleteLocalRef(env, className);
+		(*env)->DeleteLocalRef(env, classRep);
+	}
+
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	classLoader = J9VMJAVALANGCLASSLOADER_VMREF(currentThread, J9_JNI_UNWRAP_REFERENCE(classLoaderObject));
+	if (NULL == classLoader) {
+		classLoader = vmFuncs->internalAllocateClassLoader(vm, J9_JNI_UNWRAP_REFERENCE(classLoaderObject));
+	}
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	if (NULL != classLoader) {
+		dynFuncs->buildROMClassImagesFunction(currentThread, classLoader, entries, (UDATA)count, options);
+	} else {
+		/* Defining the first class reports the failure. */
+		(*env)->ExceptionClear(env);
+	}
+
+	/* Define the classes in order, stopping at the first failure. */
+	for (i = 0; i < count; i++) {
+		jstring className = (jstring)(*env)->GetObjectArrayElement(env, classNames, i);
+		jbyteArray classRep = (jbyteArray)(*env)->GetObjectArrayElement(env, classReps, i);
+		UDATA classOptions = options;
+		jclass clazz = NULL;
+		BOOLEAN failed = FALSE;
+
+		if (NULL == classRep) {
+			throwNewNullPointerException(env, NULL);
+			failed = TRUE;
+		} else {
+			clazz = defineClassWithROMClassImage(env, classLoaderObject, className, classRep, 0, (*env)->GetArrayLength(env, classRep),
+					protectionDomain, &classOptions, NULL, NULL, TRUE, entries[i].romClassImage);
+			if (J9_ARE_ANY_BITS_SET(classOptions, J9_FINDCLASS_FLAG_NAME_IS_INVALID) && (NULL == clazz) && (NULL == currentThread->currentException)) {
+				/* The class is not exempt from name validation, see Java_java_lang_ClassLoader_defineClassImpl(). */
+				vmFuncs->internalEnterVMFromJNI(currentThread);
+				vmFuncs->setCurrentException(currentThread, J9VMCONSTANTPOOL_JAVALANGNOCLASSDEFFOUNDERROR, (UDATA *)J9_JNI_UNWRAP_REFERENCE(className));
+				vmFuncs->internalExitVMToJNI(currentThread);
+			}
+			if ((*env)->ExceptionCheck(env)) {
+				failed = TRUE;
+			} else {
+				(*env)->SetObjectArrayElement(env, classes, i, clazz);
+			}
+		}
+		/* The loop may define thousands of classes, so release the local refs on every path. */
+		(*env)->DeleteLocalRef(env, clazz);
+		(*env)->DeleteLocalRef(env, className);
+		(*env)->DeleteLocalRef(env, classRep);
+		if (failed) {
+			break;
+		}
+	}
+
+	for (i = 0; i < count; i++) {
+		j9mem_free_memory(entries[i].className);
+		j9mem_free_memory(entries[i].classData);
+		j9mem_free_memory(entries[i].romClassImage);
+	}
+	j9mem_free_memory(entries);
+
+#else /* J9VM_OPT_DYNAMIC_LOAD_SUPPORT */
+	throwNewInternalError(env, "Dynamic loading not supported");
+#endif /* J9VM_OPT_DYNAMIC_LOAD_SUPPORT */
+}
@@ -77,11 +77,15 @@ typedef struct JniIDCache {
 	jclass CLS_com_ibm_lang_management_MemoryUsage;
 	jmethodID MID_com_ibm_lang_management_MemoryUsage_updateValues;
 
+	jmethodID MID_com_ibm_lang_management_OperatingSystemMetrics_updateValues;
+
 	jclass CLS_java_com_ibm_virtualization_management_GuestOSProcessorUsage;
 	jmethodID MID_java_com_ibm_virtualization_management_GuestOSProcessorUsage_updateValues;
 	jclass CLS_java_com_ibm_virtualization_management_GuestOSMemoryUsage;
 	jmethodID MID_java_com_ibm_virtualization_management_GuestOSMemoryUsage_updateValues;
 	jmethodID MID_com_ibm_jvm_Stats_setFields;
+	jmethodID MID_com_ibm_jvm_Stats_setJNICriticalFields;
+	jmethodID MID_com_ibm_jvm_Stats_setStackTraceInternFields;
 
 	jclass CLS_java_lang_AnonymousClassLoader;
 	jmethodID MID_java_lang_AnonymousClassLoader_init;
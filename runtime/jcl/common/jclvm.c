@@ -55,15 +55,45 @@ typedef struct AllInstancesData {
 typedef struct J9HeapStatisticsTableEntry {
 	J9Class *clazz; /* hash table key */
 	UDATA objectCount; /* number of instances of the class */
-	UDATA objectSize;
-	UDATA aggregateSize;
+	UDATA aggregateSize; /* total size of the instances, in bytes */
 } J9HeapStatisticsTableEntry;
 
+/* The maximum number of threads, including the caller, walking heap regions for class statistics. */
+#define HEAP_STATISTICS_MAX_THREADS 8
+
+struct J9HeapStatisticsWalk;
+
+typedef struct J9HeapStatisticsWorker {
+	struct J9HeapStatisticsWalk *walk;
+	J9HashTable *hashTable; /* statistics for the regions walked by this worker */
+	J9HeapStatisticsTableEntry *lastEntry; /* entry for the class of the previous object */
+	BOOLEAN failed;
+} J9HeapStatisticsWorker;
+
+typedef struct J9HeapStatisticsWalk {
+	J9JavaVM *vm;
+	omrthread_monitor_t mutex;
+	UDATA *regionIds; /* ids of the region descriptors, NULL while counting them */
+	UDATA regionCapacity; /* number of ids regionIds can hold */
+	UDATA regionCount; /* number of regions recorded or counted */
+	UDATA nextRegion; /* index of the first unclaimed region */
+	UDATA activeThreads;
+	J9HeapStatisticsWorker workers[HEAP_STATISTICS_MAX_THREADS];
+} J9HeapStatisticsWalk;
+
 static UDATA hasConstructor(J9VMThread *vmThread, J9StackWalkState *state);
 static jvmtiIterationControl collectInstances(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objDesc, void *state);
 static int hasActiveConstructor(J9VMThread *vmThread, J9Class *clazz);
 static UDATA allInstances (JNIEnv * env, jclass clazz, jobjectArray target);
 static J9HashTable *collectHeapStatistics(J9VMThread *vmThread);
+static J9HashTable *newHeapStatisticsTable(J9JavaVM *vm);
+static BOOLEAN mergeHeapStatistics(J9HashTable *target, J9HashTable *source);
+static void walkHeapStatisticsRegions(J9HeapStatisticsWorker *worker);
+static UDATA claimHeapStatisticsRegion(J9HeapStatisticsWalk *walk);
+static int J9THREAD_PROC heapStatisticsThreadProc(void *entryArg);
+static jvmtiIterationControl heapStatisticsIterateHeap(J9JavaVM *vm, J9MM_IterateHeapDescriptor *heapDesc, void *state);
+static jvmtiIterationControl heapStatisticsIterateSpace(J9JavaVM *vm, J9MM_IterateSpaceDescriptor *spaceDesc, void *state);
+static jvmtiIterationControl heapStatisticsCollectRegion(J9JavaVM *vm, J9MM_IterateRegionDescriptor *regionDesc, void *state);
 static jvmtiIterationControl updateHeapStatistics(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objDesc, void *state);
 static UDATA heapStatisticsHashEqualFn(void *leftKey, void *rightKey, void *userData);
 static UDATA heapStatisticsHashFn(void *key, void *userData);
@@ -192,7 +222,6 @@ Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsI
 		J9HeapStatisticsTableEntry *entry = (J9HeapStatisticsTableEntry *) hashTableStartDo(statsTable, &hashTableState);
 		/* build a list of pointers to the hash table entries */
 		while (NULL != entry) {
-			entry->aggregateSize = entry->objectSize * entry->objectCount;
 			statsArray[cursor] = entry;
 			cursor += 1;
 			entry = (J9HeapStatisticsTableEntry *) hashTableNextDo(&hashTableState);
@@ -475,10 +504,9 @@ hasConstructor(J9VMThread *vmThread, J9StackWalkState *state)
 }
 
 static J9HashTable *
-collectHeapStatistics(J9VMThread *vmThread)
+newHeapStatisticsTable(J9JavaVM *vm)
 {
-	J9JavaVM *vm = vmThread->javaVM;
-	J9HashTable *hashTable = hashTableNew(
+	return hashTableNew(
 			OMRPORT_FROM_J9PORT(vm->portLibrary),
 			J9_GET_CALLSITE(),
 			0, /* let the system choose the initial size of table */
@@ -491,43 +519,247 @@ collectHeapStatistics(J9VMThread *vmThread)
 			NULL,
 			vm
 	);
+}
 
-	if (NULL != hashTable) {
-		if (vm->memoryManagerFunctions->j9mm_iterate_all_objects(vmThread->javaVM,
-				vm->portLibrary, 0, updateHeapStatistics, hashTable)
-				!= JVMTI_ITERATION_CONTINUE) {
-			hashTableFree(hashTable);
-			hashTable = NULL;
+/*
+ * Walk the heap regions in parallel, each worker accumulating statistics into its own
+ * table, then merge the tables. The caller must hold exclusive VM access, which keeps
+ * the set of regions stable. The regions are enumerated once, before the workers start,
+ * because the enumeration holds the region lock; the workers claim regions by index and
+ * only walk their objects.
+ *
+ * @return a table of J9HeapStatisticsTableEntry, or NULL if memory could not be allocated
+ */
+static J9HashTable *
+collectHeapStatistics(J9VMThread *vmThread)
+{
+	J9JavaVM *vm = vmThread->javaVM;
+	J9HashTable *hashTable = NULL;
+	J9HeapStatisticsWalk walk;
+	UDATA threadCount = 0;
+	UDATA started = 0;
+	UDATA i = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	memset(&walk, 0, sizeof(walk));
+	walk.vm = vm;
+	if (0 != omrthread_monitor_init_with_name(&walk.mutex, 0, "Heap statistics walk")) {
+		return NULL;
+	}
+
+	/* Make the heap walkable once, so the workers can walk the regions read only. */
+	vm->memoryManagerFunctions->j9gc_flush_caches_for_walk(vm);
+
+	/* Count the regions, then record their ids. The descriptors themselves are only valid
+	 * during the region callback, so the workers walk the regions by id.
+	 */
+	vm->memoryManagerFunctions->j9mm_iterate_heaps(vm, vm->portLibrary,
+			j9mm_iterator_flag_regions_read_only, heapStatisticsIterateHeap, &walk);
+	if (0 != walk.regionCount) {
+		walk.regionIds = j9mem_allocate_memory(walk.regionCount * sizeof(UDATA), J9MEM_CATEGORY_VM_JCL);
+		if (NULL == walk.regionIds) {
+			omrthread_monitor_destroy(walk.mutex);
+			return NULL;
+		}
+		walk.regionCapacity = walk.regionCount;
+		walk.regionCount = 0;
+		vm->memoryManagerFunctions->j9mm_iterate_heaps(vm, vm->portLibrary,
+				j9mm_iterator_flag_regions_read_only, heapStatisticsIterateHeap, &walk);
+	}
+
+	threadCount = j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET);
+	threadCount = OMR_MAX(1, OMR_MIN(threadCount, OMR_MIN(walk.regionCount, HEAP_STATISTICS_MAX_THREADS)));
+	for (i = 0; i < threadCount; i++) {
+		J9HeapStatisticsWorker *worker = &walk.workers[i];
+		worker->walk = &walk;
+		worker->hashTable = newHeapStatisticsTable(vm);
+		if (NULL == worker->hashTable) {
+			break;
 		}
 	}
+	threadCount = i;
+
+	if (0 != threadCount) {
+		/* The calling thread walks regions too. */
+		for (i = 1; i < threadCount; i++) {
+			omrthread_monitor_enter(walk.mutex);
+			walk.activeThreads += 1;
+			omrthread_monitor_exit(walk.mutex);
+			if (0 != omrthread_create(NULL, vm->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, heapStatisticsThreadProc, &walk.workers[i])) {
+				omrthread_monitor_enter(walk.mutex);
+				walk.activeThreads -= 1;
+				omrthread_monitor_exit(walk.mutex);
+				break;
+			}
+		}
+		for (started = i; i < threadCount; i++) {
+			hashTableFree(walk.workers[i].hashTable);
+			walk.workers[i].hashTable = NULL;
+		}
+		threadCount = started;
+
+		walkHeapStatisticsRegions(&walk.workers[0]);
+
+		omrthread_monitor_enter(walk.mutex);
+		while (0 != walk.activeThreads) {
+			omrthread_monitor_wait(walk.mutex);
+		}
+		omrthread_monitor_exit(walk.mutex);
+
+		hashTable = walk.workers[0].hashTable;
+		for (i = 0; i < threadCount; i++) {
+			if (walk.workers[i].failed) {
+				hashTable = NULL;
+			}
+		}
+		for (i = 1; i < threadCount; i++) {
+			J9HashTable *workerTable = walk.workers[i].hashTable;
+			if ((NULL != hashTable) && !mergeHeapStatistics(hashTable, workerTable)) {
+				hashTable = NULL;
+			}
+			hashTableFree(workerTable);
+		}
+		if (NULL == hashTable) {
+			hashTableFree(walk.workers[0].hashTable);
+		}
+		Trc_JCL_heapStatisticsWalk(vmThread, walk.regionCount, threadCount);
+	}
+
+	j9mem_free_memory(walk.regionIds);
+	omrthread_monitor_destroy(walk.mutex);
 	return hashTable;
 }
 
+/*
+ * Add the counts and sizes in source to those in target.
+ *
+ * @return TRUE on success, FALSE if memory could not be allocated
+ */
+static BOOLEAN
+mergeHeapStatistics(J9HashTable *target, J9HashTable *source)
+{
+	J9HashTableState hashTableState;
+	J9HeapStatisticsTableEntry *entry = (J9HeapStatisticsTableEntry *) hashTableStartDo(source, &hashTableState);
+
+	while (NULL != entry) {
+		J9HeapStatisticsTableEntry *result = hashTableFind(target, entry);
+		if (NULL == result) {
+			if (NULL == hashTableAdd(target, entry)) {
+				return FALSE;
+			}
+		} else {
+			result->objectCount += entry->objectCount;
+			result->aggregateSize += entry->aggregateSize;
+		}
+		entry = (J9HeapStatisticsTableEntry *) hashTableNextDo(&hashTableState);
+	}
+	return TRUE;
+}
+
+static int J9THREAD_PROC
+heapStatisticsThreadProc(void *entryArg)
+{
+	J9HeapStatisticsWorker *worker = (J9HeapStatisticsWorker *) entryArg;
+	J9HeapStatisticsWalk *walk = worker->walk;
+
+	walkHeapStatisticsRegions(worker);
+
+	omrthread_monitor_enter(walk->mutex);
+	walk->activeThreads -= 1;
+	omrthread_monitor_notify_all(walk->mutex);
+	omrthread_monitor_exit(walk->mutex);
+	return 0;
+}
+
+/*
+ * Walk the objects of each region claimed by this worker, until every region has been claimed.
+ */
+static void
+walkHeapStatisticsRegions(J9HeapStatisticsWorker *worker)
+{
+	J9HeapStatisticsWalk *walk = worker->walk;
+	J9JavaVM *vm = walk->vm;
+	UDATA regionIndex = claimHeapStatisticsRegion(walk);
+
+	while (regionIndex < walk->regionCount) {
+		jvmtiIterationControl status = vm->memoryManagerFunctions->j9mm_iterate_region_objects_by_id(vm, vm->portLibrary,
+				walk->regionIds[regionIndex], 0, updateHeapStatistics, worker);
+		if (JVMTI_ITERATION_CONTINUE != status) {
+			break;
+		}
+		regionIndex = claimHeapStatisticsRegion(walk);
+	}
+}
+
+static UDATA
+claimHeapStatisticsRegion(J9HeapStatisticsWalk *walk)
+{
+	UDATA regionIndex = 0;
+
+	omrthread_monitor_enter(walk->mutex);
+	regionIndex = walk->nextRegion;
+	walk->nextRegion += 1;
+	omrthread_monitor_exit(walk->mutex);
+	return regionIndex;
+}
+
+static jvmtiIterationControl
+heapStatisticsIterateHeap(J9JavaVM *vm, J9MM_IterateHeapDescriptor *heapDesc, void *state)
+{
+	return vm->memoryManagerFunctions->j9mm_iterate_spaces(vm, vm->portLibrary, heapDesc,
+			j9mm_iterator_flag_regions_read_only, heapStatisticsIterateSpace, state);
+}
+
+static jvmtiIterationControl
+heapStatisticsIterateSpace(J9JavaVM *vm, J9MM_IterateSpaceDescriptor *spaceDesc, void *state)
+{
+	return vm->memoryManagerFunctions->j9mm_iterate_regions(vm, vm->portLibrary, spaceDesc,
+			j9mm_iterator_flag_regions_read_only, heapStatisticsCollectRegion, state);
+}
+
+static jvmtiIterationControl
+heapStatisticsCollectRegion(J9JavaVM *vm, J9MM_IterateRegionDescriptor *regionDesc, void *state)
+{
+	J9HeapStatisticsWalk *walk = (J9HeapStatisticsWalk *) state;
+
+	if (NULL != walk->regionIds) {
+		if (walk->regionCount == walk->regionCapacity) {
+			return JVMTI_ITERATION_ABORT;
+		}
+		walk->regionIds[walk->regionCount] = regionDesc->id;
+	}
+	walk->regionCount += 1;
+	return JVMTI_ITERATION_CONTINUE;
+}
+
 static jvmtiIterationControl
 updateHeapStatistics(J9JavaVM *vm, J9MM_IterateObjectDescriptor *objDesc, void *state)
 {
-	J9HashTable *hashTable = (J9HashTable *) state;
-	j9object_t obj = objDesc->object;
-	J9Class *clazz = J9OBJECT_CLAZZ_VM(vm, obj);
-	struct J9HeapStatisticsTableEntry query;
-	struct J9HeapStatisticsTableEntry *result = NULL;
+	J9HeapStatisticsWorker *worker = (J9HeapStatisticsWorker *) state;
+	J9Class *clazz = J9OBJECT_CLAZZ_VM(vm, objDesc->object);
+	J9HeapStatisticsTableEntry *result = worker->lastEntry;
 	jvmtiIterationControl status = JVMTI_ITERATION_CONTINUE;
 
-	query.clazz = clazz;
-	result = hashTableFind(hashTable, &query);
-	if (NULL == result) {
-		query.objectCount = 1;
-		query.objectSize = vm->memoryManagerFunctions->j9gc_get_object_size_in_bytes(vm, obj);
-		result = hashTableAdd(hashTable, &query);
+	/* Objects of the same class are often allocated together, so try the previous class first. */
+	if ((NULL == result) || (result->clazz != clazz)) {
+		J9HeapStatisticsTableEntry query;
+
+		query.clazz = clazz;
+		result = hashTableFind(worker->hashTable, &query);
 		if (NULL == result) {
-			J9VMThread *vmThread = vm->internalVMFunctions->currentVMThread(vm);
-			Trc_JCL_heapStatisticsOOM(vmThread);
-			vm->internalVMFunctions->setNativeOutOfMemoryError(vmThread, 0, 0);
-			status = JVMTI_ITERATION_ABORT;
+			query.objectCount = 0;
+			query.aggregateSize = 0;
+			result = hashTableAdd(worker->hashTable, &query);
+			if (NULL == result) {
+				/* Reported as an OutOfMemoryError by the requesting thread. */
+				worker->failed = TRUE;
+				return JVMTI_ITERATION_ABORT;
+			}
 		}
-	} else {
-		result->objectCount += 1;
+		worker->lastEntry = result;
 	}
+	result->objectCount += 1;
+	result->aggregateSize += objDesc->size;
 	return status;
 }
 
@@ -20,9 +20,214 @@
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
 
+/**
+ * @file mgmtcompilation.c
+ * @brief Natives for com.ibm.java.lang.management.internal.CompilationMXBeanImpl and
+ * com.ibm.lang.management.internal.ExtendedCompilationMXBeanImpl
+ *
+ * @par Compilation Events
+ * While recording is enabled, the J9HOOK_VM_JIT_COMPILATION_COMPLETED and
+ * J9HOOK_VM_JIT_METHOD_INVALIDATED events, including bodies loaded from the AOT cache,
+ * are copied into a ring buffer of COMPILATION_EVENT_RECORDS records. Java drains the
+ * buffer through the CompilationMXBean. When the buffer is full the oldest record is
+ * overwritten and counted as dropped. Durations and queue times are in nanoseconds and
+ * timestamps are in milliseconds since the epoch.
+ */
+
 #include "jni.h"
 #include "j9.h"
+#include "jclprots.h"
 #include "jcl_internal.h"
+#include "mgmtinit.h"
+
+#include <string.h>
+
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+static void handlerCompilationCompleted(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void handlerMethodInvalidated(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static J9CompilationEventRecord *reserveCompilationEvent(J9JavaVM *vm, U_32 type, J9Method *method);
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+static jboolean setCompilationEventRecording(J9JavaVM *vm, jboolean enable);
+
+jint
+compilationEventsInit(J9JavaVM *vm)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+
+	if (0 != omrthread_monitor_init_with_name(&mgmt->compilationEventMutex, 0, "management compilation events")) {
+		return JNI_ERR;
+	}
+	return JNI_OK;
+}
+
+void
+compilationEventsTerminate(J9JavaVM *vm)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL != mgmt->compilationEventMutex) {
+		setCompilationEventRecording(vm, JNI_FALSE);
+		j9mem_free_memory(mgmt->compilationEvents);
+		mgmt->compilationEvents = NULL;
+		omrthread_monitor_destroy(mgmt->compilationEventMutex);
+		mgmt->compilationEventMutex = NULL;
+	}
+}
+
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+/**
+ * Reserve the next record in the ring buffer, overwriting the oldest one if the buffer is
+ * full, and fill in the type, timestamp and method name. The caller must own the
+ * compilation event mutex.
+ *
+ * @param vm[in] the J9JavaVM
+ * @param type[in] COMPILATION_EVENT_COMPILED or COMPILATION_EVENT_INVALIDATED
+ * @param method[in] the method the event is about
+ * @return the record, or NULL if recording is not enabled
+ */
+static J9CompilationEventRecord *
+reserveCompilationEvent(J9JavaVM *vm, U_32 type, J9Method *method)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9CompilationEventRecord *record = NULL;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if ((0 != mgmt->compilationEventRecordingFlag) && (NULL != mgmt->compilationEvents)) {
+		UDATA index = (mgmt->compilationEventHead + mgmt->compilationEventCount) % COMPILATION_EVENT_RECORDS;
+
+		if (COMPILATION_EVENT_RECORDS == mgmt->compilationEventCount) {
+			mgmt->compilationEventHead = (mgmt->compilationEventHead + 1) % COMPILATION_EVENT_RECORDS;
+			mgmt->compilationEventDroppedCount += 1;
+		} else {
+			mgmt->compilationEventCount += 1;
+		}
+		record = &mgmt->compilationEvents[index];
+		memset(record, 0, sizeof(*record));
+		record->type = type;
+		record->timestamp = j9time_current_time_millis();
+		record->queueTime = -1;
+
+		if (NULL != method) {
+			J9UTF8 *className = J9ROMCLASS_CLASSNAME(J9_CLASS_FROM_METHOD(method)->romClass);
+			J9ROMMethod *romMethod = J9_ROM_METHOD_FROM_RAM_METHOD(method);
+			J9UTF8 *methodName = J9ROMMETHOD_NAME(romMethod);
+			J9UTF8 *signature = J9ROMMETHOD_SIGNATURE(romMethod);
+			UDATA i = 0;
+
+			j9str_printf(PORTLIB, record->method, sizeof(record->method), "%.*s.%.*s%.*s",
+					(U_32)J9UTF8_LENGTH(className), J9UTF8_DATA(className),
+					(U_32)J9UTF8_LENGTH(methodName), J9UTF8_DATA(methodName),
+					(U_32)J9UTF8_LENGTH(signature), J9UTF8_DATA(signature));
+			/* use the Java form of the class name, the signature keeps its slashes */
+			for (i = 0; (i < J9UTF8_LENGTH(className)) && ('\0' != record->method[i]); i++) {
+				if ('/' == record->method[i]) {
+					record->method[i] = '.';
+				}
+			}
+		}
+	}
+
+	return record;
+}
+
+static void
+handlerCompilationCompleted(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMJitCompilationCompletedEvent *event = (J9VMJitCompilationCompletedEvent *)eventData;
+	J9JavaVM *vm = event->currentThread->javaVM;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9CompilationEventRecord *record = NULL;
+
+	omrthread_monitor_enter(mgmt->compilationEventMutex);
+	record = reserveCompilationEvent(vm, COMPILATION_EVENT_COMPILED, event->method);
+	if (NULL != record) {
+		record->compileID = event->compileID;
+		record->compileLevel = event->compileLevel;
+		record->isOSR = event->isOSR;
+		record->isAOT = event->isAOT;
+		record->isRemote = event->isRemote;
+		record->duration = event->duration;
+		record->queueTime = event->queueTime;
+		record->codeSize = event->codeSize;
+		record->inlinedBytes = event->inlinedBytes;
+	}
+	omrthread_monitor_exit(mgmt->compilationEventMutex);
+}
+
+/**
+ * May be called without VM access or with exclusive VM access, so only the compilation
+ * event mutex is taken. Java never holds it while acquiring VM access.
+ */
+static void
+handlerMethodInvalidated(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMJitMethodInvalidatedEvent *event = (J9VMJitMethodInvalidatedEvent *)eventData;
+	J9JavaVM *vm = (J9JavaVM *)userData;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9CompilationEventRecord *record = NULL;
+
+	omrthread_monitor_enter(mgmt->compilationEventMutex);
+	record = reserveCompilationEvent(vm, COMPILATION_EVENT_INVALIDATED, event->method);
+	if (NULL != record) {
+		record->reason = event->reason;
+	}
+	omrthread_monitor_exit(mgmt->compilationEventMutex);
+}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+/**
+ * Enable or disable recording of compilation events. Records that were already
+ * collected are kept when recording is disabled.
+ *
+ * @param vm[in] the J9JavaVM
+ * @param enable[in] JNI_TRUE to enable recording, JNI_FALSE to disable it
+ * @return JNI_FALSE if recording could not be enabled, JNI_TRUE otherwise
+ */
+static jboolean
+setCompilationEventRecording(J9JavaVM *vm, jboolean enable)
+{
+	jboolean result = JNI_TRUE;
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9HookInterface **vmHooks = vm->internalVMFunctions->getVMHookInterface(vm);
+	U_32 flag = (JNI_FALSE != enable) ? 1 : 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	omrthread_monitor_enter(mgmt->compilationEventMutex);
+	if (flag != mgmt->compilationEventRecordingFlag) {
+		if (1 == flag) {
+			if (NULL == mgmt->compilationEvents) {
+				mgmt->compilationEvents = j9mem_allocate_memory(COMPILATION_EVENT_RECORDS * sizeof(J9CompilationEventRecord), J9MEM_CATEGORY_VM_JCL);
+				mgmt->compilationEventHead = 0;
+				mgmt->compilationEventCount = 0;
+			}
+			if ((NULL == vm->jitConfig)
+			|| (NULL == mgmt->compilationEvents)
+			|| (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_JIT_COMPILATION_COMPLETED, handlerCompilationCompleted, OMR_GET_CALLSITE(), NULL))
+			) {
+				result = JNI_FALSE;
+			} else if (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_JIT_METHOD_INVALIDATED, handlerMethodInvalidated, OMR_GET_CALLSITE(), vm)) {
+				(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_JIT_COMPILATION_COMPLETED, handlerCompilationCompleted, NULL);
+				result = JNI_FALSE;
+			} else {
+				mgmt->compilationEventRecordingFlag = 1;
+			}
+		} else {
+			(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_JIT_COMPILATION_COMPLETED, handlerCompilationCompleted, NULL);
+			(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_JIT_METHOD_INVALIDATED, handlerMethodInvalidated, vm);
+			mgmt->compilationEventRecordingFlag = 0;
+		}
+	}
+	omrthread_monitor_exit(mgmt->compilationEventMutex);
+#else /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+	if (JNI_FALSE != enable) {
+		result = JNI_FALSE;
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+	return result;
+}
 
 jlong JNICALL
 Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getTotalCompilationTimeImpl(JNIEnv *env, jobject beanInstance)
@@ -63,3 +268,159 @@ Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_isJITEnabled(JN
 
 	return JNI_FALSE;
 }
+
+jint JNICALL
+Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getCompilationCPUBudgetImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JITConfig *jitConfig = ((J9VMThread *)env)->javaVM->jitConfig;
+
+	if (NULL != jitConfig) {
+		return (jint)jitConfig->compThreadCPUBudget;
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+	return 0;
+}
+
+jint JNICALL
+Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getCompilationCPUBudgetUsageImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JITConfig *jitConfig = ((J9VMThread *)env)->javaVM->jitConfig;
+
+	if ((NULL != jitConfig) && (jitConfig->compThreadCPUBudget > 0)) {
+		return (jint)jitConfig->compThreadCPUBudgetUsage;
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+	return -1;
+}
+
+jlong JNICALL
+Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getDeferredCompilationCountImpl(JNIEnv *env, jobject beanInstance)
+{
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	J9JITConfig *jitConfig = ((J9VMThread *)env)->javaVM->jitConfig;
+
+	if (NULL != jitConfig) {
+		return (jlong)jitConfig->compThreadCPUBudgetDeferredCount;
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+	return 0;
+}
+
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_isCompilationEventRecordingEnabledImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaLangManagementData *mgmt = ((J9VMThread *)env)->javaVM->managementData;
+
+	return (0 != mgmt->compilationEventRecordingFlag) ? JNI_TRUE : JNI_FALSE;
+}
+
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_setCompilationEventRecordingEnabledImpl(JNIEnv *env, jobject beanInstance, jboolean enable)
+{
+	return setCompilationEventRecording(((J9VMThread *)env)->javaVM, enable);
+}
+
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getDroppedCompilationEventCountImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaLangManagementData *mgmt = ((J9VMThread *)env)->javaVM->managementData;
+	jlong result = 0;
+
+	omrthread_monitor_enter(mgmt->compilationEventMutex);
+	result = (jlong)mgmt->compilationEventDroppedCount;
+	omrthread_monitor_exit(mgmt->compilationEventMutex);
+
+	return result;
+}
+
+/**
+ * Remove the recorded compilation events from the ring buffer and report them, oldest
+ * first, by calling beanInstance.addEvent() for each of them.
+ *
+ * @param env The JNI env.
+ * @param beanInstance The ExtendedCompilationMXBeanImpl bean.
+ * @param events The list passed back to addEvent().
+ */
+void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_drainCompilationEventsImpl(JNIEnv *env, jobject beanInstance, jobject events)
+{
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9CompilationEventRecord *batch = NULL;
+	UDATA count = 0;
+	jclass beanClass = NULL;
+	jmethodID addEvent = NULL;
+	UDATA i = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	/* copy the records out, so that no JNI calls are made while the hooks are blocked */
+	omrthread_monitor_enter(mgmt->compilationEventMutex);
+	if (0 != mgmt->compilationEventCount) {
+		batch = j9mem_allocate_memory(mgmt->compilationEventCount * sizeof(J9CompilationEventRecord), J9MEM_CATEGORY_VM_JCL);
+		if (NULL != batch) {
+			count = mgmt->compilationEventCount;
+			for (i = 0; i < count; i++) {
+				batch[i] = mgmt->compilationEvents[(mgmt->compilationEventHead + i) % COMPILATION_EVENT_RECORDS];
+			}
+			mgmt->compilationEventHead = 0;
+			mgmt->compilationEventCount = 0;
+		}
+	}
+	omrthread_monitor_exit(mgmt->compilationEventMutex);
+
+	if (0 == count) {
+		goto done;
+	}
+	beanClass = (*env)->GetObjectClass(env, beanInstance);
+	if (NULL == beanClass) {
+		goto done;
+	}
+	addEvent = (*env)->GetMethodID(env, beanClass, "addEvent", "(Ljava/util/List;ZLjava/lang/String;JIIZZZJJJJLjava/lang/String;)V");
+	if (NULL == addEvent) {
+		goto done;
+	}
+
+	for (i = 0; i < count; i++) {
+		J9CompilationEventRecord *record = &batch[i];
+		jstring method = NULL;
+		jstring reason = NULL;
+
+		method = (*env)->NewStringUTF(env, record->method);
+		if (NULL == method) {
+			goto done;
+		}
+		reason = (*env)->NewStringUTF(env, (NULL == record->reason) ? "" : record->reason);
+		if (NULL == reason) {
+			goto done;
+		}
+
+		(*env)->CallVoidMethod(env, beanInstance, addEvent,
+				events,
+				(jboolean)(COMPILATION_EVENT_INVALIDATED == record->type),
+				method,
+				(jlong)record->timestamp,
+				(jint)record->compileID,
+				(jint)record->compileLevel,
+				(jboolean)record->isOSR,
+				(jboolean)record->isAOT,
+				(jboolean)record->isRemote,
+				(jlong)record->duration,
+				(jlong)record->queueTime,
+				(jlong)record->codeSize,
+				(jlong)record->inlinedBytes,
+				reason);
+		if ((*env)->ExceptionCheck(env)) {
+			goto done;
+		}
+		(*env)->DeleteLocalRef(env, method);
+		(*env)->DeleteLocalRef(env, reason);
+	}
+
+done:
+	j9mem_free_memory(batch);
+}
@@ -115,6 +115,8 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 	jlongArray postUsedArray = NULL;
 	jlongArray postCommittedArray = NULL;
 	jlongArray postMaxArray = NULL;
+	jlongArray phaseInfoArray = NULL;
+	J9GarbageCollectionPhaseInfo phaseInfo;
 
 	jlong* initialArrayElems = NULL;
 	jlong* preUsedArrayElems = NULL;
@@ -141,7 +143,7 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 
 	callBackID = JCL_CACHE_GET(env, MID_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_buildGcInfo);
 	if (NULL == callBackID) {
-		callBackID = (*env)->GetStaticMethodID(env, gcBean, "buildGcInfo", "(JJJ[J[J[J[J[J[J[J)Lcom/sun/management/GcInfo;");
+		callBackID = (*env)->GetStaticMethodID(env, gcBean, "buildGcInfo", "(JJJ[J[J[J[J[J[J[J[J)Lcom/sun/management/GcInfo;");
 		if (NULL == callBackID) {
 			goto fail;
 		}
@@ -176,6 +178,10 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 	if (NULL == postMaxArray) {
 		goto fail;
 	}
+	phaseInfoArray = (*env)->NewLongArray(env, (jsize)J9VM_GC_PHASE_INFO_COUNT);
+	if (NULL == phaseInfoArray) {
+		goto fail;
+	}
 
 	{
 		jboolean isCopy = JNI_FALSE;
@@ -217,6 +223,7 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 			postCommittedArrayElems[idx] = gcInfo->postCommitted[idx];
 			postMaxArrayElems[idx] = gcInfo->postMax[idx];
 		}
+		phaseInfo = gcInfo->phaseInfo;
 		omrthread_rwmutex_exit_read(mgmt->managementDataLock);
 		(*env)->ReleasePrimitiveArrayCritical(env, initialArray, initialArrayElems, 0);
 		(*env)->ReleasePrimitiveArrayCritical(env, preUsedArray, preUsedArrayElems, 0);
@@ -227,6 +234,8 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 		(*env)->ReleasePrimitiveArrayCritical(env, postMaxArray, postMaxArrayElems, 0);
 	}
 
+	(*env)->SetLongArrayRegion(env, phaseInfoArray, 0, (jsize)J9VM_GC_PHASE_INFO_COUNT, (jlong *)&phaseInfo);
+
 	return (*env)->CallStaticObjectMethod(env, gcBean, callBackID,
 			(jlong)gcInfo->index, (jlong)gcInfo->startTime, (jlong)gcInfo->endTime,
 			initialArray,
@@ -235,7 +244,8 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 			preMaxArray,
 			postUsedArray,
 			postCommittedArray,
-			postMaxArray);
+			postMaxArray,
+			phaseInfoArray);
 fail2:
 	if (NULL != initialArrayElems) {
 		(*env)->ReleasePrimitiveArrayCritical(env, initialArray, initialArrayElems, 0);
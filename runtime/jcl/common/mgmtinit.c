@@ -208,6 +208,16 @@ managementInit(J9JavaVM *vm)
 	mgmt->dlparNotificationQueue = NULL;
 	mgmt->dlparNotificationsPending = 0;
 	mgmt->isCounterPathInitialized = 0;
+
+	/* Initialization for MonitorContention (mgmtmonitor.c) */
+	if (JNI_OK != monitorContentionInit(vm)) {
+		return JNI_ERR;
+	}
+
+	/* Initialization for the compilation event buffer (mgmtcompilation.c) */
+	if (JNI_OK != compilationEventsInit(vm)) {
+		return JNI_ERR;
+	}
 	return 0;
 }
 
@@ -327,6 +337,12 @@ managementTerminate(J9JavaVM *vm)
 	}
 #endif
 
+	/* Cleanup for MonitorContention (mgmtmonitor.c) */
+	monitorContentionTerminate(vm);
+
+	/* Cleanup for the compilation event buffer (mgmtcompilation.c) */
+	compilationEventsTerminate(vm);
+
 	/* destroy monitor */
 	omrthread_rwmutex_destroy(mgmt->managementDataLock);
 
@@ -802,6 +818,8 @@ gcEndEvent(J9JavaVM *vm, UDATA heapSize, UDATA heapUsed, UDATA *totals, UDATA *f
 	gcInfo->gcID = gcData->id;
 	gcInfo->gcAction = mmFuncs->j9gc_get_gc_action(vm, (gcInfo->gcID & J9VM_MANAGEMENT_GC_HEAP_ID_MASK));
 	gcInfo->gcCause = mmFuncs->j9gc_get_gc_cause(omrVMThread);
+	mmFuncs->j9gc_get_gc_phase_info(omrVMThread, (gcInfo->gcID & J9VM_MANAGEMENT_GC_HEAP_ID_MASK), &gcInfo->phaseInfo);
+	gcInfo->phaseInfo.bytesFreed = (I_64)(mgmt->preCollectionHeapUsed - mgmt->postCollectionHeapUsed);
 	gcInfo->arraySize =(U_32) (supportedMemoryPools + supportedNonHeapMemoryPools);
 	/* heap memory pools */
 	for (idx = 0; supportedMemoryPools > idx; ++idx) {
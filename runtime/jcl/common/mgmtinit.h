@@ -100,8 +100,84 @@ typedef struct J9DLPARNotification {
 	U_64 data;
 	U_64 sequenceNumber;
 } J9DLPARNotification;
+/* these constants have to match the logic in com.ibm.lang.management.MonitorContentionInfo */
+#define MONITOR_CONTENTION_HISTOGRAM_BUCKETS 24
+#define MONITOR_CONTENTION_MAX_MONITORS 4096
+
+/* Contention statistics for one monitor, created the first time the monitor is contended */
+typedef struct J9MonitorContentionEntry {
+	omrthread_monitor_t monitor;
+	J9Class *monitorClass;
+	char *className;
+	U_64 blockedCount;
+	U_64 blockedTime;
+	U_64 maxBlockedTime;
+	U_64 waitedCount;
+	U_64 waitedTime;
+	/* the JLM counters are only filled in when a snapshot is taken while JLM is enabled */
+	U_64 enterCount;
+	U_64 slowCount;
+	U_64 spinCount;
+	U_64 yieldCount;
+	U_64 holdTime;
+	/* the adaptive spin factor is only filled in when a snapshot is taken with -XX:+AdaptiveMonitorSpin */
+	U_32 spinFactor;
+	U_64 blockedHistogram[MONITOR_CONTENTION_HISTOGRAM_BUCKETS];
+	U_64 waitedHistogram[MONITOR_CONTENTION_HISTOGRAM_BUCKETS];
+} J9MonitorContentionEntry;
+
+/* Contended enters and waits are recorded without locking into one of several buffers, chosen by thread */
+#define MONITOR_CONTENTION_STRIPES 16
+#define MONITOR_CONTENTION_STRIPE_RECORDS 256
+
+/* One contended enter or wait, waiting in a buffer to be added to the table */
+typedef struct J9MonitorContentionRecord {
+	volatile UDATA sequence; /* set to the index of the record plus one once the other fields are written */
+	omrthread_monitor_t monitor;
+	J9Class *monitorClass;
+	char *className; /* only set while the record is being added to the table */
+	U_64 elapsed;
+	BOOLEAN blocked;
+} J9MonitorContentionRecord;
+
+/* A ring buffer of records. Recording threads reserve records by incrementing reserved, and the
+ * records up to drained are free again once they have been added to the table.
+ */
+typedef struct J9MonitorContentionStripe {
+	volatile UDATA reserved;
+	volatile UDATA drained;
+	J9MonitorContentionRecord records[MONITOR_CONTENTION_STRIPE_RECORDS];
+} J9MonitorContentionStripe;
+
+/* these constants have to match the logic in com.ibm.lang.management.CompilationEventInfo */
+#define COMPILATION_EVENT_RECORDS 1024
+#define COMPILATION_EVENT_NAME_LENGTH 512
+#define COMPILATION_EVENT_COMPILED 0
+#define COMPILATION_EVENT_INVALIDATED 1
+
+/* One JIT compilation or invalidation, kept in a ring buffer until it is drained from Java */
+typedef struct J9CompilationEventRecord {
+	U_32 type;
+	U_32 compileID;
+	U_32 compileLevel;
+	BOOLEAN isOSR;
+	BOOLEAN isAOT;
+	BOOLEAN isRemote;
+	I_64 timestamp;
+	I_64 duration;
+	I_64 queueTime;
+	UDATA codeSize;
+	UDATA inlinedBytes;
+	const char *reason; /* static string, only set for invalidations */
+	char method[COMPILATION_EVENT_NAME_LENGTH]; /* copied, as the method may be unloaded before the record is drained */
+} J9CompilationEventRecord;
+
 jint managementInit(J9JavaVM *vm);
 void managementTerminate(J9JavaVM *vm);
+jint monitorContentionInit(J9JavaVM *vm);
+void monitorContentionTerminate(J9JavaVM *vm);
+jint compilationEventsInit(J9JavaVM *vm);
+void compilationEventsTerminate(J9JavaVM *vm);
 
 
 #define MEMORY_SEGMENT_LIST_DO(segmentList, imageSegment) {\
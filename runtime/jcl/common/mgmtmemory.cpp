@@ -600,7 +600,7 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 		return;
 	}
 
-	helperGCID = env->GetMethodID(threadClass, "dispatchGCNotificationHelper", "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;JJJ[J[J[J[J[J[J[JJ)V");
+	helperGCID = env->GetMethodID(threadClass, "dispatchGCNotificationHelper", "(Ljava/lang/String;Ljava/lang/String;Ljava/lang/String;JJJ[J[J[J[J[J[J[J[JJ)V");
 	if (NULL == helperGCID) {
 		return;
 	}
@@ -642,6 +642,7 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 			jlongArray postUsedArray = NULL;
 			jlongArray postCommittedArray = NULL;
 			jlongArray postMaxArray = NULL;
+			jlongArray phaseInfoArray = NULL;
 
 			initialArray = env->NewLongArray(gcInfo->arraySize);
 			if (NULL == initialArray) {
@@ -671,6 +672,10 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 			if (NULL == postMaxArray) {
 				return;
 			}
+			phaseInfoArray = env->NewLongArray((jsize)J9VM_GC_PHASE_INFO_COUNT);
+			if (NULL == phaseInfoArray) {
+				return;
+			}
 
 			gcName = gcNames[getIndexFromGCID(mgmt, gcInfo->gcID)];
 			if (NULL == gcName) {
@@ -713,6 +718,10 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 			if (env->ExceptionCheck()) {
 				return;
 			}
+			env->SetLongArrayRegion(phaseInfoArray, 0, (jsize)J9VM_GC_PHASE_INFO_COUNT, (jlong *)&gcInfo->phaseInfo);
+			if (env->ExceptionCheck()) {
+				return;
+			}
 
 			env->CallVoidMethod(
 					threadInstance,
@@ -730,6 +739,7 @@ Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificati
 					postUsedArray,
 					postCommittedArray,
 					postMaxArray,
+					phaseInfoArray,
 					(jlong)notification->sequenceNumber);
 			if (env->ExceptionCheck()) {
 				return;
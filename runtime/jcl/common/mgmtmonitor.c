@@ -0,0 +1,1024 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+/**
+ * @file mgmtmonitor.c
+ * @brief Natives for com.ibm.lang.management.internal.MonitorContention and
+ * the Monitor.contention diagnostic command
+ *
+ * @par Monitor Contention Statistics
+ * While profiling is enabled, the time each thread spends blocked entering a contended
+ * monitor and waiting in Object.wait() is accumulated per monitor, together with the name
+ * of the class of the object that owns the monitor. Only the contended paths are hooked,
+ * so uncontended monitor enters pay nothing and the cost is proportional to the amount
+ * of contention. Times are measured in nanoseconds of MONOTONIC time, and the histograms
+ * use power of two buckets of microseconds: bucket 0 counts times below 1us, bucket i
+ * counts times in [2^(i-1), 2^i) us and the last bucket is open ended.
+ *
+ * The hooks take no lock. Each event is written to a ring buffer chosen by thread, and the
+ * buffers are drained into the table when the statistics are queried, when a buffer fills
+ * and when classes are unloaded. Class names are copied while draining, outside the table
+ * mutex. Events that find their buffer full are counted as dropped.
+ *
+ * When JLM is enabled, the acquire, spin, yield and hold time counters that the thread
+ * library keeps for each monitor are added to a snapshot of the statistics. With
+ * -XX:+AdaptiveMonitorSpin, the spin factor each monitor has learned is added as well.
+ */
+
+#include "jni.h"
+#include "j9.h"
+#include "j9consts.h"
+#include "jclprots.h"
+#include "jcl_internal.h"
+#include "mgmtinit.h"
+#include "ut_j9jcl.h"
+
+#include <stdarg.h>
+#include <stdlib.h>
+#include <string.h>
+
+static void handlerMonitorContendedEntered(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+static void handlerMonitorWaited(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+static void handlerMonitorContentionClassesUnload(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData);
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+static void recordMonitorContention(J9VMThread *currentThread, omrthread_monitor_t monitor, J9Class *monitorClass, I_64 startTicks, BOOLEAN blocked);
+static UDATA takeMonitorContentionRecords(J9JavaLangManagementData *mgmt, J9MonitorContentionRecord *batch, UDATA capacity);
+static void drainMonitorContentionRecords(J9JavaVM *vm, BOOLEAN wait);
+static void addMonitorContentionRecord(J9JavaVM *vm, J9MonitorContentionRecord *record);
+static int compareRecordsByMonitor(const void *a, const void *b);
+static char *copyClassName(J9JavaVM *vm, J9Class *clazz);
+static UDATA histogramBucket(U_64 nanos);
+static UDATA monitorContentionHashFn(void *key, void *userData);
+static UDATA monitorContentionHashEqualFn(void *leftKey, void *rightKey, void *userData);
+static void clearMonitorContentionTable(J9JavaVM *vm);
+static jboolean setMonitorContentionProfiling(J9JavaVM *vm, jboolean enable);
+static J9MonitorContentionEntry *snapshotMonitorContention(J9VMThread *currentThread, UDATA *count, UDATA *dropped);
+static void freeMonitorContentionSnapshot(J9JavaVM *vm, J9MonitorContentionEntry *snapshot, UDATA count);
+static int compareByMonitor(const void *a, const void *b);
+static void addSpinFactors(J9JavaVM *vm, J9MonitorContentionEntry *snapshot, UDATA snapshotCount);
+static int compareByContentionTime(const void *a, const void *b);
+static BOOLEAN appendMonitorContention(J9PortLibrary *portLibrary, char **cursor, UDATA *remaining, const char *format, ...);
+static UDATA printMonitorContention(J9JavaVM *vm, J9MonitorContentionEntry *snapshot, UDATA snapshotCount, UDATA count, UDATA dropped, char *buffer, UDATA bufferSize);
+
+#define UNKNOWN_CLASS_NAME "<unknown>"
+
+jint
+monitorContentionInit(J9JavaVM *vm)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9HookInterface **vmHooks = vm->internalVMFunctions->getVMHookInterface(vm);
+	jint rc = JNI_OK;
+
+	if (0 != omrthread_monitor_init_with_name(&mgmt->monitorContentionMutex, 0, "management monitor contention")) {
+		rc = JNI_ERR;
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+	} else if (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, handlerMonitorContentionClassesUnload, OMR_GET_CALLSITE(), NULL)) {
+		rc = JNI_ERR;
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+	} else if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_MONITOR_CONTENTION_PROFILING)) {
+		if (JNI_FALSE == setMonitorContentionProfiling(vm, JNI_TRUE)) {
+			rc = JNI_ERR;
+		}
+	}
+
+	return rc;
+}
+
+void
+monitorContentionTerminate(J9JavaVM *vm)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9HookInterface **vmHooks = vm->internalVMFunctions->getVMHookInterface(vm);
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL != mgmt->monitorContentionMutex) {
+		setMonitorContentionProfiling(vm, JNI_FALSE);
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+		(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, handlerMonitorContentionClassesUnload, NULL);
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+		j9mem_free_memory(mgmt->monitorContentionStripes);
+		mgmt->monitorContentionStripes = NULL;
+		if (NULL != mgmt->monitorContentionTable) {
+			clearMonitorContentionTable(vm);
+			hashTableFree(mgmt->monitorContentionTable);
+			mgmt->monitorContentionTable = NULL;
+		}
+		omrthread_monitor_destroy(mgmt->monitorContentionMutex);
+		mgmt->monitorContentionMutex = NULL;
+	}
+}
+
+static void
+handlerMonitorContendedEntered(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorContendedEnteredEvent *event = (J9VMMonitorContendedEnteredEvent *)eventData;
+
+	recordMonitorContention(event->currentThread, event->monitor, event->monitorClass, event->startTicks, TRUE);
+}
+
+static void
+handlerMonitorWaited(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMMonitorWaitedEvent *event = (J9VMMonitorWaitedEvent *)eventData;
+
+	recordMonitorContention(event->currentThread, event->monitor, event->monitorClass, event->startTicks, FALSE);
+}
+
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+/**
+ * The records hold class pointers, so they are added to the table before the classes are unloaded.
+ * All other threads are stopped, and every record they reserved has been written.
+ */
+static void
+handlerMonitorContentionClassesUnload(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMClassesUnloadEvent *event = (J9VMClassesUnloadEvent *)eventData;
+
+	drainMonitorContentionRecords(event->currentThread->javaVM, TRUE);
+}
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+
+/**
+ * Write an event to the buffer of the current thread without taking a lock. The current
+ * thread has VM access, so classes cannot be unloaded until the record is written.
+ */
+static void
+recordMonitorContention(J9VMThread *currentThread, omrthread_monitor_t monitor, J9Class *monitorClass, I_64 startTicks, BOOLEAN blocked)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9MonitorContentionStripe *stripe = NULL;
+	J9MonitorContentionRecord *record = NULL;
+	U_64 elapsed = 0;
+	UDATA slot = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	/* the start time is only taken while the event is hooked, so an enter that began before profiling was enabled has none */
+	if (0 == startTicks) {
+		return;
+	}
+	elapsed = (U_64)(j9time_nano_time() - startTicks);
+
+	stripe = &mgmt->monitorContentionStripes[(((UDATA)currentThread) / sizeof(J9VMThread)) % MONITOR_CONTENTION_STRIPES];
+	slot = stripe->reserved;
+	for (;;) {
+		UDATA oldSlot = 0;
+		if ((slot - stripe->drained) >= MONITOR_CONTENTION_STRIPE_RECORDS) {
+			addAtomic(&mgmt->monitorContentionDroppedCount, 1);
+			return;
+		}
+		oldSlot = compareAndSwapUDATA((uintptr_t *)&stripe->reserved, slot, slot + 1);
+		if (oldSlot == slot) {
+			break;
+		}
+		slot = oldSlot;
+	}
+
+	record = &stripe->records[slot % MONITOR_CONTENTION_STRIPE_RECORDS];
+	record->monitor = monitor;
+	record->monitorClass = monitorClass;
+	record->className = NULL;
+	record->elapsed = elapsed;
+	record->blocked = blocked;
+	issueWriteBarrier();
+	record->sequence = slot + 1;
+
+	if ((slot + 1 - stripe->drained) >= (MONITOR_CONTENTION_STRIPE_RECORDS / 2)) {
+		/* empty the buffer before it fills, unless another thread is already draining */
+		drainMonitorContentionRecords(vm, FALSE);
+	}
+}
+
+/**
+ * Copy the written records out of the buffers, up to capacity, and free their slots, or just
+ * free the slots if batch is NULL. The caller must hold monitorContentionMutex.
+ *
+ * @return the number of records copied into batch
+ */
+static UDATA
+takeMonitorContentionRecords(J9JavaLangManagementData *mgmt, J9MonitorContentionRecord *batch, UDATA capacity)
+{
+	UDATA count = 0;
+	UDATA i = 0;
+
+	for (i = 0; i < MONITOR_CONTENTION_STRIPES; i++) {
+		J9MonitorContentionStripe *stripe = &mgmt->monitorContentionStripes[i];
+		UDATA reserved = stripe->reserved;
+		UDATA index = stripe->drained;
+
+		while (index != reserved) {
+			J9MonitorContentionRecord *record = &stripe->records[index % MONITOR_CONTENTION_STRIPE_RECORDS];
+			if ((index + 1) != record->sequence) {
+				/* still being written */
+				break;
+			}
+			issueReadBarrier();
+			if (NULL != batch) {
+				if (count == capacity) {
+					break;
+				}
+				batch[count] = *record;
+				count += 1;
+			}
+			index += 1;
+		}
+		/* finish reading the records before the slots can be reused */
+		issueReadWriteBarrier();
+		stripe->drained = index;
+	}
+
+	return count;
+}
+
+/**
+ * Add the records in the buffers to the table. The class names of new monitors are copied
+ * without holding monitorContentionMutex. The current thread must have VM access, or all
+ * other threads must be stopped, so that the classes in the records stay loaded.
+ *
+ * @param vm[in] the J9JavaVM
+ * @param wait[in] if FALSE, return without draining if another thread holds monitorContentionMutex
+ */
+static void
+drainMonitorContentionRecords(J9JavaVM *vm, BOOLEAN wait)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9MonitorContentionRecord *batch = NULL;
+	UDATA capacity = 0;
+	UDATA count = 0;
+	UDATA i = 0;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL == mgmt->monitorContentionStripes) {
+		return;
+	}
+	if (wait) {
+		omrthread_monitor_enter(mgmt->monitorContentionMutex);
+	} else if (0 != omrthread_monitor_try_enter(mgmt->monitorContentionMutex)) {
+		return;
+	}
+	for (i = 0; i < MONITOR_CONTENTION_STRIPES; i++) {
+		J9MonitorContentionStripe *stripe = &mgmt->monitorContentionStripes[i];
+		capacity += stripe->reserved - stripe->drained;
+	}
+	if (0 != capacity) {
+		/* records reserved after counting are left for the next drain */
+		batch = j9mem_allocate_memory(capacity * sizeof(J9MonitorContentionRecord), J9MEM_CATEGORY_VM_JCL);
+	}
+	if (NULL != batch) {
+		count = takeMonitorContentionRecords(mgmt, batch, capacity);
+	}
+	omrthread_monitor_exit(mgmt->monitorContentionMutex);
+
+	/* copy one class name for each run of records of the same monitor and class */
+	qsort(batch, count, sizeof(J9MonitorContentionRecord), compareRecordsByMonitor);
+	for (i = 0; i < count; i++) {
+		if ((0 == i)
+		|| (batch[i].monitor != batch[i - 1].monitor)
+		|| (batch[i].monitorClass != batch[i - 1].monitorClass)
+		) {
+			batch[i].className = copyClassName(vm, batch[i].monitorClass);
+		}
+	}
+
+	if (0 != count) {
+		omrthread_monitor_enter(mgmt->monitorContentionMutex);
+		if (NULL != mgmt->monitorContentionTable) {
+			for (i = 0; i < count; i++) {
+				addMonitorContentionRecord(vm, &batch[i]);
+			}
+		}
+		omrthread_monitor_exit(mgmt->monitorContentionMutex);
+	}
+
+	for (i = 0; i < count; i++) {
+		j9mem_free_memory(batch[i].className);
+	}
+	j9mem_free_memory(batch);
+}
+
+/**
+ * Add one record to the table. A class name taken for a new entry is cleared in the record.
+ * The caller must hold monitorContentionMutex.
+ */
+static void
+addMonitorContentionRecord(J9JavaVM *vm, J9MonitorContentionRecord *record)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9MonitorContentionEntry exemplar;
+	J9MonitorContentionEntry *entry = NULL;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	exemplar.monitor = record->monitor;
+	entry = hashTableFind(mgmt->monitorContentionTable, &exemplar);
+	if ((NULL != entry) && (entry->monitorClass != record->monitorClass)) {
+		/* the monitor now belongs to a different object, so the old statistics no longer describe it */
+		j9mem_free_memory(entry->className);
+		memset(entry, 0, sizeof(J9MonitorContentionEntry));
+		entry->monitor = record->monitor;
+		entry->monitorClass = record->monitorClass;
+		entry->className = record->className;
+		record->className = NULL;
+	} else if (NULL == entry) {
+		if (hashTableGetCount(mgmt->monitorContentionTable) >= MONITOR_CONTENTION_MAX_MONITORS) {
+			addAtomic(&mgmt->monitorContentionDroppedCount, 1);
+		} else {
+			memset(&exemplar, 0, sizeof(J9MonitorContentionEntry));
+			exemplar.monitor = record->monitor;
+			exemplar.monitorClass = record->monitorClass;
+			exemplar.className = record->className;
+			entry = hashTableAdd(mgmt->monitorContentionTable, &exemplar);
+			if (NULL == entry) {
+				addAtomic(&mgmt->monitorContentionDroppedCount, 1);
+			} else {
+				record->className = NULL;
+			}
+		}
+	}
+
+	if (NULL != entry) {
+		UDATA bucket = histogramBucket(record->elapsed);
+		if (record->blocked) {
+			entry->blockedCount += 1;
+			entry->blockedTime += record->elapsed;
+			if (record->elapsed > entry->maxBlockedTime) {
+				entry->maxBlockedTime = record->elapsed;
+			}
+			entry->blockedHistogram[bucket] += 1;
+		} else {
+			entry->waitedCount += 1;
+			entry->waitedTime += record->elapsed;
+			entry->waitedHistogram[bucket] += 1;
+		}
+	}
+}
+
+static int
+compareRecordsByMonitor(const void *a, const void *b)
+{
+	const J9MonitorContentionRecord *aRecord = a;
+	const J9MonitorContentionRecord *bRecord = b;
+	int result = 0;
+
+	if ((UDATA)aRecord->monitor < (UDATA)bRecord->monitor) {
+		result = -1;
+	} else if ((UDATA)aRecord->monitor > (UDATA)bRecord->monitor) {
+		result = 1;
+	} else if ((UDATA)aRecord->monitorClass < (UDATA)bRecord->monitorClass) {
+		result = -1;
+	} else if ((UDATA)aRecord->monitorClass > (UDATA)bRecord->monitorClass) {
+		result = 1;
+	}
+	return result;
+}
+
+/**
+ * Copy the name of a class in Java format, with a "[]" suffix per dimension for arrays.
+ * Returns NULL if clazz is NULL or the memory cannot be allocated.
+ */
+static char *
+copyClassName(J9JavaVM *vm, J9Class *clazz)
+{
+	char *name = NULL;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL != clazz) {
+		UDATA arity = 0;
+		J9UTF8 *className = NULL;
+		UDATA length = 0;
+
+		if (J9ROMCLASS_IS_ARRAY(clazz->romClass)) {
+			arity = ((J9ArrayClass *)clazz)->arity;
+			clazz = ((J9ArrayClass *)clazz)->leafComponentType;
+		}
+		className = J9ROMCLASS_CLASSNAME(clazz->romClass);
+		length = J9UTF8_LENGTH(className);
+		name = j9mem_allocate_memory(length + (2 * arity) + 1, J9MEM_CATEGORY_VM_JCL);
+		if (NULL != name) {
+			UDATA i = 0;
+			for (i = 0; i < length; i++) {
+				U_8 c = J9UTF8_DATA(className)[i];
+				name[i] = ('/' == c) ? '.' : (char)c;
+			}
+			for (i = 0; i < arity; i++) {
+				name[length++] = '[';
+				name[length++] = ']';
+			}
+			name[length] = '\0';
+		}
+	}
+
+	return name;
+}
+
+static UDATA
+histogramBucket(U_64 nanos)
+{
+	U_64 micros = nanos / 1000;
+	UDATA bucket = 0;
+
+	while ((0 != micros) && (bucket < (MONITOR_CONTENTION_HISTOGRAM_BUCKETS - 1))) {
+		micros >>= 1;
+		bucket += 1;
+	}
+
+	return bucket;
+}
+
+static UDATA
+monitorContentionHashFn(void *key, void *userData)
+{
+	J9MonitorContentionEntry *entry = key;
+
+	return ((UDATA)entry->monitor) >> 3;
+}
+
+static UDATA
+monitorContentionHashEqualFn(void *leftKey, void *rightKey, void *userData)
+{
+	J9MonitorContentionEntry *left = leftKey;
+	J9MonitorContentionEntry *right = rightKey;
+
+	return left->monitor == right->monitor;
+}
+
+/**
+ * Remove all entries from the table. The caller must either hold monitorContentionMutex
+ * or be the only thread able to reach the table.
+ */
+static void
+clearMonitorContentionTable(J9JavaVM *vm)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9HashTableState walkState;
+	J9MonitorContentionEntry *entry = NULL;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	entry = hashTableStartDo(mgmt->monitorContentionTable, &walkState);
+	while (NULL != entry) {
+		j9mem_free_memory(entry->className);
+		hashTableDoRemove(&walkState);
+		entry = hashTableNextDo(&walkState);
+	}
+	mgmt->monitorContentionDroppedCount = 0;
+}
+
+/**
+ * Hook or unhook the contended enter and wait events. Statistics that were already
+ * collected are kept when profiling is disabled.
+ *
+ * @return JNI_FALSE if profiling could not be enabled, JNI_TRUE otherwise
+ */
+static jboolean
+setMonitorContentionProfiling(J9JavaVM *vm, jboolean enable)
+{
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9HookInterface **vmHooks = vm->internalVMFunctions->getVMHookInterface(vm);
+	U_32 flag = (JNI_FALSE != enable) ? 1 : 0;
+	jboolean result = JNI_TRUE;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	omrthread_monitor_enter(mgmt->monitorContentionMutex);
+	if (flag != mgmt->monitorContentionProfilingFlag) {
+		if (1 == flag) {
+			if (NULL == mgmt->monitorContentionStripes) {
+				UDATA size = MONITOR_CONTENTION_STRIPES * sizeof(J9MonitorContentionStripe);
+				mgmt->monitorContentionStripes = j9mem_allocate_memory(size, J9MEM_CATEGORY_VM_JCL);
+				if (NULL != mgmt->monitorContentionStripes) {
+					memset(mgmt->monitorContentionStripes, 0, size);
+				}
+			}
+			if (NULL == mgmt->monitorContentionTable) {
+				mgmt->monitorContentionTable = hashTableNew(
+						OMRPORT_FROM_J9PORT(vm->portLibrary),
+						J9_GET_CALLSITE(),
+						64,
+						sizeof(J9MonitorContentionEntry),
+						sizeof(omrthread_monitor_t),
+						0,
+						J9MEM_CATEGORY_VM_JCL,
+						monitorContentionHashFn,
+						monitorContentionHashEqualFn,
+						NULL,
+						vm);
+			}
+			if ((NULL == mgmt->monitorContentionTable)
+			|| (NULL == mgmt->monitorContentionStripes)
+			|| (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, handlerMonitorContendedEntered, OMR_GET_CALLSITE(), NULL))
+			) {
+				result = JNI_FALSE;
+			} else if (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_MONITOR_WAITED, handlerMonitorWaited, OMR_GET_CALLSITE(), NULL)) {
+				(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, handlerMonitorContendedEntered, NULL);
+				result = JNI_FALSE;
+			} else {
+				mgmt->monitorContentionProfilingFlag = 1;
+			}
+		} else {
+			(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, handlerMonitorContendedEntered, NULL);
+			(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_WAITED, handlerMonitorWaited, NULL);
+			mgmt->monitorContentionProfilingFlag = 0;
+		}
+	}
+	omrthread_monitor_exit(mgmt->monitorContentionMutex);
+
+	return result;
+}
+
+/**
+ * Copy the statistics of all monitors, sorted by decreasing blocked time. The class
+ * names are copied as well, so the snapshot stays valid after the mutex is released.
+ * The current thread must have VM access.
+ *
+ * @param currentThread[in] the current thread
+ * @param count[out] the number of entries in the snapshot
+ * @param dropped[out] the number of events that were not recorded because the table was full
+ * @return the snapshot, or NULL if there are no entries or the memory cannot be allocated
+ */
+static J9MonitorContentionEntry *
+snapshotMonitorContention(J9VMThread *currentThread, UDATA *count, UDATA *dropped)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+	J9MonitorContentionEntry *snapshot = NULL;
+	UDATA snapshotCount = 0;
+#if defined(OMR_THR_JLM)
+	BOOLEAN jlmEnabled = J9_ARE_ALL_BITS_SET(omrthread_lib_get_flags(), J9THREAD_LIB_FLAG_JLM_ENABLED);
+#endif /* defined(OMR_THR_JLM) */
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	*count = 0;
+	*dropped = 0;
+
+	drainMonitorContentionRecords(vm, TRUE);
+
+#if defined(OMR_THR_JLM)
+	/* walking the monitor pool without the pool lock requires exclusive access, as for the JLM dump */
+	if (jlmEnabled) {
+		vm->internalVMFunctions->acquireExclusiveVMAccess(currentThread);
+	}
+#endif /* defined(OMR_THR_JLM) */
+
+	omrthread_monitor_enter(mgmt->monitorContentionMutex);
+	if (NULL != mgmt->monitorContentionTable) {
+		UDATA tableCount = hashTableGetCount(mgmt->monitorContentionTable);
+		*dropped = (UDATA)mgmt->monitorContentionDroppedCount;
+		if (0 != tableCount) {
+			snapshot = j9mem_allocate_memory(tableCount * sizeof(J9MonitorContentionEntry), J9MEM_CATEGORY_VM_JCL);
+		}
+		if (NULL != snapshot) {
+			J9HashTableState walkState;
+			J9MonitorContentionEntry *entry = hashTableStartDo(mgmt->monitorContentionTable, &walkState);
+			while (NULL != entry) {
+				J9MonitorContentionEntry *copy = &snapshot[snapshotCount];
+				memcpy(copy, entry, sizeof(J9MonitorContentionEntry));
+				copy->className = NULL;
+				if (NULL != entry->className) {
+					UDATA length = strlen(entry->className);
+					copy->className = j9mem_allocate_memory(length + 1, J9MEM_CATEGORY_VM_JCL);
+					if (NULL != copy->className) {
+						memcpy(copy->className, entry->className, length + 1);
+					}
+				}
+				snapshotCount += 1;
+				entry = hashTableNextDo(&walkState);
+			}
+		}
+	}
+	omrthread_monitor_exit(mgmt->monitorContentionMutex);
+
+#if defined(OMR_THR_JLM)
+	if (jlmEnabled) {
+		if (0 != snapshotCount) {
+			omrthread_monitor_walk_state_t walkState;
+			J9ThreadAbstractMonitor *monitor = NULL;
+
+			qsort(snapshot, snapshotCount, sizeof(J9MonitorContentionEntry), compareByMonitor);
+			omrthread_monitor_init_walk(&walkState);
+			while (NULL != (monitor = (J9ThreadAbstractMonitor *)omrthread_monitor_walk_no_locking(&walkState))) {
+				J9ThreadMonitorTracing *tracing = monitor->tracing;
+				if (NULL != tracing) {
+					J9MonitorContentionEntry key;
+					J9MonitorContentionEntry *entry = NULL;
+					key.monitor = (omrthread_monitor_t)monitor;
+					entry = bsearch(&key, snapshot, snapshotCount, sizeof(J9MonitorContentionEntry), compareByMonitor);
+					if (NULL != entry) {
+						entry->enterCount = tracing->enter_count;
+						entry->slowCount = tracing->slow_count;
+						entry->spinCount = tracing->spin2_count;
+						entry->yieldCount = tracing->yield_count;
+#if defined(OMR_THR_JLM_HOLD_TIMES)
+						entry->holdTime = tracing->holdtime_sum;
+#endif /* defined(OMR_THR_JLM_HOLD_TIMES) */
+					}
+				}
+			}
+		}
+		vm->internalVMFunctions->releaseExclusiveVMAccess(currentThread);
+	}
+#endif /* defined(OMR_THR_JLM) */
+
+	if ((0 != snapshotCount) && J9_ARE_ALL_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_ADAPTIVE_MONITOR_SPIN)) {
+		qsort(snapshot, snapshotCount, sizeof(J9MonitorContentionEntry), compareByMonitor);
+		addSpinFactors(vm, snapshot, snapshotCount);
+	}
+
+	if (0 != snapshotCount) {
+		qsort(snapshot, snapshotCount, sizeof(J9MonitorContentionEntry), compareByContentionTime);
+	} else {
+		j9mem_free_memory(snapshot);
+		snapshot = NULL;
+	}
+	*count = snapshotCount;
+
+	return snapshot;
+}
+
+static void
+freeMonitorContentionSnapshot(J9JavaVM *vm, J9MonitorContentionEntry *snapshot, UDATA count)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL != snapshot) {
+		UDATA i = 0;
+		for (i = 0; i < count; i++) {
+			j9mem_free_memory(snapshot[i].className);
+		}
+		j9mem_free_memory(snapshot);
+	}
+}
+
+static int
+compareByMonitor(const void *a, const void *b)
+{
+	UDATA aMonitor = (UDATA)((const J9MonitorContentionEntry *)a)->monitor;
+	UDATA bMonitor = (UDATA)((const J9MonitorContentionEntry *)b)->monitor;
+	int result = 0;
+
+	if (aMonitor < bMonitor) {
+		result = -1;
+	} else if (aMonitor > bMonitor) {
+		result = 1;
+	}
+	return result;
+}
+
+/**
+ * Copy the adaptive spin factor of each monitor in the snapshot from its object monitor.
+ * The snapshot must be sorted by monitor, and the caller must have VM access so that
+ * the monitor tables are not modified by the GC.
+ */
+static void
+addSpinFactors(J9JavaVM *vm, J9MonitorContentionEntry *snapshot, UDATA snapshotCount)
+{
+	UDATA tableIndex = 0;
+
+	omrthread_monitor_enter(vm->monitorTableMutex);
+	for (tableIndex = 0; tableIndex < vm->monitorTableCount; tableIndex++) {
+		J9HashTable *monitorTable = vm->monitorTables[tableIndex];
+		if (NULL != monitorTable) {
+			J9HashTableState walkState;
+			J9ObjectMonitor *objectMonitor = hashTableStartDo(monitorTable, &walkState);
+			while (NULL != objectMonitor) {
+				J9MonitorContentionEntry key;
+				J9MonitorContentionEntry *entry = NULL;
+				key.monitor = objectMonitor->monitor;
+				entry = bsearch(&key, snapshot, snapshotCount, sizeof(J9MonitorContentionEntry), compareByMonitor);
+				if (NULL != entry) {
+					entry->spinFactor = objectMonitor->spinFactor;
+				}
+				objectMonitor = hashTableNextDo(&walkState);
+			}
+		}
+	}
+	omrthread_monitor_exit(vm->monitorTableMutex);
+}
+
+/**
+ * Sort in descending order of blocked time, then of waited time.
+ */
+static int
+compareByContentionTime(const void *a, const void *b)
+{
+	const J9MonitorContentionEntry *aEntry = a;
+	const J9MonitorContentionEntry *bEntry = b;
+	int result = 0;
+
+	if (bEntry->blockedTime < aEntry->blockedTime) {
+		result = -1;
+	} else if (bEntry->blockedTime > aEntry->blockedTime) {
+		result = 1;
+	} else if (bEntry->waitedTime < aEntry->waitedTime) {
+		result = -1;
+	} else if (bEntry->waitedTime > aEntry->waitedTime) {
+		result = 1;
+	}
+	return result;
+}
+
+/**
+ * Append formatted text to a buffer, leaving room for the terminating NUL.
+ *
+ * @return FALSE if the text did not fit, TRUE otherwise
+ */
+static BOOLEAN
+appendMonitorContention(J9PortLibrary *portLibrary, char **cursor, UDATA *remaining, const char *format, ...)
+{
+	UDATA printed = 0;
+	va_list args;
+	PORT_ACCESS_FROM_PORT(portLibrary);
+
+	va_start(args, format);
+	printed = j9str_vprintf(*cursor, *remaining, format, args);
+	va_end(args);
+	if ((printed + 1) >= *remaining) {
+		return FALSE;
+	}
+	*cursor += printed;
+	*remaining -= printed;
+	return TRUE;
+}
+
+/**
+ * Print the statistics of the first count entries of a snapshot.
+ *
+ * @return the number of characters printed, or 0 if the buffer was too small
+ */
+static UDATA
+printMonitorContention(J9JavaVM *vm, J9MonitorContentionEntry *snapshot, UDATA snapshotCount, UDATA count, UDATA dropped, char *buffer, UDATA bufferSize)
+{
+	J9PortLibrary *portLibrary = vm->portLibrary;
+	char *cursor = buffer;
+	UDATA remaining = bufferSize;
+	UDATA i = 0;
+
+	if (!appendMonitorContention(portLibrary, &cursor, &remaining, "Contended monitors: %zu, showing %zu%s\n", snapshotCount, count,
+			(0 == vm->managementData->monitorContentionProfilingFlag) ? " (profiling is disabled)" : "")
+	) {
+		return 0;
+	}
+	if ((0 != dropped)
+	&& !appendMonitorContention(portLibrary, &cursor, &remaining, "Events not recorded, because %d monitors are already tracked or events arrived too quickly: %zu\n",
+			MONITOR_CONTENTION_MAX_MONITORS, dropped)
+	) {
+		return 0;
+	}
+	if (!appendMonitorContention(portLibrary, &cursor, &remaining, "%5s %12s %14s %12s %12s %14s  %s\n",
+			"num", "blocked", "blocked(us)", "max(us)", "waited", "waited(us)", "class name@monitor")
+	) {
+		return 0;
+	}
+	for (i = 0; i < count; i++) {
+		J9MonitorContentionEntry *entry = &snapshot[i];
+		UDATA bucket = 0;
+
+		if (!appendMonitorContention(portLibrary, &cursor, &remaining, "%4zu: %12llu %14llu %12llu %12llu %14llu  %s@%p\n",
+				i + 1,
+				entry->blockedCount,
+				entry->blockedTime / 1000,
+				entry->maxBlockedTime / 1000,
+				entry->waitedCount,
+				entry->waitedTime / 1000,
+				(NULL == entry->className) ? UNKNOWN_CLASS_NAME : entry->className,
+				entry->monitor)
+		) {
+			return 0;
+		}
+		if ((0 != entry->enterCount)
+		&& !appendMonitorContention(portLibrary, &cursor, &remaining, "      JLM: enters %llu, slow %llu, spins %llu, yields %llu, hold time %llu\n",
+				entry->enterCount, entry->slowCount, entry->spinCount, entry->yieldCount, entry->holdTime)
+		) {
+			return 0;
+		}
+		if ((0 != entry->spinFactor)
+		&& !appendMonitorContention(portLibrary, &cursor, &remaining, "      adaptive spin factor: %u/%d\n", entry->spinFactor, J9_ADAPTIVE_SPIN_FACTOR_DEFAULT)
+		) {
+			return 0;
+		}
+		if (0 != entry->blockedCount) {
+			if (!appendMonitorContention(portLibrary, &cursor, &remaining, "      blocked histogram (us):")) {
+				return 0;
+			}
+			for (bucket = 0; bucket < MONITOR_CONTENTION_HISTOGRAM_BUCKETS; bucket++) {
+				if ((0 != entry->blockedHistogram[bucket])
+				&& !appendMonitorContention(portLibrary, &cursor, &remaining, " <%llu:%llu", (U_64)1 << bucket, entry->blockedHistogram[bucket])
+				) {
+					return 0;
+				}
+			}
+			if (!appendMonitorContention(portLibrary, &cursor, &remaining, "\n")) {
+				return 0;
+			}
+		}
+		if (0 != entry->waitedCount) {
+			if (!appendMonitorContention(portLibrary, &cursor, &remaining, "      waited histogram (us):")) {
+				return 0;
+			}
+			for (bucket = 0; bucket < MONITOR_CONTENTION_HISTOGRAM_BUCKETS; bucket++) {
+				if ((0 != entry->waitedHistogram[bucket])
+				&& !appendMonitorContention(portLibrary, &cursor, &remaining, " <%llu:%llu", (U_64)1 << bucket, entry->waitedHistogram[bucket])
+				) {
+					return 0;
+				}
+			}
+			if (!appendMonitorContention(portLibrary, &cursor, &remaining, "\n")) {
+				return 0;
+			}
+		}
+	}
+
+	return bufferSize - remaining;
+}
+
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_isProfilingEnabledImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+
+	return (0 != vm->managementData->monitorContentionProfilingFlag) ? JNI_TRUE : JNI_FALSE;
+}
+
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_setProfilingEnabledImpl(JNIEnv *env, jobject beanInstance, jboolean enable)
+{
+	return setMonitorContentionProfiling(((J9VMThread *)env)->javaVM, enable);
+}
+
+void JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_resetImpl(JNIEnv *env, jobject beanInstance)
+{
+	J9JavaVM *vm = ((J9VMThread *)env)->javaVM;
+	J9JavaLangManagementData *mgmt = vm->managementData;
+
+	omrthread_monitor_enter(mgmt->monitorContentionMutex);
+	if (NULL != mgmt->monitorContentionStripes) {
+		takeMonitorContentionRecords(mgmt, NULL, 0);
+	}
+	if (NULL != mgmt->monitorContentionTable) {
+		clearMonitorContentionTable(vm);
+	}
+	omrthread_monitor_exit(mgmt->monitorContentionMutex);
+}
+
+/**
+ * Report the most contended monitors by calling beanInstance.addMonitor() for each of them.
+ *
+ * @param env The JNI env.
+ * @param beanInstance The MonitorContention bean.
+ * @param monitors The list passed back to addMonitor().
+ * @param maxCount The maximum number of monitors to report.
+ */
+void JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_getContendedMonitorsImpl(JNIEnv *env, jobject beanInstance, jobject monitors, jint maxCount)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	J9MonitorContentionEntry *snapshot = NULL;
+	UDATA snapshotCount = 0;
+	UDATA count = 0;
+	UDATA dropped = 0;
+	jclass beanClass = NULL;
+	jmethodID addMonitor = NULL;
+	UDATA i = 0;
+
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	snapshot = snapshotMonitorContention(currentThread, &snapshotCount, &dropped);
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	count = ((UDATA)maxCount < snapshotCount) ? (UDATA)maxCount : snapshotCount;
+
+	beanClass = (*env)->GetObjectClass(env, beanInstance);
+	if (NULL == beanClass) {
+		goto done;
+	}
+	addMonitor = (*env)->GetMethodID(env, beanClass, "addMonitor", "(Ljava/util/List;Ljava/lang/String;JJJJ[JJJ[JJJJJJ)V");
+	if (NULL == addMonitor) {
+		goto done;
+	}
+
+	for (i = 0; i < count; i++) {
+		J9MonitorContentionEntry *entry = &snapshot[i];
+		jstring className = NULL;
+		jlongArray blockedHistogram = NULL;
+		jlongArray waitedHistogram = NULL;
+
+		className = (*env)->NewStringUTF(env, (NULL == entry->className) ? UNKNOWN_CLASS_NAME : entry->className);
+		if (NULL == className) {
+			goto done;
+		}
+		blockedHistogram = (*env)->NewLongArray(env, MONITOR_CONTENTION_HISTOGRAM_BUCKETS);
+		if (NULL == blockedHistogram) {
+			goto done;
+		}
+		(*env)->SetLongArrayRegion(env, blockedHistogram, 0, MONITOR_CONTENTION_HISTOGRAM_BUCKETS, (jlong *)entry->blockedHistogram);
+		waitedHistogram = (*env)->NewLongArray(env, MONITOR_CONTENTION_HISTOGRAM_BUCKETS);
+		if (NULL == waitedHistogram) {
+			goto done;
+		}
+		(*env)->SetLongArrayRegion(env, waitedHistogram, 0, MONITOR_CONTENTION_HISTOGRAM_BUCKETS, (jlong *)entry->waitedHistogram);
+
+		(*env)->CallVoidMethod(env, beanInstance, addMonitor,
+				monitors,
+				className,
+				(jlong)(UDATA)entry->monitor,
+				(jlong)entry->blockedCount,
+				(jlong)entry->blockedTime,
+				(jlong)entry->maxBlockedTime,
+				blockedHistogram,
+				(jlong)entry->waitedCount,
+				(jlong)entry->waitedTime,
+				waitedHistogram,
+				(jlong)entry->enterCount,
+				(jlong)entry->slowCount,
+				(jlong)entry->spinCount,
+				(jlong)entry->yieldCount,
+				(jlong)entry->holdTime);
+		if ((*env)->ExceptionCheck(env)) {
+			goto done;
+		}
+		(*env)->DeleteLocalRef(env, className);
+		(*env)->DeleteLocalRef(env, blockedHistogram);
+		(*env)->DeleteLocalRef(env, waitedHistogram);
+	}
+
+done:
+	freeMonitorContentionSnapshot(vm, snapshot, snapshotCount);
+}
+
+/**
+ * Return a String listing the most contended monitors.
+ * This string inserts Unix-style line separators. The caller is responsible for translating them if necessary.
+ */
+jstring JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMonitorContentionImpl(JNIEnv *env, jclass unused, jint maxCount)
+{
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *vm = currentThread->javaVM;
+	J9InternalVMFunctions *vmFuncs = vm->internalVMFunctions;
+	J9MonitorContentionEntry *snapshot = NULL;
+	UDATA count = 0;
+	UDATA dropped = 0;
+	UDATA printCount = 0;
+	UDATA bufferSize = 0;
+	UDATA printedLength = 0;
+	jstring result = NULL;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	vmFuncs->internalEnterVMFromJNI(currentThread);
+	snapshot = snapshotMonitorContention(currentThread, &count, &dropped);
+
+	printCount = ((UDATA)maxCount < count) ? (UDATA)maxCount : count;
+	do {
+		char *buffer = NULL;
+		/* try incrementally larger sizes */
+		bufferSize += 256 + (printCount * 1024);
+		buffer = j9mem_allocate_memory(bufferSize, J9MEM_CATEGORY_VM_JCL);
+		if (NULL == buffer) {
+			vmFuncs->setNativeOutOfMemoryError(currentThread, 0, 0);
+			break;
+		}
+		printedLength = printMonitorContention(vm, snapshot, count, printCount, dropped, buffer, bufferSize);
+		if (printedLength > 0) {
+			j9object_t stringObject = vm->memoryManagerFunctions->j9gc_createJavaLangString(currentThread,
+					(U_8 *)buffer, printedLength, J9_STR_XLAT);
+			result = vmFuncs->j9jni_createLocalRef(env, stringObject);
+		}
+		j9mem_free_memory(buffer);
+	} while (0 == printedLength);
+
+	freeMonitorContentionSnapshot(vm, snapshot, count);
+	vmFuncs->internalExitVMToJNI(currentThread);
+
+	return result;
+}
+
+jboolean JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_setMonitorContentionProfilingImpl(JNIEnv *env, jclass unused, jboolean enable)
+{
+	return Java_com_ibm_lang_management_internal_MonitorContention_setProfilingEnabledImpl(env, NULL, enable);
+}
+
+void JNICALL
+Java_openj9_internal_tools_attach_target_DiagnosticUtils_resetMonitorContentionImpl(JNIEnv *env, jclass unused)
+{
+	Java_com_ibm_lang_management_internal_MonitorContention_resetImpl(env, NULL);
+}
@@ -20,9 +20,12 @@
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  *******************************************************************************/
 
+#include <limits.h>
+
 #include "jni.h"
 #include "j9.h"
 #include "j9port.h"
+#include "jclglob.h"
 
 /**
  * Returns total amount of time the process has been scheduled or executed so far
@@ -79,8 +82,18 @@ Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProce
 	return (0 == rc)? (jlong) size: (jlong) -1;
 }
 
-jdouble JNICALL
-Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getSystemCpuLoadImpl(JNIEnv *env, jobject instance) {
+/**
+ * Returns the recent CPU usage of the whole system.
+ *
+ * @param[in] env The JNI env.
+ *
+ * @return A value in [0.0, 1.0], or -1 if there is not yet enough data, -2 if the
+ *         caller lacks the privilege, -3 if not supported, or another negative
+ *         error code.
+ */
+static jdouble
+getSystemCpuLoad(JNIEnv *env)
+{
 	PORT_ACCESS_FROM_ENV(env);
 	OMRPORT_ACCESS_FROM_J9PORT(PORTLIB);
 
@@ -124,6 +137,11 @@ Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getSyste
 	return (jdouble)cpuLoad;
 }
 
+jdouble JNICALL
+Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getSystemCpuLoadImpl(JNIEnv *env, jobject instance) {
+	return getSystemCpuLoad(env);
+}
+
 /**
  * Returns the amount of private memory used by the process
  * in bytes. It is platform specific whether this value includes
@@ -159,3 +177,131 @@ Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProce
 	int32_t rc = j9vmem_get_process_memory_size(J9PORT_VMEM_PROCESS_PHYSICAL, &size);
 	return (0 == rc)? (jlong) size: (jlong) -1;
 }
+
+/**
+ * Samples the process, memory, processor and container statistics in one call and
+ * stores them into an OperatingSystemMetrics object. Each statistic is read once;
+ * the memory statistics come from a single read of the system (or, inside a container
+ * with a memory limit, cgroup) memory information. Statistics that are not available
+ * are reported as -1.
+ *
+ * Class:     com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl
+ * Method:    getMetricsImpl
+ *
+ * @param[in] env The JNI env.
+ * @param[in] instance The this pointer.
+ * @param[in] metricsObject An object of type OperatingSystemMetrics
+ */
+void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMetricsImpl(JNIEnv *env, jobject instance, jobject metricsObject)
+{
+	jmethodID MID_updateValues = JCL_CACHE_GET(env, MID_com_ibm_lang_management_OperatingSystemMetrics_updateValues);
+	omrthread_process_time_t processTime = {0};
+	J9MemoryInfo memInfo = {0};
+	jlong processCpuTime = -1;
+	jdouble systemCpuLoad = 0.0;
+	jlong processPhysical = -1;
+	jlong processPrivate = -1;
+	jlong processVirtual = -1;
+	jlong openFiles = -1;
+	jlong maxFiles = -1;
+	jlong totalPhysical = -1;
+	jlong freePhysical = -1;
+	jlong totalSwap = -1;
+	jlong freeSwap = -1;
+	jlong cached = -1;
+	jlong buffered = -1;
+	jint onlineProcessors = 0;
+	jint availableProcessors = 0;
+	jlong containerMemoryLimit = -1;
+	jboolean containerized = JNI_FALSE;
+	uint64_t value = 0;
+	U_32 limitRc = 0;
+	PORT_ACCESS_FROM_ENV(env);
+	OMRPORT_ACCESS_FROM_J9PORT(PORTLIB);
+
+	if (NULL == MID_updateValues) {
+		jclass CID_OperatingSystemMetrics = (*env)->GetObjectClass(env, metricsObject);
+
+		MID_updateValues = (*env)->GetMethodID(env, CID_OperatingSystemMetrics, "updateValues", "(JJDJJJJJJJJJJJIIJZ)V");
+		(*env)->DeleteLocalRef(env, CID_OperatingSystemMetrics);
+		if (NULL == MID_updateValues) {
+			return;
+		}
+		JCL_CACHE_SET(env, MID_com_ibm_lang_management_OperatingSystemMetrics_updateValues, MID_updateValues);
+	}
+
+	if (0 == omrthread_get_process_times(&processTime)) {
+		processCpuTime = (jlong)(processTime._userTime + processTime._systemTime);
+	}
+	systemCpuLoad = getSystemCpuLoad(env);
+
+	if (0 == j9vmem_get_process_memory_size(J9PORT_VMEM_PROCESS_PHYSICAL, &value)) {
+		processPhysical = (jlong)value;
+	}
+	if (0 == j9vmem_get_process_memory_size(J9PORT_VMEM_PROCESS_PRIVATE, &value)) {
+		processPrivate = (jlong)value;
+	}
+	if (0 == j9vmem_get_process_memory_size(J9PORT_VMEM_PROCESS_VIRTUAL, &value)) {
+		processVirtual = (jlong)value;
+	}
+
+	if (j9sysinfo_get_open_file_count(&value) >= 0) {
+		openFiles = (jlong)value;
+	}
+	limitRc = j9sysinfo_get_limit(OMRPORT_RESOURCE_FILE_DESCRIPTORS, &value);
+	if (OMRPORT_LIMIT_UNLIMITED == limitRc) {
+		maxFiles = (jlong)LLONG_MAX;
+	} else if (OMRPORT_LIMIT_UNKNOWN != limitRc) {
+		maxFiles = (jlong)value;
+	}
+
+	/* The port library reports the cgroup limit and usage here when a memory limit is set. */
+	if (0 == j9sysinfo_get_memory_info(&memInfo)) {
+		totalPhysical = (jlong)memInfo.totalPhysical;
+		freePhysical = (jlong)memInfo.availPhysical;
+		totalSwap = (jlong)memInfo.totalSwap;
+		freeSwap = (jlong)memInfo.availSwap;
+		cached = (jlong)memInfo.cached;
+		buffered = (jlong)memInfo.buffered;
+	}
+
+	onlineProcessors = (jint)j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_ONLINE);
+	if (0 == onlineProcessors) {
+		onlineProcessors = 1;
+	}
+	/* The target CPU count honours the cgroup CPU quota and -XX:ActiveProcessorCount. */
+	availableProcessors = (jint)j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET);
+	if (0 == availableProcessors) {
+		availableProcessors = onlineProcessors;
+	}
+
+	containerized = omrsysinfo_is_running_in_container() ? JNI_TRUE : JNI_FALSE;
+	if ((OMR_CGROUP_SUBSYSTEM_MEMORY == omrsysinfo_cgroup_are_subsystems_enabled(OMR_CGROUP_SUBSYSTEM_MEMORY))
+	&& (0 == omrsysinfo_cgroup_get_memlimit(&value))
+	) {
+		containerMemoryLimit = (jlong)value;
+	}
+
+	(*env)->CallVoidMethod(env,
+			metricsObject,
+			MID_updateValues,
+			(jlong)j9time_current_time_millis(),
+			processCpuTime,
+			systemCpuLoad,
+			processPhysical,
+			processPrivate,
+			processVirtual,
+			openFiles,
+			maxFiles,
+			totalPhysical,
+			freePhysical,
+			totalSwap,
+			freeSwap,
+			cached,
+			buffered,
+			onlineProcessors,
+			availableProcessors,
+			containerMemoryLimit,
+			containerized);
+}
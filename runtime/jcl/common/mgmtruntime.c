@@ -23,8 +23,29 @@
 #include "jni.h"
 #include "j9.h"
 #include "j2sever.h"
+#include "jcl_internal.h"
+#include "jclprots.h"
 #include "ut_j9jcl.h"
 
+/* Indices into the counters array, which must match openj9.internal.tools.attach.target.VMCounters */
+typedef enum {
+	VM_COUNTER_TIMESTAMP = 0,
+	VM_COUNTER_UPTIME,
+	VM_COUNTER_HEAP_USED,
+	VM_COUNTER_HEAP_COMMITTED,
+	VM_COUNTER_HEAP_MAX,
+	VM_COUNTER_GC_COUNT,
+	VM_COUNTER_GC_TIME,
+	VM_COUNTER_COMPILATION_TIME,
+	VM_COUNTER_CLASSES_LOADED,
+	VM_COUNTER_CLASSES_UNLOADED,
+	VM_COUNTER_THREADS_LIVE,
+	VM_COUNTER_THREADS_DAEMON,
+	VM_COUNTER_THREADS_PEAK,
+	VM_COUNTER_THREADS_STARTED,
+	VM_COUNTER_COUNT
+} VMCounter;
+
 jobject JNICALL
 Java_com_ibm_java_lang_management_internal_RuntimeMXBeanImpl_getNameImpl(JNIEnv *env, jobject beanInstance)
 {
@@ -103,3 +124,74 @@ Java_com_ibm_lang_management_internal_ExtendedRuntimeMXBeanImpl_getVMIdleStateIm
 
 	return (jint)(javaVM->vmRuntimeStateListener.vmRuntimeState); 
 }
+
+/**
+ * Sample the GC, JIT, class loading and thread counters of the VM in one call.
+ * The management data lock is taken once for all the counters it protects.
+ * @param counters array of VM_COUNTER_COUNT elements to receive the counters;
+ * times are in milliseconds and sizes in bytes, and unavailable counters are set to -1
+ */
+void JNICALL
+Java_openj9_internal_tools_attach_target_VMCounters_getVMCountersImpl(JNIEnv *env, jclass clazz, jlongArray counters)
+{
+	J9JavaVM *javaVM = ((J9VMThread *)env)->javaVM;
+	J9JavaLangManagementData *mgmt = javaVM->managementData;
+	J9MemoryManagerFunctions *mmFuncs = javaVM->memoryManagerFunctions;
+	jlong values[VM_COUNTER_COUNT];
+	I_64 timeNow = 0;
+	I_64 criuTimeDeltaMillis = 0;
+	U_64 heapCommitted = 0;
+	U_64 gcCount = 0;
+	U_64 gcTime = 0;
+	U_32 idx = 0;
+	PORT_ACCESS_FROM_JAVAVM(javaVM);
+
+	if ((*env)->GetArrayLength(env, counters) < VM_COUNTER_COUNT) {
+		throwNewIllegalArgumentException(env, NULL);
+		return;
+	}
+
+	timeNow = j9time_current_time_millis();
+#if defined(J9VM_OPT_CRIU_SUPPORT)
+	criuTimeDeltaMillis = javaVM->checkpointState.checkpointRestoreTimeDelta / J9PORT_TIME_NS_PER_MS;
+#endif /* defined(J9VM_OPT_CRIU_SUPPORT) */
+	values[VM_COUNTER_TIMESTAMP] = (jlong)timeNow;
+	values[VM_COUNTER_UPTIME] = (jlong)(timeNow - mgmt->vmStartTime - criuTimeDeltaMillis);
+
+	heapCommitted = mmFuncs->j9gc_heap_total_memory(javaVM);
+	values[VM_COUNTER_HEAP_USED] = (jlong)(heapCommitted - mmFuncs->j9gc_heap_free_memory(javaVM));
+	values[VM_COUNTER_HEAP_COMMITTED] = (jlong)heapCommitted;
+	values[VM_COUNTER_HEAP_MAX] = (jlong)mgmt->maximumHeapSize;
+
+	omrthread_rwmutex_enter_read(mgmt->managementDataLock);
+
+	for (idx = 0; idx < mgmt->supportedCollectors; ++idx) {
+		gcCount += mgmt->garbageCollectors[idx].lastGcInfo.index;
+		gcTime += mgmt->garbageCollectors[idx].totalGCTime;
+	}
+	values[VM_COUNTER_GC_COUNT] = (jlong)gcCount;
+	values[VM_COUNTER_GC_TIME] = (jlong)gcTime;
+
+	values[VM_COUNTER_COMPILATION_TIME] = -1;
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	if (NULL != javaVM->jitConfig) {
+		U_64 compilationTime = mgmt->totalCompilationTime;
+		if (mgmt->threadsCompiling > 0) {
+			compilationTime += checkedTimeInterval((U_64)j9time_nano_time(), (U_64)mgmt->lastCompilationStart) * mgmt->threadsCompiling;
+		}
+		values[VM_COUNTER_COMPILATION_TIME] = (jlong)(compilationTime / J9PORT_TIME_NS_PER_MS);
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
+	values[VM_COUNTER_CLASSES_LOADED] = (jlong)(mgmt->totalClassLoads - mgmt->totalClassUnloads);
+	values[VM_COUNTER_CLASSES_UNLOADED] = (jlong)mgmt->totalClassUnloads;
+
+	values[VM_COUNTER_THREADS_LIVE] = (jlong)mgmt->liveJavaThreads;
+	values[VM_COUNTER_THREADS_DAEMON] = (jlong)mgmt->liveJavaDaemonThreads;
+	values[VM_COUNTER_THREADS_PEAK] = (jlong)mgmt->peakLiveJavaThreads;
+	values[VM_COUNTER_THREADS_STARTED] = (jlong)mgmt->totalJavaThreadsStarted;
+
+	omrthread_rwmutex_exit_read(mgmt->managementDataLock);
+
+	(*env)->SetLongArrayRegion(env, counters, 0, VM_COUNTER_COUNT, values);
+}
@@ -44,6 +44,7 @@
 #include "j9cp.h"
 #include "jniidcacheinit.h"
 
+#include <stdlib.h>
 #include <string.h>
 
 #include "vmaccess.h"
@@ -139,6 +140,14 @@ static jboolean isInNative(JNIEnv *env, jobjectArray stackTrace);
 
 static void throwError(J9VMThread * currentThread, UDATA exc);
 static jlong findNativeThreadId(J9VMThread *currentThread, jlong threadID);
+static int compareThreadIDIndex(const void *left, const void *right);
+static jlong getVMThreadAllocatedBytes(J9VMThread *currentThread, J9VMThread *targetThread);
+static jlong getVMThreadCpuTime(J9VMThread *currentThread, J9VMThread *targetThread);
+
+typedef struct ThreadIDIndex {
+	jlong threadID;
+	jsize index;
+} ThreadIDIndex;
 
 static void
 throwError(J9VMThread * currentThread, UDATA exc)
@@ -498,6 +507,200 @@ done:
 	return result;
 }
 
+static int
+compareThreadIDIndex(const void *left, const void *right)
+{
+	jlong leftID = ((const ThreadIDIndex *)left)->threadID;
+	jlong rightID = ((const ThreadIDIndex *)right)->threadID;
+
+	if (leftID < rightID) {
+		return -1;
+	}
+	return (leftID > rightID) ? 1 : 0;
+}
+
+static jlong
+getVMThreadAllocatedBytes(J9VMThread *currentThread, J9VMThread *targetThread)
+{
+	UDATA allocatedBytes = 0;
+	jlong result = -1;
+
+	if (currentThread->javaVM->memoryManagerFunctions->j9gc_get_cumulative_bytes_allocated_by_thread(targetThread, &allocatedBytes)) {
+		result = (jlong)allocatedBytes;
+	}
+	return result;
+}
+
+static jlong
+getVMThreadCpuTime(J9VMThread *currentThread, J9VMThread *targetThread)
+{
+	if (currentThread == targetThread) {
+		return omrthread_get_self_cpu_time(currentThread->osThread);
+	}
+	return omrthread_get_cpu_time(targetThread->osThread);
+}
+
+/**
+ * Sample the allocated bytes and CPU time of a set of threads. Rather than
+ * searching the thread list once for each ID, the IDs are sorted and the
+ * thread list is walked once, looking each thread up in the sorted IDs.
+ *
+ * @param[in] env The JNI env.
+ * @param[in] clazz The ExtendedThreadMXBeanImpl class.
+ * @param[in] threadIDs The IDs of the threads to sample.
+ * @param[out] allocatedBytes The bytes allocated by each thread, or NULL if not required.
+ * @param[out] cpuTimes The CPU time of each thread, or NULL if not required.
+ * Entries for threads which are not alive are set to -1.
+ */
+void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadResourceUsageImpl(JNIEnv *env, jclass clazz, jlongArray threadIDs, jlongArray allocatedBytes, jlongArray cpuTimes)
+{
+	PORT_ACCESS_FROM_ENV(env);
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmfns = javaVM->internalVMFunctions;
+	J9VMThread *targetThread = NULL;
+	ThreadIDIndex *sortedIDs = NULL;
+	jlong *results = NULL;
+	jlong *allocatedResults = NULL;
+	jlong *cpuResults = NULL;
+	jsize arrLen = (*env)->GetArrayLength(env, threadIDs);
+	jsize i = 0;
+
+	if (0 == arrLen) {
+		return;
+	}
+
+	/* One allocation holds the sorted IDs followed by both result arrays. */
+	sortedIDs = j9mem_allocate_memory(arrLen * (sizeof(ThreadIDIndex) + (2 * sizeof(jlong))), J9MEM_CATEGORY_VM_JCL);
+	if (NULL == sortedIDs) {
+		vmfns->throwNativeOOMError(env, 0, 0);
+		return;
+	}
+	results = (jlong *)(sortedIDs + arrLen);
+	allocatedResults = results;
+	cpuResults = results + arrLen;
+
+	(*env)->GetLongArrayRegion(env, threadIDs, 0, arrLen, results);
+	if ((*env)->ExceptionCheck(env)) {
+		goto done;
+	}
+	for (i = 0; i < arrLen; i++) {
+		sortedIDs[i].threadID = results[i];
+		sortedIDs[i].index = i;
+		allocatedResults[i] = -1;
+		cpuResults[i] = -1;
+	}
+	qsort(sortedIDs, (size_t)arrLen, sizeof(ThreadIDIndex), compareThreadIDIndex);
+
+	vmfns->internalEnterVMFromJNI(currentThread);
+	omrthread_monitor_enter(javaVM->vmThreadListMutex);
+	targetThread = currentThread;
+	do {
+		j9object_t threadObject = targetThread->threadObject;
+		if ((NULL != threadObject) && (NULL != J9VMJAVALANGTHREAD_THREADREF(currentThread, threadObject))) {
+			ThreadIDIndex key;
+			ThreadIDIndex *match = NULL;
+
+			key.threadID = getThreadID(currentThread, threadObject);
+			match = bsearch(&key, sortedIDs, (size_t)arrLen, sizeof(ThreadIDIndex), compareThreadIDIndex);
+			if (NULL != match) {
+				jlong bytes = (NULL != allocatedBytes) ? getVMThreadAllocatedBytes(currentThread, targetThread) : -1;
+				jlong cpuTime = (NULL != cpuTimes) ? getVMThreadCpuTime(currentThread, targetThread) : -1;
+				ThreadIDIndex *end = sortedIDs + arrLen;
+
+				/* The same ID may have been requested more than once. */
+				while ((match > sortedIDs) && ((match - 1)->threadID == key.threadID)) {
+					match -= 1;
+				}
+				for (; (match < end) && (match->threadID == key.threadID); match++) {
+					allocatedResults[match->index] = bytes;
+					cpuResults[match->index] = cpuTime;
+				}
+			}
+		}
+		targetThread = targetThread->linkNext;
+	} while (targetThread != currentThread);
+	omrthread_monitor_exit(javaVM->vmThreadListMutex);
+	vmfns->internalExitVMToJNI(currentThread);
+
+	if (NULL != allocatedBytes) {
+		(*env)->SetLongArrayRegion(env, allocatedBytes, 0, arrLen, allocatedResults);
+	}
+	if (NULL != cpuTimes) {
+		(*env)->SetLongArrayRegion(env, cpuTimes, 0, arrLen, cpuResults);
+	}
+
+done:
+	j9mem_free_memory(sortedIDs);
+}
+
+/**
+ * Sample the allocated bytes and CPU time of all live threads in a single
+ * walk of the thread list.
+ *
+ * @param[in] env The JNI env.
+ * @param[in] clazz The ExtendedThreadMXBeanImpl class.
+ * @param[in] allocatedBytes Whether to sample allocated bytes.
+ * @param[in] cpuTime Whether to sample CPU time.
+ * @return An array of {thread ID, allocated bytes, CPU time} triples, where
+ * values not sampled are -1, or NULL if an exception is pending.
+ */
+jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getAllThreadResourceUsageImpl(JNIEnv *env, jclass clazz, jboolean allocatedBytes, jboolean cpuTime)
+{
+	PORT_ACCESS_FROM_ENV(env);
+	J9VMThread *currentThread = (J9VMThread *)env;
+	J9JavaVM *javaVM = currentThread->javaVM;
+	J9InternalVMFunctions *vmfns = javaVM->internalVMFunctions;
+	J9VMThread *targetThread = NULL;
+	jlongArray resultArray = NULL;
+	jlong *usage = NULL;
+	jsize count = 0;
+
+	vmfns->internalEnterVMFromJNI(currentThread);
+	omrthread_monitor_enter(javaVM->vmThreadListMutex);
+
+	usage = j9mem_allocate_memory(javaVM->totalThreadCount * 3 * sizeof(jlong), J9MEM_CATEGORY_VM_JCL);
+	if (NULL == usage) {
+		omrthread_monitor_exit(javaVM->vmThreadListMutex);
+		vmfns->internalExitVMToJNI(currentThread);
+		vmfns->throwNativeOOMError(env, 0, 0);
+		return NULL;
+	}
+
+	targetThread = javaVM->mainThread;
+	do {
+#if JAVA_SPEC_VERSION >= 19
+		j9object_t threadObject = targetThread->carrierThreadObject;
+#else /* JAVA_SPEC_VERSION >= 19 */
+		j9object_t threadObject = targetThread->threadObject;
+#endif /* JAVA_SPEC_VERSION >= 19 */
+		if ((NULL != threadObject) && (NULL != J9VMJAVALANGTHREAD_THREADREF(currentThread, threadObject))) {
+			/* exclude threads which have not initialized their ID */
+			jlong threadID = getThreadID(currentThread, threadObject);
+			if (((jlong)0) != threadID) {
+				jlong *entry = usage + (3 * count);
+				entry[0] = threadID;
+				entry[1] = allocatedBytes ? getVMThreadAllocatedBytes(currentThread, targetThread) : -1;
+				entry[2] = cpuTime ? getVMThreadCpuTime(currentThread, targetThread) : -1;
+				count += 1;
+			}
+		}
+	} while ((targetThread = targetThread->linkNext) != javaVM->mainThread);
+
+	omrthread_monitor_exit(javaVM->vmThreadListMutex);
+	vmfns->internalExitVMToJNI(currentThread);
+
+	resultArray = (*env)->NewLongArray(env, 3 * count);
+	if (NULL != resultArray) {
+		(*env)->SetLongArrayRegion(env, resultArray, 0, 3 * count, usage);
+	}
+	j9mem_free_memory(usage);
+
+	return resultArray;
+}
+
 void JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_resetPeakThreadCountImpl(JNIEnv *env, jobject beanInstance)
 {
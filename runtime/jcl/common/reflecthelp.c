@@ -1275,6 +1275,146 @@ exit:
 	return result;
 }
 
+/* Classes declaring fewer methods and fields than this are searched linearly. */
+#define REFLECT_NAME_INDEX_THRESHOLD 32
+
+static U_32
+reflectNameIndexBucketCount(U_32 count)
+{
+	U_32 buckets = 1;
+
+	while (buckets < count) {
+		buckets <<= 1;
+	}
+	return buckets;
+}
+
+static J9ReflectNameIndex *
+buildReflectNameIndex(J9VMThread *vmThread, J9Class *clazz)
+{
+	J9ROMClass *romClass = clazz->romClass;
+	U_32 methodCount = romClass->romMethodCount;
+	U_32 fieldCount = romClass->romFieldCount;
+	U_32 methodBuckets = reflectNameIndexBucketCount(methodCount);
+	U_32 fieldBuckets = reflectNameIndexBucketCount(fieldCount);
+	UDATA size = sizeof(J9ReflectNameIndex)
+			+ (fieldCount * sizeof(J9ROMFieldShape *))
+			+ ((methodBuckets + methodCount + fieldBuckets + fieldCount) * sizeof(U_32));
+	J9ReflectNameIndex *index = NULL;
+	PORT_ACCESS_FROM_VMC(vmThread);
+
+	index = (J9ReflectNameIndex *)j9mem_allocate_memory(size, J9MEM_CATEGORY_VM_JCL);
+	if (NULL != index) {
+		J9ROMFieldWalkState state;
+		J9ROMFieldShape *romField = NULL;
+		U_32 i = 0;
+
+		memset(index, 0, size);
+		index->romClass = romClass;
+		index->methodBucketMask = methodBuckets - 1;
+		index->fieldBucketMask = fieldBuckets - 1;
+		index->fields = (J9ROMFieldShape **)(index + 1);
+		index->methodHeads = (U_32 *)(index->fields + fieldCount);
+		index->methodNext = index->methodHeads + methodBuckets;
+		index->fieldHeads = index->methodNext + methodCount;
+		index->fieldNext = index->fieldHeads + fieldBuckets;
+
+		/* Insert in reverse so that every chain is in declaration order. */
+		for (i = methodCount; i > 0; i--) {
+			J9UTF8 *nameUTF = J9ROMMETHOD_NAME(J9_ROM_METHOD_FROM_RAM_METHOD(clazz->ramMethods + i - 1));
+			U_32 bucket = (U_32)computeHashForUTF8(J9UTF8_DATA(nameUTF), J9UTF8_LENGTH(nameUTF)) & index->methodBucketMask;
+
+			index->methodNext[i - 1] = index->methodHeads[bucket];
+			index->methodHeads[bucket] = i;
+		}
+
+		memset(&state, 0, sizeof(state));
+		i = 0;
+		for (romField = romFieldsStartDo(romClass, &state);
+			(NULL != romField) && (i < fieldCount);
+			romField = romFieldsNextDo(&state)
+		) {
+			index->fields[i] = romField;
+			i += 1;
+		}
+		for (; i > 0; i--) {
+			J9UTF8 *nameUTF = J9ROMFIELDSHAPE_NAME(index->fields[i - 1]);
+			U_32 bucket = (U_32)computeHashForUTF8(J9UTF8_DATA(nameUTF), J9UTF8_LENGTH(nameUTF)) & index->fieldBucketMask;
+
+			index->fieldNext[i - 1] = index->fieldHeads[bucket];
+			index->fieldHeads[bucket] = i;
+		}
+	}
+	return index;
+}
+
+J9ReflectNameIndex *
+getReflectNameIndex(J9VMThread *vmThread, J9Class *clazz)
+{
+	J9ROMClass *romClass = clazz->romClass;
+	J9ReflectNameIndex *index = clazz->reflectNameIndex;
+
+	if (NULL == index) {
+		if (J9ROMCLASS_IS_PRIMITIVE_OR_ARRAY(romClass)
+			|| ((romClass->romMethodCount < REFLECT_NAME_INDEX_THRESHOLD) && (romClass->romFieldCount < REFLECT_NAME_INDEX_THRESHOLD))
+		) {
+			return NULL;
+		}
+		index = buildReflectNameIndex(vmThread, clazz);
+		if (NULL != index) {
+			/* Another thread may have installed an index for this class first. */
+			if ((UDATA)NULL != compareAndSwapUDATA((UDATA *)&clazz->reflectNameIndex, (UDATA)NULL, (UDATA)index)) {
+				PORT_ACCESS_FROM_VMC(vmThread);
+				j9mem_free_memory(index);
+				index = clazz->reflectNameIndex;
+			}
+		}
+	}
+	if ((NULL != index) && (index->romClass != romClass)) {
+		index = NULL;
+	}
+	return index;
+}
+
+J9Method *
+findDeclaredMethodByName(J9ReflectNameIndex *index, J9Class *clazz, const U_8 *name, UDATA nameLength, J9Method *startMethod)
+{
+	U_32 bucket = (U_32)computeHashForUTF8(name, nameLength) & index->methodBucketMask;
+	UDATA startIndex = startMethod - clazz->ramMethods;
+	U_32 next = index->methodHeads[bucket];
+
+	while (0 != next) {
+		if ((next - 1) >= startIndex) {
+			J9Method *method = clazz->ramMethods + next - 1;
+			J9UTF8 *nameUTF = J9ROMMETHOD_NAME(J9_ROM_METHOD_FROM_RAM_METHOD(method));
+
+			if (J9UTF8_DATA_EQUALS(J9UTF8_DATA(nameUTF), J9UTF8_LENGTH(nameUTF), name, nameLength)) {
+				return method;
+			}
+		}
+		next = index->methodNext[next - 1];
+	}
+	return NULL;
+}
+
+J9ROMFieldShape *
+findDeclaredFieldByName(J9ReflectNameIndex *index, const U_8 *name, UDATA nameLength)
+{
+	U_32 bucket = (U_32)computeHashForUTF8(name, nameLength) & index->fieldBucketMask;
+	U_32 next = index->fieldHeads[bucket];
+
+	while (0 != next) {
+		J9ROMFieldShape *romField = index->fields[next - 1];
+		J9UTF8 *nameUTF = J9ROMFIELDSHAPE_NAME(romField);
+
+		if (J9UTF8_DATA_EQUALS(J9UTF8_DATA(nameUTF), J9UTF8_LENGTH(nameUTF), name, nameLength)) {
+			return romField;
+		}
+		next = index->fieldNext[next - 1];
+	}
+	return NULL;
+}
+
 #if JAVA_SPEC_VERSION >= 10
 /* The caller must have VM access. */
 J9ROMFieldShape *
@@ -1358,6 +1498,8 @@ getFieldObjHelper(J9VMThread *vmThread, jclass declaringClass, jstring fieldName
 	J9ROMFieldShape *romField = NULL;
 	j9object_t fieldNameObj = NULL;
 	j9object_t fieldObj = NULL;
+	J9ReflectNameIndex *nameIndex = NULL;
+	UDATA inconsistentData = 0;
 	J9ROMFieldWalkState state;
 
 	Assert_JCL_mustHaveVMAccess(vmThread);
@@ -1378,6 +1520,25 @@ getFieldObjHelper(J9VMThread *vmThread, jclass declaringClass, jstring fieldName
 		goto nosuchfield;
 	}
 
+	nameIndex = getReflectNameIndex(vmThread, clazz);
+	if (NULL != nameIndex) {
+		char nameBuffer[128];
+		UDATA nameLength = 0;
+		char *name = vmFuncs->copyStringToUTF8WithMemAlloc(vmThread, fieldNameObj, J9_STR_NONE, "", 0, nameBuffer, sizeof(nameBuffer), &nameLength);
+
+		if (NULL != name) {
+			romField = findDeclaredFieldByName(nameIndex, (U_8 *)name, nameLength);
+			if (nameBuffer != name) {
+				PORT_ACCESS_FROM_VMC(vmThread);
+				j9mem_free_memory(name);
+			}
+			if (NULL == romField) {
+				goto nosuchfield;
+			}
+			goto found;
+		}
+	}
+
 	/* loop over the fields */
 	memset(&state, 0, sizeof(state));
 	romField = romFieldsStartDo(romClass, &state);
@@ -1386,28 +1547,7 @@ getFieldObjHelper(J9VMThread *vmThread, jclass declaringClass, jstring fieldName
 
 		/* compare name with this field */
 		if (0 != vmFuncs->compareStringToUTF8(vmThread, fieldNameObj, 0, J9UTF8_DATA(romFieldName), J9UTF8_LENGTH(romFieldName))) {
-			UDATA inconsistentData = 0;
-
-			if (romField->modifiers & J9AccStatic) {
-				/* create static field object */
-				fieldObj = createStaticFieldObject(romField, clazz, clazz, vmThread, &inconsistentData);
-			} else {
-				/* create instance field object */
-				fieldObj = createInstanceFieldObject(romField, clazz, clazz, vmThread, &inconsistentData);
-			}
-			if (NULL != vmThread->currentException) {
-				goto done;
-			}
-			/* There is no window here for redefinition to cause a mismatch
-			 * between declaringClass->romClass and the romField in this code.
-			 */
-			Assert_JCL_true(0 == inconsistentData);
-
-			if (NULL == fieldObj) {
-				goto heapoutofmemory;
-			}
-
-			goto done;
+			goto found;
 		}
 
 		romField = romFieldsNextDo(&state);
@@ -1417,6 +1557,27 @@ nosuchfield:
 	vmFuncs->setCurrentException(vmThread, J9VMCONSTANTPOOL_JAVALANGNOSUCHFIELDEXCEPTION, (UDATA *)*(j9object_t *)fieldName);
 	goto done;
 
+found:
+	if (romField->modifiers & J9AccStatic) {
+		/* create static field object */
+		fieldObj = createStaticFieldObject(romField, clazz, clazz, vmThread, &inconsistentData);
+	} else {
+		/* create instance field object */
+		fieldObj = createInstanceFieldObject(romField, clazz, clazz, vmThread, &inconsistentData);
+	}
+	if (NULL != vmThread->currentException) {
+		goto done;
+	}
+	/* There is no window here for redefinition to cause a mismatch
+	 * between declaringClass->romClass and the romField in this code.
+	 */
+	Assert_JCL_true(0 == inconsistentData);
+
+	if (NULL == fieldObj) {
+		goto heapoutofmemory;
+	}
+	goto done;
+
 nullpointer:
 	vmFuncs->setCurrentException(vmThread, J9VMCONSTANTPOOL_JAVALANGNULLPOINTEREXCEPTION, NULL);
 	goto done;
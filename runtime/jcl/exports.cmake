@@ -31,6 +31,9 @@ omr_add_exports(jclse
 	Java_openj9_internal_management_ClassLoaderInfoBaseImpl_getUnloadedClassCountImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_isVerboseImpl
 	Java_com_ibm_java_lang_management_internal_ClassLoadingMXBeanImpl_setVerboseImpl
+	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getCompilationCPUBudgetImpl
+	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getCompilationCPUBudgetUsageImpl
+	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getDeferredCompilationCountImpl
 	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getTotalCompilationTimeImpl
 	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_isCompilationTimeMonitoringSupportedImpl
 	Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_isJITEnabled
@@ -111,7 +114,9 @@ omr_add_exports(jclse
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_resetPeakThreadCountImpl
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadContentionMonitoringEnabledImpl
 	Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_setThreadCpuTimeEnabledImpl
+	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getAllThreadResourceUsageImpl
 	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl
+	Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadResourceUsageImpl
 	Java_com_ibm_jit_JITHelpers_arrayShapeElementCountMask
 	Java_com_ibm_jit_JITHelpers_getNumBitsInDescriptionWord
 	Java_com_ibm_jit_JITHelpers_getNumBitsInReferenceField
@@ -214,10 +219,15 @@ omr_add_exports(jclse
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_Object_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2
 	Java_com_ibm_jvm_Trace_traceImpl__IILjava_lang_String_2Ljava_lang_String_2Ljava_lang_String_2
+	Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_drainCompilationEventsImpl
+	Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getDroppedCompilationEventCountImpl
+	Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_isCompilationEventRecordingEnabledImpl
+	Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_setCompilationEventRecordingEnabledImpl
 	Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLastGcInfoImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getFreePhysicalMemorySizeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getHardwareModelImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMemoryUsageImpl
+	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMetricsImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getOnlineProcessorsImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessCpuTimeImpl
 	Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessPhysicalMemorySizeImpl
@@ -235,6 +245,10 @@ omr_add_exports(jclse
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadsCpuUsageImpl
 	Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl
 	Java_com_ibm_lang_management_internal_MemoryNotificationThreadShutdown_sendShutdownNotification
+	Java_com_ibm_lang_management_internal_MonitorContention_getContendedMonitorsImpl
+	Java_com_ibm_lang_management_internal_MonitorContention_isProfilingEnabledImpl
+	Java_com_ibm_lang_management_internal_MonitorContention_resetImpl
+	Java_com_ibm_lang_management_internal_MonitorContention_setProfilingEnabledImpl
 	Java_com_ibm_lang_management_internal_MemoryNotificationThread_processNotificationLoop
 	Java_com_ibm_lang_management_internal_OperatingSystemNotificationThreadShutdown_sendShutdownNotification
 	Java_com_ibm_lang_management_internal_OperatingSystemNotificationThread_processNotificationLoop
@@ -243,6 +257,10 @@ omr_add_exports(jclse
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeapClassStatisticsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl
 	Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMonitorContentionImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_resetMonitorContentionImpl
+	Java_openj9_internal_tools_attach_target_DiagnosticUtils_setMonitorContentionProfilingImpl
+	Java_openj9_internal_tools_attach_target_VMCounters_getVMCountersImpl
 	Java_openj9_management_internal_IDCacheInitializer_initIDCache
 	Java_com_ibm_oti_reflect_AnnotationParser_getAnnotationsDataImpl__Ljava_lang_Class_2
 	Java_com_ibm_oti_reflect_AnnotationParser_getAnnotationsData__Ljava_lang_reflect_Constructor_2
@@ -313,6 +331,7 @@ omr_add_exports(jclse
 	Java_com_ibm_virtualization_management_internal_HypervisorMXBeanImpl_isEnvironmentVirtualImpl
 	Java_java_lang_Access_getConstantPool
 	Java_java_lang_ClassLoader_defineClassImpl
+	Java_java_lang_ClassLoader_defineClassesImpl
 	Java_java_lang_ClassLoader_foundJavaAssertOption
 	Java_java_lang_ClassLoader_isVerboseImpl
 	Java_java_lang_Class_allocateAndFillArray
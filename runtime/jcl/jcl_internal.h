@@ -82,6 +82,38 @@ J9ROMFieldShape *
 getROMFieldHelper(J9VMThread *vmThread, jclass declaringClass, jstring fieldName, UDATA *offsetResult);
 #endif /* JAVA_SPEC_VERSION >= 10 */
 
+/**
+ * The caller must have VM access.
+ * Return the hashed name index of the methods and fields declared by a class, building it on first use.
+ * @param[in] vmThread The current vmThread.
+ * @param[in] clazz The declaring class.
+ * @return J9ReflectNameIndex *, or NULL if the class is small enough to be searched linearly
+ */
+J9ReflectNameIndex *
+getReflectNameIndex(J9VMThread *vmThread, J9Class *clazz);
+
+/**
+ * Find the first method declared by a class with the given name, starting at startMethod.
+ * @param[in] index The name index returned by getReflectNameIndex() for clazz.
+ * @param[in] clazz The declaring class.
+ * @param[in] name The UTF8 method name.
+ * @param[in] nameLength The length of name.
+ * @param[in] startMethod The first RAM method of clazz to consider.
+ * @return J9Method *, or NULL if there is no such method
+ */
+J9Method *
+findDeclaredMethodByName(J9ReflectNameIndex *index, J9Class *clazz, const U_8 *name, UDATA nameLength, J9Method *startMethod);
+
+/**
+ * Find the first field declared by a class with the given name.
+ * @param[in] index The name index returned by getReflectNameIndex().
+ * @param[in] name The UTF8 field name.
+ * @param[in] nameLength The length of name.
+ * @return J9ROMFieldShape *, or NULL if there is no such field
+ */
+J9ROMFieldShape *
+findDeclaredFieldByName(J9ReflectNameIndex *index, const U_8 *name, UDATA nameLength);
+
 /**
  * The caller must have VM access. 
  * Build a java.lang.reflect.Field object for a field specified with a name and a declaring class.
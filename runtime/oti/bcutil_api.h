@@ -102,6 +102,54 @@ j9bcutil_transformROMClass(J9JavaVM *javaVM, J9PortLibrary *portLibrary, J9ROMCl
 IDATA
 j9bcutil_buildRomClass(J9LoadROMClassData *loadData, U_8 * intermediateData, UDATA intermediateDataLength, J9JavaVM *javaVM, UDATA bctFlags, UDATA classFileBytesReplaced, UDATA isIntermediateROMClass, J9TranslationLocalBuffer *localBuffer);
 
+/**
+* @brief Allocate a ROMClass builder for j9bcutil_buildRomClassImage. Each thread
+* building images needs its own builder.
+* @param javaVM
+* @return void* the builder, or NULL if no memory is available
+*/
+void *
+j9bcutil_allocROMClassImageBuilder(J9JavaVM *javaVM);
+
+/**
+* @brief Free a builder allocated by j9bcutil_allocROMClassImageBuilder.
+* @param javaVM
+* @param builder
+*/
+void
+j9bcutil_freeROMClassImageBuilder(J9JavaVM *javaVM, void *builder);
+
+/**
+* @brief Build a ROMClass for a class file in a buffer that does not belong to any class loader.
+* The ROMClass is built as it would be for classLoader, but without string interning or
+* out of line debug information, so it can be copied anywhere with j9bcutil_copyROMClassImage.
+* Safe to call concurrently, with different builders, from threads that are not attached to the VM.
+* @param builder a builder allocated by j9bcutil_allocROMClassImageBuilder
+* @param javaVM
+* @param classLoader the class loader that will define the class
+* @param className the expected class name
+* @param classNameLength
+* @param classData the class file bytes
+* @param classDataLength
+* @param bctFlags translation flags
+* @param findClassFlags the options the class will be defined with
+* @param [out] romClassImage the image, to be freed with j9mem_free_memory
+* @return IDATA BCT_ERR_NO_ERROR on success
+*/
+IDATA
+j9bcutil_buildRomClassImage(void *builder, J9JavaVM *javaVM, J9ClassLoader *classLoader, U_8 *className, UDATA classNameLength, U_8 *classData, UDATA classDataLength, UDATA bctFlags, UDATA findClassFlags, J9ROMClass **romClassImage);
+
+/**
+* @brief Copy a ROMClass image built by j9bcutil_buildRomClassImage into the ROM segments of a class loader.
+* The caller must hold the classTableMutex.
+* @param javaVM
+* @param classLoader
+* @param romClassImage
+* @return J9ROMClass* the copy, or NULL if no memory is available
+*/
+J9ROMClass *
+j9bcutil_copyROMClassImage(J9JavaVM *javaVM, J9ClassLoader *classLoader, J9ROMClass *romClassImage);
+
 void
 shutdownROMClassBuilder(J9JavaVM *vm);
 
@@ -242,6 +290,42 @@ UDATA
 internalLoadROMClass(J9VMThread *vmThread, J9LoadROMClassData *loadData, J9TranslationLocalBuffer *localBuffer);
 
 
+/**
+* @brief Build position independent ROMClass images for a batch of class files
+* using the worker threads of the ROMClass image pool, and the calling thread.
+* Images that cannot be built (including class files that are not
+* valid) are left NULL, so the class is created the usual way when it is defined.
+* Images are passed to internalDefineClass in J9TranslationLocalBuffer.romClassImage
+* and must be freed by the caller with j9mem_free_memory.
+* The caller must not have VM access or hold the classTableMutex.
+* @param vmThread the current thread
+* @param classLoader the class loader that will define the classes
+* @param entries the class files
+* @param count the number of entries
+* @param options the J9_FINDCLASS_FLAG_* options the classes will be defined with
+* @return UDATA the number of images built
+*/
+UDATA
+buildROMClassImages(J9VMThread *vmThread, J9ClassLoader *classLoader, J9ROMClassBatchEntry *entries, UDATA count, UDATA options);
+
+/**
+* @brief Create the pool of threads shared by buildROMClassImages. The threads are
+* started when the first batch is submitted. If there is no pool, for example on a
+* single CPU, no images are built and each class is created when it is defined.
+* @param vm
+* @return UDATA 0 on success, non-zero if the pool could not be created
+*/
+UDATA
+initializeROMClassImagePool(J9JavaVM *vm);
+
+/**
+* @brief Stop the threads of the ROMClass image pool and free it.
+* @param vm
+*/
+void
+shutdownROMClassImagePool(J9JavaVM *vm);
+
+
 #endif /* J9VM_OPT_DYNAMIC_LOAD_SUPPORT */ /* End File Level Build Flags */
 
 
@@ -377,6 +377,11 @@ extern "C" {
 #define J9_EXTENDED_RUNTIME3_DISCLAIM_ROM_CLASS_MEMORY 0x10
 #define J9_EXTENDED_RUNTIME3_DISCLAIM_RAM_CLASS_MEMORY 0x20
 #define J9_EXTENDED_RUNTIME3_USE_DEBUG_LOCAL_MAP 0x40
+#define J9_EXTENDED_RUNTIME3_DISABLE_FFI_DIRECT_DOWNCALL 0x80
+#define J9_EXTENDED_RUNTIME3_COMPACT_CONTINUATION_STACKS 0x100
+#define J9_EXTENDED_RUNTIME3_MONITOR_CONTENTION_PROFILING 0x200
+#define J9_EXTENDED_RUNTIME3_ADAPTIVE_MONITOR_SPIN 0x400
+#define J9_EXTENDED_RUNTIME3_INTERN_STACK_TRACES 0x800
 
 #define J9_OBJECT_HEADER_AGE_DEFAULT 0xA /* OBJECT_HEADER_AGE_DEFAULT */
 #define J9_OBJECT_HEADER_SHAPE_MASK 0xE /* OBJECT_HEADER_SHAPE_MASK */
@@ -975,6 +980,16 @@ extern "C" {
 #define J9JFR_EVENT_TYPE_THREAD_STATISTICS 10
 #define J9JFR_EVENT_TYPE_MONITOR_ENTER 11
 #define J9JFR_EVENT_TYPE_SYSTEM_GC 12
+#define J9JFR_EVENT_TYPE_COMPILATION 13
+#define J9JFR_EVENT_TYPE_COMPILER_INLINING 14
+#define J9JFR_EVENT_TYPE_DEOPTIMIZATION 15
+
+/* JFR compiler types */
+
+#define J9JFR_COMPILER_TYPE_JIT 0
+#define J9JFR_COMPILER_TYPE_AOT 1
+#define J9JFR_COMPILER_TYPE_JITSERVER 2
+#define J9JFR_COMPILER_TYPE_COUNT 3
 
 /* JFR thread states */
 
@@ -513,6 +513,35 @@ typedef struct J9JFRSystemGC {
 
 #define J9JFRSYSTEMGC_STACKTRACE(jfrEvent) ((UDATA *)(((J9JFRSystemGC *)(jfrEvent)) + 1))
 
+typedef struct J9JFRCompilation {
+	J9JFR_EVENT_COMMON_FIELDS
+	I_64 duration;
+	struct J9Method *method;
+	U_32 compileID;
+	U_16 compileLevel;
+	U_8 compilerType;
+	BOOLEAN isOSR;
+	UDATA codeSize;
+	UDATA inlinedBytes;
+} J9JFRCompilation;
+
+typedef struct J9JFRCompilerInlining {
+	J9JFR_EVENT_COMMON_FIELDS
+	struct J9Method *caller;
+	struct J9Method *callee;
+	U_32 compileID;
+	I_32 bci;
+} J9JFRCompilerInlining;
+
+/* Variable-size structure - stackTraceSize worth of UDATA follow the fixed portion */
+typedef struct J9JFRDeoptimization {
+	J9JFR_EVENT_WITH_STACKTRACE_FIELDS
+	struct J9Method *method;
+	const char *reason;
+} J9JFRDeoptimization;
+
+#define J9JFRDEOPTIMIZATION_STACKTRACE(jfrEvent) ((UDATA *)(((J9JFRDeoptimization *)(jfrEvent)) + 1))
+
 #endif /* defined(J9VM_OPT_JFR) */
 
 /* @ddr_namespace: map_to_type=J9CfrError */
@@ -919,6 +948,29 @@ typedef struct J9ROMRecordComponentShape {
 #define J9VM_MAX_HEAP_MEMORYPOOL_COUNT 4
 #define J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT 4
 
+/* Per-phase statistics of a single collection, as reported by verbose GC.
+ * Every field is 64 bits wide so that the structure can be copied to a Java long[];
+ * the order must match the extended attributes of com.sun.management.GcInfo.
+ * Times are in microseconds, phases which did not run in the collection report 0.
+ */
+typedef struct J9GarbageCollectionPhaseInfo {
+	U_64 workerThreads;
+	U_64 copyTime;
+	U_64 markTime;
+	U_64 sweepTime;
+	U_64 compactTime;
+	U_64 classUnloadTime;
+	U_64 stallTime;
+	U_64 bytesCopied;
+	U_64 bytesTenured;
+	U_64 bytesCompacted;
+	I_64 bytesFreed;
+	U_64 referencesCleared;
+	U_64 referencesEnqueued;
+} J9GarbageCollectionPhaseInfo;
+
+#define J9VM_GC_PHASE_INFO_COUNT (sizeof(J9GarbageCollectionPhaseInfo) / sizeof(U_64))
+
 typedef struct J9GarbageCollectionInfo {
 	U_32 gcID;
 	U_32 arraySize;
@@ -934,6 +986,7 @@ typedef struct J9GarbageCollectionInfo {
 	U_64 postUsed[J9VM_MAX_HEAP_MEMORYPOOL_COUNT + J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT];
 	U_64 postCommitted[J9VM_MAX_HEAP_MEMORYPOOL_COUNT + J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT];
 	I_64 postMax[J9VM_MAX_HEAP_MEMORYPOOL_COUNT + J9VM_MAX_NONHEAP_MEMORYPOOL_COUNT];
+	J9GarbageCollectionPhaseInfo phaseInfo;
 } J9GarbageCollectionInfo;
 
 typedef struct J9GarbageCollectorData {
@@ -1026,6 +1079,17 @@ typedef struct J9JavaLangManagementData {
 	U_32 gcCurrentThreads;
 	char counterPath[2048];
 	U_32 isCounterPathInitialized;
+	omrthread_monitor_t monitorContentionMutex;
+	struct J9HashTable *monitorContentionTable;
+	struct J9MonitorContentionStripe *monitorContentionStripes;
+	U_32 monitorContentionProfilingFlag;
+	volatile UDATA monitorContentionDroppedCount;
+	omrthread_monitor_t compilationEventMutex;
+	struct J9CompilationEventRecord *compilationEvents;
+	UDATA compilationEventHead;
+	UDATA compilationEventCount;
+	U_32 compilationEventRecordingFlag;
+	U_64 compilationEventDroppedCount;
 } J9JavaLangManagementData;
 
 typedef struct J9LoadROMClassData {
@@ -1779,6 +1843,16 @@ typedef struct J9UnsafeMemoryBlock {
 	U_64 data;
 } J9UnsafeMemoryBlock;
 
+/* J9ObjectMonitor spinFactor values: the default applies the configured spin counts unchanged.
+ * Acquiring the monitor after at least one failed try raises the factor by the bonus, spinning
+ * until blocking lowers it by the penalty.
+ */
+#define J9_ADAPTIVE_SPIN_FACTOR_DEFAULT 16
+#define J9_ADAPTIVE_SPIN_FACTOR_MIN 1
+#define J9_ADAPTIVE_SPIN_FACTOR_MAX 64
+#define J9_ADAPTIVE_SPIN_FACTOR_BONUS 1
+#define J9_ADAPTIVE_SPIN_FACTOR_PENALTY 2
+
 typedef struct J9ObjectMonitor {
 	omrthread_monitor_t monitor;
 #if defined(J9VM_THR_SMART_DEFLATION)
@@ -1787,6 +1861,10 @@ typedef struct J9ObjectMonitor {
 #endif /* defined(J9VM_THR_SMART_DEFLATION) */
 	j9objectmonitor_t alternateLockword;
 	U_32 hash;
+	/* Scale applied to the try enter spin and yield counts with -XX:+AdaptiveMonitorSpin,
+	 * in units of 1/J9_ADAPTIVE_SPIN_FACTOR_DEFAULT. Updated without atomics, as it is only a hint.
+	 */
+	U_32 spinFactor;
 #if JAVA_SPEC_VERSION >= 24
 	volatile U_32 virtualThreadWaitCount;
 	volatile U_32 platformThreadWaitCount;
@@ -2105,8 +2183,21 @@ typedef struct J9TranslationLocalBuffer {
 	I_32 loadLocationType;
 	struct J9ClassPathEntry* cpEntryUsed;
 	struct J9ClassPatchMap* patchMap;
+	struct J9ROMClass* romClassImage;
 } J9TranslationLocalBuffer;
 
+/* A class file submitted to J9TranslationBufferSet.buildROMClassImagesFunction.
+ * romClassImage is a position independent ROMClass built from classData in native
+ * memory, or NULL if it could not be built ahead of the definition.
+ */
+typedef struct J9ROMClassBatchEntry {
+	U_8* className;
+	UDATA classNameLength;
+	U_8* classData;
+	UDATA classDataLength;
+	struct J9ROMClass* romClassImage;
+} J9ROMClassBatchEntry;
+
 typedef struct J9TranslationBufferSet {
 	struct J9DynamicLoadStats* dynamicLoadStats;
 	U_8* sunClassFileBuffer;
@@ -2125,6 +2216,8 @@ typedef struct J9TranslationBufferSet {
 	void  ( *reportStatisticsFunction)(struct J9JavaVM * javaVM, struct J9ClassLoader* loader, struct J9ROMClass* romClass, struct J9TranslationLocalBuffer *localBuffer) ;
 	UDATA  ( *internalLoadROMClassFunction)(struct J9VMThread * vmThread, struct J9LoadROMClassData *loadData, struct J9TranslationLocalBuffer *localBuffer) ;
 	IDATA  ( *transformROMClassFunction)(struct J9JavaVM *javaVM, struct J9PortLibrary *portLibrary, struct J9ROMClass *romClass, U_8 **classData, U_32 *size) ;
+	UDATA  ( *buildROMClassImagesFunction)(struct J9VMThread *vmThread, struct J9ClassLoader *classLoader, struct J9ROMClassBatchEntry *entries, UDATA count, UDATA options) ;
+	struct J9ROMClassImagePool* romClassImagePool;
 } J9TranslationBufferSet;
 
 #define BCU_UNUSED_2  2
@@ -3506,6 +3599,20 @@ typedef struct J9MemberNameListNode {
 } J9MemberNameListNode;
 #endif /* defined(J9VM_OPT_OPENJDK_METHODHANDLE) */
 
+/* Hashed name index used by reflection to find the declared methods and fields of large classes.
+ * Each chain holds (index + 1) values in declaration order, 0 terminates a chain.
+ */
+typedef struct J9ReflectNameIndex {
+	struct J9ROMClass *romClass;
+	U_32 methodBucketMask;
+	U_32 fieldBucketMask;
+	U_32 *methodHeads;
+	U_32 *methodNext;
+	U_32 *fieldHeads;
+	U_32 *fieldNext;
+	struct J9ROMFieldShape **fields;
+} J9ReflectNameIndex;
+
 typedef struct J9Class {
 	UDATA eyecatcher;
 	struct J9ROMClass* romClass;
@@ -3576,6 +3683,7 @@ typedef struct J9Class {
 #if defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES)
 	struct J9Class *nullRestrictedArrayClass;
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+	J9ReflectNameIndex *reflectNameIndex;
 #if defined(J9VM_OPT_VALHALLA_STRICT_FIELDS)
 	U_16 strictStaticFieldCounter;
 #endif /* defined(J9VM_OPT_VALHALLA_STRICT_FIELDS) */
@@ -3682,6 +3790,8 @@ typedef struct J9ArrayClass {
 	 */
 	struct J9Class *companionArray;
 #endif /* defined(J9VM_OPT_VALHALLA_FLATTENABLE_VALUE_TYPES) */
+	/* Added temporarily for consistency */
+	J9ReflectNameIndex *reflectNameIndex;
 #if defined(J9VM_OPT_VALHALLA_STRICT_FIELDS)
 	U_16 strictStaticFieldCounter;
 #endif /* defined(J9VM_OPT_VALHALLA_STRICT_FIELDS) */
@@ -4537,6 +4647,9 @@ typedef struct J9JITConfig {
 	UDATA serverAOTQueryThread;
 #endif /* defined(J9VM_OPT_JITSERVER) */
 	I_32 lowCodeCacheFreeSpace; /* bool set to 1 when the JIT detects a very low amount of free code cache space; never reset */
+	I_32 compThreadCPUBudget; /* percentage of the JVM CPU entitlement compilation threads may use; 0 if no budget is set */
+	I_32 compThreadCPUBudgetUsage; /* percentage of the budget used over the last window; -1 if not known */
+	UDATA compThreadCPUBudgetDeferredCount; /* number of compilation requests deferred because the budget was exceeded */
 } J9JITConfig;
 
 #if defined(J9VM_OPT_CRIU_SUPPORT)
@@ -4818,6 +4931,7 @@ typedef struct J9MemoryManagerFunctions {
 	UDATA ( *j9gc_pool_memoryusage)(struct J9JavaVM *javaVM, UDATA poolID, UDATA *free, UDATA *total);
 	const char* (*j9gc_get_gc_action)(struct J9JavaVM* javaVM, UDATA gcID);
 	const char* (*j9gc_get_gc_cause)(struct OMR_VMThread* omrVMthread);
+	void (*j9gc_get_gc_phase_info)(struct OMR_VMThread* omrVMthread, UDATA gcID, struct J9GarbageCollectionPhaseInfo *phaseInfo);
 	J9HookInterface** (*j9gc_get_private_hook_interface)(struct J9JavaVM *javaVM);
 
 	int  ( *gcStartupHeapManagement)(struct J9JavaVM * vm) ;
@@ -4983,6 +5097,7 @@ typedef struct J9MemoryManagerFunctions {
 	jvmtiIterationControl  ( *j9mm_iterate_roots)(struct J9JavaVM *javaVM, J9PortLibrary *portLibrary, UDATA flags, jvmtiIterationControl (*func)(void* ptr, struct J9MM_HeapRootSlotDescriptor *rootDesc, void *userData), void *userData) ;
 	jvmtiIterationControl  ( *j9mm_iterate_regions)(struct J9JavaVM *vm, J9PortLibrary *portLibrary, struct J9MM_IterateSpaceDescriptor *space, UDATA flags, jvmtiIterationControl (*func)(struct J9JavaVM *vm, struct J9MM_IterateRegionDescriptor *regionDesc, void *userData), void *userData) ;
 	jvmtiIterationControl  ( *j9mm_iterate_region_objects)(struct J9JavaVM *vm, J9PortLibrary *portLibrary, struct J9MM_IterateRegionDescriptor *region, UDATA flags, jvmtiIterationControl (*func)(struct J9JavaVM *vm, struct J9MM_IterateObjectDescriptor *objectDesc, void *userData), void *userData) ;
+	jvmtiIterationControl  ( *j9mm_iterate_region_objects_by_id)(struct J9JavaVM *vm, J9PortLibrary *portLibrary, UDATA regionId, UDATA flags, jvmtiIterationControl (*func)(struct J9JavaVM *vm, struct J9MM_IterateObjectDescriptor *objectDesc, void *userData), void *userData) ;
 	UDATA  ( *j9mm_find_region_for_pointer)(struct J9JavaVM* javaVM, void *pointer, struct J9MM_IterateRegionDescriptor *regionDesc) ;
 	jvmtiIterationControl  ( *j9mm_iterate_object_slots)(struct J9JavaVM *javaVM, J9PortLibrary *portLibrary, struct J9MM_IterateObjectDescriptor *object, UDATA flags, jvmtiIterationControl (*func)(struct J9JavaVM *javaVM, struct J9MM_IterateObjectDescriptor *objectDesc, struct J9MM_IterateObjectRefDescriptor *refDesc, void *userData), void *userData) ;
 	void  ( *j9mm_initialize_object_descriptor)(struct J9JavaVM *javaVM, struct J9MM_IterateObjectDescriptor *descriptor, j9object_t object) ;
@@ -5512,6 +5627,8 @@ typedef struct J9InternalVMFunctions {
 	BOOLEAN (*disclaimClassMemory)(struct J9JavaVM *vm, UDATA flags);
 	UDATA (*totalNumberOfDisclaimableClassMemorySegments)(struct J9JavaVM *vm);
 	jint (*signalNameToValue)(const char *signalName);
+	j9object_t (*findInternedStackTrace)(struct J9VMThread *currentThread, j9object_t throwable, UDATA pruneConstructors);
+	void (*internStackTrace)(struct J9VMThread *currentThread, j9object_t throwable, UDATA pruneConstructors, j9object_t stackTrace);
 } J9InternalVMFunctions;
 
 /* Jazz 99339: define a new structure to replace JavaVM so as to pass J9NativeLibrary to JVMTIEnv  */
@@ -5618,6 +5735,7 @@ typedef struct J9VMContinuation {
 	struct J9VMEntryLocalStorage* oldEntryLocalStorage;
 	UDATA dropFlags;
 	UDATA returnState;
+	UDATA inflatedStackSize; /* non-zero while the stack is compacted, size to restore on mount */
 #if JAVA_SPEC_VERSION >= 24
 	IDATA waitingMonitorEnterCount;
 	UDATA ownedMonitorCount;
@@ -6004,6 +6122,17 @@ typedef struct JFRState {
 	uint64_t prevContextSwitches;
 	omrthread_monitor_t typeIDMonitor;
 	jlong typeIDcount;
+	/* IDs of metadata types whose numbering varies between JDK levels, resolved from the
+	 * metadata blob by name. Zero if the type is missing or its layout is not the expected one.
+	 */
+	U_64 compilationTypeID;
+	U_64 compilerInliningTypeID;
+	U_64 deoptimizationTypeID;
+	U_64 calleeMethodTypeID;
+	U_64 compilerTypeTypeID;
+	U_64 bytecodeTypeID;
+	U_64 deoptimizationReasonTypeID;
+	U_64 deoptimizationActionTypeID;
 } JFRState;
 
 typedef struct J9ReflectFunctionTable {
@@ -6390,6 +6519,15 @@ typedef struct J9JavaVM {
 	UDATA modulePointerOffset;
 	omrthread_monitor_t jniCriticalLock;
 	UDATA jniCriticalResponseCount;
+	UDATA jniCriticalCopies;
+	UDATA jniCriticalCopyBytes;
+	UDATA jniCriticalStalls;
+	U_64 jniCriticalStallTime;
+	struct J9HashTable* stackTraceInternTable;
+	omrthread_monitor_t stackTraceInternMutex;
+	UDATA stackTraceInternWalkbackHits;
+	UDATA stackTraceInternStackTraceHits;
+	UDATA stackTraceInternSavedBytes;
 	struct J9SharedInvariantInternTable* sharedInvariantInternTable;
 	struct J9SharedCacheAPI* sharedCacheAPI;
 	UDATA lockwordMode;
@@ -6522,6 +6660,12 @@ typedef struct J9JavaVM {
 	volatile U_32 t2store;
 	volatile U_32 cacheFree;
 	volatile U_64 totalContinuationStackSize;
+	volatile U_32 continuationStackCompactCount;
+	volatile U_32 continuationStackInflateCount;
+	volatile I_64 continuationStackCompactTime;
+	volatile I_64 continuationStackInflateTime;
+	volatile U_64 continuationStackBytesReleased;
+	volatile UDATA continuationStackBytesSaved;
 #if defined(J9VM_PROF_CONTINUATION_ALLOCATION)
 	volatile I_64 avgCacheLookupTime;
 	volatile U_32 fastAlloc;
@@ -148,6 +148,8 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getProcessPhysicalMemorySizeImpl (JNIEnv *env, jobject instance);
 extern J9_CFUNC jdouble JNICALL
 Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getSystemCpuLoadImpl (JNIEnv *env, jobject instance);
+extern J9_CFUNC void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedOperatingSystemMXBeanImpl_getMetricsImpl (JNIEnv *env, jobject instance, jobject metricsObject);
 
 /* BBresmanNativesCommonMemorySpace*/
 jboolean JNICALL Java_com_ibm_oti_vm_MemorySpace_isObjectInMemorySpace (JNIEnv * env, jobject memorySpace, jlong memorySpaceAddress, jobject anObject);
@@ -278,6 +280,10 @@ extern J9_CFUNC jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_isThreadContentionMonitoringSupportedImpl (JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jlong JNICALL
 Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadAllocatedBytesImpl (JNIEnv *env, jobject unused, jlong threadID);
+extern J9_CFUNC void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getThreadResourceUsageImpl (JNIEnv *env, jclass clazz, jlongArray threadIDs, jlongArray allocatedBytes, jlongArray cpuTimes);
+extern J9_CFUNC jlongArray JNICALL
+Java_com_ibm_lang_management_internal_ExtendedThreadMXBeanImpl_getAllThreadResourceUsageImpl (JNIEnv *env, jclass clazz, jboolean allocatedBytes, jboolean cpuTime);
 
 extern J9_CFUNC jobject JNICALL
 Java_com_ibm_java_lang_management_internal_ThreadMXBeanImpl_getThreadInfoImpl(JNIEnv *env, jobject beanInstance,
@@ -341,6 +347,12 @@ extern J9_CFUNC jlong JNICALL
 Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getTotalCompilationTimeImpl (JNIEnv *env, jobject beanInstance);
 extern J9_CFUNC jboolean JNICALL
 Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_isCompilationTimeMonitoringSupportedImpl (JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getCompilationCPUBudgetImpl (JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jint JNICALL
+Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getCompilationCPUBudgetUsageImpl (JNIEnv *env, jobject beanInstance);
+extern J9_CFUNC jlong JNICALL
+Java_com_ibm_java_lang_management_internal_CompilationMXBeanImpl_getDeferredCompilationCountImpl (JNIEnv *env, jobject beanInstance);
 
 /* BBjclNativesCommonPlainMulticastSocketImpl*/
 void JNICALL Java_java_net_PlainMulticastSocketImpl_createMulticastSocketImpl (
@@ -379,6 +391,7 @@ Java_com_ibm_lang_management_internal_ExtendedGarbageCollectorMXBeanImpl_getLast
 /* BBjclNativesCommonClassLoader*/
 jboolean JNICALL Java_java_lang_ClassLoader_isVerboseImpl (JNIEnv *env, jclass clazz);
 jclass JNICALL Java_java_lang_ClassLoader_defineClassImpl (JNIEnv *env, jobject receiver, jstring className, jbyteArray classRep, jint offset, jint length, jobject protectionDomain);
+void JNICALL Java_java_lang_ClassLoader_defineClassesImpl(JNIEnv *env, jobject receiver, jobjectArray classNames, jobjectArray classReps, jobject protectionDomain, jobjectArray classes);
 #if JAVA_SPEC_VERSION >= 15
 jclass JNICALL Java_java_lang_ClassLoader_defineClassImpl1(JNIEnv *env, jobject receiver, jclass hostClass, jstring className, jbyteArray classRep, jobject protectionDomain, jboolean init, jint flags, jobject classData);
 #endif /* JAVA_SPEC_VERSION >= 15 */
@@ -735,6 +748,10 @@ jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getHeap
 jobjectArray JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_dumpAllThreadsImpl(JNIEnv *env, jobject beanInstance,
 	jboolean getLockedMonitors, jboolean getLockedSynchronizers, jint maxDepth);
 jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_triggerDumpsImpl(JNIEnv *env, jclass clazz, jstring opts, jstring event);
+jstring JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_getMonitorContentionImpl(JNIEnv *env, jclass unused, jint maxCount);
+jboolean JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_setMonitorContentionProfilingImpl(JNIEnv *env, jclass unused, jboolean enable);
+void JNICALL Java_openj9_internal_tools_attach_target_DiagnosticUtils_resetMonitorContentionImpl(JNIEnv *env, jclass unused);
+void JNICALL Java_openj9_internal_tools_attach_target_VMCounters_getVMCountersImpl(JNIEnv *env, jclass clazz, jlongArray counters);
 
 /* J9SourceJclCommonInit*/
 jint computeFullVersionString (J9JavaVM* vm);
@@ -745,6 +762,9 @@ UDATA initializeRequiredClasses(J9VMThread *vmThread, char* libName);
 extern J9_CFUNC jclass
 defineClassCommon (JNIEnv *env, jobject classLoaderObject,
 	jstring className, jbyteArray classRep, jint offset, jint length, jobject protectionDomain, UDATA *options, J9Class *hostClass, J9ClassPatchMap *patchMap, BOOLEAN validateName);
+extern J9_CFUNC void
+defineClassesCommon (JNIEnv *env, jobject classLoaderObject,
+	jobjectArray classNames, jobjectArray classReps, jobject protectionDomain, UDATA options, jobjectArray classes);
 
 #if JAVA_SPEC_VERSION < 24
 /* BBjclNativesCommonAccessController*/
@@ -1274,6 +1294,26 @@ Java_com_ibm_lang_management_internal_JvmCpuMonitor_setThreadCategoryImpl(JNIEnv
  */
 jint JNICALL
 Java_com_ibm_lang_management_internal_JvmCpuMonitor_getThreadCategoryImpl(JNIEnv *env, jobject beanInstance, jlong threadID);
+
+/* J9SourceManagementMonitor*/
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_isProfilingEnabledImpl(JNIEnv *env, jobject beanInstance);
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_setProfilingEnabledImpl(JNIEnv *env, jobject beanInstance, jboolean enable);
+void JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_resetImpl(JNIEnv *env, jobject beanInstance);
+void JNICALL
+Java_com_ibm_lang_management_internal_MonitorContention_getContendedMonitorsImpl(JNIEnv *env, jobject beanInstance, jobject monitors, jint maxCount);
+
+/* mgmtcompilation.c */
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_isCompilationEventRecordingEnabledImpl(JNIEnv *env, jobject beanInstance);
+jboolean JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_setCompilationEventRecordingEnabledImpl(JNIEnv *env, jobject beanInstance, jboolean enable);
+jlong JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_getDroppedCompilationEventCountImpl(JNIEnv *env, jobject beanInstance);
+void JNICALL
+Java_com_ibm_lang_management_internal_ExtendedCompilationMXBeanImpl_drainCompilationEventsImpl(JNIEnv *env, jobject beanInstance, jobject events);
 /**
  * Sets the category of the current thread as J9THREAD_CATEGORY_SYSTEM_THREAD.
  *
@@ -599,6 +599,22 @@ enum INIT_STAGE {
 #define VMOPT_XXSTARTOPENJ9EXPERIMENTALFLIGHTRECORDING_EQUALS "-XX:StartOpenJ9ExperimentalFlightRecording="
 
 #define VMOPT_XXCONTINUATIONCACHE "-XX:ContinuationCache:"
+#define VMOPT_XXENABLECONTINUATIONSTACKCOMPACTION "-XX:+ContinuationStackCompaction"
+#define VMOPT_XXDISABLECONTINUATIONSTACKCOMPACTION "-XX:-ContinuationStackCompaction"
+
+#define VMOPT_XXENABLEMONITORCONTENTIONPROFILING "-XX:+MonitorContentionProfiling"
+#define VMOPT_XXDISABLEMONITORCONTENTIONPROFILING "-XX:-MonitorContentionProfiling"
+
+#define VMOPT_XXENABLEADAPTIVEMONITORSPIN "-XX:+AdaptiveMonitorSpin"
+#define VMOPT_XXDISABLEADAPTIVEMONITORSPIN "-XX:-AdaptiveMonitorSpin"
+
+#define VMOPT_XXENABLEINTERNSTACKTRACES "-XX:+InternStackTraces"
+#define VMOPT_XXDISABLEINTERNSTACKTRACES "-XX:-InternStackTraces"
+
+#if JAVA_SPEC_VERSION >= 16
+#define VMOPT_XXENABLEFFIDIRECTDOWNCALL "-XX:+FFIDirectDowncall"
+#define VMOPT_XXDISABLEFFIDIRECTDOWNCALL "-XX:-FFIDirectDowncall"
+#endif /* JAVA_SPEC_VERSION >= 16 */
 
 #if JAVA_SPEC_VERSION >= 22
 #define VMOPT_XFFIPROTO "-Xffiproto"
@@ -1309,6 +1309,17 @@ UDATA
 growJavaStack(J9VMThread * vmThread, UDATA newStackSize);
 
 
+/**
+* @brief Move the current stack of vmThread to a new stack of newStackSize bytes,
+* which may be smaller than the current one as long as the used portion fits.
+* @param vmThread
+* @param newStackSize
+* @return UDATA 0 on success, non-zero on failure (the original stack is kept)
+*/
+UDATA
+resizeJavaStack(J9VMThread * vmThread, UDATA newStackSize);
+
+
 #endif /* J9VM_INTERP_GROWABLE_STACKS */ /* End File Level Build Flags */
 
 
@@ -3628,6 +3639,31 @@ addStatistic (J9JavaVM* javaVM, U_8 * name, U_8 dataType);
 void *
 getStatistic (J9JavaVM* javaVM, U_8 * name);
 
+/* ---------------- StackTraceIntern.cpp ---------------- */
+
+/**
+ * @brief Find the shared StackTraceElement[] for a throwable whose walkback has been seen before.
+ * The caller must have VM access.
+ * @param currentThread
+ * @param throwable the Throwable whose stack trace is required
+ * @param pruneConstructors whether the throwable's constructor frames are pruned
+ * @return j9object_t the shared StackTraceElement[], or NULL if there is none
+ */
+j9object_t
+findInternedStackTrace(J9VMThread *currentThread, j9object_t throwable, UDATA pruneConstructors);
+
+/**
+ * @brief Record a newly created StackTraceElement[] so that throwables with the same walkback can share it.
+ * The caller must have VM access.
+ * @param currentThread
+ * @param throwable the Throwable the stack trace was created for
+ * @param pruneConstructors whether the throwable's constructor frames were pruned
+ * @param stackTrace the StackTraceElement[], which must not be modified after this call
+ * @return void
+ */
+void
+internStackTrace(J9VMThread *currentThread, j9object_t throwable, UDATA pruneConstructors, j9object_t stackTrace);
+
 /* ---------------- stringhelpers.cpp ---------------- */
 
 /**
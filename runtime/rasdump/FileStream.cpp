@@ -25,11 +25,25 @@
 #include "FileStream.hpp"
 #include "../oti/util_api.h"
 
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+#include "zlib.h"
+
+/* Size of the buffers staging data for, and receiving data from, the compressor */
+#define FILESTREAM_COMPRESSION_BUFFER_SIZE (64 * 1024)
+
+static voidpf fileStreamZalloc(voidpf opaque, uInt items, uInt size);
+static void fileStreamZfree(voidpf opaque, voidpf address);
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+
 /* Constructor */
 FileStream::FileStream(J9PortLibrary* portLibrary) :
 	_PortLibrary(portLibrary),
 	_FileHandle(-1),
-	_Error(0)
+	_Error(0),
+	_Deflater(NULL),
+	_Input(NULL),
+	_InputLength(0),
+	_Output(NULL)
 {
 	/* Nothing to do */
 }
@@ -42,11 +56,15 @@ FileStream::~FileStream()
 
 /* Method for opening the file */
 void
-FileStream::open(const char* fileName)
+FileStream::open(const char* fileName, bool compress)
 {
 	if (fileName[0] != '-' ) {
 		_FileHandle = j9cached_file_open(_PortLibrary, fileName, EsOpenWrite | EsOpenCreate | EsOpenTruncate | EsOpenCreateNoTag, 0666);
 		_Error = 0;
+
+		if (compress && (_FileHandle != -1)) {
+			startCompression();
+		}
 	}
 }
 
@@ -54,6 +72,10 @@ FileStream::open(const char* fileName)
 void 
 FileStream::close(void)
 {
+	if (_Deflater != NULL) {
+		endCompression();
+	}
+
 	if (_FileHandle != -1) {
 		j9cached_file_sync(_PortLibrary, _FileHandle);
 		j9cached_file_close(_PortLibrary, _FileHandle);
@@ -78,10 +100,32 @@ void
 FileStream::writeCharacters(const char* data, IDATA length)
 {
 	if (_FileHandle != -1 && ! _Error) {
-		IDATA rc = j9cached_file_write(_PortLibrary, _FileHandle, data, length);
+		if (_Deflater != NULL) {
+			/* Stage the data, compressing it whenever the staging buffer fills */
+			while (length > 0) {
+				IDATA count = FILESTREAM_COMPRESSION_BUFFER_SIZE - _InputLength;
 
-		if (rc != length) {
-			_Error = rc;
+				if (count > length) {
+					count = length;
+				}
+				memcpy(_Input + _InputLength, data, count);
+				_InputLength += count;
+				data += count;
+				length -= count;
+
+				if (_InputLength == FILESTREAM_COMPRESSION_BUFFER_SIZE) {
+					deflateInput(false);
+					if (_Error) {
+						return;
+					}
+				}
+			}
+		} else {
+			IDATA rc = j9cached_file_write(_PortLibrary, _FileHandle, data, length);
+
+			if (rc != length) {
+				_Error = rc;
+			}
 		}
 	}
 }
@@ -111,3 +155,128 @@ FileStream::writeNumber(IDATA data, int length)
 	/* Write the data to the file */
 	writeCharacters(buffer, length);
 }
+
+/* Method for determining whether open() can compress the file */
+bool
+FileStream::supportsCompression(void)
+{
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	return true;
+#else /* J9VM_OPT_ZLIB_SUPPORT */
+	return false;
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+}
+
+/* Method for starting gzip compression of the data written to the file */
+void
+FileStream::startCompression(void)
+{
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	z_stream* stream = (z_stream*)j9mem_allocate_memory(sizeof(z_stream), OMRMEM_CATEGORY_VM);
+
+	_Input = (char*)j9mem_allocate_memory(FILESTREAM_COMPRESSION_BUFFER_SIZE, OMRMEM_CATEGORY_VM);
+	_Output = (char*)j9mem_allocate_memory(FILESTREAM_COMPRESSION_BUFFER_SIZE, OMRMEM_CATEGORY_VM);
+	_InputLength = 0;
+
+	if ((stream != NULL) && (_Input != NULL) && (_Output != NULL)) {
+		memset(stream, 0, sizeof(z_stream));
+		stream->zalloc = fileStreamZalloc;
+		stream->zfree = fileStreamZfree;
+		stream->opaque = (voidpf)_PortLibrary;
+
+		/* A window size of 15 plus 16 requests a gzip header and trailer */
+		if (deflateInit2(stream, Z_BEST_SPEED, Z_DEFLATED, 15 + 16, 8, Z_DEFAULT_STRATEGY) == Z_OK) {
+			_Deflater = stream;
+			return;
+		}
+	}
+
+	/* The file can't be written as requested */
+	j9mem_free_memory(stream);
+	j9mem_free_memory(_Input);
+	j9mem_free_memory(_Output);
+	_Input = NULL;
+	_Output = NULL;
+	_Error = -1;
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+}
+
+/* Method for compressing the staged data and writing the result to the file */
+void
+FileStream::deflateInput(bool finish)
+{
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	z_stream* stream = (z_stream*)_Deflater;
+	int rc = Z_OK;
+
+	stream->next_in = (Bytef*)_Input;
+	stream->avail_in = (uInt)_InputLength;
+
+	do {
+		stream->next_out = (Bytef*)_Output;
+		stream->avail_out = FILESTREAM_COMPRESSION_BUFFER_SIZE;
+
+		rc = deflate(stream, finish ? Z_FINISH : Z_NO_FLUSH);
+		if ((rc != Z_OK) && (rc != Z_STREAM_END) && (rc != Z_BUF_ERROR)) {
+			_Error = -1;
+			break;
+		}
+
+		IDATA count = FILESTREAM_COMPRESSION_BUFFER_SIZE - stream->avail_out;
+		if (count > 0) {
+			IDATA written = j9cached_file_write(_PortLibrary, _FileHandle, _Output, count);
+
+			if (written != count) {
+				_Error = written;
+				break;
+			}
+		}
+	} while ((stream->avail_out == 0) || (finish && (rc != Z_STREAM_END)));
+
+	_InputLength = 0;
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+}
+
+/* Method for flushing the compressor and releasing its resources */
+void
+FileStream::endCompression(void)
+{
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	z_stream* stream = (z_stream*)_Deflater;
+
+	if (! _Error) {
+		deflateInput(true);
+	}
+
+	deflateEnd(stream);
+	j9mem_free_memory(stream);
+	j9mem_free_memory(_Input);
+	j9mem_free_memory(_Output);
+	_Deflater = NULL;
+	_Input = NULL;
+	_InputLength = 0;
+	_Output = NULL;
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
+}
+
+#if defined(J9VM_OPT_ZLIB_SUPPORT)
+/* zlib interface to j9mem_allocate_memory */
+static voidpf
+fileStreamZalloc(voidpf opaque, uInt items, uInt size)
+{
+	PORT_ACCESS_FROM_PORT((J9PortLibrary*)opaque);
+
+	return j9mem_allocate_memory((UDATA)items * size, OMRMEM_CATEGORY_VM);
+}
+
+/* zlib interface to j9mem_free_memory */
+static void
+fileStreamZfree(voidpf opaque, voidpf address)
+{
+	PORT_ACCESS_FROM_PORT((J9PortLibrary*)opaque);
+
+	j9mem_free_memory(address);
+}
+#endif /* J9VM_OPT_ZLIB_SUPPORT */
@@ -39,8 +39,8 @@ public :
 	/* Destructor */
 	~FileStream();
 
-	/* Method for opening the file */
-	void open(const char* fileName);
+	/* Method for opening the file, optionally compressing its contents in gzip format */
+	void open(const char* fileName, bool compress = false);
 
 	/* Method for closing the file */
 	void close(void);
@@ -54,6 +54,9 @@ public :
 	void writeCharacters (const char* data);
 	void writeNumber     (IDATA data, int length);
 
+	/* Method for determining whether open() can compress the file */
+	static bool supportsCompression(void);
+
 private :
 	/* Prevent use of the copy constructor and assignment operator */
 	FileStream(const FileStream& source);
@@ -64,6 +67,15 @@ protected :
 	J9PortLibrary* _PortLibrary;
 	IDATA          _FileHandle;
 	IDATA          _Error;
+	void*          _Deflater;
+	char*          _Input;
+	UDATA          _InputLength;
+	char*          _Output;
+
+	/* Internal methods for compressing the file */
+	void startCompression(void);
+	void deflateInput(bool finish);
+	void endCompression(void);
 };
 
 #endif
@@ -947,6 +947,15 @@ doJavaDump(J9RASdumpAgent *agent, char *label, J9RASdumpContext *context)
 	return OMR_ERROR_NONE;
 }
 
+BOOLEAN
+isLightJavaDump(J9RASdumpAgent *agent)
+{
+	/* opts=LIGHT asks the javacore writer to hold exclusive VM access for the thread snapshot only */
+	return (doJavaDump == agent->dumpFn)
+			&& (NULL != agent->dumpOptions)
+			&& (NULL != strstr(agent->dumpOptions, "LIGHT"));
+}
+
 omr_error_t
 doHeapDump(J9RASdumpAgent *agent, char *label, J9RASdumpContext *context)
 {
@@ -1865,6 +1874,11 @@ printDumpSpec(struct J9JavaVM *vm, IDATA kind, IDATA verboseLevel)
 
 				if (strcmp(spec->name, "heap") == 0) {
 					j9tty_err_printf("\n  opts=PHD|CLASSIC\n");
+					j9tty_err_printf("  PHD may be followed by +PARALLEL to write the heap regions in parallel\n"
+						"  and +GZIP to compress the file\n");
+				} else if (strcmp(spec->name, "java") == 0) {
+					j9tty_err_printf("\n  opts=LIGHT           Hold exclusive VM access only while the\n"
+						"                       thread stacks are captured\n");
 				} else if (strcmp(spec->name, "tool") == 0) {
 					j9tty_err_printf("\n  opts=WAIT<msec>|ASYNC\n");
 #ifdef J9ZOS390
@@ -2811,6 +2825,10 @@ runDumpAgent(struct J9JavaVM *vm, J9RASdumpAgent * agent, J9RASdumpContext * con
 				if (agent->dumpFn == doHeapDump) {
 					if (agent->dumpOptions && strstr(agent->dumpOptions, "PHD")) {
 						writeIntoBuffer(context->dumpList, context->dumpListSize, (IDATA*)&(context->dumpListIndex), label);
+						/* a compressed PHD file is named as in BinaryHeapDumpWriter::appendCompressedSuffix() */
+						if (strstr(agent->dumpOptions, "GZIP") && ((reqLen < 3) || (strcmp(&label[reqLen - 3], ".gz") != 0))) {
+							writeIntoBuffer(context->dumpList, context->dumpListSize, (IDATA*)&(context->dumpListIndex), ".gz");
+						}
 						writeIntoBuffer(context->dumpList, context->dumpListSize, (IDATA*)&(context->dumpListIndex), "\t");
 					}
 
@@ -43,6 +43,11 @@ static jvmtiIterationControl binaryHeapDumpObjectIteratorCallback (J9JavaVM* vm,
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorTraitsCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 static jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 
+static jvmtiIterationControl binaryHeapDumpRegionCounterCallback          (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpRegionCollectorCallback        (J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+static jvmtiIterationControl binaryHeapDumpSegmentObjectIteratorCallback  (J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor,  void* userData);
+static int J9THREAD_PROC     binaryHeapDumpWriterThreadProc(void* entryArg);
+
 #define allClassesStartDo(vm, state, loader) \
 	vm->internalVMFunctions->allClassesStartDo(state, vm, loader)
 
@@ -725,6 +730,78 @@ public:
 	}
 };
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* Structures for writing the regions of a binary portable heap dump in parallel                  */
+/*                                                                                                */
+/*   Each writer thread claims regions in order and writes the records for a region into a        */
+/*   segment in memory. The dump thread appends the segments to the file in region order, so the  */
+/*   file is identical in layout to one written by a single thread. Records are delta encoded     */
+/*   against the previous object, so the record for the first object of each segment is written  */
+/*   by the dump thread. The class cache depends on every record before it, so short object       */
+/*   records are not used in a parallel dump.                                                     */
+/*                                                                                                */
+/*   Enumerating the regions holds the region manager lock, so the regions are copied into an    */
+/*   array before the threads start and neither the threads nor the dump thread walk the regions  */
+/*   again while waiting for each other.                                                          */
+/*                                                                                                */
+/**************************************************************************************************/
+
+/* The maximum number of threads writing segments */
+#define PARALLEL_HEAPDUMP_MAX_THREADS 8
+
+/* The number of regions each thread may write ahead of those appended to the file */
+#define PARALLEL_HEAPDUMP_REGIONS_PER_THREAD 2
+
+/* The size of the memory chunks holding segments */
+#define HEAPDUMP_SEGMENT_CHUNK_SIZE (1024 * 1024)
+
+/* The maximum number of chunks in a segment; the dump thread walks larger regions itself */
+#define HEAPDUMP_SEGMENT_MAX_CHUNKS 64
+
+struct HeapDumpSegmentChunk
+{
+	HeapDumpSegmentChunk*        _Next;
+	UDATA                        _Length;
+	char                         _Data[HEAPDUMP_SEGMENT_CHUNK_SIZE];
+};
+
+struct HeapDumpSegment
+{
+	HeapDumpSegmentChunk*        _Head;
+	HeapDumpSegmentChunk*        _Tail;
+	UDATA                        _ChunkCount;
+	J9MM_IterateObjectDescriptor _FirstObject;     /* Written by the dump thread */
+	void*                        _LastObject;      /* Object the next segment's addresses are relative to */
+	bool                         _HasFirstObject;
+	bool                         _Complete;
+	bool                         _Failed;          /* The dump thread walks the region itself */
+};
+
+class BinaryHeapDumpWriter;
+
+struct ParallelHeapDump
+{
+	BinaryHeapDumpWriter*        _Writer;
+	omrthread_monitor_t          _Mutex;
+	J9MM_IterateRegionDescriptor* _Regions;        /* Snapshot of the regions of the space, only walkable by id */
+	HeapDumpSegment*             _Segments;
+	UDATA                        _RegionCount;
+	UDATA                        _NextRegion;      /* Index of the first unclaimed region */
+	UDATA                        _WrittenRegions;  /* Number of regions appended to the file */
+	UDATA                        _SerialRegions;   /* Number of regions walked by the dump thread */
+	UDATA                        _Window;
+	UDATA                        _ActiveThreads;
+	bool                         _Finished;
+};
+
+struct HeapDumpRegionSnapshot
+{
+	J9MM_IterateRegionDescriptor* _Regions;
+	UDATA                        _Capacity;
+	UDATA                        _Count;
+};
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* Class for writing binary portable heap dump files                                              */
@@ -736,6 +813,9 @@ public :
 	/* Constructor */
 	BinaryHeapDumpWriter(const char* fileName, J9RASdumpContext* context, J9RASdumpAgent* agent);
 
+	/* Constructor for a thread writing segments of a parallel dump */
+	BinaryHeapDumpWriter(ParallelHeapDump* parallelDump);
+
 	/* Destructor */
 	~BinaryHeapDumpWriter();
 	
@@ -756,6 +836,8 @@ private :
 	friend jvmtiIterationControl binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, J9MM_IterateObjectRefDescriptor* referenceDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpHeapIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateHeapDescriptor* heapDescriptor, void* userData);
 	friend jvmtiIterationControl binaryHeapDumpRegionIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateRegionDescriptor* regionDescription, void* userData);
+	friend jvmtiIterationControl binaryHeapDumpSegmentObjectIteratorCallback(J9JavaVM* virtualMachine, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData);
+	friend int J9THREAD_PROC     binaryHeapDumpWriterThreadProc(void* entryArg);
 
 	/* Nested class for determining the characteristics of the references */
 	class ReferenceTraits
@@ -851,6 +933,14 @@ private :
 	void             writeNormalObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor);
 	void             writeArrayObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor);
 	void             writeClassRecord(J9Class* clazz);
+	bool             writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor);
+	void             writeParallelRegion(ParallelHeapDump* parallelDump, UDATA regionIndex);
+	void             writeRegionSegment(ParallelHeapDump* parallelDump, UDATA regionIndex);
+	void             writeSegmentObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor);
+	void             writeSegment(HeapDumpSegment* segment);
+	void             freeSegment(HeapDumpSegment* segment);
+	void             appendToSegment(const char* data, IDATA length);
+	void             appendCompressedSuffix(CharacterString& fileName);
 	static int       numberSize(IDATA number);
 	int              getObjectHashCode(j9object_t object);
 	static int       numberSizeEncoding(int numberSize);
@@ -873,6 +963,9 @@ private :
 	ClassCache        _ClassCache;
 	bool              _FileMode;
 	bool              _Error;
+	bool              _Compress;
+	bool              _Parallel;
+	HeapDumpSegment*  _Segment;
 
 	/* Static methods returning constant values */
 	inline static const char* identifierField(void)        {return "portable heap dump";}
@@ -1124,7 +1217,10 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	_OutputStream(context->javaVM->portLibrary),
 	_CurrentObject(0),
 	_FileMode(false),
-	_Error(false)
+	_Error(false),
+	_Compress(false),
+	_Parallel(false),
+	_Segment(NULL)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 
@@ -1132,17 +1228,29 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 	if ((agent->dumpOptions != 0) && (strstr(agent->dumpOptions, "PHD") == 0)) {
 		return;
 	}
+
+	/* Determine whether the dump should be compressed, or its regions written in parallel */
+	if (agent->dumpOptions != 0) {
+		_Compress = (strstr(agent->dumpOptions, "GZIP") != 0) && FileStream::supportsCompression();
+
+		/* The regions can only be walked by other threads while the heap can't change */
+		_Parallel = (strstr(agent->dumpOptions, "PARALLEL") != 0) && (_Agent->requestMask & J9RAS_DUMP_DO_EXCLUSIVE_VM_ACCESS);
+	}
 	
 	/* Remember the file name */
 	_FileName += fileName;
 	
 	/* Handle the cases of multiple dump files and a single dump file separately */
 	if (!(_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS)) {
+		if (_Compress) {
+			appendCompressedSuffix(_FileName);
+		}
+
 		/* Write a message to standard error saying we are about to write a dump file */
-		reportDumpRequest(_PortLibrary,_Context,"Heap",fileName);
+		reportDumpRequest(_PortLibrary,_Context,"Heap",_FileName.data());
 		
 		/* It's a single file so open it */
-		_OutputStream.open(_FileName.data());
+		_OutputStream.open(_FileName.data(), _Compress);
 	
 		/* Performance measuring code 
 		startTimer();
@@ -1176,11 +1284,11 @@ BinaryHeapDumpWriter::BinaryHeapDumpWriter(const char* fileName, J9RASdumpContex
 		/* If an error occurred, the error message has already been printed in checkForIOError() */
 		if (! _Error) {
 			if (_FileMode) {
-				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_WRITTEN_DUMP_STR, "Heap", fileName);
-				Trc_dump_reportDumpEnd_Event2("Heap", fileName);
+				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_WRITTEN_DUMP_STR, "Heap", _FileName.data());
+				Trc_dump_reportDumpEnd_Event2("Heap", _FileName.data());
 			} else {
-				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_NO_CREATE, fileName);
-				Trc_dump_reportDumpEnd_Event2("Heap", fileName);
+				j9nls_printf(PORTLIB, J9NLS_INFO | J9NLS_STDERR, J9NLS_DMP_NO_CREATE, _FileName.data());
+				Trc_dump_reportDumpEnd_Event2("Heap", _FileName.data());
 			}
 		}
 	}
@@ -1196,6 +1304,31 @@ BinaryHeapDumpWriter::~BinaryHeapDumpWriter()
 	/* Nothing to do currently */
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::BinaryHeapDumpWriter() parallel segment writer method implementation     */
+/*                                                                                                */
+/**************************************************************************************************/
+BinaryHeapDumpWriter::BinaryHeapDumpWriter(ParallelHeapDump* parallelDump) :
+	_Id(0),
+	_RegionStart(NULL),
+	_RegionEnd(NULL),
+	_Context(parallelDump->_Writer->_Context),
+	_Agent(parallelDump->_Writer->_Agent),
+	_VirtualMachine(parallelDump->_Writer->_VirtualMachine),
+	_PortLibrary(parallelDump->_Writer->_PortLibrary),
+	_FileName(parallelDump->_Writer->_PortLibrary),
+	_OutputStream(parallelDump->_Writer->_PortLibrary),
+	_CurrentObject(0),
+	_FileMode(false),
+	_Error(false),
+	_Compress(false),
+	_Parallel(true),
+	_Segment(NULL)
+{
+	/* Records are written to segments by writeSegmentObjectRecord() */
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* BinaryHeapDumpWriter::openNewDumpFile() method implementation                                  */
@@ -1218,6 +1351,9 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 		fileName += spaceDescriptor->name;
 		fileName.appendAsCharacters(spaceDescriptor->id, 16);
 		fileName.append(_FileName, position + 3);
+		if (_Compress) {
+			appendCompressedSuffix(fileName);
+		}
 
 		/* Write a message to standard error saying we are about to write a dump file */
 		reportDumpRequest(PORTLIB, _Context,"Heap", fileName.data());
@@ -1227,20 +1363,22 @@ BinaryHeapDumpWriter::openNewDumpFile(J9MM_IterateSpaceDescriptor* spaceDescript
 		_ClassCache.clear();
 
 		/* Open the file */
-		_OutputStream.open(fileName.data());
+		_OutputStream.open(fileName.data(), _Compress);
 
 		/* Start writing the file */
 		writeDumpFileHeader();
 	}
 
 	/* Iterate through the regions etc. */
-	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
-			_VirtualMachine,
-			_PortLibrary,
-			spaceDescriptor,
-			j9mm_iterator_flag_regions_read_only,
-			binaryHeapDumpRegionIteratorCallback,
-			this);
+	if (!(_Parallel && writeRegionsInParallel(spaceDescriptor))) {
+		_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+				_VirtualMachine,
+				_PortLibrary,
+				spaceDescriptor,
+				j9mm_iterator_flag_regions_read_only,
+				binaryHeapDumpRegionIteratorCallback,
+				this);
+	}
 
 	/* Handle the single and multiple dump file cases separately */
 	if (_Agent->requestMask & J9RAS_DUMP_DO_MULTIPLE_HEAPS) {
@@ -1447,8 +1585,8 @@ BinaryHeapDumpWriter::writeNormalObjectRecord(J9MM_IterateObjectDescriptor* obje
 	J9Class* objectClass = J9OBJECT_CLAZZ_VM(_VirtualMachine, currentObject);
 	void* objectClassAddress = J9VM_J9CLASS_TO_HEAPCLASS(objectClass);
 
-	/* Determine whether this class is cached */
-	int classCacheIndex = _ClassCache.find(objectClassAddress);
+	/* Determine whether this class is cached (the cache isn't used in a parallel dump, see ParallelHeapDump) */
+	int classCacheIndex = _Parallel ? -1 : _ClassCache.find(objectClassAddress);
 
 	int hashCode = getObjectHashCode(currentObject);
 
@@ -2394,7 +2532,9 @@ BinaryHeapDumpWriter::checkForIOError(void)
 void
 BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 {
-	if (!_Error) {
+	if (_Segment != NULL) {
+		appendToSegment(data, length);
+	} else if (!_Error) {
 		_OutputStream.writeCharacters(data,length);
 
 		checkForIOError();
@@ -2404,23 +2544,337 @@ BinaryHeapDumpWriter::writeCharacters (const char* data, IDATA length)
 void
 BinaryHeapDumpWriter::writeCharacters (const char* data)
 {
-	if (!_Error) {
-		_OutputStream.writeCharacters(data);
-
-		checkForIOError();
-	}
+	writeCharacters(data, strlen(data));
 }
 
 void
 BinaryHeapDumpWriter::writeNumber (IDATA data, int length)
 {
-	if (!_Error) {
+	if (_Segment != NULL) {
+		/* Encode the number in network order, as FileStream::writeNumber() does */
+		IDATA number = data;
+		int   count  = (length > 8) ? 8 : length;
+		char  buffer[8] = {0,0,0,0,0,0,0,0};
+
+		while (count-- > 0) {
+			buffer[count] = (char)(number & 0xFF);
+			number >>= 8;
+		}
+
+		appendToSegment(buffer, length);
+	} else if (!_Error) {
 		_OutputStream.writeNumber(data, length);
 
 		checkForIOError();
 	}
 }
 
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::appendToSegment() method implementation                                  */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::appendToSegment(const char* data, IDATA length)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+
+	while (!_Error && (length > 0)) {
+		HeapDumpSegmentChunk* chunk = _Segment->_Tail;
+
+		if ((chunk == NULL) || (chunk->_Length == HEAPDUMP_SEGMENT_CHUNK_SIZE)) {
+			if (_Segment->_ChunkCount < HEAPDUMP_SEGMENT_MAX_CHUNKS) {
+				chunk = (HeapDumpSegmentChunk*)j9mem_allocate_memory(sizeof(HeapDumpSegmentChunk), OMRMEM_CATEGORY_VM);
+			} else {
+				chunk = NULL;
+			}
+			if (chunk == NULL) {
+				/* The dump thread will walk the region itself */
+				_Error = true;
+				return;
+			}
+			_Segment->_ChunkCount += 1;
+			chunk->_Next   = NULL;
+			chunk->_Length = 0;
+			if (_Segment->_Tail == NULL) {
+				_Segment->_Head = chunk;
+			} else {
+				_Segment->_Tail->_Next = chunk;
+			}
+			_Segment->_Tail = chunk;
+		}
+
+		IDATA count = HEAPDUMP_SEGMENT_CHUNK_SIZE - chunk->_Length;
+		if (count > length) {
+			count = length;
+		}
+		memcpy(chunk->_Data + chunk->_Length, data, count);
+		chunk->_Length += count;
+		data           += count;
+		length         -= count;
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::appendCompressedSuffix() method implementation                           */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::appendCompressedSuffix(CharacterString& fileName)
+{
+	/* Readers recognise compressed dumps by their name */
+	UDATA length = fileName.length();
+
+	if ((length < 3) || (strcmp(fileName.data() + length - 3, ".gz") != 0)) {
+		fileName += ".gz";
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeRegionsInParallel() method implementation                           */
+/*                                                                                                */
+/**************************************************************************************************/
+bool
+BinaryHeapDumpWriter::writeRegionsInParallel(J9MM_IterateSpaceDescriptor* spaceDescriptor)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	ParallelHeapDump parallelDump;
+	UDATA threadCount = 0;
+	UDATA i = 0;
+	HeapDumpRegionSnapshot snapshot;
+	UDATA regionCount = 0;
+
+	memset(&parallelDump, 0, sizeof(parallelDump));
+	parallelDump._Writer = this;
+
+	/* Count the regions so that each can have a segment */
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+			_VirtualMachine,
+			_PortLibrary,
+			spaceDescriptor,
+			j9mm_iterator_flag_regions_read_only,
+			binaryHeapDumpRegionCounterCallback,
+			&regionCount);
+
+	threadCount = j9sysinfo_get_number_CPUs_by_type(J9PORT_CPU_TARGET);
+	threadCount = OMR_MIN(threadCount, OMR_MIN(regionCount, PARALLEL_HEAPDUMP_MAX_THREADS));
+	if (threadCount < 2) {
+		/* A single thread is just as fast */
+		return false;
+	}
+
+	/* Copy the region descriptors, so that no thread walks the regions while waiting for another.
+	 * The copies lack the iterator's private fields, so the regions are walked by id.
+	 */
+	snapshot._Regions  = (J9MM_IterateRegionDescriptor*)j9mem_allocate_memory(regionCount * sizeof(J9MM_IterateRegionDescriptor), OMRMEM_CATEGORY_VM);
+	snapshot._Capacity = regionCount;
+	snapshot._Count    = 0;
+	if (snapshot._Regions == NULL) {
+		return false;
+	}
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_regions(
+			_VirtualMachine,
+			_PortLibrary,
+			spaceDescriptor,
+			j9mm_iterator_flag_regions_read_only,
+			binaryHeapDumpRegionCollectorCallback,
+			&snapshot);
+	parallelDump._Regions     = snapshot._Regions;
+	parallelDump._RegionCount = snapshot._Count;
+
+	if (0 != omrthread_monitor_init_with_name(&parallelDump._Mutex, 0, "Parallel heapdump")) {
+		j9mem_free_memory(parallelDump._Regions);
+		return false;
+	}
+
+	parallelDump._Segments = (HeapDumpSegment*)j9mem_allocate_memory(parallelDump._RegionCount * sizeof(HeapDumpSegment), OMRMEM_CATEGORY_VM);
+	if (parallelDump._Segments == NULL) {
+		omrthread_monitor_destroy(parallelDump._Mutex);
+		j9mem_free_memory(parallelDump._Regions);
+		return false;
+	}
+	memset(parallelDump._Segments, 0, parallelDump._RegionCount * sizeof(HeapDumpSegment));
+	parallelDump._Window = threadCount * PARALLEL_HEAPDUMP_REGIONS_PER_THREAD;
+
+	for (i = 0; i < threadCount; i++) {
+		omrthread_monitor_enter(parallelDump._Mutex);
+		parallelDump._ActiveThreads += 1;
+		omrthread_monitor_exit(parallelDump._Mutex);
+		if (0 != omrthread_create(NULL, _VirtualMachine->defaultOSStackSize, J9THREAD_PRIORITY_NORMAL, 0, binaryHeapDumpWriterThreadProc, &parallelDump)) {
+			omrthread_monitor_enter(parallelDump._Mutex);
+			parallelDump._ActiveThreads -= 1;
+			omrthread_monitor_exit(parallelDump._Mutex);
+			break;
+		}
+	}
+	threadCount = i;
+
+	/* Append the segments to the file in region order (any region not claimed by a thread is walked here) */
+	for (i = 0; (i < parallelDump._RegionCount) && !_Error; i++) {
+		writeParallelRegion(&parallelDump, i);
+	}
+
+	/* Stop the threads, which may be waiting to run ahead if the dump failed */
+	omrthread_monitor_enter(parallelDump._Mutex);
+	parallelDump._Finished = true;
+	omrthread_monitor_notify_all(parallelDump._Mutex);
+	while (parallelDump._ActiveThreads != 0) {
+		omrthread_monitor_wait(parallelDump._Mutex);
+	}
+	omrthread_monitor_exit(parallelDump._Mutex);
+
+	for (i = 0; i < parallelDump._RegionCount; i++) {
+		freeSegment(&parallelDump._Segments[i]);
+	}
+
+	Trc_dump_parallelHeapdump_Event(parallelDump._RegionCount, threadCount, parallelDump._SerialRegions);
+
+	j9mem_free_memory(parallelDump._Segments);
+	j9mem_free_memory(parallelDump._Regions);
+	omrthread_monitor_destroy(parallelDump._Mutex);
+	return true;
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeParallelRegion() method implementation                              */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeParallelRegion(ParallelHeapDump* parallelDump, UDATA regionIndex)
+{
+	HeapDumpSegment* segment = NULL;
+
+	omrthread_monitor_enter(parallelDump->_Mutex);
+	if (parallelDump->_NextRegion == regionIndex) {
+		/* No thread has claimed the region yet so claim it here */
+		parallelDump->_NextRegion += 1;
+	} else {
+		segment = &parallelDump->_Segments[regionIndex];
+		while (!segment->_Complete) {
+			omrthread_monitor_wait(parallelDump->_Mutex);
+		}
+	}
+	omrthread_monitor_exit(parallelDump->_Mutex);
+
+	if ((segment == NULL) || segment->_Failed) {
+		/* Walk the region, writing straight to the file */
+		binaryHeapDumpRegionIteratorCallback(_VirtualMachine, &parallelDump->_Regions[regionIndex], this);
+		parallelDump->_SerialRegions += 1;
+	} else {
+		writeSegment(segment);
+	}
+
+	if (segment != NULL) {
+		freeSegment(segment);
+	}
+
+	/* Let the threads run further ahead */
+	omrthread_monitor_enter(parallelDump->_Mutex);
+	parallelDump->_WrittenRegions += 1;
+	omrthread_monitor_notify_all(parallelDump->_Mutex);
+	omrthread_monitor_exit(parallelDump->_Mutex);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeRegionSegment() method implementation                               */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeRegionSegment(ParallelHeapDump* parallelDump, UDATA regionIndex)
+{
+	HeapDumpSegment* segment = &parallelDump->_Segments[regionIndex];
+
+	_Segment       = segment;
+	_CurrentObject = 0;
+	_Error         = false;
+	_ClassCache.clear();
+	_VirtualMachine->memoryManagerFunctions->j9mm_iterate_region_objects_by_id(
+			_VirtualMachine,
+			_VirtualMachine->portLibrary,
+			parallelDump->_Regions[regionIndex].id,
+			0,
+			binaryHeapDumpSegmentObjectIteratorCallback,
+			this);
+	_Segment = NULL;
+
+	omrthread_monitor_enter(parallelDump->_Mutex);
+	segment->_LastObject = _CurrentObject;
+	segment->_Failed     = _Error;
+	segment->_Complete   = true;
+	omrthread_monitor_notify_all(parallelDump->_Mutex);
+	omrthread_monitor_exit(parallelDump->_Mutex);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeSegmentObjectRecord() method implementation                         */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeSegmentObjectRecord(J9MM_IterateObjectDescriptor* objectDescriptor)
+{
+	if (!_Segment->_HasFirstObject) {
+		/* Heap classes are written in the trailer, so the first record may come from a later object */
+		if (J9VM_IS_INITIALIZED_HEAPCLASS_VM(_VirtualMachine, objectDescriptor->object)) {
+			return;
+		}
+
+		/* The dump thread writes this record, relative to the last object of the previous segment */
+		_Segment->_FirstObject    = *objectDescriptor;
+		_Segment->_HasFirstObject = true;
+		_CurrentObject            = objectDescriptor->object;
+		return;
+	}
+
+	writeObjectRecord(objectDescriptor);
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::writeSegment() method implementation                                     */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::writeSegment(HeapDumpSegment* segment)
+{
+	if (segment->_HasFirstObject) {
+		writeObjectRecord(&segment->_FirstObject);
+
+		for (HeapDumpSegmentChunk* chunk = segment->_Head; (chunk != NULL) && !_Error; chunk = chunk->_Next) {
+			writeCharacters(chunk->_Data, chunk->_Length);
+		}
+
+		_CurrentObject = segment->_LastObject;
+	}
+}
+
+/**************************************************************************************************/
+/*                                                                                                */
+/* BinaryHeapDumpWriter::freeSegment() method implementation                                      */
+/*                                                                                                */
+/**************************************************************************************************/
+void
+BinaryHeapDumpWriter::freeSegment(HeapDumpSegment* segment)
+{
+	PORT_ACCESS_FROM_PORT(_PortLibrary);
+	HeapDumpSegmentChunk* chunk = segment->_Head;
+
+	while (chunk != NULL) {
+		HeapDumpSegmentChunk* next = chunk->_Next;
+
+		j9mem_free_memory(chunk);
+		chunk = next;
+	}
+
+	segment->_Head       = NULL;
+	segment->_Tail       = NULL;
+	segment->_ChunkCount = 0;
+}
+
 /**************************************************************************************************/
 /*                                                                                                */
 /* Iterator call back functions                                                                   */
@@ -2448,7 +2902,8 @@ binaryHeapDumpRegionIteratorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor*
 	heapDumpWriter->_Id = regionDescription->id;
 	heapDumpWriter->_RegionStart = (char*)regionDescription->regionStart;
 	heapDumpWriter->_RegionEnd = (char*)((UDATA)regionDescription->regionStart + regionDescription->regionSize);
-	vm->memoryManagerFunctions->j9mm_iterate_region_objects(vm, vm->portLibrary, regionDescription, 0, binaryHeapDumpObjectIteratorCallback, userData);
+	/* The descriptor may be a copy from the parallel dump's snapshot, which j9mm_iterate_region_objects() can not walk */
+	vm->memoryManagerFunctions->j9mm_iterate_region_objects_by_id(vm, vm->portLibrary, regionDescription->id, 0, binaryHeapDumpObjectIteratorCallback, userData);
 	return ((BinaryHeapDumpWriter*)userData)->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
 }
 
@@ -2477,6 +2932,78 @@ binaryHeapDumpObjectReferenceIteratorWriterCallback(J9JavaVM* virtualMachine, J9
 	return referenceWriter->_HeapDumpWriter->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
 }
 
+static jvmtiIterationControl
+binaryHeapDumpRegionCounterCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	*(UDATA*)userData += 1;
+	return JVMTI_ITERATION_CONTINUE;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpRegionCollectorCallback(J9JavaVM* vm, J9MM_IterateRegionDescriptor* regionDescription, void* userData)
+{
+	HeapDumpRegionSnapshot* snapshot = (HeapDumpRegionSnapshot*)userData;
+
+	if (snapshot->_Count == snapshot->_Capacity) {
+		return JVMTI_ITERATION_ABORT;
+	}
+	snapshot->_Regions[snapshot->_Count] = *regionDescription;
+	snapshot->_Count += 1;
+	return JVMTI_ITERATION_CONTINUE;
+}
+
+/* Claim the next region for a thread writing segments, once it is close enough to those written to the file */
+static UDATA
+claimHeapDumpRegion(ParallelHeapDump* parallelDump)
+{
+	UDATA regionIndex = 0;
+
+	omrthread_monitor_enter(parallelDump->_Mutex);
+	while (!parallelDump->_Finished
+		&& (parallelDump->_NextRegion < parallelDump->_RegionCount)
+		&& (parallelDump->_NextRegion >= (parallelDump->_WrittenRegions + parallelDump->_Window))
+	) {
+		omrthread_monitor_wait(parallelDump->_Mutex);
+	}
+	if (parallelDump->_Finished) {
+		regionIndex = parallelDump->_RegionCount;
+	} else {
+		regionIndex = parallelDump->_NextRegion;
+		if (regionIndex < parallelDump->_RegionCount) {
+			parallelDump->_NextRegion += 1;
+		}
+	}
+	omrthread_monitor_exit(parallelDump->_Mutex);
+
+	return regionIndex;
+}
+
+static int J9THREAD_PROC
+binaryHeapDumpWriterThreadProc(void* entryArg)
+{
+	ParallelHeapDump* parallelDump = (ParallelHeapDump*)entryArg;
+	BinaryHeapDumpWriter writer(parallelDump);
+	UDATA regionIndex = claimHeapDumpRegion(parallelDump);
+
+	while (regionIndex < parallelDump->_RegionCount) {
+		writer.writeRegionSegment(parallelDump, regionIndex);
+		regionIndex = claimHeapDumpRegion(parallelDump);
+	}
+
+	omrthread_monitor_enter(parallelDump->_Mutex);
+	parallelDump->_ActiveThreads -= 1;
+	omrthread_monitor_notify_all(parallelDump->_Mutex);
+	omrthread_monitor_exit(parallelDump->_Mutex);
+	return 0;
+}
+
+static jvmtiIterationControl
+binaryHeapDumpSegmentObjectIteratorCallback(J9JavaVM* vm, J9MM_IterateObjectDescriptor* objectDescriptor, void* userData)
+{
+	((BinaryHeapDumpWriter*)userData)->writeSegmentObjectRecord(objectDescriptor);
+	return ((BinaryHeapDumpWriter*)userData)->_Error ? JVMTI_ITERATION_ABORT : JVMTI_ITERATION_CONTINUE;
+}
+
 void
 writePHD(char *label, J9RASdumpContext *context, J9RASdumpAgent* agent)
 {
@@ -384,6 +384,7 @@ private :
 	bool              _AvoidLocks;
 	bool              _PreemptLocked;
 	bool              _ThreadsWalkStarted;
+	bool              _LightMode;
 	J9RASdumpAgent *  _Agent;
 	memcategory_data_frame* _CategoryStack;
 	U_32              _CategoryStackTop;
@@ -392,6 +393,7 @@ private :
 	U_32              _MaxCategoryBits;
 	UDATA             _AllocatedVMThreadCount;
 	int64_t           _DumpStart;
+	U_64              _ExclusivePause;
 
 	/* Static declared data */
 	static const unsigned int _MaximumExceptionNameLength;
@@ -467,9 +469,11 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 	_AvoidLocks(false),
 	_PreemptLocked(false),
 	_ThreadsWalkStarted(false),
+	_LightMode(false),
 	_Agent(agent),
 	_TotalCategories(0),
-	_MaxCategoryBits(0)
+	_MaxCategoryBits(0),
+	_ExclusivePause(0)
 {
 	PORT_ACCESS_FROM_PORT(_PortLibrary);
 	bool bufferWrites = false;
@@ -490,13 +494,24 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 		_AvoidLocks = false;
 	}
 
+	/* A light javacore (opts=LIGHT) was not given exclusive access by prepareForDump(), it takes it
+	 * here for the thread snapshot only. The same rules apply: not in a crash or trace assertion,
+	 * and not when another thread holds exclusive access on a user or slow exclusive enter event.
+	 */
+	_LightMode = isLightJavaDump(_Agent)
+			&& J9_ARE_ANY_BITS_SET(_Agent->requestMask, J9RAS_DUMP_DO_EXCLUSIVE_VM_ACCESS)
+			&& J9_ARE_NO_BITS_SET(_Agent->prepState, J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS)
+			&& J9_ARE_NO_BITS_SET(_Context->eventFlags, J9RAS_DUMP_ON_GP_FAULT | J9RAS_DUMP_ON_ABORT_SIGNAL | J9RAS_DUMP_ON_TRACE_ASSERT)
+			&& !((J9_XACCESS_NONE != _VirtualMachine->exclusiveAccessState)
+				&& J9_ARE_ANY_BITS_SET(_Context->eventFlags, J9RAS_DUMP_ON_USER_SIGNAL | J9RAS_DUMP_ON_SLOW_EXCLUSIVE_ENTER));
+
 	/* Write a message to standard error saying we are about to write a dump file */
 	reportDumpRequest(_PortLibrary, _Context, "Java", _FileName);
 
 	/* don't buffer if we don't have the locks (incl exclusive) or it's a GP. */
 	bufferWrites = !_AvoidLocks
 			&& J9_ARE_NO_BITS_SET(_Context->eventFlags, J9RAS_DUMP_ON_GP_FAULT | J9RAS_DUMP_ON_ABORT_SIGNAL)
-			&& J9_ARE_ALL_BITS_SET(_Agent->prepState, J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS);
+			&& (_LightMode || J9_ARE_ALL_BITS_SET(_Agent->prepState, J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS));
 
 	/* It's a single file so open it */
 	_OutputStream.open(_FileName, bufferWrites);
@@ -533,6 +548,14 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 	}
 	omrthread_monitor_exit(_VirtualMachine->monitorTableMutex);
 
+	/* A light javacore stops the world for the thread snapshot only, the time includes waiting for exclusive access */
+	I_64 pauseStart = 0;
+	UDATA lightState = 0;
+	if (_LightMode) {
+		pauseStart = j9time_nano_time();
+		lightState = acquireDumpExclusiveVMAccess(_VirtualMachine, _Context);
+	}
+
 	/* If request=preempt (for native stack collection) we attempt to acquire the mutex and note if we got it */
 	if (J9_ARE_ANY_BITS_SET(_Agent->requestMask, J9RAS_DUMP_DO_PREEMPT_THREADS)) {
 		if (compareAndSwapUDATA(&rasDumpPreemptLock, 0, 1) == 0) {
@@ -545,6 +568,11 @@ JavaCoreDumpWriter::JavaCoreDumpWriter(
 		_PreemptLocked = false;
 	}
 
+	if (_LightMode) {
+		releaseDumpExclusiveVMAccess(_VirtualMachine, _Context, lightState);
+		_ExclusivePause = (U_64)(j9time_nano_time() - pauseStart);
+	}
+
 #if defined(OMR_OPT_CUDA)
 	CALL_PROTECT(writeCudaSection, _Error);
 #endif /* defined(OMR_OPT_CUDA) */
@@ -829,7 +857,9 @@ JavaCoreDumpWriter::writeTitleSection(void)
 
 	_OutputStream.writeCharacters("\n");
 
-	if (J9_ARE_NO_BITS_SET(_Agent->prepState, J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS)) {
+	if (_LightMode) {
+		_OutputStream.writeCharacters("1TIPREPINFO    Light javacore: exclusive VM access taken for the thread section only (see 1TIDMPPAUSE)\n");
+	} else if (J9_ARE_NO_BITS_SET(_Agent->prepState, J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS)) {
 		_OutputStream.writeCharacters("1TIPREPINFO    Exclusive VM access not taken: data may not be consistent across javacore sections\n");
 	}
 
@@ -3690,6 +3720,13 @@ JavaCoreDumpWriter::writeTrailer(void)
 	_OutputStream.writeInteger64(duration, "%llu");
 	_OutputStream.writeCharacters("ms\n");
 
+	if (_LightMode) {
+		/* The title section is written before the thread snapshot, so the pause is reported here */
+		_OutputStream.writeCharacters("1TIDMPPAUSE    Exclusive VM access held for the thread section: ");
+		_OutputStream.writeInteger64(_ExclusivePause / 1000, "%llu");
+		_OutputStream.writeCharacters("us\n");
+	}
+
 	_OutputStream.writeCharacters(
 		"NULL           ---------------------- END OF DUMP -------------------------------------\n"
 	);
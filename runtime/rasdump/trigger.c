@@ -560,6 +560,57 @@ printLabelSpec(struct J9JavaVM *vm)
 	return OMR_ERROR_NONE;
 }
 
+UDATA
+acquireDumpExclusiveVMAccess(struct J9JavaVM *vm, struct J9RASdumpContext *context)
+{
+	J9VMThread *vmThread = context->onThread;
+	UDATA newState = 0;
+
+	if (NULL != vmThread) {
+#if defined(J9VM_INTERP_ATOMIC_FREE_JNI)
+		if (vmThread->inNative) {
+			vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
+			newState |= J9RAS_DUMP_GOT_JNI_VM_ACCESS;
+		} else
+#endif /* J9VM_INTERP_ATOMIC_FREE_JNI */
+		if (J9_ARE_NO_BITS_SET(vmThread->publicFlags, J9_PUBLIC_FLAGS_VM_ACCESS)) {
+			vm->internalVMFunctions->internalAcquireVMAccess(vmThread);
+			newState |= J9RAS_DUMP_GOT_VM_ACCESS;
+		}
+		vm->internalVMFunctions->acquireExclusiveVMAccess(vmThread);
+	} else {
+		vm->internalVMFunctions->acquireExclusiveVMAccessFromExternalThread(vm);
+	}
+
+	return newState | J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS;
+}
+
+UDATA
+releaseDumpExclusiveVMAccess(struct J9JavaVM *vm, struct J9RASdumpContext *context, UDATA state)
+{
+	J9VMThread *vmThread = context->onThread;
+	UDATA newState = state;
+
+	if (NULL != vmThread) {
+		vm->internalVMFunctions->releaseExclusiveVMAccess(vmThread);
+#if defined(J9VM_INTERP_ATOMIC_FREE_JNI)
+		if (J9_ARE_ANY_BITS_SET(state, J9RAS_DUMP_GOT_JNI_VM_ACCESS)) {
+			vm->internalVMFunctions->internalExitVMToJNI(vmThread);
+			newState &= ~J9RAS_DUMP_GOT_JNI_VM_ACCESS;
+		} else
+#endif /* J9VM_INTERP_ATOMIC_FREE_JNI */
+		if (J9_ARE_ANY_BITS_SET(state, J9RAS_DUMP_GOT_VM_ACCESS)) {
+			vm->internalVMFunctions->internalReleaseVMAccess(vmThread);
+			newState &= ~J9RAS_DUMP_GOT_VM_ACCESS;
+		}
+	} else {
+		vm->internalVMFunctions->releaseExclusiveVMAccessFromExternalThread(vm);
+	}
+
+	/* Releasing exclusive access potentially invalidates the state of the heap... */
+	return newState & ~(J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS | J9RAS_DUMP_HEAP_COMPACTED | J9RAS_DUMP_HEAP_PREPARED);
+}
+
 UDATA
 prepareForDump(struct J9JavaVM *vm, struct J9RASdumpAgent *agent, struct J9RASdumpContext *context, UDATA state)
 {
@@ -656,26 +707,12 @@ prepareForDump(struct J9JavaVM *vm, struct J9RASdumpAgent *agent, struct J9RASdu
 				}
 			}
 
+			/* A light javacore takes exclusive access itself, and only for the thread snapshot */
 			if (J9_ARE_ANY_BITS_SET(agent->requestMask, J9RAS_DUMP_DO_EXCLUSIVE_VM_ACCESS)
 				&& J9_ARE_NO_BITS_SET(state, J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS)
+				&& !isLightJavaDump(agent)
 			) {
-				if (NULL != vmThread) {
-#if defined(J9VM_INTERP_ATOMIC_FREE_JNI)
-					if (vmThread->inNative) {
-						vm->internalVMFunctions->internalEnterVMFromJNI(vmThread);
-						newState |= J9RAS_DUMP_GOT_JNI_VM_ACCESS;
-					} else
-#endif /* J9VM_INTERP_ATOMIC_FREE_JNI */
-					if (J9_ARE_NO_BITS_SET(vmThread->publicFlags, J9_PUBLIC_FLAGS_VM_ACCESS)) {
-						vm->internalVMFunctions->internalAcquireVMAccess(vmThread);
-						newState |= J9RAS_DUMP_GOT_VM_ACCESS;
-					}
-					vm->internalVMFunctions->acquireExclusiveVMAccess(vmThread);
-				} else {
-					vm->internalVMFunctions->acquireExclusiveVMAccessFromExternalThread(vm);
-				}
-
-				newState |= J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS;
+				newState |= acquireDumpExclusiveVMAccess(vm, context);
 			}
 		}
 	}
@@ -729,8 +766,6 @@ UDATA
 unwindAfterDump(struct J9JavaVM *vm, struct J9RASdumpContext *context, UDATA state)
 {
 	UDATA dumpKey = 1 + (UDATA)omrthread_self();
-	J9VMThread *vmThread = context->onThread;
-
 	UDATA newState = state;
 
 	/*
@@ -738,24 +773,7 @@ unwindAfterDump(struct J9JavaVM *vm, struct J9RASdumpContext *context, UDATA sta
 	 */
 
 	if (J9_ARE_ANY_BITS_SET(state, J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS)) {
-		if (NULL != vmThread) {
-			vm->internalVMFunctions->releaseExclusiveVMAccess(vmThread);
-#if defined(J9VM_INTERP_ATOMIC_FREE_JNI)
-			if (J9_ARE_ANY_BITS_SET(state, J9RAS_DUMP_GOT_JNI_VM_ACCESS)) {
-				vm->internalVMFunctions->internalExitVMToJNI(vmThread);
-				newState &= ~J9RAS_DUMP_GOT_JNI_VM_ACCESS;
-			} else
-#endif /* J9VM_INTERP_ATOMIC_FREE_JNI */
-			if (J9_ARE_ANY_BITS_SET(state, J9RAS_DUMP_GOT_VM_ACCESS)) {
-				vm->internalVMFunctions->internalReleaseVMAccess(vmThread);
-				newState &= ~J9RAS_DUMP_GOT_VM_ACCESS;
-			}
-		} else {
-			vm->internalVMFunctions->releaseExclusiveVMAccessFromExternalThread(vm);
-		}
-
-		/* Releasing exclusive access potentially invalidates the state of the heap... */
-		newState &= ~(J9RAS_DUMP_GOT_EXCLUSIVE_VM_ACCESS | J9RAS_DUMP_HEAP_COMPACTED | J9RAS_DUMP_HEAP_PREPARED);
+		newState = releaseDumpExclusiveVMAccess(vm, context, newState);
 	}
 
 	if (J9_ARE_ANY_BITS_SET(state, J9RAS_DUMP_ATTACHED_THREAD)) {
@@ -6074,3 +6074,48 @@ addDoubleStruct1AndNestedDoubleStructArrayStruct2_returnStruct2_dupStruct(stru_2
 	doubleStruct.elem2 = arg1.elem2 + arg2.elem2;
 	return doubleStruct;
 }
+
+/**
+ * Add integers, floats, doubles and an integer dereferenced from a pointer,
+ * interleaved so that they occupy all six integer and all eight floating point
+ * argument registers on x86-64.
+ *
+ * @param arg1 an integer to add
+ * @param arg2 a float to add
+ * @param arg3 a long to add
+ * @param arg4 a double to add
+ * @param arg5 a short to add
+ * @param arg6 a float to add
+ * @param arg7 a pointer to integer
+ * @param arg8 a double to add
+ * @param arg9 a boolean added as 1 if true
+ * @param arg10 a double to add
+ * @param arg11 a long to add
+ * @param arg12 a float to add
+ * @param arg13 a double to add
+ * @param arg14 a double to add
+ * @return the sum of all the arguments
+ */
+double
+addMixedArgsInAllRegisters(int arg1, float arg2, LONG arg3, double arg4, short arg5, float arg6, int *arg7,
+		double arg8, bool arg9, double arg10, LONG arg11, float arg12, double arg13, double arg14)
+{
+	double sum = arg1 + arg2 + arg3 + arg4 + arg5 + arg6 + *arg7
+			+ arg8 + (arg9 ? 1 : 0) + arg10 + arg11 + arg12 + arg13 + arg14;
+	return sum;
+}
+
+/**
+ * Add seven longs and nine doubles, the last of each being passed
+ * on the stack on x86-64.
+ *
+ * @return the sum of all the arguments
+ */
+double
+addLongsAndDoublesPassedOnStack(LONG arg1, LONG arg2, LONG arg3, LONG arg4, LONG arg5, LONG arg6, LONG arg7,
+		double arg8, double arg9, double arg10, double arg11, double arg12, double arg13, double arg14, double arg15, double arg16)
+{
+	double sum = arg1 + arg2 + arg3 + arg4 + arg5 + arg6 + arg7
+			+ arg8 + arg9 + arg10 + arg11 + arg12 + arg13 + arg14 + arg15 + arg16;
+	return sum;
+}
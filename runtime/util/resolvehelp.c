@@ -124,9 +124,7 @@ isDirectSuperInterface(J9VMThread *vmStruct, J9Class *resolvedClass, J9Class *cu
 			J9JavaVM * vm = vmStruct->javaVM;
 			J9Class *interfaceClass = NULL;
 			J9UTF8 *interfaceName = NNSRP_GET(interfaceNames[i], J9UTF8*);
-			omrthread_monitor_enter(vm->classTableMutex);
-			interfaceClass = vm->internalVMFunctions->hashClassTableAt(resolvedClass->classLoader, J9UTF8_DATA(interfaceName), J9UTF8_LENGTH(interfaceName), 0);
-			omrthread_monitor_exit(vm->classTableMutex);
+			interfaceClass = vm->internalVMFunctions->peekClassHashTable(vmStruct, resolvedClass->classLoader, J9UTF8_DATA(interfaceName), J9UTF8_LENGTH(interfaceName));
 			if (interfaceClass == resolvedClass) {
 				/* Found resolvedClass in the currentClass ROMClass interface list */
 				result = TRUE;
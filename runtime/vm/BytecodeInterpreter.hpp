@@ -154,6 +154,10 @@ ffiCallWithSetJmpForUpcall(J9VMThread *currentThread, ffi_cif *cif, void *functi
 #else /* FFI_NATIVE_RAW_API */
 ffiCallWithSetJmpForUpcall(J9VMThread *currentThread, ffi_cif *cif, void *function, UDATA *returnStorage, void **values);
 #endif /* FFI_NATIVE_RAW_API */
+#if defined(J9VM_FFI_DIRECT_DOWNCALL)
+extern void
+directCallWithSetJmpForUpcall(J9VMThread *currentThread, void *function, U_8 returnType, UDATA *returnStorage, U_64 *gprArgs, U_64 *fprArgs);
+#endif /* defined(J9VM_FFI_DIRECT_DOWNCALL) */
 }
 #endif /* JAVA_SPEC_VERSION >= 16 */
 
@@ -5480,6 +5484,15 @@ done:
 		U_32 ffiArgCount = J9INDEXABLEOBJECT_SIZE(currentThread, argValues);
 		const U_8 minimalCallout = 16;
 		bool isMinimal = (ffiArgCount <= minimalCallout);
+#if defined(J9VM_FFI_DIRECT_DOWNCALL)
+		U_64 gprArgs[J9_FFI_DIRECT_DOWNCALL_MAX_GPR_ARGS] = {0};
+		U_64 fprArgs[J9_FFI_DIRECT_DOWNCALL_MAX_FPR_ARGS] = {0};
+		UDATA gprArgCount = 0;
+		UDATA fprArgCount = 0;
+		/* Struct arguments and return values are left to libffi. */
+		bool isDirectCall = J9_ARE_NO_BITS_SET(_vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_DISABLE_FFI_DIRECT_DOWNCALL)
+				&& (J9NtcStruct != returnType);
+#endif /* defined(J9VM_FFI_DIRECT_DOWNCALL) */
 
 		PORT_ACCESS_FROM_JAVAVM(_vm);
 
@@ -5619,6 +5632,28 @@ done:
 				}
 #endif /*J9VM_ENV_LITTLE_ENDIAN */
 			}
+#if defined(J9VM_FFI_DIRECT_DOWNCALL)
+			/* Assign the argument to the next free register of its class. Anything passed
+			 * on the stack or by reference falls back to ffi_call.
+			 */
+			if (isDirectCall) {
+				if (J9NtcStruct == argType) {
+					isDirectCall = false;
+				} else if ((J9NtcFloat == argType) || (J9NtcDouble == argType)) {
+					if (fprArgCount < J9_FFI_DIRECT_DOWNCALL_MAX_FPR_ARGS) {
+						fprArgs[fprArgCount] = ffiArgs[i];
+						fprArgCount += 1;
+					} else {
+						isDirectCall = false;
+					}
+				} else if (gprArgCount < J9_FFI_DIRECT_DOWNCALL_MAX_GPR_ARGS) {
+					gprArgs[gprArgCount] = (J9NtcPointer == argType) ? pointerValues[i] : ffiArgs[i];
+					gprArgCount += 1;
+				} else {
+					isDirectCall = false;
+				}
+			}
+#endif /* defined(J9VM_FFI_DIRECT_DOWNCALL) */
 		}
 
 		bp = buildSpecialStackFrame(REGISTER_ARGS, J9SF_FRAME_TYPE_JNI_NATIVE_METHOD, jitStackFrameFlags(REGISTER_ARGS, 0), true);
@@ -5641,11 +5676,18 @@ done:
 			VM_VMAccess::inlineExitVMToJNI(_currentThread);
 		}
 		VM_VMHelpers::beforeJNICall(_currentThread);
+#if defined(J9VM_FFI_DIRECT_DOWNCALL)
+		if (isDirectCall) {
+			directCallWithSetJmpForUpcall(_currentThread, function, returnType, returnStorage, gprArgs, fprArgs);
+		} else
+#endif /* defined(J9VM_FFI_DIRECT_DOWNCALL) */
+		{
 #if FFI_NATIVE_RAW_API
-		ffiCallWithSetJmpForUpcall(_currentThread, cif, function, returnStorage, values, values_raw);
+			ffiCallWithSetJmpForUpcall(_currentThread, cif, function, returnStorage, values, values_raw);
 #else /* FFI_NATIVE_RAW_API */
-		ffiCallWithSetJmpForUpcall(_currentThread, cif, function, returnStorage, values);
+			ffiCallWithSetJmpForUpcall(_currentThread, cif, function, returnStorage, values);
 #endif /* FFI_NATIVE_RAW_API */
+		}
 		VM_VMHelpers::afterJNICall(_currentThread);
 #if JAVA_SPEC_VERSION >= 21
 		/* Re-enter VM after non-critical downcalls. */
@@ -31,9 +31,88 @@
 #include "HeapIteratorAPI.h"
 #include "OutOfLineINL.hpp"
 
+/* Compacted stacks are sized to the used portion rounded up to this granule. */
+#define J9_CONTINUATION_COMPACT_STACK_GRANULE 512
 
 extern "C" {
 
+#if defined(J9VM_INTERP_GROWABLE_STACKS)
+/**
+ * Move the stack of the continuation being unmounted from currentThread to a
+ * stack just large enough for its live frames, releasing the original stack.
+ * Must be called before the continuation's fields are swapped out of currentThread.
+ *
+ * @param[in] currentThread the carrier thread
+ * @param[in] continuation the continuation being unmounted
+ */
+static void
+compactContinuationStack(J9VMThread *currentThread, J9VMContinuation *continuation)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9JavaStack *stack = currentThread->stackObject;
+	UDATA stackSize = stack->size;
+	UDATA usedBytes = (UDATA)stack->end - (UDATA)currentThread->sp;
+	UDATA compactSize = ROUND_UP_TO_POWEROF2(usedBytes, J9_CONTINUATION_COMPACT_STACK_GRANULE);
+
+	/* Stacks holding older stacks alive for redirected JNI refs are left alone, as are
+	 * stacks that would not shrink by at least half.
+	 */
+	if ((NULL == stack->previous) && ((compactSize * 2) <= stackSize)) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		I_64 start = j9time_hires_clock();
+
+		if (0 == resizeJavaStack(currentThread, compactSize)) {
+			if (NULL == currentThread->stackObject->previous) {
+				UDATA savedBytes = stackSize - compactSize;
+				continuation->inflatedStackSize = stackSize;
+				VM_AtomicSupport::add(&vm->continuationStackBytesSaved, savedBytes);
+				VM_AtomicSupport::addU64(&vm->continuationStackBytesReleased, savedBytes);
+			} else {
+				/* The original stack is still referenced, so inflating on mount gains nothing back. */
+				continuation->inflatedStackSize = 0;
+			}
+			/* Carrier threads unmount concurrently, so the statistics are updated atomically like the bytes saved. */
+			VM_AtomicSupport::addU32(&vm->continuationStackCompactCount, 1);
+			VM_AtomicSupport::addU64((volatile U_64 *)&vm->continuationStackCompactTime, (U_64)j9time_hires_delta(start, j9time_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS));
+		}
+	}
+}
+
+/**
+ * Restore the stack of a continuation compacted by compactContinuationStack() to
+ * its original size. Must be called after the continuation's fields are swapped
+ * into currentThread. If the larger stack cannot be allocated, the continuation
+ * stays compacted and the failure is reported to it as a native OutOfMemoryError,
+ * or a StackOverflowError if its frames no longer fit.
+ *
+ * @param[in] currentThread the carrier thread
+ * @param[in] continuation the continuation being mounted
+ */
+static void
+inflateContinuationStack(J9VMThread *currentThread, J9VMContinuation *continuation)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	UDATA compactSize = currentThread->stackObject->size;
+	I_64 start = j9time_hires_clock();
+	UDATA rc = resizeJavaStack(currentThread, continuation->inflatedStackSize);
+
+	if (0 != rc) {
+		/* The stack is unchanged, so it is still compacted and the bytes are still saved. */
+		if (3 == rc) {
+			setCurrentException(currentThread, J9VMCONSTANTPOOL_JAVALANGSTACKOVERFLOWERROR, NULL);
+		} else {
+			vm->internalVMFunctions->setNativeOutOfMemoryError(currentThread, 0, 0);
+		}
+		return;
+	}
+	VM_AtomicSupport::subtract(&vm->continuationStackBytesSaved, continuation->inflatedStackSize - compactSize);
+	continuation->inflatedStackSize = 0;
+	VM_AtomicSupport::addU32(&vm->continuationStackInflateCount, 1);
+	VM_AtomicSupport::addU64((volatile U_64 *)&vm->continuationStackInflateTime, (U_64)j9time_hires_delta(start, j9time_hires_clock(), OMRPORT_TIME_DELTA_IN_NANOSECONDS));
+}
+#endif /* defined(J9VM_INTERP_GROWABLE_STACKS) */
+
 BOOLEAN
 createContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 {
@@ -261,6 +340,15 @@ enterContinuation(J9VMThread *currentThread, j9object_t continuationObject)
 
 	VM_ContinuationHelpers::swapFieldsWithContinuation(currentThread, continuation, continuationObject, started);
 
+#if defined(J9VM_INTERP_GROWABLE_STACKS)
+	/* On failure the continuation is still mounted, and the exception is thrown
+	 * into it when it resumes. inflatedStackSize is kept so the next mount retries.
+	 */
+	if (0 != continuation->inflatedStackSize) {
+		inflateContinuationStack(currentThread, continuation);
+	}
+#endif /* defined(J9VM_INTERP_GROWABLE_STACKS) */
+
 	currentThread->currentContinuation = continuation;
 #if JAVA_SPEC_VERSION >= 24
 	Trc_VM_enterContinuation_Mount(currentThread, continuation, continuation->returnState, currentThread->ownedMonitorCount, continuation->enteredMonitors);
@@ -322,6 +410,14 @@ yieldContinuation(J9VMThread *currentThread, BOOLEAN isFinished, UDATA returnSta
 	if (isFinished) {
 		VM_ContinuationHelpers::setFinished(continuationStatePtr);
 	}
+#if defined(J9VM_INTERP_GROWABLE_STACKS)
+	else if ((J9VM_CONTINUATION_RETURN_FROM_YIELD == returnState)
+	&& J9_ARE_ANY_BITS_SET(currentThread->javaVM->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_COMPACT_CONTINUATION_STACKS)
+	) {
+		/* Only a yield has built the internal native frame needed to walk the stack here. */
+		compactContinuationStack(currentThread, continuation);
+	}
+#endif /* defined(J9VM_INTERP_GROWABLE_STACKS) */
 
 	currentThread->currentContinuation = NULL;
 	VM_ContinuationHelpers::swapFieldsWithContinuation(currentThread, continuation, continuationObject);
@@ -413,6 +509,12 @@ recycleContinuation(J9JavaVM *vm, J9VMThread *vmThread, J9VMContinuation* contin
 	bool cached = false;
 	vm->totalContinuationStackSize += continuation->stackObject->size;
 
+	if (0 != continuation->inflatedStackSize) {
+		/* Never mounted again after being compacted, the stack is too small to be worth caching. */
+		VM_AtomicSupport::subtract(&vm->continuationStackBytesSaved, continuation->inflatedStackSize - continuation->stackObject->size);
+		goto notCached;
+	}
+
 	if (!skipLocalCache && (0 < vm->continuationT1Size)) {
 		/* If called by carrier thread (not global), try to store in local cache first.
 		 * Allocate cacheArray if it doesn't exist.
@@ -451,6 +553,7 @@ T2:
 		}
 
 		if (!cached) {
+notCached:
 			vm->cacheFree += 1;
 			/* Caching failed, free the J9VMContinuation struct. */
 			freeJavaStack(vm, continuation->stackObject);
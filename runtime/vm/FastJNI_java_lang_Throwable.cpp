@@ -26,6 +26,7 @@
 #include "j9consts.h"
 #include "j9jclnls.h"
 #include "objhelp.h"
+#include "vm_internal.h"
 #include "VMHelpers.hpp"
 #include "ObjectAllocationAPI.hpp"
 #include "ObjectAccessBarrierAPI.hpp"
@@ -69,6 +70,9 @@ Fast_java_lang_Throwable_fillInStackTrace(J9VMThread *currentThread, j9object_t
 			UDATA walkRC = vm->walkStackFrames(currentThread, walkState);
 			UDATA framesWalked = walkState->framesWalked;
 			UDATA *cachePointer = walkState->cache;
+			/* Share identical walkbacks, except for the precached out of memory trace which is filled in place */
+			bool internWalkbacks = J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_INTERN_STACK_TRACES)
+				&& J9_ARE_NO_BITS_SET(currentThread->privateFlags, J9_PRIVATE_FLAGS_OUT_OF_MEMORY | J9_PRIVATE_FLAGS_FILL_EXISTING_TRACE);
 			if (J9_STACKWALK_RC_NONE != walkRC) {
 				/* Avoid infinite recursion if already throwing OOM */
 				if (currentThread->privateFlags & J9_PRIVATE_FLAGS_OUT_OF_MEMORY) {
@@ -81,6 +85,13 @@ Fast_java_lang_Throwable_fillInStackTrace(J9VMThread *currentThread, j9object_t
 			 * allocate a new stack trace.  The cached receiver object is invalid after this point.
 			 */
 			if ((NULL == walkback) || (0 == (currentThread->privateFlags & J9_PRIVATE_FLAGS_FILL_EXISTING_TRACE))) {
+				if (internWalkbacks) {
+					walkback = findInternedWalkback(currentThread, J9OBJECT_CLAZZ(currentThread, receiver), cachePointer, framesWalked);
+					if (NULL != walkback) {
+						freeStackWalkCaches(currentThread, walkState);
+						goto setWalkback;
+					}
+				}
 #if defined(J9VM_ENV_DATA64)
 				J9Class *arrayClass = vm->longArrayClass;
 #else
@@ -110,8 +121,12 @@ Fast_java_lang_Throwable_fillInStackTrace(J9VMThread *currentThread, j9object_t
 				objectAccessBarrier.inlineIndexableObjectStoreI32(currentThread, walkback, i, cachePointer[i]);
 #endif
 			}
+			if (internWalkbacks) {
+				internWalkback(currentThread, J9OBJECT_CLAZZ(currentThread, receiver), walkback, cachePointer, framesWalked);
+			}
 			freeStackWalkCaches(currentThread, walkState);
 recursiveOOM:
+setWalkback:
 			J9VMJAVALANGTHROWABLE_SET_WALKBACK(currentThread, receiver, walkback);
 			J9VMJAVALANGTHROWABLE_SET_STACKTRACE(currentThread, receiver, NULL);
 		}
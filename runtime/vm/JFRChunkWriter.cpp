@@ -565,6 +565,46 @@ VM_JFRChunkWriter::writeFrameTypeCheckpointEvent()
 	return dataStart;
 }
 
+void
+VM_JFRChunkWriter::writeStringConstantsCheckpointEvent(U_64 typeID, const char * const *names, UDATA count)
+{
+	U_8 *dataStart = writeCheckpointEventHeader(Generic, 1);
+
+	/* class ID */
+	_bufferWriter->writeLEB128(typeID);
+
+	/* number of constants */
+	_bufferWriter->writeLEB128(count);
+
+	for (UDATA i = 0; i < count; i++) {
+		/* constant index */
+		_bufferWriter->writeLEB128(i);
+
+		writeStringLiteral(names[i]);
+	}
+
+	/* write size */
+	writeEventSize(dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeCompilerCheckpointEvents()
+{
+	JFRState *jfrState = &_vm->jfrState;
+	UDATA deoptimizationCount = _constantPoolTypes.getDeoptimizationCount();
+
+	/* Events are only recorded if the type IDs of the pools they reference were resolved. */
+	if ((_constantPoolTypes.getCompilationCount() > 0) || (deoptimizationCount > 0)) {
+		writeStringConstantsCheckpointEvent(jfrState->compilerTypeTypeID, compilerTypeNames, J9JFR_COMPILER_TYPE_COUNT);
+	}
+
+	if (deoptimizationCount > 0) {
+		writeStringConstantsCheckpointEvent(jfrState->bytecodeTypeID, bytecodeNames, sizeof(bytecodeNames) / sizeof(bytecodeNames[0]));
+		writeStringConstantsCheckpointEvent(jfrState->deoptimizationActionTypeID, deoptimizationActionNames, sizeof(deoptimizationActionNames) / sizeof(deoptimizationActionNames[0]));
+		writeStringConstantsCheckpointEvent(jfrState->deoptimizationReasonTypeID, _constantPoolTypes.getDeoptimizationReasons(), _constantPoolTypes.getDeoptimizationReasonCount());
+	}
+}
+
 U_8 *
 VM_JFRChunkWriter::writeSymbolTableCheckpointEvent()
 {
@@ -1498,4 +1538,145 @@ VM_JFRChunkWriter::writeModuleExport(void *anElement, void *userData)
 	writeEventSize(bufferWriter, dataStart);
 }
 
+void
+VM_JFRChunkWriter::writeCompilationEvent(void *anElement, void *userData)
+{
+	CompilationEntry *entry = (CompilationEntry *)anElement;
+	VM_JFRChunkWriter *writer = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = writer->_bufferWriter;
+
+	/* Reserve size field. */
+	U_8 *dataStart = writer->reserveEventSize(bufferWriter);
+
+	/* Write event type, resolved from the metadata blob. */
+	bufferWriter->writeLEB128(writer->_vm->jfrState.compilationTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write duration. */
+	bufferWriter->writeLEB128(entry->duration);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write compile ID. */
+	bufferWriter->writeLEB128(entry->compileID);
+
+	/* Write compiler type index. */
+	bufferWriter->writeLEB128(entry->compilerType);
+
+	/* Write method index. */
+	bufferWriter->writeLEB128(entry->methodIndex);
+
+	/* Write compile level. */
+	bufferWriter->writeLEB128(entry->compileLevel);
+
+	/* Write succeeded, only successful compilations are recorded. */
+	bufferWriter->writeBoolean(true);
+
+	/* Write isOsr. */
+	bufferWriter->writeBoolean(entry->isOSR);
+
+	/* Write code size. */
+	bufferWriter->writeLEB128(entry->codeSize);
+
+	/* Write inlined bytes. */
+	bufferWriter->writeLEB128(entry->inlinedBytes);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeCompilerInliningEvent(void *anElement, void *userData)
+{
+	CompilerInliningEntry *entry = (CompilerInliningEntry *)anElement;
+	VM_JFRChunkWriter *writer = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = writer->_bufferWriter;
+
+	/* Reserve size field. */
+	U_8 *dataStart = writer->reserveEventSize(bufferWriter);
+
+	/* Write event type, resolved from the metadata blob. */
+	bufferWriter->writeLEB128(writer->_vm->jfrState.compilerInliningTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write compile ID. */
+	bufferWriter->writeLEB128(entry->compileID);
+
+	/* Write caller method index. */
+	bufferWriter->writeLEB128(entry->callerIndex);
+
+	/* Write callee type, name and descriptor. */
+	writer->writeUTF8String(entry->calleeClassName);
+	writer->writeUTF8String(entry->calleeName);
+	writer->writeUTF8String(entry->calleeSignature);
+
+	/* Write succeeded, only call sites that were inlined are recorded. */
+	bufferWriter->writeBoolean(true);
+
+	/* Write message. */
+	bufferWriter->writeLEB128(NullString);
+
+	/* Write bytecode index of the call site. */
+	bufferWriter->writeLEB128((U_32)entry->bci);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
+void
+VM_JFRChunkWriter::writeDeoptimizationEvent(void *anElement, void *userData)
+{
+	DeoptimizationEntry *entry = (DeoptimizationEntry *)anElement;
+	VM_JFRChunkWriter *writer = (VM_JFRChunkWriter *)userData;
+	VM_BufferWriter *bufferWriter = writer->_bufferWriter;
+
+	/* Reserve size field. */
+	U_8 *dataStart = writer->reserveEventSize(bufferWriter);
+
+	/* Write event type, resolved from the metadata blob. */
+	bufferWriter->writeLEB128(writer->_vm->jfrState.deoptimizationTypeID);
+
+	/* Write start time. */
+	bufferWriter->writeLEB128(entry->ticks);
+
+	/* Write event thread index. */
+	bufferWriter->writeLEB128(entry->eventThreadIndex);
+
+	/* Write stacktrace index. */
+	bufferWriter->writeLEB128(entry->stackTraceIndex);
+
+	/* Write compile ID, which is not tracked for invalidated bodies. */
+	bufferWriter->writeLEB128(0);
+
+	/* Write compiler type index. */
+	bufferWriter->writeLEB128(J9JFR_COMPILER_TYPE_JIT);
+
+	/* Write method index. */
+	bufferWriter->writeLEB128(entry->methodIndex);
+
+	/* Write line number and bci, which are unknown. */
+	bufferWriter->writeLEB128((U_32)-1);
+	bufferWriter->writeLEB128((U_32)-1);
+
+	/* Write instruction index. */
+	bufferWriter->writeLEB128(0);
+
+	/* Write reason index. */
+	bufferWriter->writeLEB128(entry->reasonIndex);
+
+	/* Write action index. */
+	bufferWriter->writeLEB128(0);
+
+	/* Write size. */
+	writeEventSize(bufferWriter, dataStart);
+}
+
 #endif /* defined(J9VM_OPT_JFR) */
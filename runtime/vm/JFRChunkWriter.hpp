@@ -56,6 +56,23 @@ static constexpr const char * const oopModeTypeNames[] = {
 	"Zero based"
 };
 
+/* Indexed by the J9JFR_COMPILER_TYPE_* constants */
+static constexpr const char * const compilerTypeNames[] = {
+	"JIT",
+	"AOT",
+	"JITServer"
+};
+
+/* Invalidated bodies fall back to the interpreter until the method is recompiled */
+static constexpr const char * const deoptimizationActionNames[] = {
+	"reinterpret"
+};
+
+/* The JIT does not report the bytecode at which a body was invalidated */
+static constexpr const char * const bytecodeNames[] = {
+	"unknown"
+};
+
 enum StringEnconding {
 	NullString = 0,
 	EmptyString,
@@ -198,6 +215,11 @@ private:
 	static constexpr int SYSTEM_GC_EVENT_SIZE = (2 * LEB128_64_SIZE) + (3 * LEB128_32_SIZE) + sizeof(U_8);
 	static constexpr int MODULE_REQUIRE_EVENT_SIZE = LEB128_64_SIZE + (4 * LEB128_32_SIZE);
 	static constexpr int MODULE_EXPORT_EVENT_SIZE = LEB128_64_SIZE + (4 * LEB128_32_SIZE);
+	static constexpr int COMPILATION_EVENT_SIZE = (6 * LEB128_64_SIZE) + (5 * LEB128_32_SIZE) + (2 * sizeof(U_8));
+	static constexpr int COMPILER_INLINING_EVENT_SIZE = (3 * LEB128_64_SIZE) + (4 * LEB128_32_SIZE) + (2 * sizeof(U_8)) + (3 * (sizeof(U_8) + LEB128_32_SIZE));
+	static constexpr int DEOPTIMIZATION_EVENT_SIZE = (3 * LEB128_64_SIZE) + (10 * LEB128_32_SIZE);
+	static constexpr int COMPILER_CONSTANT_POOLS_SIZE = (4 * CHECKPOINT_EVENT_HEADER_AND_FOOTER) + sizeof(compilerTypeNames) + sizeof(deoptimizationActionNames) + sizeof(bytecodeNames)
+			+ ((J9JFR_COMPILER_TYPE_COUNT + 2) * STRING_HEADER_LENGTH);
 
 	static constexpr int METADATA_ID = 1;
 
@@ -386,6 +408,8 @@ done:
 
 			writeStacktraceCheckpointEvent();
 
+			writeCompilerCheckpointEvents();
+
 			pool_do(_constantPoolTypes.getExecutionSampleTable(), &writeExecutionSampleEvent, _bufferWriter);
 
 			pool_do(_constantPoolTypes.getThreadStartTable(), &writeThreadStartEvent, _bufferWriter);
@@ -418,6 +442,12 @@ done:
 
 			pool_do(_constantPoolTypes.getModuleExportTable(), &writeModuleExport, _bufferWriter);
 
+			pool_do(_constantPoolTypes.getCompilationTable(), &writeCompilationEvent, this);
+
+			pool_do(_constantPoolTypes.getCompilerInliningTable(), &writeCompilerInliningEvent, this);
+
+			pool_do(_constantPoolTypes.getDeoptimizationTable(), &writeDeoptimizationEvent, this);
+
 			/* Only write constant events in first chunk */
 			if (0 == _vm->jfrState.jfrChunkCount) {
 				writeJVMInformationEvent();
@@ -822,6 +852,10 @@ done:
 
 	U_8 *writeFrameTypeCheckpointEvent();
 
+	void writeStringConstantsCheckpointEvent(U_64 typeID, const char * const *names, UDATA count);
+
+	void writeCompilerCheckpointEvents();
+
 	U_8 *writeSymbolTableCheckpointEvent();
 
 	U_8 *writeStacktraceCheckpointEvent();
@@ -866,6 +900,12 @@ done:
 
 	static void writeModuleExport(void *anElement, void *userData);
 
+	static void writeCompilationEvent(void *anElement, void *userData);
+
+	static void writeCompilerInliningEvent(void *anElement, void *userData);
+
+	static void writeDeoptimizationEvent(void *anElement, void *userData);
+
 	UDATA
 	calculateRequiredBufferSize()
 	{
@@ -952,6 +992,15 @@ done:
 
 		requiredBufferSize += (_constantPoolTypes.getModuleExportCount() * MODULE_EXPORT_EVENT_SIZE);
 
+		requiredBufferSize += COMPILER_CONSTANT_POOLS_SIZE + (_constantPoolTypes.getDeoptimizationReasonCount() * STRING_CONSTANT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getCompilationCount() * COMPILATION_EVENT_SIZE);
+
+		requiredBufferSize += (_constantPoolTypes.getCompilerInliningCount() * COMPILER_INLINING_EVENT_SIZE)
+				+ _constantPoolTypes.getCompilerInliningStringSizeTotal();
+
+		requiredBufferSize += (_constantPoolTypes.getDeoptimizationCount() * DEOPTIMIZATION_EVENT_SIZE);
+
 		return requiredBufferSize;
 	}
 
@@ -1385,6 +1385,129 @@ done:
 
 }
 
+void
+VM_JFRConstantPoolTypes::addCompilationEntry(J9JFRCompilation *compilationData)
+{
+	CompilationEntry *entry = (CompilationEntry *)pool_newElement(_compilationTable);
+	J9Method *method = compilationData->method;
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = compilationData->startTicks;
+	entry->duration = compilationData->duration;
+	entry->compileID = compilationData->compileID;
+	entry->compileLevel = compilationData->compileLevel;
+	entry->compilerType = compilationData->compilerType;
+	entry->isOSR = compilationData->isOSR;
+	entry->codeSize = compilationData->codeSize;
+	entry->inlinedBytes = compilationData->inlinedBytes;
+
+	entry->eventThreadIndex = addThreadEntry(compilationData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->methodIndex = getMethodEntry(J9_ROM_METHOD_FROM_RAM_METHOD(method), J9_CLASS_FROM_METHOD(method));
+	if (isResultNotOKay()) goto done;
+
+	_compilationCount += 1;
+
+done:
+	return;
+}
+
+void
+VM_JFRConstantPoolTypes::addCompilerInliningEntry(J9JFRCompilerInlining *compilerInliningData)
+{
+	CompilerInliningEntry *entry = (CompilerInliningEntry *)pool_newElement(_compilerInliningTable);
+	J9Method *caller = compilerInliningData->caller;
+	J9Method *callee = compilerInliningData->callee;
+	J9ROMMethod *calleeROMMethod = J9_ROM_METHOD_FROM_RAM_METHOD(callee);
+
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = compilerInliningData->startTicks;
+	entry->compileID = compilerInliningData->compileID;
+	entry->bci = compilerInliningData->bci;
+	entry->calleeClassName = J9ROMCLASS_CLASSNAME(J9_CLASS_FROM_METHOD(callee)->romClass);
+	entry->calleeName = J9ROMMETHOD_NAME(calleeROMMethod);
+	entry->calleeSignature = J9ROMMETHOD_SIGNATURE(calleeROMMethod);
+
+	entry->eventThreadIndex = addThreadEntry(compilerInliningData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->callerIndex = getMethodEntry(J9_ROM_METHOD_FROM_RAM_METHOD(caller), J9_CLASS_FROM_METHOD(caller));
+	if (isResultNotOKay()) goto done;
+
+	_compilerInliningStringSizeTotal += J9UTF8_LENGTH(entry->calleeClassName) + J9UTF8_LENGTH(entry->calleeName) + J9UTF8_LENGTH(entry->calleeSignature);
+	_compilerInliningCount += 1;
+
+done:
+	return;
+}
+
+U_32
+VM_JFRConstantPoolTypes::getDeoptimizationReasonIndex(const char *reason)
+{
+	U_32 index = 0;
+
+	for (index = 0; index < _deoptimizationReasonCount; index++) {
+		if ((reason == _deoptimizationReasons[index]) || (0 == strcmp(reason, _deoptimizationReasons[index]))) {
+			goto done;
+		}
+	}
+
+	if (_deoptimizationReasonCount < MAX_DEOPTIMIZATION_REASONS) {
+		_deoptimizationReasons[_deoptimizationReasonCount] = reason;
+		_deoptimizationReasonCount += 1;
+	} else {
+		index = U_32_MAX;
+	}
+
+done:
+	return index;
+}
+
+void
+VM_JFRConstantPoolTypes::addDeoptimizationEntry(J9JFRDeoptimization *deoptimizationData)
+{
+	DeoptimizationEntry *entry = NULL;
+	J9Method *method = deoptimizationData->method;
+	U_32 reasonIndex = getDeoptimizationReasonIndex(deoptimizationData->reason);
+
+	/* Drop the event rather than misreport it if the reason pool is full. */
+	if (U_32_MAX == reasonIndex) {
+		goto done;
+	}
+
+	entry = (DeoptimizationEntry *)pool_newElement(_deoptimizationTable);
+	if (NULL == entry) {
+		_buildResult = OutOfMemory;
+		goto done;
+	}
+
+	entry->ticks = deoptimizationData->startTicks;
+	entry->reasonIndex = reasonIndex;
+
+	entry->eventThreadIndex = addThreadEntry(deoptimizationData->vmThread);
+	if (isResultNotOKay()) goto done;
+
+	entry->stackTraceIndex = consumeStackTrace(deoptimizationData->vmThread, J9JFRDEOPTIMIZATION_STACKTRACE(deoptimizationData), deoptimizationData->stackTraceSize);
+	if (isResultNotOKay()) goto done;
+
+	entry->methodIndex = getMethodEntry(J9_ROM_METHOD_FROM_RAM_METHOD(method), J9_CLASS_FROM_METHOD(method));
+	if (isResultNotOKay()) goto done;
+
+	_deoptimizationCount += 1;
+
+done:
+	return;
+}
+
 void
 VM_JFRConstantPoolTypes::printTables()
 {
@@ -294,6 +294,39 @@ struct SystemGCEntry {
 	U_32 stackTraceIndex;
 };
 
+struct CompilationEntry {
+	I_64 ticks;
+	I_64 duration;
+	U_32 eventThreadIndex;
+	U_32 methodIndex;
+	U_32 compileID;
+	U_16 compileLevel;
+	U_8 compilerType;
+	BOOLEAN isOSR;
+	U_64 codeSize;
+	U_64 inlinedBytes;
+};
+
+struct CompilerInliningEntry {
+	I_64 ticks;
+	U_32 eventThreadIndex;
+	U_32 callerIndex;
+	U_32 compileID;
+	I_32 bci;
+	/* jdk.types.CalleeMethod is written inline rather than through a constant pool */
+	J9UTF8 *calleeClassName;
+	J9UTF8 *calleeName;
+	J9UTF8 *calleeSignature;
+};
+
+struct DeoptimizationEntry {
+	I_64 ticks;
+	U_32 eventThreadIndex;
+	U_32 stackTraceIndex;
+	U_32 methodIndex;
+	U_32 reasonIndex;
+};
+
 struct ModuleRequireEntry {
 	I_64 ticks;
 	U_32 sourceModuleIndex;
@@ -374,6 +407,8 @@ struct JFRConstantEvents {
 class VM_JFRConstantPoolTypes {
 	/* Data members */
 private:
+	static constexpr UDATA MAX_DEOPTIMIZATION_REASONS = 16;
+
 	J9VMThread *_currentThread;
 	J9JavaVM *_vm;
 	JfrBuildResult _buildResult;
@@ -441,6 +476,17 @@ private:
 	UDATA _moduleRequireCount;
 	J9Pool *_moduleExportTable;
 	UDATA _moduleExportCount;
+	J9Pool *_compilationTable;
+	UDATA _compilationCount;
+	J9Pool *_compilerInliningTable;
+	UDATA _compilerInliningCount;
+	UDATA _compilerInliningStringSizeTotal;
+	J9Pool *_deoptimizationTable;
+	UDATA _deoptimizationCount;
+
+	/* Deoptimization reasons are static strings, so the constant pool is indexed by pointer */
+	const char *_deoptimizationReasons[MAX_DEOPTIMIZATION_REASONS];
+	U_32 _deoptimizationReasonCount;
 
 	/* Processing buffers */
 	StackFrame *_currentStackFrameBuffer;
@@ -722,6 +768,14 @@ public:
 
 	void addSystemGCEntry(J9JFRSystemGC *systemGCData);
 
+	void addCompilationEntry(J9JFRCompilation *compilationData);
+
+	void addCompilerInliningEntry(J9JFRCompilerInlining *compilerInliningData);
+
+	void addDeoptimizationEntry(J9JFRDeoptimization *deoptimizationData);
+
+	U_32 getDeoptimizationReasonIndex(const char *reason);
+
 	J9Pool *getExecutionSampleTable()
 	{
 		return _executionSampleTable;
@@ -822,6 +876,51 @@ public:
 		return _systemGCCount;
 	}
 
+	J9Pool *getCompilationTable()
+	{
+		return _compilationTable;
+	}
+
+	UDATA getCompilationCount()
+	{
+		return _compilationCount;
+	}
+
+	J9Pool *getCompilerInliningTable()
+	{
+		return _compilerInliningTable;
+	}
+
+	UDATA getCompilerInliningCount()
+	{
+		return _compilerInliningCount;
+	}
+
+	UDATA getCompilerInliningStringSizeTotal()
+	{
+		return _compilerInliningStringSizeTotal;
+	}
+
+	J9Pool *getDeoptimizationTable()
+	{
+		return _deoptimizationTable;
+	}
+
+	UDATA getDeoptimizationCount()
+	{
+		return _deoptimizationCount;
+	}
+
+	const char * const *getDeoptimizationReasons()
+	{
+		return _deoptimizationReasons;
+	}
+
+	U_32 getDeoptimizationReasonCount()
+	{
+		return _deoptimizationReasonCount;
+	}
+
 	UDATA getThreadStartCount()
 	{
 		return _threadStartCount;
@@ -1081,6 +1180,15 @@ public:
 			case J9JFR_EVENT_TYPE_SYSTEM_GC:
 				addSystemGCEntry((J9JFRSystemGC *)event);
 				break;
+			case J9JFR_EVENT_TYPE_COMPILATION:
+				addCompilationEntry((J9JFRCompilation *)event);
+				break;
+			case J9JFR_EVENT_TYPE_COMPILER_INLINING:
+				addCompilerInliningEntry((J9JFRCompilerInlining *)event);
+				break;
+			case J9JFR_EVENT_TYPE_DEOPTIMIZATION:
+				addDeoptimizationEntry((J9JFRDeoptimization *)event);
+				break;
 			default:
 				Assert_VM_unreachable();
 				break;
@@ -1733,6 +1841,15 @@ done:
 		, _moduleRequireCount(0)
 		, _moduleExportTable(NULL)
 		, _moduleExportCount(0)
+		, _compilationTable(NULL)
+		, _compilationCount(0)
+		, _compilerInliningTable(NULL)
+		, _compilerInliningCount(0)
+		, _compilerInliningStringSizeTotal(0)
+		, _deoptimizationTable(NULL)
+		, _deoptimizationCount(0)
+		, _deoptimizationReasons()
+		, _deoptimizationReasonCount(0)
 		, _previousStackTraceEntry(NULL)
 		, _firstStackTraceEntry(NULL)
 		, _previousThreadEntry(NULL)
@@ -1915,6 +2032,24 @@ done:
 			goto done;
 		}
 
+		_compilationTable = pool_new(sizeof(CompilationEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _compilationTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_compilerInliningTable = pool_new(sizeof(CompilerInliningEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _compilerInliningTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
+		_deoptimizationTable = pool_new(sizeof(DeoptimizationEntry), 0, sizeof(U_64), 0, J9_GET_CALLSITE(), OMRMEM_CATEGORY_VM, POOL_FOR_PORT(privatePortLibrary));
+		if (NULL == _deoptimizationTable) {
+			_buildResult = OutOfMemory;
+			goto done;
+		}
+
 		/* Add reserved index for default entries. For strings zero is the empty or NUll string.
 		 * For package zero is the deafult package, for Module zero is the unnamed module. ThreadGroup
 		 * zero is NULL threadGroup.
@@ -2014,6 +2149,9 @@ done:
 		pool_kill(_systemGCTable);
 		pool_kill(_moduleRequireTable);
 		pool_kill(_moduleExportTable);
+		pool_kill(_compilationTable);
+		pool_kill(_compilerInliningTable);
+		pool_kill(_deoptimizationTable);
 		j9mem_free_memory(_globalStringTable);
 	}
 
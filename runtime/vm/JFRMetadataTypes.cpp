@@ -0,0 +1,337 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#include <stddef.h>
+#include <string.h>
+
+#include "j9.h"
+#include "j9protos.h"
+#include "ut_j9vm.h"
+
+#if defined(J9VM_OPT_JFR)
+
+#include "JFRChunkWriter.hpp"
+#include "JFRMetadataTypes.hpp"
+
+static const char * const compilationFields[] = {
+	"startTime", "duration", "eventThread",
+	"compileId", "compiler", "method", "compileLevel", "succeded", "isOsr", "codeSize", "inlinedBytes"
+};
+
+static const char * const compilerInliningFields[] = {
+	"startTime", "eventThread",
+	"compileId", "caller", "callee", "succeeded", "message", "bci"
+};
+
+static const char * const deoptimizationFields[] = {
+	"startTime", "eventThread", "stackTrace",
+	"compileId", "compiler", "method", "lineNumber", "bci", "instruction", "reason", "action"
+};
+
+static const char * const calleeMethodFields[] = {
+	"type", "name", "descriptor"
+};
+
+static const JFRDynamicType dynamicTypes[] = {
+	{ "jdk.Compilation", compilationFields, sizeof(compilationFields) / sizeof(compilationFields[0]), offsetof(JFRState, compilationTypeID) },
+	{ "jdk.CompilerInlining", compilerInliningFields, sizeof(compilerInliningFields) / sizeof(compilerInliningFields[0]), offsetof(JFRState, compilerInliningTypeID) },
+	{ "jdk.Deoptimization", deoptimizationFields, sizeof(deoptimizationFields) / sizeof(deoptimizationFields[0]), offsetof(JFRState, deoptimizationTypeID) },
+	{ "jdk.types.CalleeMethod", calleeMethodFields, sizeof(calleeMethodFields) / sizeof(calleeMethodFields[0]), offsetof(JFRState, calleeMethodTypeID) },
+	{ "jdk.types.CompilerType", NULL, 0, offsetof(JFRState, compilerTypeTypeID) },
+	{ "jdk.types.Bytecode", NULL, 0, offsetof(JFRState, bytecodeTypeID) },
+	{ "jdk.types.DeoptimizationReason", NULL, 0, offsetof(JFRState, deoptimizationReasonTypeID) },
+	{ "jdk.types.DeoptimizationAction", NULL, 0, offsetof(JFRState, deoptimizationActionTypeID) },
+};
+
+#define DYNAMIC_TYPE_COUNT (sizeof(dynamicTypes) / sizeof(dynamicTypes[0]))
+#define DYNAMIC_TYPE_ID(vm, type) (*(U_64 *)(((U_8 *)&(vm)->jfrState) + (type)->idOffset))
+
+VM_JFRMetadataTypes::~VM_JFRMetadataTypes()
+{
+	j9mem_free_memory(_strings);
+	j9mem_free_memory(_stringData);
+}
+
+U_64
+VM_JFRMetadataTypes::readLEB128()
+{
+	U_64 result = 0;
+
+	/* The first 8 bytes carry 7 bits each, the 9th byte carries the remaining 8 bits */
+	for (UDATA i = 0; i < 9; i++) {
+		if (_cursor >= _end) {
+			_error = true;
+			break;
+		}
+		U_8 byte = *_cursor++;
+		if (8 == i) {
+			result |= ((U_64)byte) << 56;
+			break;
+		}
+		result |= ((U_64)(byte & 0x7F)) << (7 * i);
+		if (0 == (byte & 0x80)) {
+			break;
+		}
+	}
+
+	return result;
+}
+
+U_32
+VM_JFRMetadataTypes::readStringIndex()
+{
+	U_64 index = readLEB128();
+
+	if (index >= _stringCount) {
+		_error = true;
+		index = U_32_MAX;
+	}
+
+	return (U_32)index;
+}
+
+bool
+VM_JFRMetadataTypes::readStringTable()
+{
+	U_64 count = readLEB128();
+	/* every string takes at least one byte, and decoding never makes a string longer */
+	UDATA remaining = _end - _cursor;
+	U_8 *out = NULL;
+
+	if (_error || (count > remaining)) {
+		_error = true;
+		goto done;
+	}
+
+	_strings = (MetadataString *)j9mem_allocate_memory((UDATA)count * sizeof(MetadataString), J9MEM_CATEGORY_JFR);
+	_stringData = (U_8 *)j9mem_allocate_memory(remaining, J9MEM_CATEGORY_JFR);
+	if ((NULL == _strings) || (NULL == _stringData)) {
+		_error = true;
+		goto done;
+	}
+
+	out = _stringData;
+	for (U_64 i = 0; (i < count) && !_error; i++) {
+		U_8 encoding = 0;
+		U_64 length = 0;
+
+		_strings[i].data = out;
+		_strings[i].length = 0;
+
+		if (_cursor >= _end) {
+			_error = true;
+			break;
+		}
+		encoding = *_cursor++;
+
+		switch (encoding) {
+		case NullString:
+		case EmptyString:
+			break;
+		case UTF8:
+		case Latin1:
+			length = readLEB128();
+			if (length > (UDATA)(_end - _cursor)) {
+				_error = true;
+				break;
+			}
+			memcpy(out, _cursor, (UDATA)length);
+			_cursor += length;
+			break;
+		case UTF16:
+			length = readLEB128();
+			if (length > (UDATA)(_end - _cursor)) {
+				_error = true;
+				break;
+			}
+			for (U_64 j = 0; j < length; j++) {
+				U_64 c = readLEB128();
+				/* only ASCII names are ever compared */
+				out[j] = (c < 0x80) ? (U_8)c : (U_8)'?';
+			}
+			break;
+		default:
+			_error = true;
+			break;
+		}
+
+		out += length;
+		_strings[i].length = (UDATA)length;
+	}
+	_stringCount = (U_32)count;
+
+done:
+	return !_error;
+}
+
+bool
+VM_JFRMetadataTypes::stringEquals(U_32 index, const char *value)
+{
+	bool result = false;
+
+	if (index < _stringCount) {
+		UDATA length = strlen(value);
+		result = (length == _strings[index].length) && (0 == memcmp(_strings[index].data, value, length));
+	}
+
+	return result;
+}
+
+U_64
+VM_JFRMetadataTypes::stringToU64(U_32 index)
+{
+	U_64 result = 0;
+
+	if (index < _stringCount) {
+		for (UDATA i = 0; i < _strings[index].length; i++) {
+			U_8 c = _strings[index].data[i];
+			if ((c < '0') || (c > '9')) {
+				result = 0;
+				break;
+			}
+			result = (result * 10) + (c - '0');
+		}
+	}
+
+	return result;
+}
+
+const JFRDynamicType *
+VM_JFRMetadataTypes::findType(U_32 nameIndex)
+{
+	const JFRDynamicType *result = NULL;
+
+	for (UDATA i = 0; i < DYNAMIC_TYPE_COUNT; i++) {
+		if (stringEquals(nameIndex, dynamicTypes[i].name)) {
+			result = &dynamicTypes[i];
+			break;
+		}
+	}
+
+	return result;
+}
+
+void
+VM_JFRMetadataTypes::readElement(UDATA depth, U_32 *elementName, U_32 *nameAttribute)
+{
+	U_32 name = U_32_MAX;
+	U_32 idAttribute = U_32_MAX;
+	U_64 attributeCount = 0;
+	U_64 childCount = 0;
+	const JFRDynamicType *type = NULL;
+	UDATA fieldCount = 0;
+	bool layoutMatches = true;
+
+	*elementName = U_32_MAX;
+	*nameAttribute = U_32_MAX;
+
+	if (depth > MAX_ELEMENT_DEPTH) {
+		_error = true;
+		goto done;
+	}
+
+	name = readStringIndex();
+	attributeCount = readLEB128();
+	for (U_64 i = 0; (i < attributeCount) && !_error; i++) {
+		U_32 key = readStringIndex();
+		U_32 value = readStringIndex();
+		if (stringEquals(key, "name")) {
+			*nameAttribute = value;
+		} else if (stringEquals(key, "id")) {
+			idAttribute = value;
+		}
+	}
+
+	if (stringEquals(name, "class")) {
+		type = findType(*nameAttribute);
+	}
+
+	childCount = readLEB128();
+	for (U_64 i = 0; (i < childCount) && !_error; i++) {
+		U_32 childName = U_32_MAX;
+		U_32 childNameAttribute = U_32_MAX;
+		readElement(depth + 1, &childName, &childNameAttribute);
+		if ((NULL != type) && stringEquals(childName, "field")) {
+			if ((NULL != type->fields)
+			&& ((fieldCount >= type->fieldCount) || !stringEquals(childNameAttribute, type->fields[fieldCount]))
+			) {
+				layoutMatches = false;
+			}
+			fieldCount += 1;
+		}
+	}
+
+	if (!_error && (NULL != type) && layoutMatches) {
+		UDATA expectedFieldCount = (NULL == type->fields) ? 1 : type->fieldCount;
+		if (expectedFieldCount == fieldCount) {
+			DYNAMIC_TYPE_ID(_vm, type) = stringToU64(idAttribute);
+		}
+	}
+
+	*elementName = name;
+done:
+	return;
+}
+
+void
+VM_JFRMetadataTypes::resolveTypeIDs(J9JavaVM *vm)
+{
+	for (UDATA i = 0; i < DYNAMIC_TYPE_COUNT; i++) {
+		DYNAMIC_TYPE_ID(vm, &dynamicTypes[i]) = 0;
+	}
+
+	if (NULL != vm->jfrState.metaDataBlobFile) {
+		VM_JFRMetadataTypes reader(vm);
+
+		if (reader.readStringTable()) {
+			U_32 rootName = U_32_MAX;
+			U_32 rootNameAttribute = U_32_MAX;
+			reader.readElement(0, &rootName, &rootNameAttribute);
+		}
+
+		if (reader._error) {
+			/* don't trust anything read from a blob that could not be parsed */
+			for (UDATA i = 0; i < DYNAMIC_TYPE_COUNT; i++) {
+				DYNAMIC_TYPE_ID(vm, &dynamicTypes[i]) = 0;
+			}
+		}
+
+		/* an event can only be written if every type it references was resolved */
+		JFRState *jfrState = &vm->jfrState;
+		if (0 == jfrState->compilerTypeTypeID) {
+			jfrState->compilationTypeID = 0;
+			jfrState->deoptimizationTypeID = 0;
+		}
+		if (0 == jfrState->calleeMethodTypeID) {
+			jfrState->compilerInliningTypeID = 0;
+		}
+		if ((0 == jfrState->bytecodeTypeID)
+		|| (0 == jfrState->deoptimizationReasonTypeID)
+		|| (0 == jfrState->deoptimizationActionTypeID)
+		) {
+			jfrState->deoptimizationTypeID = 0;
+		}
+
+		Trc_VM_jfr_resolveTypeIDs(vm->jfrState.compilationTypeID, vm->jfrState.compilerInliningTypeID, vm->jfrState.deoptimizationTypeID);
+	}
+}
+
+#endif /* defined(J9VM_OPT_JFR) */
@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+#if !defined(JFRMETADATATYPES_HPP_)
+#define JFRMETADATATYPES_HPP_
+
+#include "j9cfg.h"
+#include "j9.h"
+
+#if defined(J9VM_OPT_JFR)
+
+/**
+ * A metadata class whose type ID is looked up in the metadata blob by name.
+ */
+struct JFRDynamicType {
+	/* fully qualified name of the class in the metadata */
+	const char *name;
+	/* expected field names in declaration order, or NULL for a constant type with a single string field */
+	const char * const *fields;
+	UDATA fieldCount;
+	/* offset of the U_64 in JFRState that receives the ID */
+	UDATA idOffset;
+};
+
+/**
+ * Resolves the IDs of the metadata types listed in dynamicTypes from the metadata
+ * blob in vm->jfrState. The IDs of events like jdk.Compilation differ between JDK
+ * levels, so rather than hard coding them they are looked up by name, and a type is
+ * only resolved if its fields are exactly the ones the chunk writer emits.
+ */
+class VM_JFRMetadataTypes {
+	/*
+	 * Data members
+	 */
+private:
+	struct MetadataString {
+		const U_8 *data;
+		UDATA length;
+	};
+
+	J9JavaVM *_vm;
+	J9PortLibrary *privatePortLibrary;
+	const U_8 *_cursor;
+	const U_8 *_end;
+	bool _error;
+	MetadataString *_strings;
+	U_32 _stringCount;
+	U_8 *_stringData;
+
+	static constexpr UDATA MAX_ELEMENT_DEPTH = 16;
+
+protected:
+
+public:
+
+	/*
+	 * Function members
+	 */
+private:
+	U_64 readLEB128();
+
+	U_32 readStringIndex();
+
+	bool readStringTable();
+
+	bool stringEquals(U_32 index, const char *value);
+
+	U_64 stringToU64(U_32 index);
+
+	const JFRDynamicType *findType(U_32 nameIndex);
+
+	void readElement(UDATA depth, U_32 *elementName, U_32 *nameAttribute);
+
+	VM_JFRMetadataTypes(J9JavaVM *vm)
+		: _vm(vm)
+		, privatePortLibrary(vm->portLibrary)
+		, _cursor(vm->jfrState.metaDataBlobFile)
+		, _end(vm->jfrState.metaDataBlobFile + vm->jfrState.metaDataBlobFileSize)
+		, _error(false)
+		, _strings(NULL)
+		, _stringCount(0)
+		, _stringData(NULL)
+	{
+	}
+
+	~VM_JFRMetadataTypes();
+
+protected:
+
+public:
+	/**
+	 * Resolve the dynamic type IDs. Types that cannot be resolved are left as zero.
+	 *
+	 * @param vm[in] the J9JavaVM with a loaded metadata blob
+	 */
+	static void resolveTypeIDs(J9JavaVM *vm);
+};
+
+#endif /* defined(J9VM_OPT_JFR) */
+#endif /* !defined(JFRMETADATATYPES_HPP_) */
@@ -32,6 +32,7 @@
 #if defined(J9VM_OPT_JFR)
 
 #include "JFRChunkWriter.hpp"
+#include "JFRMetadataTypes.hpp"
 
 #undef DEBUG
 
@@ -163,6 +164,8 @@ public:
 			PORT_ACCESS_FROM_JAVAVM(vm);
 			j9nls_printf(PORTLIB, J9NLS_WARNING, J9NLS_VM_OPENJ9_JFR_METADATA_FILE_NOT_LOAD);
 		}
+
+		VM_JFRMetadataTypes::resolveTypeIDs(vm);
 done:
 		return result;
 	}
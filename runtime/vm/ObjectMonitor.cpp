@@ -52,6 +52,8 @@ spinOnFlatLock(J9VMThread *currentThread, j9objectmonitor_t volatile *lwEA, j9ob
 
 static bool
 spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9objectmonitor_t volatile *lwEA, j9object_t object);
+static VMINLINE UDATA
+adaptSpinCount(UDATA count, U_32 spinFactor);
 
 void
 monitorExitWriteBarrier()
@@ -655,9 +657,37 @@ done:
 	return rc;
 }
 
+/**
+ * Scale a spin or yield count by the spin factor of a monitor.
+ *
+ * @param count[in] the configured count
+ * @param spinFactor[in] the spin factor of the monitor
+ *
+ * @returns	the scaled count, at least 1
+ */
+static VMINLINE UDATA
+adaptSpinCount(UDATA count, U_32 spinFactor)
+{
+	UDATA const scaled = (count * spinFactor) / J9_ADAPTIVE_SPIN_FACTOR_DEFAULT;
+	return (0 == scaled) ? 1 : scaled;
+}
+
 /**
  * Spin on try enter
  *
+ * With -XX:+AdaptiveMonitorSpin, the spin and yield counts are scaled by the spin
+ * factor of the monitor, which is raised each time spinning acquires the monitor
+ * after a failed attempt and lowered each time the spins are exhausted, so that
+ * each monitor learns how long it is worth spinning on. An uncontended enter says
+ * nothing about spinning and leaves the factor alone.
+ *
+ * The spin factor only scales how long a thread spins. It works alongside
+ * OMR_THR_ADAPTIVE_SPIN, which samples the hold time and slow enter ratio of each
+ * monitor (see the adaptSpin* settings in vmthread.cpp) and, when they are too
+ * high, sets J9THREAD_MONITOR_DISABLE_SPINNING to stop spinning on it at all.
+ * While spinning is disabled the spins are not exhausted, so the factor is left
+ * as it is, and it applies again if the sampling enables spinning once more.
+ *
  * @param currentThread[in] the current J9VMThread
  * @param objectMonitor[in] object monitor which is being acquired
  * @param lwEA[in] the location of the lockword
@@ -674,6 +704,7 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 
 	bool nestedPath = true;
 	bool rc = false;
+	bool spun = false;
 	IDATA rc_tryEnterUsingThreadID = 0;
 
 	UDATA tryEnterSpinCount2 = vm->thrMaxTryEnterSpins2BeforeBlocking;
@@ -701,6 +732,14 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 	UDATA const tryEnterSpinCount1 = vm->thrMaxTryEnterSpins1BeforeBlocking;
 #endif /* J9VM_INTERP_CUSTOM_SPIN_OPTIONS */
 
+	bool adaptiveSpin = J9_ARE_ALL_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_ADAPTIVE_MONITOR_SPIN);
+	U_32 spinFactor = J9_ADAPTIVE_SPIN_FACTOR_DEFAULT;
+	if (adaptiveSpin) {
+		spinFactor = objectMonitor->spinFactor;
+		tryEnterSpinCount2 = adaptSpinCount(tryEnterSpinCount2, spinFactor);
+		tryEnterYieldCount = adaptSpinCount(tryEnterYieldCount, spinFactor);
+	}
+
 #if defined(OMR_THR_JLM)
 	/* Initialize JLM */
 	J9ThreadMonitorTracing *tracing = NULL;
@@ -719,6 +758,8 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 			tryEnterSpinCount2 = 1;
 			tryEnterYieldCount = 1;
 			tryEnterSpin = false;
+			/* this thread is not spinning, so its outcome says nothing about the spin factor */
+			adaptiveSpin = false;
 		}
 	}
 #endif /* defined(OMR_THR_THREE_TIER_LOCKING) && defined(OMR_THR_SPIN_WAKE_CONTROL) */
@@ -755,6 +796,7 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 				}
 				goto update_jlm;
 			}
+			spun = true;
 #if defined(OMR_THR_ADAPTIVE_SPIN)
 			/* check if spinning has been disabled, if so go directly to the blocking path */
 			if (J9_ARE_ALL_BITS_SET(monitor->flags, J9THREAD_MONITOR_DISABLE_SPINNING)) {
@@ -783,6 +825,21 @@ spinOnTryEnter(J9VMThread *currentThread, J9ObjectMonitor *objectMonitor, j9obje
 	}
 
 update_jlm:
+	if (adaptiveSpin) {
+		if (rc && spun) {
+			if (spinFactor < J9_ADAPTIVE_SPIN_FACTOR_MAX) {
+				objectMonitor->spinFactor = spinFactor + J9_ADAPTIVE_SPIN_FACTOR_BONUS;
+			}
+		} else if (0 == _tryEnterYieldCount) {
+			/* all of the spins and yields were used without acquiring the monitor */
+			if (spinFactor > (J9_ADAPTIVE_SPIN_FACTOR_MIN + J9_ADAPTIVE_SPIN_FACTOR_PENALTY)) {
+				objectMonitor->spinFactor = spinFactor - J9_ADAPTIVE_SPIN_FACTOR_PENALTY;
+			} else {
+				objectMonitor->spinFactor = J9_ADAPTIVE_SPIN_FACTOR_MIN;
+			}
+		}
+	}
+
 #if defined(OMR_THR_JLM)
 	if (NULL != tracing) {
 		/* Add JLM counts atomically:
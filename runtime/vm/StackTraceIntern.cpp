@@ -0,0 +1,377 @@
+/*******************************************************************************
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ *******************************************************************************/
+
+#include <string.h>
+
+#include "j9.h"
+#include "j9protos.h"
+#include "j9consts.h"
+#include "ut_j9vm.h"
+#include "vm_api.h"
+#include "vm_internal.h"
+
+extern "C" {
+
+/* Walkbacks deeper than this are not interned. */
+#define STACK_TRACE_INTERN_MAX_FRAMES 256
+/* The maximum number of distinct walkbacks held by the table. */
+#define STACK_TRACE_INTERN_MAX_ENTRIES 4096
+
+/**
+ * An interned walkback, keyed by its PCs and the class of the Throwable it was
+ * filled in for. The walkback array and the StackTraceElement[] symbolized from it
+ * are held weakly, so shared storage is reclaimed once no Throwable uses it.
+ */
+typedef struct J9StackTraceInternEntry {
+	UDATA hash;
+	UDATA frameCount;
+	UDATA *pcs;
+	jobject walkback;
+	jobject stackTrace;
+	J9Class *throwableClass;
+	UDATA pruneConstructors;
+	UDATA stackTraceBytes;
+} J9StackTraceInternEntry;
+
+/**
+ * Fill in the key fields of a query for the table.
+ */
+static void
+initStackTraceInternQuery(J9StackTraceInternEntry *query, J9Class *throwableClass, const UDATA *pcs, UDATA frameCount)
+{
+	UDATA hash = (UDATA)throwableClass ^ frameCount;
+
+	for (UDATA i = 0; i < frameCount; ++i) {
+		hash = (hash * 31) + pcs[i];
+	}
+	memset(query, 0, sizeof(*query));
+	query->hash = hash;
+	query->frameCount = frameCount;
+	query->pcs = (UDATA *)pcs;
+	query->throwableClass = throwableClass;
+}
+
+static UDATA
+stackTraceInternHashFn(void *key, void *userData)
+{
+	return ((J9StackTraceInternEntry *)key)->hash;
+}
+
+static UDATA
+stackTraceInternHashEqualFn(void *leftKey, void *rightKey, void *userData)
+{
+	J9StackTraceInternEntry *leftEntry = (J9StackTraceInternEntry *)leftKey;
+	J9StackTraceInternEntry *rightEntry = (J9StackTraceInternEntry *)rightKey;
+
+	return (leftEntry->hash == rightEntry->hash)
+		&& (leftEntry->throwableClass == rightEntry->throwableClass)
+		&& (leftEntry->frameCount == rightEntry->frameCount)
+		&& (0 == memcmp(leftEntry->pcs, rightEntry->pcs, leftEntry->frameCount * sizeof(UDATA)));
+}
+
+/**
+ * Delete the weak references held by an entry and free its PCs.
+ * @param vm the J9JavaVM
+ * @param currentThread the thread deleting the references, or NULL during shutdown
+ * @param entry the entry to free
+ */
+static void
+freeStackTraceInternEntry(J9JavaVM *vm, J9VMThread *currentThread, J9StackTraceInternEntry *entry)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+
+	if (NULL != currentThread) {
+		if (NULL != entry->walkback) {
+			j9jni_deleteGlobalRef((JNIEnv *)currentThread, entry->walkback, JNI_TRUE);
+		}
+		if (NULL != entry->stackTrace) {
+			j9jni_deleteGlobalRef((JNIEnv *)currentThread, entry->stackTrace, JNI_TRUE);
+		}
+	}
+	j9mem_free_memory(entry->pcs);
+}
+
+/**
+ * Remove every entry when ANY classes are unloaded, as the PCs of the unloaded
+ * classes may be reused. Called with exclusive VM access.
+ */
+static void
+hookStackTraceInternPurge(J9HookInterface **hook, UDATA eventNum, void *eventData, void *userData)
+{
+	J9VMClassesUnloadEvent *event = (J9VMClassesUnloadEvent *)eventData;
+	J9JavaVM *vm = (J9JavaVM *)userData;
+	J9HashTableState handle;
+	J9StackTraceInternEntry *entry = (J9StackTraceInternEntry *)hashTableStartDo(vm->stackTraceInternTable, &handle);
+
+	while (NULL != entry) {
+		freeStackTraceInternEntry(vm, event->currentThread, entry);
+		hashTableDoRemove(&handle);
+		entry = (J9StackTraceInternEntry *)hashTableNextDo(&handle);
+	}
+}
+
+J9HashTable *
+stackTraceInternTableNew(J9JavaVM *vm)
+{
+	PORT_ACCESS_FROM_JAVAVM(vm);
+	J9HashTable *result = NULL;
+
+	if (0 == omrthread_monitor_init_with_name(&vm->stackTraceInternMutex, 0, "Stack Trace Intern Table Mutex")) {
+		result = hashTableNew(OMRPORT_FROM_J9PORT(PORTLIB), J9_GET_CALLSITE(), 64,
+				sizeof(J9StackTraceInternEntry), sizeof(UDATA), 0, OMRMEM_CATEGORY_VM,
+				stackTraceInternHashFn, stackTraceInternHashEqualFn, NULL, vm);
+		vm->stackTraceInternTable = result;
+#if defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING)
+		if (NULL != result) {
+			J9HookInterface **vmHooks = J9_VM_FUNCTION_VIA_JAVAVM(vm, getVMHookInterface)(vm);
+			if (0 != (*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_CLASSES_UNLOAD, hookStackTraceInternPurge, OMR_GET_CALLSITE(), vm)) {
+				result = NULL;
+			}
+		}
+#endif /* defined(J9VM_GC_DYNAMIC_CLASS_UNLOADING) */
+	}
+	return result;
+}
+
+void
+stackTraceInternTableFree(J9JavaVM *vm)
+{
+	if (NULL != vm->stackTraceInternTable) {
+		J9HashTableState handle;
+		J9StackTraceInternEntry *entry = (J9StackTraceInternEntry *)hashTableStartDo(vm->stackTraceInternTable, &handle);
+
+		/* The weak references are discarded along with the JNI global reference pools. */
+		while (NULL != entry) {
+			freeStackTraceInternEntry(vm, NULL, entry);
+			entry = (J9StackTraceInternEntry *)hashTableNextDo(&handle);
+		}
+		hashTableFree(vm->stackTraceInternTable);
+		vm->stackTraceInternTable = NULL;
+	}
+	if (NULL != vm->stackTraceInternMutex) {
+		omrthread_monitor_destroy(vm->stackTraceInternMutex);
+		vm->stackTraceInternMutex = NULL;
+	}
+}
+
+/**
+ * Read the object held by one of an entry's weak references.
+ * @return the object, or NULL if the reference was never set or has been cleared
+ */
+static j9object_t
+loadStackTraceInternRef(J9VMThread *currentThread, jobject ref)
+{
+	j9object_t object = NULL;
+
+	if (NULL != ref) {
+		object = J9WEAKROOT_OBJECT_LOAD(currentThread, (j9object_t *)ref);
+	}
+	return object;
+}
+
+/**
+ * Return the entry for a walkback, adding one if there is room.
+ * The caller must hold the stackTraceInternMutex.
+ */
+static J9StackTraceInternEntry *
+findOrAddStackTraceInternEntry(J9VMThread *currentThread, J9StackTraceInternEntry *query)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	J9HashTable *table = vm->stackTraceInternTable;
+	J9StackTraceInternEntry *entry = (J9StackTraceInternEntry *)hashTableFind(table, query);
+
+	if (NULL == entry) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+
+		if (hashTableGetCount(table) >= STACK_TRACE_INTERN_MAX_ENTRIES) {
+			/* Make room by discarding entries that are no longer shared by any Throwable. */
+			J9HashTableState handle;
+			J9StackTraceInternEntry *candidate = (J9StackTraceInternEntry *)hashTableStartDo(table, &handle);
+			while (NULL != candidate) {
+				if ((NULL == loadStackTraceInternRef(currentThread, candidate->walkback))
+					&& (NULL == loadStackTraceInternRef(currentThread, candidate->stackTrace))
+				) {
+					freeStackTraceInternEntry(vm, currentThread, candidate);
+					hashTableDoRemove(&handle);
+				}
+				candidate = (J9StackTraceInternEntry *)hashTableNextDo(&handle);
+			}
+			if (hashTableGetCount(table) >= STACK_TRACE_INTERN_MAX_ENTRIES) {
+				return NULL;
+			}
+		}
+
+		UDATA *pcs = (UDATA *)j9mem_allocate_memory((query->frameCount + 1) * sizeof(UDATA), OMRMEM_CATEGORY_VM);
+		if (NULL != pcs) {
+			J9StackTraceInternEntry newEntry = *query;
+			memcpy(pcs, query->pcs, query->frameCount * sizeof(UDATA));
+			newEntry.pcs = pcs;
+			entry = (J9StackTraceInternEntry *)hashTableAdd(table, &newEntry);
+			if (NULL == entry) {
+				j9mem_free_memory(pcs);
+			}
+		}
+	}
+	return entry;
+}
+
+/**
+ * Point a weak reference at object, replacing the cleared or stale reference it held.
+ * The caller must hold the stackTraceInternMutex.
+ */
+static void
+setStackTraceInternRef(J9VMThread *currentThread, jobject *ref, j9object_t object)
+{
+	if (NULL != *ref) {
+		j9jni_deleteGlobalRef((JNIEnv *)currentThread, *ref, JNI_TRUE);
+	}
+	*ref = j9jni_createGlobalRef((JNIEnv *)currentThread, object, JNI_TRUE);
+}
+
+/**
+ * Copy the PCs of a walkback array into pcs.
+ * @return the number of PCs, or UDATA_MAX if the walkback is too deep to be interned
+ */
+static UDATA
+loadWalkback(J9VMThread *currentThread, j9object_t walkback, UDATA *pcs)
+{
+	UDATA frameCount = J9INDEXABLEOBJECT_SIZE(currentThread, walkback);
+
+	if (frameCount > STACK_TRACE_INTERN_MAX_FRAMES) {
+		return UDATA_MAX;
+	}
+	for (UDATA i = 0; i < frameCount; ++i) {
+		pcs[i] = J9JAVAARRAYOFUDATA_LOAD(currentThread, walkback, i);
+	}
+	return frameCount;
+}
+
+j9object_t
+findInternedWalkback(J9VMThread *currentThread, J9Class *throwableClass, const UDATA *pcs, UDATA frameCount)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	j9object_t walkback = NULL;
+
+	if (frameCount <= STACK_TRACE_INTERN_MAX_FRAMES) {
+		J9StackTraceInternEntry query;
+		initStackTraceInternQuery(&query, throwableClass, pcs, frameCount);
+
+		omrthread_monitor_enter(vm->stackTraceInternMutex);
+		J9StackTraceInternEntry *entry = (J9StackTraceInternEntry *)hashTableFind(vm->stackTraceInternTable, &query);
+		if (NULL != entry) {
+			walkback = loadStackTraceInternRef(currentThread, entry->walkback);
+			if (NULL != walkback) {
+				vm->stackTraceInternWalkbackHits += 1;
+				vm->stackTraceInternSavedBytes += vm->memoryManagerFunctions->j9gc_get_object_size_in_bytes(vm, walkback);
+			}
+		}
+		omrthread_monitor_exit(vm->stackTraceInternMutex);
+	}
+	return walkback;
+}
+
+void
+internWalkback(J9VMThread *currentThread, J9Class *throwableClass, j9object_t walkback, const UDATA *pcs, UDATA frameCount)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+
+	if (frameCount <= STACK_TRACE_INTERN_MAX_FRAMES) {
+		J9StackTraceInternEntry query;
+		initStackTraceInternQuery(&query, throwableClass, pcs, frameCount);
+
+		omrthread_monitor_enter(vm->stackTraceInternMutex);
+		J9StackTraceInternEntry *entry = findOrAddStackTraceInternEntry(currentThread, &query);
+		if ((NULL != entry) && (NULL == loadStackTraceInternRef(currentThread, entry->walkback))) {
+			setStackTraceInternRef(currentThread, &entry->walkback, walkback);
+		}
+		omrthread_monitor_exit(vm->stackTraceInternMutex);
+	}
+}
+
+j9object_t
+findInternedStackTrace(J9VMThread *currentThread, j9object_t throwable, UDATA pruneConstructors)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	j9object_t walkback = (j9object_t)J9VMJAVALANGTHROWABLE_WALKBACK(currentThread, throwable);
+	j9object_t stackTrace = NULL;
+
+	if ((NULL != walkback) && (NULL != vm->stackTraceInternTable)) {
+		UDATA pcs[STACK_TRACE_INTERN_MAX_FRAMES];
+		UDATA frameCount = loadWalkback(currentThread, walkback, pcs);
+
+		if (UDATA_MAX != frameCount) {
+			J9StackTraceInternEntry query;
+			initStackTraceInternQuery(&query, J9OBJECT_CLAZZ(currentThread, throwable), pcs, frameCount);
+
+			omrthread_monitor_enter(vm->stackTraceInternMutex);
+			J9StackTraceInternEntry *entry = (J9StackTraceInternEntry *)hashTableFind(vm->stackTraceInternTable, &query);
+			if ((NULL != entry) && (pruneConstructors == entry->pruneConstructors)) {
+				stackTrace = loadStackTraceInternRef(currentThread, entry->stackTrace);
+				if (NULL != stackTrace) {
+					vm->stackTraceInternStackTraceHits += 1;
+					vm->stackTraceInternSavedBytes += entry->stackTraceBytes;
+				}
+			}
+			omrthread_monitor_exit(vm->stackTraceInternMutex);
+		}
+	}
+	return stackTrace;
+}
+
+void
+internStackTrace(J9VMThread *currentThread, j9object_t throwable, UDATA pruneConstructors, j9object_t stackTrace)
+{
+	J9JavaVM *vm = currentThread->javaVM;
+	j9object_t walkback = (j9object_t)J9VMJAVALANGTHROWABLE_WALKBACK(currentThread, throwable);
+
+	if ((NULL != walkback) && (NULL != vm->stackTraceInternTable)) {
+		UDATA pcs[STACK_TRACE_INTERN_MAX_FRAMES];
+		UDATA frameCount = loadWalkback(currentThread, walkback, pcs);
+
+		if (UDATA_MAX != frameCount) {
+			J9MemoryManagerFunctions *mmFuncs = vm->memoryManagerFunctions;
+			J9StackTraceInternEntry query;
+			initStackTraceInternQuery(&query, J9OBJECT_CLAZZ(currentThread, throwable), pcs, frameCount);
+
+			/* The elements are shared along with the array, so count them in the saving. */
+			UDATA stackTraceBytes = mmFuncs->j9gc_get_object_size_in_bytes(vm, stackTrace);
+			UDATA elementCount = J9INDEXABLEOBJECT_SIZE(currentThread, stackTrace);
+			for (UDATA i = 0; i < elementCount; ++i) {
+				j9object_t element = J9JAVAARRAYOFOBJECT_LOAD(currentThread, stackTrace, i);
+				if (NULL != element) {
+					stackTraceBytes += mmFuncs->j9gc_get_object_size_in_bytes(vm, element);
+				}
+			}
+
+			omrthread_monitor_enter(vm->stackTraceInternMutex);
+			J9StackTraceInternEntry *entry = findOrAddStackTraceInternEntry(currentThread, &query);
+			if (NULL != entry) {
+				setStackTraceInternRef(currentThread, &entry->stackTrace, stackTrace);
+				entry->pruneConstructors = pruneConstructors;
+				entry->stackTraceBytes = stackTraceBytes;
+			}
+			omrthread_monitor_exit(vm->stackTraceInternMutex);
+		}
+	}
+}
+
+} /* extern "C" */
@@ -76,6 +76,78 @@ ffiCallWithSetJmpForUpcall(J9VMThread *currentThread, ffi_cif *cif, void *functi
 	currentThread->jmpBufEnvPtr = jmpBufEnvPtr;
 }
 
+#if defined(J9VM_FFI_DIRECT_DOWNCALL)
+typedef U_64 (*DirectDowncallReturningInteger)(U_64 arg0, ...);
+typedef float (*DirectDowncallReturningFloat)(U_64 arg0, ...);
+typedef double (*DirectDowncallReturningDouble)(U_64 arg0, ...);
+
+/* Reinterpret the raw bits of a float/double argument so that the value is passed in an XMM register. */
+static VMINLINE double
+fprArg(U_64 bits)
+{
+	union {
+		U_64 bits;
+		double value;
+	} arg;
+	arg.bits = bits;
+	return arg.value;
+}
+
+/**
+ * @brief Call the native function directly instead of via ffi_call, which is
+ * possible when every argument is a primitive or a pointer and all of them fit
+ * in the argument registers of the System V x86-64 ABI.
+ *
+ * The function is called through a variadic prototype with all six integer and
+ * all eight vector argument registers loaded; unused registers are ignored by the
+ * callee. The variadic call also sets %al, so variadic native functions are
+ * handled correctly. Float arguments only use the low 32 bits of their register.
+ *
+ * Like ffiCallWithSetJmpForUpcall, the registers are saved with setjmp so that
+ * an exception captured in an upcall can return to this call site.
+ *
+ * @param currentThread[in] The pointer to the current J9VMThread
+ * @param function[in] The pointer to the native function address
+ * @param returnType[in] The J9NativeTypeCode of the return type (not J9NtcStruct)
+ * @param returnStorage[in] The pointer to the return value
+ * @param gprArgs[in] The values of the integer and pointer arguments in order
+ * @param fprArgs[in] The raw bits of the float and double arguments in order
+ */
+void
+directCallWithSetJmpForUpcall(J9VMThread *currentThread, void *function, U_8 returnType, UDATA *returnStorage, U_64 *gprArgs, U_64 *fprArgs)
+{
+	jmp_buf jmpBufferEnv = {};
+	void *jmpBufEnvPtr = currentThread->jmpBufEnvPtr;
+
+	currentThread->jmpBufEnvPtr = (void *)&jmpBufferEnv;
+
+	if (!setjmp(jmpBufferEnv)) {
+		switch (returnType) {
+		case J9NtcFloat:
+			*(float *)returnStorage = ((DirectDowncallReturningFloat)function)(
+					gprArgs[0], gprArgs[1], gprArgs[2], gprArgs[3], gprArgs[4], gprArgs[5],
+					fprArg(fprArgs[0]), fprArg(fprArgs[1]), fprArg(fprArgs[2]), fprArg(fprArgs[3]),
+					fprArg(fprArgs[4]), fprArg(fprArgs[5]), fprArg(fprArgs[6]), fprArg(fprArgs[7]));
+			break;
+		case J9NtcDouble:
+			*(double *)returnStorage = ((DirectDowncallReturningDouble)function)(
+					gprArgs[0], gprArgs[1], gprArgs[2], gprArgs[3], gprArgs[4], gprArgs[5],
+					fprArg(fprArgs[0]), fprArg(fprArgs[1]), fprArg(fprArgs[2]), fprArg(fprArgs[3]),
+					fprArg(fprArgs[4]), fprArg(fprArgs[5]), fprArg(fprArgs[6]), fprArg(fprArgs[7]));
+			break;
+		default:
+			/* Integer and pointer results are returned in %rax; void leaves it unused. */
+			*(U_64 *)returnStorage = ((DirectDowncallReturningInteger)function)(
+					gprArgs[0], gprArgs[1], gprArgs[2], gprArgs[3], gprArgs[4], gprArgs[5],
+					fprArg(fprArgs[0]), fprArg(fprArgs[1]), fprArg(fprArgs[2]), fprArg(fprArgs[3]),
+					fprArg(fprArgs[4]), fprArg(fprArgs[5]), fprArg(fprArgs[6]), fprArg(fprArgs[7]));
+			break;
+		}
+	}
+	currentThread->jmpBufEnvPtr = jmpBufEnvPtr;
+}
+#endif /* defined(J9VM_FFI_DIRECT_DOWNCALL) */
+
 /**
  * @brief This function serves as a wrapper of longjmp that restore back to
  * the call site with all registered saved via setjmp whenever an exception
@@ -43,6 +43,7 @@
 #include "omrlinkedlist.h"
 #include "omrthread.h"
 #include "jni.h"
+#include "jnichk_api.h"
 #include "vm_internal.h"
 #include "ut_j9vm.h"
 #include "j9javaPriority.h"
@@ -55,6 +56,7 @@ extern "C" {
 
 static void initializeExclusiveVMAccessStats(J9JavaVM* vm, J9VMThread* currentThread);
 static U_64 updateExclusiveVMAccessStats(J9VMThread* currentThread);
+static void waitForJNICriticalRegionResponses(J9JavaVM* vm);
 
 #if (defined(J9VM_DBG))
 static void badness (char *description);
@@ -113,6 +115,42 @@ updateExclusiveVMAccessStats(J9VMThread* currentThread)
 	return VM_VMAccess::updateExclusiveVMAccessStats(currentThread, vm, PORTLIB);
 }
 
+/**
+ * Wait for the threads in JNI critical regions to respond to an exclusive
+ * request. If any thread delayed the request, record the stall in the vm's
+ * JNI critical statistics and report it if -verbose:jni is enabled.
+ *
+ * Must be called with the exclusiveAccessMutex held.
+ *
+ * @parm[in] vm the J9JavaVM
+ */
+static void
+waitForJNICriticalRegionResponses(J9JavaVM* vm)
+{
+	UDATA const criticalThreads = vm->jniCriticalResponseCount;
+
+	if (0 != criticalThreads) {
+		PORT_ACCESS_FROM_JAVAVM(vm);
+		U_64 const startTime = j9time_hires_clock();
+		U_64 stallTime = 0;
+
+		while (0 != vm->jniCriticalResponseCount) {
+			/*
+			 * This wait could be given a timeout to allow long (or blocked)
+			 * critical regions to be interrupted by exclusive requests.
+			 */
+			omrthread_monitor_wait(vm->exclusiveAccessMutex);
+		}
+		stallTime = j9time_hires_delta(startTime, j9time_hires_clock(), J9PORT_TIME_DELTA_IN_MICROSECONDS);
+		vm->jniCriticalStalls += 1;
+		vm->jniCriticalStallTime += stallTime;
+		Trc_VM_exclusiveVMAccess_JNICriticalRegionStall(criticalThreads, stallTime);
+		if (J9_ARE_ANY_BITS_SET(vm->checkJNIData.options, JNICHK_VERBOSE)) {
+			j9tty_printf(PORTLIB, "<JNI critical region stall: exclusive VM access waited %llu us for %zu thread(s)>\n", stallTime, criticalThreads);
+		}
+	}
+}
+
 
 void  
 acquireExclusiveVMAccess(J9VMThread * vmThread)
@@ -313,13 +351,7 @@ acquireExclusiveVMAccess(J9VMThread * vmThread)
 		 */
 		vm->jniCriticalResponseCount += jniCriticalResponsesExpected;
 		Trc_VM_acquireExclusiveVMAccess_WaitingForJNICriticalRegionResponses(vmThread,vm->jniCriticalResponseCount);
-		while(0 != vm->jniCriticalResponseCount) {
-			/*
-			 * This wait could be given a timeout to allow long (or blocked)
-			 * critical regions to be interrupted by exclusive requests.
-			 */
-			omrthread_monitor_wait(vm->exclusiveAccessMutex);
-		}
+		waitForJNICriticalRegionResponses(vm);
 
 		Trc_VM_acquireExclusiveVMAccess_ChangingStateExclusive(vmThread);
 		Assert_VM_true((J9_XACCESS_PENDING == vm->exclusiveAccessState) || (J9_XACCESS_HANDED_OFF == vm->exclusiveAccessState));
@@ -733,12 +765,7 @@ waitForResponseFromExternalThread(J9JavaVM * vm, UDATA vmResponsesExpected, UDAT
 #if !defined(J9VM_INTERP_ATOMIC_FREE_JNI)
 	if(jniResponsesExpected > 0) {
 		vm->jniCriticalResponseCount += jniResponsesExpected;
-		while(vm->jniCriticalResponseCount != 0) {
-			/* This wait could be given a timeout to allow long (or blocked)
-			 * critical regions to be interrupted by exclusive requests.
-			 */
-			omrthread_monitor_wait(vm->exclusiveAccessMutex);
-		}
+		waitForJNICriticalRegionResponses(vm);
 	}
 #endif /* !J9VM_INTERP_ATOMIC_FREE_JNI */
 
@@ -666,6 +666,7 @@ VMSnapshotImpl::fixupClass(J9Class *clazz)
 	fixupConstantPool(clazz);
 	clazz->initializeStatus = J9ClassInitNotInitialized;
 	clazz->jniIDs = NULL;
+	clazz->reflectNameIndex = NULL;
 	clazz->replacedClass = NULL;
 	clazz->gcLink = NULL;
 	clazz->jitMetaDataList = NULL;
@@ -104,6 +104,13 @@ UDATA   growJavaStack(J9VMThread * vmThread, UDATA newStackSize)
 }
 
 
+UDATA   resizeJavaStack(J9VMThread * vmThread, UDATA newStackSize)
+{
+	/* Unlike growJavaStack, no GC is attempted if the new stack cannot be allocated */
+	return internalGrowJavaStack(vmThread, newStackSize);
+}
+
+
 static UDATA internalGrowJavaStack(J9VMThread * vmThread, UDATA newStackSize)
 {
 	PORT_ACCESS_FROM_VMC(vmThread);
@@ -498,4 +498,6 @@ J9InternalVMFunctions J9InternalFunctions = {
 	disclaimClassMemory,
 	totalNumberOfDisclaimableClassMemorySegments,
 	signalNameToValue,
+	findInternedStackTrace,
+	internStackTrace,
 };
@@ -117,6 +117,15 @@ jfrEventSize(J9JFREvent *jfrEvent)
 	case J9JFR_EVENT_TYPE_SYSTEM_GC:
 		size = sizeof(J9JFRSystemGC) + (((J9JFRSystemGC *)jfrEvent)->stackTraceSize * sizeof(UDATA));
 		break;
+	case J9JFR_EVENT_TYPE_COMPILATION:
+		size = sizeof(J9JFRCompilation);
+		break;
+	case J9JFR_EVENT_TYPE_COMPILER_INLINING:
+		size = sizeof(J9JFRCompilerInlining);
+		break;
+	case J9JFR_EVENT_TYPE_DEOPTIMIZATION:
+		size = sizeof(J9JFRDeoptimization) + (((J9JFRDeoptimization *)jfrEvent)->stackTraceSize * sizeof(UDATA));
+		break;
 	default:
 		Assert_VM_unreachable();
 		break;
@@ -739,6 +748,113 @@ jfrSystemGC(J9HookInterface **hook, UDATA eventNum, void *eventData, void* userD
 	}
 }
 
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+/**
+ * Hook for a successful JIT compilation. Called on the compilation thread with VM access.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrJitCompilationCompleted(J9HookInterface **hook, UDATA eventNum, void *eventData, void* userData)
+{
+	J9VMJitCompilationCompletedEvent *event = (J9VMJitCompilationCompletedEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+
+	/* jdk.Compilation is not in the metadata of this JDK */
+	if (0 == currentThread->javaVM->jfrState.compilationTypeID) {
+		return;
+	}
+
+	J9JFRCompilation *jfrEvent = (J9JFRCompilation *)reserveBuffer(currentThread, sizeof(*jfrEvent));
+	if (NULL != jfrEvent) {
+		initializeEventFields(currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_COMPILATION);
+		jfrEvent->startTicks = event->startTicks;
+		jfrEvent->duration = event->duration;
+		jfrEvent->method = event->method;
+		jfrEvent->compileID = event->compileID;
+		jfrEvent->compileLevel = (U_16)event->compileLevel;
+		if (event->isRemote) {
+			jfrEvent->compilerType = J9JFR_COMPILER_TYPE_JITSERVER;
+		} else if (event->isAOT) {
+			jfrEvent->compilerType = J9JFR_COMPILER_TYPE_AOT;
+		} else {
+			jfrEvent->compilerType = J9JFR_COMPILER_TYPE_JIT;
+		}
+		jfrEvent->isOSR = event->isOSR;
+		jfrEvent->codeSize = event->codeSize;
+		jfrEvent->inlinedBytes = event->inlinedBytes;
+	}
+}
+
+/**
+ * Hook for a call site inlined by the JIT. Called on the compilation thread with VM access.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrJitMethodInlined(J9HookInterface **hook, UDATA eventNum, void *eventData, void* userData)
+{
+	J9VMJitMethodInlinedEvent *event = (J9VMJitMethodInlinedEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+
+	/* jdk.CompilerInlining is not in the metadata of this JDK */
+	if (0 == currentThread->javaVM->jfrState.compilerInliningTypeID) {
+		return;
+	}
+
+	J9JFRCompilerInlining *jfrEvent = (J9JFRCompilerInlining *)reserveBuffer(currentThread, sizeof(*jfrEvent));
+	if (NULL != jfrEvent) {
+		initializeEventFields(currentThread, (J9JFREvent *)jfrEvent, J9JFR_EVENT_TYPE_COMPILER_INLINING);
+		jfrEvent->caller = event->caller;
+		jfrEvent->callee = event->callee;
+		jfrEvent->compileID = event->compileID;
+		jfrEvent->bci = event->bci;
+	}
+}
+
+/**
+ * Hook for a JIT body being invalidated. May be called without VM access, in which case
+ * the event is dropped.
+ *
+ * @param hook[in] the VM hook interface
+ * @param eventNum[in] the event number
+ * @param eventData[in] the event data
+ * @param userData[in] the registered user data
+ */
+static void
+jfrJitMethodInvalidated(J9HookInterface **hook, UDATA eventNum, void *eventData, void* userData)
+{
+	J9VMJitMethodInvalidatedEvent *event = (J9VMJitMethodInvalidatedEvent *)eventData;
+	J9VMThread *currentThread = event->currentThread;
+	J9JavaVM *vm = currentThread->javaVM;
+
+	/* jdk.Deoptimization is not in the metadata of this JDK */
+	if (0 == vm->jfrState.deoptimizationTypeID) {
+		return;
+	}
+
+	/* The buffers can only be written with VM access or while exclusive is held. */
+	if (J9_ARE_NO_BITS_SET(currentThread->publicFlags, J9_PUBLIC_FLAGS_VM_ACCESS)
+	&& (J9_XACCESS_EXCLUSIVE != vm->exclusiveAccessState)
+	&& (J9_XACCESS_EXCLUSIVE != vm->safePointState)
+	) {
+		return;
+	}
+
+	J9JFRDeoptimization *jfrEvent = (J9JFRDeoptimization *)reserveBufferWithStackTrace(currentThread, currentThread, J9JFR_EVENT_TYPE_DEOPTIMIZATION, sizeof(*jfrEvent));
+	if (NULL != jfrEvent) {
+		jfrEvent->method = event->method;
+		jfrEvent->reason = event->reason;
+	}
+}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
+
 jint
 initializeJFR(J9JavaVM *vm, BOOLEAN lateInit)
 {
@@ -800,6 +916,17 @@ initializeJFR(J9JavaVM *vm, BOOLEAN lateInit)
 	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_SYSTEM_GC_CALLED, jfrSystemGC, OMR_GET_CALLSITE(), NULL)) {
 		goto fail;
 	}
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_JIT_COMPILATION_COMPLETED, jfrJitCompilationCompleted, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_JIT_METHOD_INLINED, jfrJitMethodInlined, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+	if ((*vmHooks)->J9HookRegisterWithCallSite(vmHooks, J9HOOK_VM_JIT_METHOD_INVALIDATED, jfrJitMethodInvalidated, OMR_GET_CALLSITE(), NULL)) {
+		goto fail;
+	}
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
 
 	/* Allocate constantEvents. */
 	vm->jfrState.constantEvents = j9mem_allocate_memory(sizeof(JFRConstantEvents), J9MEM_CATEGORY_JFR);
@@ -933,6 +1060,11 @@ tearDownJFR(J9JavaVM *vm)
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_MONITOR_CONTENDED_ENTERED, jfrVMMonitorEntered, NULL);
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_UNPARKED, jfrVMThreadParked, NULL);
 	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_SYSTEM_GC_CALLED, jfrSystemGC, NULL);
+#if defined(J9VM_INTERP_NATIVE_SUPPORT)
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_JIT_COMPILATION_COMPLETED, jfrJitCompilationCompleted, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_JIT_METHOD_INLINED, jfrJitMethodInlined, NULL);
+	(*vmHooks)->J9HookUnregister(vmHooks, J9HOOK_VM_JIT_METHOD_INVALIDATED, jfrJitMethodInvalidated, NULL);
+#endif /* defined(J9VM_INTERP_NATIVE_SUPPORT) */
 
 	/* Free global data */
 	VM_JFRConstantPoolTypes::freeJFRConstantEvents(vm);
@@ -1303,9 +1435,7 @@ getTypeIdUTF8(J9VMThread *currentThread, const J9UTF8 *className)
 
 	Trc_VM_getTypeIdUTF8_Entry(currentThread, J9UTF8_LENGTH(className), J9UTF8_DATA(className));
 
-	omrthread_monitor_enter(vm->classTableMutex);
-	J9Class *clazz = hashClassTableAt(vm->systemClassLoader, (U_8 *)J9UTF8_DATA(className), J9UTF8_LENGTH(className), 0);
-	omrthread_monitor_exit(vm->classTableMutex);
+	J9Class *clazz = peekClassHashTable(currentThread, vm->systemClassLoader, (U_8 *)J9UTF8_DATA(className), J9UTF8_LENGTH(className));
 
 	if (NULL != clazz) {
 		result = getTypeId(currentThread, clazz);
@@ -732,6 +732,8 @@ freeJavaVM(J9JavaVM * vm)
 		while (NULL != clazz) {
 			j9mem_free_memory(clazz->jniIDs);
 			clazz->jniIDs = NULL;
+			j9mem_free_memory(clazz->reflectNameIndex);
+			clazz->reflectNameIndex = NULL;
 			clazz = allClassesNextDo(&classWalkState);
 		}
 		allClassesEndDo(&classWalkState);
@@ -940,6 +942,8 @@ freeJavaVM(J9JavaVM * vm)
 	fieldIndexTableFree(vm);
 #endif
 
+	stackTraceInternTableFree(vm);
+
 	/* Close the trace DLL. This has to be after all hashtable and pool free events, otherwise we'll crash on pool tracepoints */
 	if (0 != traceDescriptor) {
 		j9sl_close_shared_library(traceDescriptor);
@@ -2986,6 +2990,11 @@ VMInitStages(J9JavaVM *vm, IDATA stage, void* reserved)
 					setErrorJ9dll(PORTLIB, loadInfo, "cannot allocate system classloader", FALSE);
 					goto _error;
 				}
+			} else {
+				/* Restored class tables may still grow in place, so lock-free reads wait until
+				 * the end of startup when all existing tables are made non-growable.
+				 */
+				vm->extendedRuntimeFlags &= ~(UDATA)J9_EXTENDED_RUNTIME_FAST_CLASS_HASH_TABLE;
 			}
 
 			if (J2SE_VERSION(vm) >= J2SE_V11) {
@@ -3929,7 +3938,12 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 		IDATA fastClassHashTable = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXFASTCLASSHASHTABLE, NULL);
 		IDATA noFastClassHashTable = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXNOFASTCLASSHASHTABLE, NULL);
 		if (fastClassHashTable > noFastClassHashTable) {
+			/* Lock-free class table reads are enabled at the end of startup by default.
+			 * Asking for them explicitly enables them from the start, before any class loader
+			 * has created its table, so that startup lookups do not serialize on classTableMutex.
+			 */
 			vm->extendedRuntimeFlags &= ~(UDATA)J9_EXTENDED_RUNTIME_DISABLE_FAST_CLASS_HASH_TABLE;
+			vm->extendedRuntimeFlags |= J9_EXTENDED_RUNTIME_FAST_CLASS_HASH_TABLE;
 		} else if (fastClassHashTable < noFastClassHashTable) {
 			vm->extendedRuntimeFlags |= J9_EXTENDED_RUNTIME_DISABLE_FAST_CLASS_HASH_TABLE;
 		}
@@ -4490,6 +4504,45 @@ processVMArgsFromFirstToLast(J9JavaVM * vm)
 	if (FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXNOKEEPJNIIDS, NULL) != -1) {
 		vm->extendedRuntimeFlags2 |= J9_EXTENDED_RUNTIME2_NEVER_KEEP_JNI_IDS;
 	}
+#if JAVA_SPEC_VERSION >= 16
+	{
+		IDATA enableDirectDowncall = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXENABLEFFIDIRECTDOWNCALL, NULL);
+		IDATA disableDirectDowncall = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXDISABLEFFIDIRECTDOWNCALL, NULL);
+		if (enableDirectDowncall < disableDirectDowncall) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_DISABLE_FFI_DIRECT_DOWNCALL;
+		}
+	}
+#endif /* JAVA_SPEC_VERSION >= 16 */
+#if JAVA_SPEC_VERSION >= 19
+	{
+		IDATA enableStackCompaction = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXENABLECONTINUATIONSTACKCOMPACTION, NULL);
+		IDATA disableStackCompaction = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXDISABLECONTINUATIONSTACKCOMPACTION, NULL);
+		if (enableStackCompaction > disableStackCompaction) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_COMPACT_CONTINUATION_STACKS;
+		}
+	}
+#endif /* JAVA_SPEC_VERSION >= 19 */
+	{
+		IDATA enableContentionProfiling = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXENABLEMONITORCONTENTIONPROFILING, NULL);
+		IDATA disableContentionProfiling = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXDISABLEMONITORCONTENTIONPROFILING, NULL);
+		if (enableContentionProfiling > disableContentionProfiling) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_MONITOR_CONTENTION_PROFILING;
+		}
+	}
+	{
+		IDATA enableAdaptiveSpin = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXENABLEADAPTIVEMONITORSPIN, NULL);
+		IDATA disableAdaptiveSpin = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXDISABLEADAPTIVEMONITORSPIN, NULL);
+		if (enableAdaptiveSpin > disableAdaptiveSpin) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_ADAPTIVE_MONITOR_SPIN;
+		}
+	}
+	{
+		IDATA enableInternStackTraces = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXENABLEINTERNSTACKTRACES, NULL);
+		IDATA disableInternStackTraces = FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XXDISABLEINTERNSTACKTRACES, NULL);
+		if (enableInternStackTraces > disableInternStackTraces) {
+			vm->extendedRuntimeFlags3 |= J9_EXTENDED_RUNTIME3_INTERN_STACK_TRACES;
+		}
+	}
 #if JAVA_SPEC_VERSION >= 22
 #define VMOPT_XFFIPROTO "-Xffiproto"
 	if (FIND_AND_CONSUME_VMARG(EXACT_MATCH, VMOPT_XFFIPROTO, NULL) != -1) {
@@ -6878,6 +6931,14 @@ runExitStages(J9JavaVM* vm, J9VMThread* vmThread)
 		j9tty_printf(PORTLIB, "\n     T2 Cache store:            %u", vm->t2store);
 		j9tty_printf(PORTLIB, "\nCache Freed:                %u\n", vm->cacheFree);
 		j9tty_printf(PORTLIB, "\nAvg Cache Stack Size:       %.2f KB\n", (double)vm->totalContinuationStackSize / (vm->t1CacheHit + vm->t2CacheHit + vm->cacheMiss) / 1024);
+		if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_COMPACT_CONTINUATION_STACKS)) {
+			j9tty_printf(PORTLIB, "\nStack Compactions:          %u", vm->continuationStackCompactCount);
+			j9tty_printf(PORTLIB, "\n     Avg Compaction Time:       %lld ns", (vm->continuationStackCompactCount > 0 ? (vm->continuationStackCompactTime / (I_64)vm->continuationStackCompactCount) : 0));
+			j9tty_printf(PORTLIB, "\nStack Inflations:           %u", vm->continuationStackInflateCount);
+			j9tty_printf(PORTLIB, "\n     Avg Inflation Time:        %lld ns", (vm->continuationStackInflateCount > 0 ? (vm->continuationStackInflateTime / (I_64)vm->continuationStackInflateCount) : 0));
+			j9tty_printf(PORTLIB, "\nTotal Stack Bytes Released: %llu", vm->continuationStackBytesReleased);
+			j9tty_printf(PORTLIB, "\nStack Bytes Saved At Exit:  %zu\n", vm->continuationStackBytesSaved);
+		}
 	}
 #endif /* JAVA_SPEC_VERSION >= 19 */
 
@@ -7689,6 +7750,12 @@ protectedInitializeJavaVM(J9PortLibrary* portLibrary, void * userData)
 	}
 #endif
 
+	if (J9_ARE_ANY_BITS_SET(vm->extendedRuntimeFlags3, J9_EXTENDED_RUNTIME3_INTERN_STACK_TRACES)) {
+		if (NULL == stackTraceInternTableNew(vm)) {
+			goto error;
+		}
+	}
+
 #ifdef J9VM_OPT_ZIP_SUPPORT
 	if (NULL == vm->zipCachePool) {
 		vm->zipCachePool = zipCachePool_new(portLibrary, vm);
@@ -8500,6 +8567,10 @@ freeClassNativeMemory(J9HookInterface** hook, UDATA eventNum, void* eventData, v
 	j9mem_free_memory(clazz->jniIDs);
 	clazz->jniIDs = NULL;
 
+	/* Free the reflection name index for this class. */
+	j9mem_free_memory(clazz->reflectNameIndex);
+	clazz->reflectNameIndex = NULL;
+
 	/* If the class is an interface, free the HCR method ordering table */
 	if (J9ROMCLASS_IS_INTERFACE(clazz->romClass)) {
 		j9mem_free_memory(J9INTERFACECLASS_METHODORDERING(clazz));
@@ -316,6 +316,7 @@ monitorTableAt(J9VMThread* vmStruct, j9object_t object)
 #endif /* J9VM_INTERP_CUSTOM_SPIN_OPTIONS */
 
 				key_objectMonitor.monitor = monitor;
+				key_objectMonitor.spinFactor = J9_ADAPTIVE_SPIN_FACTOR_DEFAULT;
 
 #ifdef J9VM_THR_SMART_DEFLATION
 				key_objectMonitor.proDeflationCount = 0;
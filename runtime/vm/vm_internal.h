@@ -97,6 +97,50 @@ fieldIndexTableNew(J9JavaVM* vm, J9PortLibrary *portLib);
 void
 fieldIndexTableFree(J9JavaVM* vm);
 
+/* ---------------- StackTraceIntern.cpp ---------------- */
+
+/**
+* @brief Create the table used to share identical walkbacks and stack traces
+* (-XX:+InternStackTraces). Called at VM startup.
+* @param *vm
+* @return J9HashTable *, NULL on failure
+*/
+J9HashTable *
+stackTraceInternTableNew(J9JavaVM *vm);
+
+/**
+* @brief Free the stack trace intern table, if any. Called during VM shutdown.
+* @param *vm
+* @return void
+*/
+void
+stackTraceInternTableFree(J9JavaVM *vm);
+
+/**
+* @brief Find a live walkback array holding the given PCs, filled in for a Throwable of the given class.
+* The caller must have VM access.
+* @param *currentThread
+* @param *throwableClass the class of the Throwable being filled in
+* @param *pcs the PCs cached by the stack walk
+* @param frameCount the number of PCs
+* @return j9object_t the shared walkback, or NULL if there is none
+*/
+j9object_t
+findInternedWalkback(J9VMThread *currentThread, J9Class *throwableClass, const UDATA *pcs, UDATA frameCount);
+
+/**
+* @brief Record a newly allocated walkback array so that identical walkbacks can share it.
+* The caller must have VM access.
+* @param *currentThread
+* @param *throwableClass the class of the Throwable the walkback was filled in for
+* @param walkback the walkback array, which must not be modified after this call
+* @param *pcs the PCs stored in walkback
+* @param frameCount the number of PCs
+* @return void
+*/
+void
+internWalkback(J9VMThread *currentThread, J9Class *throwableClass, j9object_t walkback, const UDATA *pcs, UDATA frameCount);
+
 /* ---------------- jniinv.c ---------------- */
 
 /**
@@ -542,6 +586,16 @@ void shutDownExclusiveAccess(J9JavaVM *vm);
 
 #if JAVA_SPEC_VERSION >= 16
 
+#if defined(LINUX) && defined(J9HAMMER)
+/* Downcalls whose arguments are primitives or pointers that all fit in the argument
+ * registers of the System V x86-64 ABI call the native function directly rather
+ * than through ffi_call. See directCallWithSetJmpForUpcall().
+ */
+#define J9VM_FFI_DIRECT_DOWNCALL
+#define J9_FFI_DIRECT_DOWNCALL_MAX_GPR_ARGS 6
+#define J9_FFI_DIRECT_DOWNCALL_MAX_FPR_ARGS 8
+#endif /* defined(LINUX) && defined(J9HAMMER) */
+
 /* ------------------- LayoutFFITypeHelpers.cpp ----------------- */
 
 /**
@@ -0,0 +1,213 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.AssertJUnit;
+
+/**
+ * Runs a test's main() in a separate JVM with traceFull enabled for the
+ * methods under test, and splits the resulting trace log into compilations.
+ * Running in a separate JVM means the trace log is complete when it is read.
+ * The main() must print PASSED and exit normally.
+ */
+public final class JitTraceLog {
+	private static final String COMPILE_START = "<compile\n";
+
+	private static final Pattern COMPILE_HEADER = Pattern.compile("\\A\\s*method=\"([^\"]*)\"\\s*hotness=\"([^\"]*)\"\\s*isProfilingCompile=(\\d)");
+
+	/* Optimization levels in the order a method is recompiled through them. */
+	private static final List<String> HOTNESS_LEVELS = Arrays.asList("noOpt", "cold", "warm", "hot", "veryHot", "scorching");
+
+	private final List<Compilation> compilations;
+
+	private JitTraceLog(List<Compilation> compilations) {
+		this.compilations = Collections.unmodifiableList(compilations);
+	}
+
+	/**
+	 * One compilation read from the trace log.
+	 */
+	public static final class Compilation {
+		private final String method;
+		private final String hotness;
+		private final boolean profiling;
+		private final String text;
+
+		Compilation(String method, String hotness, boolean profiling, String text) {
+			this.method = method;
+			this.hotness = hotness;
+			this.profiling = profiling;
+			this.text = text;
+		}
+
+		public String getMethod() {
+			return method;
+		}
+
+		public String getHotness() {
+			return hotness;
+		}
+
+		/**
+		 * @return the position of this compilation's hotness in the recompilation order, or -1 if it is not known
+		 */
+		public int getHotnessLevel() {
+			return HOTNESS_LEVELS.indexOf(hotness);
+		}
+
+		/**
+		 * @return true if this compilation inserted profiling code
+		 */
+		public boolean isProfiling() {
+			return profiling;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public boolean contains(String s) {
+			return text.indexOf(s) >= 0;
+		}
+
+		@Override
+		public String toString() {
+			return method + " at " + hotness + (profiling ? " (profiling)" : "");
+		}
+	}
+
+	/**
+	 * Runs mainClass in a child JVM with -Xjit:&lt;jitOptions&gt;,{&lt;methodFilter&gt;}(traceFull,log=...)
+	 * and reads the trace log it wrote.
+	 *
+	 * @param mainClass the class whose main() exercises the methods under test
+	 * @param jitOptions other -Xjit options, or null
+	 * @param methodFilter the methods to trace, e.g. *testFoo*
+	 */
+	public static JitTraceLog run(Class<?> mainClass, String jitOptions, String methodFilter) throws Exception {
+		String logPrefix = mainClass.getSimpleName();
+		File dir = Files.createTempDirectory(logPrefix).toFile();
+		try {
+			String log = new File(dir, logPrefix).getPath();
+			String trace = "{" + methodFilter + "}(traceFull,log=" + log + ")";
+			List<String> command = new ArrayList<String>();
+			command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+			command.add("-Xjit:" + ((null == jitOptions) ? trace : (jitOptions + "," + trace)));
+			command.add("-cp");
+			command.add(System.getProperty("java.class.path"));
+			command.add(mainClass.getName());
+
+			Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+			StringBuilder output = new StringBuilder();
+			BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+			try {
+				String line;
+				while (null != (line = reader.readLine())) {
+					output.append(line).append('\n');
+				}
+			} finally {
+				reader.close();
+			}
+			AssertJUnit.assertTrue("Child JVM did not exit", process.waitFor(5, TimeUnit.MINUTES));
+			AssertJUnit.assertEquals("Child JVM failed:\n" + output, 0, process.exitValue());
+			AssertJUnit.assertTrue(output.toString(), output.toString().contains("PASSED"));
+
+			/* The JIT adds suffixes to the log name, and may write one log per compilation thread. */
+			List<Compilation> compilations = new ArrayList<Compilation>();
+			for (File file : dir.listFiles()) {
+				if (file.getName().startsWith(logPrefix)) {
+					parse(new String(Files.readAllBytes(file.toPath()), "UTF-8"), compilations);
+				}
+			}
+			return new JitTraceLog(compilations);
+		} finally {
+			for (File file : dir.listFiles()) {
+				file.delete();
+			}
+			dir.delete();
+		}
+	}
+
+	private static void parse(String log, List<Compilation> compilations) {
+		int start = log.indexOf(COMPILE_START);
+		while (start >= 0) {
+			int end = log.indexOf(COMPILE_START, start + COMPILE_START.length());
+			String text = log.substring(start + COMPILE_START.length(), (end < 0) ? log.length() : end);
+			Matcher matcher = COMPILE_HEADER.matcher(text);
+			if (matcher.find()) {
+				compilations.add(new Compilation(matcher.group(1), matcher.group(2), "1".equals(matcher.group(3)), text));
+			}
+			start = end;
+		}
+	}
+
+	public List<Compilation> getCompilations() {
+		return compilations;
+	}
+
+	/**
+	 * Finds a compilation that could use the profile collected by an earlier
+	 * profiling compilation: one that does not profile and is at least as hot.
+	 * Logs from different compilation threads are not ordered with respect to
+	 * each other, so hotness is used rather than the position in the log.
+	 *
+	 * @return the first such compilation, or null if the method was not recompiled after profiling
+	 */
+	public Compilation findProfiledRecompilation() {
+		int profilingLevel = Integer.MAX_VALUE;
+		for (Compilation compilation : compilations) {
+			if (compilation.isProfiling() && (compilation.getHotnessLevel() >= 0)) {
+				profilingLevel = Math.min(profilingLevel, compilation.getHotnessLevel());
+			}
+		}
+		for (Compilation compilation : compilations) {
+			if (!compilation.isProfiling() && (compilation.getHotnessLevel() >= profilingLevel)) {
+				return compilation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the first profiling compilation, or null if the method was never compiled with profiling
+	 */
+	public Compilation findProfilingCompilation() {
+		for (Compilation compilation : compilations) {
+			if (compilation.isProfiling()) {
+				return compilation;
+			}
+		}
+		return null;
+	}
+}
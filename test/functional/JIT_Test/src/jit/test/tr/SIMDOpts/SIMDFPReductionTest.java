@@ -0,0 +1,151 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr.SIMDOpts;
+
+import org.testng.annotations.Test;
+import org.testng.AssertJUnit;
+
+/**
+ * Verifies float and double reductions vectorized by SPMDKernelParallelization
+ * when -Xjit:enableFPAutoSIMDReduction is specified. Inputs are chosen so that
+ * every partial result is exactly representable, which makes the reassociated
+ * vector result identical to the scalar one.
+ */
+@Test(groups = { "level.sanity","component.jit" })
+public class SIMDFPReductionTest {
+	private static final int LENGTH = 1031; /* not a multiple of any vector length, exercises the residue loop */
+	private static final int ITERATIONS = 200;
+
+	private static double testSIMDReductionSumDouble(double[] a, double init) {
+		double sum = init;
+		for (int i = 0; i < a.length; i++)
+			sum += a[i];
+		return sum;
+	}
+
+	private static float testSIMDReductionSumFloat(float[] a, float init) {
+		float sum = init;
+		for (int i = 0; i < a.length; i++)
+			sum += a[i];
+		return sum;
+	}
+
+	private static double testSIMDReductionDotDouble(double[] a, double[] b) {
+		double dot = 0.0;
+		for (int i = 0; i < a.length; i++)
+			dot += a[i] * b[i];
+		return dot;
+	}
+
+	private static double testSIMDReductionProductDouble(double[] a) {
+		double product = 1.0;
+		for (int i = 0; i < a.length; i++)
+			product *= a[i];
+		return product;
+	}
+
+	private static float testSIMDReductionProductFloat(float[] a) {
+		float product = 1.0f;
+		for (int i = 0; i < a.length; i++)
+			product *= a[i];
+		return product;
+	}
+
+	@Test
+	public void testSumDouble() {
+		double[] a = new double[LENGTH];
+		double expected = 0.5;
+		for (int i = 0; i < LENGTH; i++) {
+			a[i] = i % 17;
+			expected += i % 17;
+		}
+		for (int i = 0; i < ITERATIONS; i++)
+			AssertJUnit.assertEquals(expected, testSIMDReductionSumDouble(a, 0.5), 0.0);
+	}
+
+	@Test
+	public void testSumFloat() {
+		float[] a = new float[LENGTH];
+		float expected = 0.25f;
+		for (int i = 0; i < LENGTH; i++) {
+			a[i] = i % 13;
+			expected += i % 13;
+		}
+		for (int i = 0; i < ITERATIONS; i++)
+			AssertJUnit.assertEquals(expected, testSIMDReductionSumFloat(a, 0.25f), 0.0f);
+	}
+
+	@Test
+	public void testSumNegativeZero() {
+		double[] d = new double[LENGTH];
+		float[] f = new float[LENGTH];
+		java.util.Arrays.fill(d, -0.0);
+		java.util.Arrays.fill(f, -0.0f);
+		for (int i = 0; i < ITERATIONS; i++) {
+			AssertJUnit.assertEquals(Double.doubleToRawLongBits(-0.0),
+					Double.doubleToRawLongBits(testSIMDReductionSumDouble(d, -0.0)));
+			AssertJUnit.assertEquals(Float.floatToRawIntBits(-0.0f),
+					Float.floatToRawIntBits(testSIMDReductionSumFloat(f, -0.0f)));
+		}
+	}
+
+	@Test
+	public void testSumNaN() {
+		double[] a = new double[LENGTH];
+		a[LENGTH / 2] = Double.NaN;
+		for (int i = 0; i < ITERATIONS; i++)
+			AssertJUnit.assertTrue(Double.isNaN(testSIMDReductionSumDouble(a, 0.0)));
+	}
+
+	@Test
+	public void testDotProductDouble() {
+		double[] a = new double[LENGTH];
+		double[] b = new double[LENGTH];
+		double expected = 0.0;
+		for (int i = 0; i < LENGTH; i++) {
+			a[i] = i % 11;
+			b[i] = (i % 7) - 3;
+			expected += a[i] * b[i];
+		}
+		for (int i = 0; i < ITERATIONS; i++)
+			AssertJUnit.assertEquals(expected, testSIMDReductionDotDouble(a, b), 0.0);
+	}
+
+	@Test
+	public void testProduct() {
+		double[] d = new double[LENGTH];
+		float[] f = new float[LENGTH];
+		double expectedDouble = 1.0;
+		float expectedFloat = 1.0f;
+		for (int i = 0; i < LENGTH; i++) {
+			/* powers of two keep every partial product exact */
+			d[i] = (i % 5 == 0) ? 2.0 : ((i % 5 == 1) ? 0.5 : 1.0);
+			f[i] = (float)d[i];
+			expectedDouble *= d[i];
+			expectedFloat *= f[i];
+		}
+		for (int i = 0; i < ITERATIONS; i++) {
+			AssertJUnit.assertEquals(expectedDouble, testSIMDReductionProductDouble(d), 0.0);
+			AssertJUnit.assertEquals(expectedFloat, testSIMDReductionProductFloat(f), 0.0f);
+		}
+	}
+}
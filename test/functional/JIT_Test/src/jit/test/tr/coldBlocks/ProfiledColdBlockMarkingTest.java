@@ -0,0 +1,95 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr.coldBlocks;
+
+import jit.test.tr.JitTraceLog;
+
+import org.testng.AssertJUnit;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that -Xjit:enableProfiledColdBlockMarking marks the blocks that the
+ * block frequency profile shows are never executed as cold, and requests that
+ * they are split into the cold region of the code cache. The test is skipped
+ * if the JIT did not recompile the method after a profiling compilation.
+ */
+@Test(groups = { "level.sanity","component.jit" })
+public class ProfiledColdBlockMarkingTest {
+	private static final long RUN_MILLIS = 20000;
+
+	private static final String STARTED = "Starting Profiled Cold Block Marking";
+	private static final String MARKED = "O^O PROFILED COLD BLOCK MARKING: Marking block_";
+	private static final String SPLIT = "Requesting splitting of warm and cold blocks";
+
+	/* The error paths are never taken, so the profile shows their blocks as cold. */
+	static int testProfiledColdBlocks(int[] a, int scale) {
+		int sum = 0;
+		for (int i = 0; i < a.length; i++) {
+			int value = a[i];
+			if (value < 0) {
+				throw new IllegalArgumentException("negative value " + value + " at " + i);
+			}
+			if (value > 1000000) {
+				StringBuilder message = new StringBuilder("value too large: ");
+				message.append(value).append(" at ").append(i).append(" scale ").append(scale);
+				throw new IllegalStateException(message.toString());
+			}
+			sum += value * scale;
+		}
+		return sum;
+	}
+
+	/**
+	 * Runs testProfiledColdBlocks() long enough for it to be recompiled with a profile.
+	 */
+	public static void main(String[] args) {
+		int[] a = new int[1000];
+		int expected = 0;
+		for (int i = 0; i < a.length; i++) {
+			a[i] = i % 100;
+			expected += (i % 100) * 3;
+		}
+		long end = System.currentTimeMillis() + RUN_MILLIS;
+		while (System.currentTimeMillis() < end) {
+			for (int i = 0; i < 1000; i++) {
+				if (testProfiledColdBlocks(a, 3) != expected) {
+					System.out.println("FAILED: wrong result");
+					System.exit(1);
+				}
+			}
+		}
+		System.out.println("PASSED");
+	}
+
+	@Test
+	public void testColdBlocksSplit() throws Exception {
+		JitTraceLog log = JitTraceLog.run(ProfiledColdBlockMarkingTest.class, "enableProfiledColdBlockMarking", "*testProfiledColdBlocks*");
+		JitTraceLog.Compilation recompilation = log.findProfiledRecompilation();
+		if (null == recompilation) {
+			throw new SkipException("testProfiledColdBlocks() was not recompiled after a profiling compilation: " + log.getCompilations());
+		}
+		AssertJUnit.assertTrue("Profiled Cold Block Marking did not run in " + recompilation, recompilation.contains(STARTED));
+		AssertJUnit.assertTrue("No blocks were marked cold in " + recompilation, recompilation.contains(MARKED));
+		AssertJUnit.assertTrue("Splitting of warm and cold blocks was not requested in " + recompilation, recompilation.contains(SPLIT));
+	}
+}
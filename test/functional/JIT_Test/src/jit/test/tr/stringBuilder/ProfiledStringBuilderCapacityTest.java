@@ -0,0 +1,101 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package jit.test.tr.stringBuilder;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jit.test.tr.JitTraceLog;
+
+import org.testng.AssertJUnit;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Verifies that StringBuilderTransformer sizes a chained append sequence from
+ * the profiled length of the StringBuilder at toString() once the method is
+ * recompiled with a value profile. The test is skipped if the JIT did not
+ * recompile the method after a profiling compilation.
+ */
+@Test(groups = { "level.sanity","component.jit" })
+public class ProfiledStringBuilderCapacityTest {
+	private static final long RUN_MILLIS = 20000;
+
+	private static final String PREFIX = "record: ";
+	private static final int FIELD_LENGTH = 150;
+
+	/* The heuristic counts each String argument as 16 chars, well short of the real length. */
+	private static final int EXPECTED_LENGTH = PREFIX.length() + FIELD_LENGTH + 1 + FIELD_LENGTH;
+
+	private static final String PROFILING_TREES = "Adding profiling trees for the length of java/lang/StringBuilder";
+
+	private static final Pattern PROFILED = Pattern.compile("Using profiled capacity = (\\d+) over heuristic capacity = (\\d+)");
+
+	static String testProfiledCapacity(String first, String second) {
+		return new StringBuilder().append(PREFIX).append(first).append(',').append(second).toString();
+	}
+
+	private static String field(char c) {
+		char[] chars = new char[FIELD_LENGTH];
+		Arrays.fill(chars, c);
+		return new String(chars);
+	}
+
+	/**
+	 * Runs testProfiledCapacity() long enough for it to be recompiled with a profile.
+	 */
+	public static void main(String[] args) {
+		String first = field('a');
+		String second = field('b');
+		long end = System.currentTimeMillis() + RUN_MILLIS;
+		while (System.currentTimeMillis() < end) {
+			for (int i = 0; i < 1000; i++) {
+				if (testProfiledCapacity(first, second).length() != EXPECTED_LENGTH) {
+					System.out.println("FAILED: wrong result");
+					System.exit(1);
+				}
+			}
+		}
+		System.out.println("PASSED");
+	}
+
+	@Test
+	public void testProfiledCapacityUsed() throws Exception {
+		JitTraceLog log = JitTraceLog.run(ProfiledStringBuilderCapacityTest.class, null, "*testProfiledCapacity*");
+		JitTraceLog.Compilation profiling = log.findProfilingCompilation();
+		JitTraceLog.Compilation recompilation = log.findProfiledRecompilation();
+		if ((null == profiling) || (null == recompilation)) {
+			throw new SkipException("testProfiledCapacity() was not recompiled after a profiling compilation: " + log.getCompilations());
+		}
+		AssertJUnit.assertTrue("No StringBuilder length profiling trees in " + profiling, profiling.contains(PROFILING_TREES));
+
+		Matcher matcher = PROFILED.matcher(recompilation.getText());
+		AssertJUnit.assertTrue("Profiled capacity was not used in " + recompilation, matcher.find());
+		int profiledCapacity = Integer.parseInt(matcher.group(1));
+		int heuristicCapacity = Integer.parseInt(matcher.group(2));
+		AssertJUnit.assertTrue("Heuristic capacity " + heuristicCapacity + " already covers the length", heuristicCapacity < EXPECTED_LENGTH);
+		AssertJUnit.assertTrue("Profiled capacity " + profiledCapacity + " is shorter than " + EXPECTED_LENGTH, profiledCapacity >= EXPECTED_LENGTH);
+		AssertJUnit.assertTrue("StringBuilder not initialized with the profiled capacity in " + recompilation,
+				recompilation.contains("to java/lang/StringBuilder.<init>(I)V with capacity = " + profiledCapacity));
+	}
+}
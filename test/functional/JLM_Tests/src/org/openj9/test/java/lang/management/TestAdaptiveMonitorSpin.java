@@ -0,0 +1,249 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.MonitorContentionMXBean;
+
+/**
+ * Runs contended monitors with -XX:+AdaptiveMonitorSpin. Locks that are
+ * released quickly and locks that are held for long move the spin factor of
+ * their monitors in opposite directions; either way every enter must still
+ * be mutually exclusive. The Monitor.contention report must show the factor
+ * each monitor has learned: below the default for a lock held for long, and
+ * at least the default for a lock held briefly.
+ */
+@Test(groups = { "level.sanity" })
+public class TestAdaptiveMonitorSpin {
+
+	private static Logger logger = Logger.getLogger(TestAdaptiveMonitorSpin.class);
+
+	private static final int THREADS = 8;
+
+	private static final int SHORT_ENTERS = 20000;
+
+	private static final int LONG_ENTERS = 20;
+
+	private static final long HOLD_MILLIS = 5;
+
+	/* J9_ADAPTIVE_SPIN_FACTOR_DEFAULT, the factor which leaves the configured spin counts unchanged */
+	private static final int SPIN_FACTOR_DEFAULT = 16;
+
+	/* "   1:     <blocked> ...  <class name>@<monitor>" */
+	private static final Pattern MONITOR_ENTRY = Pattern.compile("^\\s*\\d+: ");
+
+	private static final Pattern SPIN_FACTOR = Pattern.compile("adaptive spin factor: (\\d+)/(\\d+)");
+
+	private MonitorContentionMXBean bean;
+
+	private boolean wasEnabled;
+
+	/* classes of their own, so that their monitors are easy to find in the report */
+	static final class ShortHeldLock {
+		long count;
+	}
+
+	static final class LongHeldLock {
+		long count;
+	}
+
+	@BeforeClass
+	protected void setUp() throws Exception {
+		bean = ManagementFactory.getPlatformMXBean(MonitorContentionMXBean.class);
+		Assert.assertNotNull(bean, "MonitorContentionMXBean is not registered");
+		wasEnabled = bean.isProfilingEnabled();
+		logger.info("Starting TestAdaptiveMonitorSpin tests ...");
+	}
+
+	@AfterClass
+	protected void tearDown() throws Exception {
+		bean.setProfilingEnabled(wasEnabled);
+	}
+
+	@Test
+	public void testShortHeldLock() throws Exception {
+		final ShortHeldLock lock = new ShortHeldLock();
+		runThreads(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < SHORT_ENTERS; i++) {
+					synchronized (lock) {
+						lock.count += 1;
+					}
+				}
+			}
+		});
+		Assert.assertEquals(lock.count, (long)THREADS * SHORT_ENTERS, "lost updates");
+	}
+
+	@Test
+	public void testLongHeldLock() throws Exception {
+		final LongHeldLock lock = new LongHeldLock();
+		runThreads(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < LONG_ENTERS; i++) {
+					synchronized (lock) {
+						long count = lock.count;
+						try {
+							Thread.sleep(HOLD_MILLIS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						lock.count = count + 1;
+					}
+				}
+			}
+		});
+		Assert.assertEquals(lock.count, (long)THREADS * LONG_ENTERS, "lost updates");
+	}
+
+	@Test
+	public void testSpinFactorReported() throws Exception {
+		final LongHeldLock longLock = new LongHeldLock();
+		final ShortHeldLock shortLock = new ShortHeldLock();
+
+		bean.setProfilingEnabled(true);
+		bean.reset();
+		runThreads(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < LONG_ENTERS; i++) {
+					synchronized (longLock) {
+						try {
+							Thread.sleep(HOLD_MILLIS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+						longLock.count += 1;
+					}
+				}
+			}
+		});
+
+		/* Only monitors a thread blocked on are reported, and spinning on a short held lock rarely fails. */
+		blockOnce(shortLock);
+		runThreads(new Runnable() {
+			@Override
+			public void run() {
+				for (int i = 0; i < SHORT_ENTERS; i++) {
+					synchronized (shortLock) {
+						shortLock.count += 1;
+					}
+				}
+			}
+		});
+
+		/* The report is produced by the Monitor.contention diagnostic command. */
+		Class<?> diagnosticUtils = Class.forName("openj9.internal.tools.attach.target.DiagnosticUtils");
+		Method getMonitorContention = diagnosticUtils.getDeclaredMethod("getMonitorContentionImpl", int.class);
+		getMonitorContention.setAccessible(true);
+		String report = (String)getMonitorContention.invoke(null, Integer.valueOf(Integer.MAX_VALUE));
+		logger.debug(report);
+
+		/* Spinning on a lock held for milliseconds is exhausted, so its factor must have dropped. */
+		int longFactor = getSpinFactor(report, LongHeldLock.class);
+		Assert.assertTrue(longFactor < SPIN_FACTOR_DEFAULT,
+				"spin factor " + longFactor + "/" + SPIN_FACTOR_DEFAULT + " for " + LongHeldLock.class.getName() + " did not drop");
+		/* Spinning on a lock held for a few instructions succeeds, so its factor must not have dropped. */
+		int shortFactor = getSpinFactor(report, ShortHeldLock.class);
+		Assert.assertTrue(shortFactor >= SPIN_FACTOR_DEFAULT,
+				"spin factor " + shortFactor + "/" + SPIN_FACTOR_DEFAULT + " for " + ShortHeldLock.class.getName() + " dropped");
+	}
+
+	/**
+	 * Find the adaptive spin factor reported for the monitor of an instance of lockClass.
+	 * Each monitor is reported on a numbered line ending in its class name and address,
+	 * followed by indented lines which include the spin factor.
+	 */
+	private static int getSpinFactor(String report, Class<?> lockClass) {
+		String monitorName = "  " + lockClass.getName() + "@";
+		boolean inEntry = false;
+		for (String line : report.split("\n")) {
+			if (MONITOR_ENTRY.matcher(line).find()) {
+				inEntry = line.contains(monitorName);
+			} else if (inEntry) {
+				Matcher matcher = SPIN_FACTOR.matcher(line);
+				if (matcher.find()) {
+					Assert.assertEquals(Integer.parseInt(matcher.group(2)), SPIN_FACTOR_DEFAULT, "unexpected spin factor scale: " + line);
+					return Integer.parseInt(matcher.group(1));
+				}
+			}
+		}
+		Assert.fail("no adaptive spin factor for " + lockClass.getName() + " in the report:\n" + report);
+		return -1;
+	}
+
+	/* Make a thread block on the monitor of lock, so that it is recorded while profiling is enabled. */
+	private static void blockOnce(final Object lock) throws InterruptedException {
+		Thread blocked = new Thread() {
+			@Override
+			public void run() {
+				synchronized (lock) {
+					/* nothing to do once the monitor is entered */
+				}
+			}
+		};
+		synchronized (lock) {
+			blocked.start();
+			while (Thread.State.BLOCKED != blocked.getState()) {
+				Thread.sleep(1);
+			}
+		}
+		blocked.join();
+	}
+
+	/* Start THREADS threads together, so that they contend from the first enter. */
+	private static void runThreads(final Runnable body) throws InterruptedException {
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[THREADS];
+		for (int i = 0; i < THREADS; i++) {
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					body.run();
+				}
+			};
+			threads[i].start();
+		}
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join();
+		}
+	}
+}
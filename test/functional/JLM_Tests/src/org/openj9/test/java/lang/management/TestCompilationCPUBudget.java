@@ -0,0 +1,117 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.CompilationMXBean;
+
+/**
+ * Checks the CPU budget attributes of the CompilationMXBean. Must be run with
+ * -Xjit:compThreadCPUBudget=1,compThreadCPUBudgetWindow=1000.
+ */
+@Test(groups = { "level.extended" })
+public class TestCompilationCPUBudget {
+
+	private static Logger logger = Logger.getLogger(TestCompilationCPUBudget.class);
+
+	private static final int EXPECTED_BUDGET = 1;
+
+	private static final long TIMEOUT_MILLIS = 30000;
+
+	private CompilationMXBean bean;
+
+	private static volatile long sink;
+
+	@BeforeClass
+	protected void setUp() {
+		java.lang.management.CompilationMXBean cb = ManagementFactory.getCompilationMXBean();
+		if (cb == null) {
+			throw new SkipException("The JIT is not enabled");
+		}
+		Assert.assertTrue(cb instanceof CompilationMXBean, cb.getClass().getName() + " does not implement " + CompilationMXBean.class.getName());
+		bean = (CompilationMXBean) cb;
+	}
+
+	/* Methods for the JIT to compile, and recompile at higher optimization levels. */
+	private static long work0(long value) {
+		for (int i = 0; i < 100; i++) {
+			value = (value * 31) ^ (value >>> 7);
+		}
+		return value;
+	}
+
+	private static long work1(long value) {
+		StringBuilder builder = new StringBuilder();
+		builder.append(value).append(':').append(value >>> 3);
+		return value + builder.length();
+	}
+
+	private static long work2(long value) {
+		long[] values = new long[16];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = value + i;
+		}
+		return values[(int) (value & 15)];
+	}
+
+	private static void compileSomething() {
+		long value = sink;
+		for (int i = 0; i < 100000; i++) {
+			value = work0(value) + work1(value) + work2(value);
+		}
+		sink = value;
+	}
+
+	@Test
+	public void testBudgetIsReported() throws Exception {
+		long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+		long lastDeferred = 0;
+
+		/* The statistics are published by the sampler thread, so they may take a while to appear. */
+		while ((bean.getCompilationCPUBudget() != EXPECTED_BUDGET) || (bean.getCompilationCPUBudgetUsage() < 0)) {
+			Assert.assertTrue(System.currentTimeMillis() < deadline, "No CPU budget usage reported: budget="
+					+ bean.getCompilationCPUBudget() + " usage=" + bean.getCompilationCPUBudgetUsage());
+			compileSomething();
+			long deferred = bean.getDeferredCompilationCount();
+			Assert.assertTrue(deferred >= lastDeferred, "Deferred compilation count went from " + lastDeferred + " to " + deferred);
+			lastDeferred = deferred;
+		}
+		logger.debug("CPU budget usage " + bean.getCompilationCPUBudgetUsage() + "%, " + bean.getDeferredCompilationCount() + " deferred compilations");
+
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objName = new ObjectName(ManagementFactory.COMPILATION_MXBEAN_NAME);
+		Assert.assertEquals(mbs.getAttribute(objName, "CompilationCPUBudget"), Integer.valueOf(EXPECTED_BUDGET));
+		Assert.assertTrue(((Integer) mbs.getAttribute(objName, "CompilationCPUBudgetUsage")).intValue() >= 0);
+		Assert.assertTrue(((Long) mbs.getAttribute(objName, "DeferredCompilationCount")).longValue() >= lastDeferred);
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test.java.lang.management;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.CompilationEventInfo;
+import com.ibm.lang.management.CompilationMXBean;
+
+/**
+ * Checks the compilation events recorded by the CompilationMXBean.
+ */
+@Test(groups = { "level.sanity" })
+public class TestCompilationEvents {
+
+	private static Logger logger = Logger.getLogger(TestCompilationEvents.class);
+
+	private static final long TIMEOUT_MILLIS = 30000;
+
+	private static final String CLASS_NAME = TestCompilationEvents.class.getName();
+
+	private CompilationMXBean bean;
+
+	private boolean wasEnabled;
+
+	private static volatile long sink;
+
+	@BeforeClass
+	protected void setUp() {
+		java.lang.management.CompilationMXBean cb = ManagementFactory.getCompilationMXBean();
+		if (cb == null) {
+			throw new SkipException("The JIT is not enabled");
+		}
+		Assert.assertTrue(cb instanceof CompilationMXBean, cb.getClass().getName() + " does not implement " + CompilationMXBean.class.getName());
+		bean = (CompilationMXBean) cb;
+		wasEnabled = bean.isCompilationEventRecordingEnabled();
+	}
+
+	@AfterClass
+	protected void tearDown() {
+		if (bean != null) {
+			bean.setCompilationEventRecordingEnabled(wasEnabled);
+		}
+	}
+
+	/* Methods for the JIT to compile; each test compiles its own. */
+	private static long work0(long value) {
+		for (int i = 0; i < 100; i++) {
+			value = (value * 31) ^ (value >>> 7);
+		}
+		return value;
+	}
+
+	private static long work1(long value) {
+		for (int i = 0; i < 100; i++) {
+			value = (value * 17) + (value >>> 11);
+		}
+		return value;
+	}
+
+	private static long work2(long value) {
+		long[] values = new long[16];
+		for (int i = 0; i < values.length; i++) {
+			values[i] = value + i;
+		}
+		return values[(int) (value & 15)];
+	}
+
+	private static void run(int which) {
+		long value = sink;
+		for (int i = 0; i < 10000; i++) {
+			switch (which) {
+			case 0:
+				value = work0(value);
+				break;
+			case 1:
+				value = work1(value);
+				break;
+			default:
+				value = work2(value);
+				break;
+			}
+		}
+		sink = value;
+	}
+
+	private static CompilationEventInfo findCompilation(List<CompilationEventInfo> events, String method) {
+		for (CompilationEventInfo event : events) {
+			if (!event.isInvalidation() && event.getMethod().startsWith(method)) {
+				return event;
+			}
+		}
+		return null;
+	}
+
+	private static void checkCompilation(CompilationEventInfo event, long startMillis) {
+		logger.debug(event);
+		Assert.assertFalse(event.isInvalidation());
+		Assert.assertEquals(event.getReason(), "");
+		Assert.assertTrue(event.getTimestamp() >= startMillis, "Event recorded before the test started: " + event);
+		Assert.assertTrue(event.getDuration() >= 0, "Bad duration: " + event);
+		Assert.assertTrue(event.getQueueTime() >= -1, "Bad queue time: " + event);
+		Assert.assertTrue(event.getCodeSize() > 0, "Bad code size: " + event);
+		Assert.assertTrue(event.getInlinedBytes() >= 0, "Bad inlined bytes: " + event);
+	}
+
+	@Test
+	public void testEnable() {
+		bean.setCompilationEventRecordingEnabled(true);
+		Assert.assertTrue(bean.isCompilationEventRecordingEnabled());
+		bean.setCompilationEventRecordingEnabled(false);
+		Assert.assertFalse(bean.isCompilationEventRecordingEnabled());
+		Assert.assertTrue(bean.getDroppedCompilationEventCount() >= 0);
+	}
+
+	@Test
+	public void testCompilationsRecorded() {
+		String method = CLASS_NAME + ".work0(J)J";
+		long startMillis = System.currentTimeMillis();
+		long deadline = startMillis + TIMEOUT_MILLIS;
+		List<CompilationEventInfo> events = new ArrayList<>();
+		CompilationEventInfo event = null;
+
+		bean.setCompilationEventRecordingEnabled(true);
+		try {
+			while (null == (event = findCompilation(events, method))) {
+				Assert.assertTrue(System.currentTimeMillis() < deadline, "No compilation event for " + method);
+				run(0);
+				for (CompilationEventInfo info : bean.drainCompilationEvents()) {
+					events.add(info);
+				}
+			}
+		} finally {
+			bean.setCompilationEventRecordingEnabled(false);
+		}
+		checkCompilation(event, startMillis);
+
+		/* Nothing is recorded once recording is disabled, and draining empties the buffer. */
+		bean.drainCompilationEvents();
+		run(0);
+		Assert.assertEquals(bean.drainCompilationEvents().length, 0);
+	}
+
+	@Test
+	public void testDrainThroughMBeanServer() throws Exception {
+		String method = CLASS_NAME + ".work1(J)J";
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		ObjectName objName = new ObjectName(ManagementFactory.COMPILATION_MXBEAN_NAME);
+		long startMillis = System.currentTimeMillis();
+		long deadline = startMillis + TIMEOUT_MILLIS;
+		List<CompilationEventInfo> events = new ArrayList<>();
+		CompilationEventInfo event = null;
+
+		mbs.setAttribute(objName, new javax.management.Attribute("CompilationEventRecordingEnabled", Boolean.TRUE));
+		try {
+			Assert.assertEquals(mbs.getAttribute(objName, "CompilationEventRecordingEnabled"), Boolean.TRUE);
+			while (null == (event = findCompilation(events, method))) {
+				Assert.assertTrue(System.currentTimeMillis() < deadline, "No compilation event for " + method);
+				run(1);
+				CompositeData[] data = (CompositeData[]) mbs.invoke(objName, "drainCompilationEvents", null, null);
+				for (CompositeData cd : data) {
+					events.add(CompilationEventInfo.from(cd));
+				}
+			}
+		} finally {
+			mbs.setAttribute(objName, new javax.management.Attribute("CompilationEventRecordingEnabled", Boolean.FALSE));
+		}
+		checkCompilation(event, startMillis);
+	}
+
+	/**
+	 * Runs a child JVM twice with the same shared class cache. The first run compiles
+	 * work2() as AOT code and stores it, and the second run loads it from the cache.
+	 * Both must be recorded.
+	 */
+	@Test
+	public void testAotLoadsRecorded() throws Exception {
+		File cacheDir = Files.createTempDirectory("compilationEvents").toFile();
+		String cacheOption = "-Xshareclasses:name=compilationEvents,cacheDir=" + cacheDir.getAbsolutePath();
+
+		try {
+			List<String> firstRun = runChild(cacheOption);
+			Assert.assertTrue(firstRun.contains("RECORDED aot=true"), "The AOT compilation of work2() was not recorded: " + firstRun);
+			List<String> secondRun = runChild(cacheOption);
+			Assert.assertTrue(secondRun.contains("RECORDED aot=true"), "The AOT load of work2() was not recorded: " + secondRun);
+		} finally {
+			runJava(cacheOption + ",destroy", "-version");
+			cacheDir.delete();
+		}
+	}
+
+	private static List<String> runChild(String cacheOption) throws Exception {
+		return runJava(cacheOption, "-Xaot:forceAoT,count=0", "-cp", System.getProperty("java.class.path"), Child.class.getName());
+	}
+
+	private static List<String> runJava(String... args) throws Exception {
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		for (String arg : args) {
+			command.add(arg);
+		}
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.redirectErrorStream(true);
+		Process process = builder.start();
+		List<String> lines = new ArrayList<>();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			String line;
+			while (null != (line = reader.readLine())) {
+				logger.debug(line);
+				lines.add(line);
+			}
+		}
+		process.waitFor();
+		return lines;
+	}
+
+	/**
+	 * Prints whether a body for work2() was recorded, and whether it is AOT code.
+	 */
+	public static final class Child {
+		public static void main(String[] args) {
+			CompilationMXBean bean = (CompilationMXBean) ManagementFactory.getCompilationMXBean();
+			String method = CLASS_NAME + ".work2(J)J";
+			long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+			List<CompilationEventInfo> events = new ArrayList<>();
+			CompilationEventInfo event = null;
+
+			bean.setCompilationEventRecordingEnabled(true);
+			while ((null == (event = findCompilation(events, method))) && (System.currentTimeMillis() < deadline)) {
+				run(2);
+				for (CompilationEventInfo info : bean.drainCompilationEvents()) {
+					events.add(info);
+				}
+			}
+			if (null != event) {
+				System.out.println("RECORDED aot=" + event.isAot());
+				System.out.println(event);
+			}
+		}
+	}
+}
@@ -68,6 +68,11 @@ public class TestCompilationMXBean {
 		attribs.put("Name", new AttributeData(String.class.getName(), true, false, false));
 		attribs.put("TotalCompilationTime", new AttributeData(Long.TYPE.getName(), true, false, false));
 		attribs.put("CompilationTimeMonitoringSupported", new AttributeData(Boolean.TYPE.getName(), true, false, true));
+		attribs.put("CompilationCPUBudget", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("CompilationCPUBudgetUsage", new AttributeData(Integer.TYPE.getName(), true, false, false));
+		attribs.put("DeferredCompilationCount", new AttributeData(Long.TYPE.getName(), true, false, false));
+		attribs.put("CompilationEventRecordingEnabled", new AttributeData(Boolean.TYPE.getName(), true, true, true));
+		attribs.put("DroppedCompilationEventCount", new AttributeData(Long.TYPE.getName(), true, false, false));
 	}// end static initializer
 
 	private CompilationMXBean cb;
@@ -119,6 +124,16 @@ public class TestCompilationMXBean {
 		logger.debug("Compilation Time monitoring supported? : " + str);
 	}
 
+	/* Without -Xjit:compThreadCPUBudget= there is no budget, and nothing is deferred. */
+	@Test
+	public final void testCompilationCPUBudget() {
+		AssertJUnit.assertTrue(cb instanceof com.ibm.lang.management.CompilationMXBean);
+		com.ibm.lang.management.CompilationMXBean ecb = (com.ibm.lang.management.CompilationMXBean) cb;
+		AssertJUnit.assertEquals(0, ecb.getCompilationCPUBudget());
+		AssertJUnit.assertEquals(-1, ecb.getCompilationCPUBudgetUsage());
+		AssertJUnit.assertEquals(0, ecb.getDeferredCompilationCount());
+	}
+
 	@Test
 	public final void testGetAttribute() {
 		// The good attributes...
@@ -260,6 +275,16 @@ public class TestCompilationMXBean {
 					// This could be true or false - just so long as we don't
 					// get an exception raised...
 					boolean ctmsVal = ((Boolean)value).booleanValue();
+				} else if (name.equals("CompilationCPUBudget")) {
+					AssertJUnit.assertTrue(((Integer)(value)) >= 0);
+				} else if (name.equals("CompilationCPUBudgetUsage")) {
+					AssertJUnit.assertTrue(((Integer)(value)) >= -1);
+				} else if (name.equals("DeferredCompilationCount")) {
+					AssertJUnit.assertTrue(((Long)(value)) >= 0);
+				} else if (name.equals("CompilationEventRecordingEnabled")) {
+					boolean recordingVal = ((Boolean)value).booleanValue();
+				} else if (name.equals("DroppedCompilationEventCount")) {
+					AssertJUnit.assertTrue(((Long)(value)) >= 0);
 				} else {
 					Assert.fail("Unexpected attribute found!");
 				}
@@ -303,7 +328,7 @@ public class TestCompilationMXBean {
 
 	@Test
 	public final void testInvoke() {
-		// CompilationMXBean has no operations to invoke...
+		// Invoking an operation that is not part of the management interface fails...
 		try {
 			Object retVal = mbs.invoke(objName, "KissTheBlarney", new Object[] { Long.valueOf(7446), Long.valueOf(54) },
 					new String[] { "java.lang.Long", "java.lang.Long" });
@@ -344,10 +369,11 @@ public class TestCompilationMXBean {
 		AssertJUnit.assertNotNull(constructors);
 		AssertJUnit.assertTrue(constructors.length == 0);
 
-		// No public operations
+		// One public operation, drainCompilationEvents()
 		MBeanOperationInfo[] operations = mbi.getOperations();
 		AssertJUnit.assertNotNull(operations);
-		AssertJUnit.assertTrue(operations.length == 0);
+		AssertJUnit.assertTrue(operations.length == 1);
+		AssertJUnit.assertEquals("drainCompilationEvents", operations[0].getName());
 
 		// No notifications
 		MBeanNotificationInfo[] notifications = mbi.getNotifications();
@@ -357,10 +383,10 @@ public class TestCompilationMXBean {
 		// Print out the description here.
 		logger.debug("MBean description for " + cb.getClass().getName() + ": " + mbi.getDescription());
 
-		// Three attributes - none writable.
+		// Eight attributes and the ObjectName - only CompilationEventRecordingEnabled is writable.
 		MBeanAttributeInfo[] attributes = mbi.getAttributes();
 		AssertJUnit.assertNotNull(attributes);
-		AssertJUnit.assertTrue(attributes.length == 4);
+		AssertJUnit.assertTrue(attributes.length == 9);
 		logger.debug("TestCompilationMXBean.java: testGetMBeanInfo: attributes.length: " + attributes.length);
 		for (int i = 0; i < attributes.length; i++) {
 			MBeanAttributeInfo info = attributes[i];
@@ -114,7 +114,19 @@ public class TestGarbageCollectorMXBean {
 	public final void testGetLastGcInfo() {
 		AssertJUnit.assertTrue(gcb instanceof com.sun.management.GarbageCollectorMXBean);
 		System.gc();
-		AssertJUnit.assertTrue(((com.sun.management.GarbageCollectorMXBean)gcb).getLastGcInfo() != null);
+		com.sun.management.GcInfo gcInfo = ((com.sun.management.GarbageCollectorMXBean)gcb).getLastGcInfo();
+		AssertJUnit.assertTrue(gcInfo != null);
+		// Per-phase statistics are published as GC-specific attributes.
+		AssertJUnit.assertTrue(gcInfo.containsKey("GcThreadCount"));
+		AssertJUnit.assertTrue(((Integer)gcInfo.get("GcThreadCount")).intValue() >= 0);
+		String[] phaseAttributes = { "copyTimeMicros", "markTimeMicros", "sweepTimeMicros", "compactTimeMicros",
+				"classUnloadTimeMicros", "stallTimeMicros", "bytesCopied", "bytesTenured", "bytesCompacted",
+				"referencesCleared", "referencesEnqueued" };
+		for (String attribute : phaseAttributes) {
+			AssertJUnit.assertTrue(attribute, gcInfo.containsKey(attribute));
+			AssertJUnit.assertTrue(attribute, ((Long)gcInfo.get(attribute)).longValue() >= 0);
+		}
+		AssertJUnit.assertTrue(gcInfo.containsKey("bytesFreed"));
 	}
 
 	// Check that the agreed IBM extension operations are present.
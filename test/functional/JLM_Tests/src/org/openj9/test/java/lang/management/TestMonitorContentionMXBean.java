@@ -0,0 +1,193 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+
+package org.openj9.test.java.lang.management;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+import com.ibm.lang.management.MonitorContentionInfo;
+import com.ibm.lang.management.MonitorContentionMXBean;
+
+@Test(groups = { "level.sanity" })
+public class TestMonitorContentionMXBean {
+
+	private static Logger logger = Logger.getLogger(TestMonitorContentionMXBean.class);
+
+	private static final long HOLD_MILLIS = 50;
+
+	private MonitorContentionMXBean bean;
+
+	private boolean wasEnabled;
+
+	/* a class of its own, so that its monitor is easy to find in the report */
+	static final class ContendedLock {
+	}
+
+	@BeforeClass
+	protected void setUp() throws Exception {
+		bean = ManagementFactory.getPlatformMXBean(MonitorContentionMXBean.class);
+		Assert.assertNotNull(bean, "MonitorContentionMXBean is not registered");
+		wasEnabled = bean.isProfilingEnabled();
+		logger.info("Starting TestMonitorContentionMXBean tests ...");
+	}
+
+	@AfterClass
+	protected void tearDown() throws Exception {
+		bean.setProfilingEnabled(wasEnabled);
+	}
+
+	@Test
+	public void testEnable() {
+		bean.setProfilingEnabled(true);
+		Assert.assertTrue(bean.isProfilingEnabled());
+		bean.setProfilingEnabled(false);
+		Assert.assertFalse(bean.isProfilingEnabled());
+	}
+
+	@Test
+	public void testInvalidCount() {
+		try {
+			bean.getContendedMonitors(-1);
+			Assert.fail("IllegalArgumentException expected");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+		Assert.assertEquals(bean.getContendedMonitors(0).length, 0);
+	}
+
+	@Test
+	public void testBlockedAndWaited() throws Exception {
+		final ContendedLock lock = new ContendedLock();
+
+		bean.setProfilingEnabled(true);
+		bean.reset();
+		contend(lock);
+		synchronized (lock) {
+			lock.wait(HOLD_MILLIS);
+		}
+
+		MonitorContentionInfo info = find(bean.getContendedMonitors(Integer.MAX_VALUE));
+		Assert.assertNotNull(info, "no statistics for " + ContendedLock.class.getName());
+		logger.debug(info);
+
+		Assert.assertTrue(info.getBlockedCount() >= 1, "blockedCount");
+		Assert.assertTrue(info.getMaxBlockedTime() <= info.getBlockedTime(), "maxBlockedTime");
+		Assert.assertEquals(sum(info.getBlockedTimeHistogram()), info.getBlockedCount(), "blocked histogram");
+		Assert.assertTrue(info.getWaitedCount() >= 1, "waitedCount");
+		Assert.assertTrue(info.getWaitedTime() >= (HOLD_MILLIS / 2) * 1000000L, "waitedTime");
+		Assert.assertEquals(sum(info.getWaitedTimeHistogram()), info.getWaitedCount(), "waited histogram");
+
+		bean.reset();
+		Assert.assertNull(find(bean.getContendedMonitors(Integer.MAX_VALUE)), "statistics not discarded");
+	}
+
+	@Test
+	public void testManyWaits() throws Exception {
+		/* more events than one recording buffer holds, so the buffer is drained while recording */
+		final int waits = 600;
+		final ContendedLock lock = new ContendedLock();
+
+		bean.setProfilingEnabled(true);
+		bean.reset();
+		synchronized (lock) {
+			for (int i = 0; i < waits; i++) {
+				lock.wait(1);
+			}
+		}
+
+		MonitorContentionInfo info = find(bean.getContendedMonitors(Integer.MAX_VALUE));
+		Assert.assertNotNull(info, "no statistics for " + ContendedLock.class.getName());
+		Assert.assertEquals(info.getWaitedCount(), waits, "waitedCount");
+		Assert.assertEquals(sum(info.getWaitedTimeHistogram()), info.getWaitedCount(), "waited histogram");
+	}
+
+	@Test
+	public void testProxy() throws Exception {
+		final ContendedLock lock = new ContendedLock();
+
+		bean.setProfilingEnabled(true);
+		bean.reset();
+		contend(lock);
+
+		MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName("com.ibm.lang.management:type=MonitorContention");
+		MonitorContentionMXBean proxy = JMX.newMXBeanProxy(mbs, name, MonitorContentionMXBean.class);
+
+		Assert.assertTrue(proxy.isProfilingEnabled());
+		MonitorContentionInfo info = find(proxy.getContendedMonitors(Integer.MAX_VALUE));
+		Assert.assertNotNull(info, "no statistics for " + ContendedLock.class.getName());
+		Assert.assertEquals(info.getBlockedTimeHistogram().length, MonitorContentionInfo.HISTOGRAM_BUCKETS);
+		Assert.assertEquals(info.getWaitedTimeHistogram().length, MonitorContentionInfo.HISTOGRAM_BUCKETS);
+	}
+
+	/* Hold the monitor in another thread while this thread tries to enter it. */
+	private static void contend(final ContendedLock lock) throws InterruptedException {
+		final CountDownLatch locked = new CountDownLatch(1);
+		Thread holder = new Thread() {
+			@Override
+			public void run() {
+				synchronized (lock) {
+					locked.countDown();
+					try {
+						Thread.sleep(HOLD_MILLIS);
+					} catch (InterruptedException e) {
+						// just release the lock early
+					}
+				}
+			}
+		};
+		holder.start();
+		locked.await();
+		synchronized (lock) {
+			// blocked until the holder releases the lock
+		}
+		holder.join();
+	}
+
+	private static MonitorContentionInfo find(MonitorContentionInfo[] monitors) {
+		for (MonitorContentionInfo info : monitors) {
+			if (ContendedLock.class.getName().equals(info.getClassName())) {
+				return info;
+			}
+		}
+		return null;
+	}
+
+	private static long sum(long[] histogram) {
+		long total = 0;
+		for (long count : histogram) {
+			total += count;
+		}
+		return total;
+	}
+}
@@ -1188,6 +1188,84 @@ public class TestThreadMXBean {
 		t3.join();
 	}
 
+	/**
+	 * Check that the bulk thread resource queries agree with the per-thread
+	 * queries, and log how long each approach takes.
+	 */
+	@Test
+	public final void testThreadResourceUsage() {
+		com.sun.management.ThreadMXBean sunTB = (com.sun.management.ThreadMXBean)tb;
+		long tid = Thread.currentThread().getId();
+
+		sunTB.setThreadAllocatedMemoryEnabled(true);
+		try {
+			long[] threadIDs = tb.getAllThreadIds();
+			int length = threadIDs.length;
+			/* Include an ID that doesn't exist, and a repeated ID. */
+			long[] queryIDs = new long[length + 2];
+			System.arraycopy(threadIDs, 0, queryIDs, 0, length);
+			queryIDs[length] = Long.MAX_VALUE;
+			queryIDs[length + 1] = tid;
+
+			long start = System.nanoTime();
+			long[] singleBytes = new long[queryIDs.length];
+			long[] singleCpuTimes = new long[queryIDs.length];
+			for (int i = 0; i < queryIDs.length; i++) {
+				singleBytes[i] = sunTB.getThreadAllocatedBytes(queryIDs[i]);
+				singleCpuTimes[i] = sunTB.getThreadCpuTime(queryIDs[i]);
+			}
+			long singleTime = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			long[] bulkBytes = sunTB.getThreadAllocatedBytes(queryIDs);
+			long[] bulkCpuTimes = sunTB.getThreadCpuTime(queryIDs);
+			long bulkTime = System.nanoTime() - start;
+
+			logger.info("Resource usage of " + queryIDs.length + " threads took " + (singleTime / 1000)
+					+ "us one thread at a time and " + (bulkTime / 1000) + "us in bulk");
+
+			AssertJUnit.assertEquals(queryIDs.length, bulkBytes.length);
+			AssertJUnit.assertEquals(queryIDs.length, bulkCpuTimes.length);
+			for (int i = 0; i < queryIDs.length; i++) {
+				/* Threads may have exited or done more work between the two queries. */
+				AssertJUnit.assertTrue((-1 == bulkBytes[i]) || (bulkBytes[i] >= singleBytes[i]));
+				AssertJUnit.assertTrue((-1 == bulkCpuTimes[i]) || (bulkCpuTimes[i] >= singleCpuTimes[i]));
+			}
+			AssertJUnit.assertEquals(-1, bulkBytes[length]);
+			AssertJUnit.assertEquals(-1, bulkCpuTimes[length]);
+			AssertJUnit.assertTrue(bulkBytes[length + 1] > 0);
+			AssertJUnit.assertTrue(bulkCpuTimes[length + 1] > 0);
+
+			start = System.nanoTime();
+			long[][] usage = tb.retrieveAllThreadResourceUsage();
+			logger.info("retrieveAllThreadResourceUsage() for " + usage[0].length + " threads took "
+					+ ((System.nanoTime() - start) / 1000) + "us");
+
+			AssertJUnit.assertEquals(3, usage.length);
+			AssertJUnit.assertEquals(usage[0].length, usage[1].length);
+			AssertJUnit.assertEquals(usage[0].length, usage[2].length);
+			boolean found = false;
+			for (int i = 0; i < usage[0].length; i++) {
+				if (usage[0][i] == tid) {
+					found = true;
+					AssertJUnit.assertTrue(usage[1][i] >= bulkBytes[length + 1]);
+					AssertJUnit.assertTrue(usage[2][i] >= bulkCpuTimes[length + 1]);
+				}
+			}
+			AssertJUnit.assertTrue("current thread not found", found);
+
+			sunTB.setThreadAllocatedMemoryEnabled(false);
+			for (long bytes : sunTB.getThreadAllocatedBytes(queryIDs)) {
+				AssertJUnit.assertEquals(-1, bytes);
+			}
+			for (long bytes : tb.retrieveAllThreadResourceUsage()[1]) {
+				AssertJUnit.assertEquals(-1, bytes);
+			}
+		} finally {
+			sunTB.setThreadAllocatedMemoryEnabled(true);
+		}
+	}
+
 	@Test
 	public final void testGetAttributes() {
 		AttributeList attributes = null;
@@ -1564,10 +1642,10 @@ public class TestThreadMXBean {
 		int numOperations;
 		int numAttributes;
 		if (isIBMJava8) {
-			numOperations = 18;
+			numOperations = 19;
 			numAttributes = 17;
 		} else {
-			numOperations = 20;
+			numOperations = 21;
 			numAttributes = 19;
 		}
 		MBeanOperationInfo[] operations = mbi.getOperations();
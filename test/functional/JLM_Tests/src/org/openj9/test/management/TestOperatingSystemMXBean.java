@@ -212,6 +212,7 @@ public class TestOperatingSystemMXBean {
 					error |= test_getCommittedVirtualMemorySize(osmxbean);
 					error |= test_memoryInfo(osmxbean);
 					error |= test_processorInfo(osmxbean);
+					error |= test_metrics(osmxbean, localTest);
 				}
 				/* At this point, we have enabled support for only these API's on z/OS. */
 				error |= test_getProcessCpuTime(osmxbean, localTest);
@@ -578,6 +579,56 @@ public class TestOperatingSystemMXBean {
 		return false;
 	}
 
+	/**
+	 * Test the retrieveMetrics() APIs of OperatingSystemMXBean for sanity conditions.
+	 *
+	 * @param osmxbean The OperatingSystemMXBean instance
+	 * @param local Whether osmxbean belongs to this process
+	 *
+	 * @return false, if the test runs without any errors, true otherwise.
+	 */
+	private static boolean test_metrics(com.ibm.lang.management.OperatingSystemMXBean osmxbean, boolean local) {
+		logger.info("Testing retrieveMetrics()");
+
+		OperatingSystemMetrics metrics = osmxbean.retrieveMetrics();
+		logger.debug(metrics);
+
+		Assert.assertTrue(metrics.getTimestamp() > 0, "Invalid timestamp received!");
+		Assert.assertTrue(metrics.getOnlineProcessors() >= 1, "Invalid online processor count");
+		Assert.assertTrue(metrics.getAvailableProcessors() >= 1, "Invalid available processor count");
+		Assert.assertTrue(metrics.getProcessCpuTime() >= -1, "Invalid process CPU time");
+		Assert.assertTrue(metrics.getProcessPhysicalMemorySize() >= -1, "Invalid process physical memory size");
+		if ((-1 != metrics.getTotalPhysicalMemorySize()) && (-1 != metrics.getFreePhysicalMemorySize())) {
+			Assert.assertFalse(metrics.getFreePhysicalMemorySize() > metrics.getTotalPhysicalMemorySize(),
+					"Free physical memory cannot be greater than total physical memory");
+		}
+		if ((-1 != metrics.getTotalSwapSpaceSize()) && (-1 != metrics.getFreeSwapSpaceSize())) {
+			Assert.assertFalse(metrics.getFreeSwapSpaceSize() > metrics.getTotalSwapSpaceSize(),
+					"Free swap space cannot be greater than total swap space");
+		}
+		if ((-1 != metrics.getOpenFileDescriptorCount()) && (-1 != metrics.getMaxFileDescriptorCount())) {
+			Assert.assertFalse(metrics.getOpenFileDescriptorCount() > metrics.getMaxFileDescriptorCount(),
+					"Open file descriptor count cannot be greater than the maximum");
+		}
+		/* A cgroup memory limit may be set on a host that is not a container, so it is not checked against isContainerized(). */
+		long containerMemoryLimit = metrics.getContainerMemoryLimit();
+		Assert.assertTrue((-1 == containerMemoryLimit) || (containerMemoryLimit > 0),
+				"Invalid container memory limit " + containerMemoryLimit);
+
+		if (local) {
+			OperatingSystemMetrics reused = new OperatingSystemMetrics();
+			Assert.assertSame(osmxbean.retrieveMetrics(reused), reused, "retrieveMetrics() did not update the object passed");
+			Assert.assertTrue(reused.getTimestamp() >= metrics.getTimestamp(), "Timestamp went backwards");
+			try {
+				osmxbean.retrieveMetrics(null);
+				Assert.fail("NullPointerException expected");
+			} catch (NullPointerException e) {
+				// expected
+			}
+		}
+		return false; /* No error */
+	}
+
 	/**
 	 * Function tests the ProcessorUsage retrieval functionality for sanity conditions as also prints
 	 * out processor usage statistics retrieved using the MBean passed to it.
@@ -0,0 +1,139 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java_lang;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import com.ibm.jvm.Stats;
+
+/**
+ * Tests for -XX:+InternStackTraces, which lets throwables created from the
+ * same stack share their walkback and StackTraceElement[].
+ */
+@Test(groups = { "level.sanity" })
+public class Test_InternStackTraces {
+
+	private static final int COUNT = 100;
+
+	private Field walkbackField;
+
+	private Field stackTraceField;
+
+	@BeforeClass
+	public void setUp() throws Exception {
+		walkbackField = Throwable.class.getDeclaredField("walkback");
+		walkbackField.setAccessible(true);
+		stackTraceField = Throwable.class.getDeclaredField("stackTrace");
+		stackTraceField.setAccessible(true);
+	}
+
+	private static Stats getStats() {
+		Stats stats = new Stats();
+		stats.getStats();
+		return stats;
+	}
+
+	/*
+	 * Every throwable is created with the same PCs on the stack. The constructor
+	 * frames of the exception class are hidden, so the class does not change them.
+	 */
+	private static Throwable[] create(Class<? extends Throwable> throwableClass, int count) throws Exception {
+		Throwable[] throwables = new Throwable[count];
+		for (int i = 0; i < count; i++) {
+			throwables[i] = throwableClass.getDeclaredConstructor().newInstance();
+		}
+		return throwables;
+	}
+
+	/*
+	 * Compiling a method between two iterations changes the PCs, so only
+	 * require that most throwables share with the one before them.
+	 */
+	private static int countShared(Object[] objects) {
+		int shared = 0;
+		for (int i = 1; i < objects.length; i++) {
+			if (objects[i] == objects[i - 1]) {
+				shared += 1;
+			}
+		}
+		return shared;
+	}
+
+	@Test
+	public void test_walkbacksShared() throws Exception {
+		long walkbackHits = getStats().getStackTraceInternWalkbackHits();
+		long savedBytes = getStats().getStackTraceInternSavedBytes();
+		Throwable[] throwables = create(IllegalStateException.class, COUNT);
+		Object[] walkbacks = new Object[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			walkbacks[i] = walkbackField.get(throwables[i]);
+			Assert.assertNotNull(walkbacks[i]);
+		}
+
+		int shared = countShared(walkbacks);
+		Assert.assertTrue(shared > (COUNT / 2), "Only " + shared + " of " + COUNT + " walkbacks shared");
+		Stats stats = getStats();
+		Assert.assertTrue((stats.getStackTraceInternWalkbackHits() - walkbackHits) >= shared);
+		Assert.assertTrue(stats.getStackTraceInternSavedBytes() > savedBytes);
+	}
+
+	@Test
+	public void test_stackTracesShared() throws Exception {
+		long stackTraceHits = getStats().getStackTraceInternStackTraceHits();
+		Throwable[] throwables = create(IllegalStateException.class, COUNT);
+		Object[] stackTraces = new Object[COUNT];
+		for (int i = 0; i < COUNT; i++) {
+			StackTraceElement[] copy = throwables[i].getStackTrace();
+			stackTraces[i] = stackTraceField.get(throwables[i]);
+			Assert.assertNotNull(stackTraces[i]);
+			/* Callers are given a copy, never the shared array. */
+			Assert.assertNotSame(copy, stackTraces[i]);
+			Assert.assertTrue(Arrays.equals(copy, (StackTraceElement[])stackTraces[i]));
+		}
+
+		int shared = countShared(stackTraces);
+		Assert.assertTrue(shared > (COUNT / 2), "Only " + shared + " of " + COUNT + " stack traces shared");
+		Assert.assertTrue((getStats().getStackTraceInternStackTraceHits() - stackTraceHits) >= shared);
+
+		/* Modifying a copy must not change the stack traces of the other throwables. */
+		StackTraceElement[] copy = throwables[0].getStackTrace();
+		copy[0] = null;
+		Assert.assertNotNull(throwables[1].getStackTrace()[0]);
+	}
+
+	@Test
+	public void test_classesNotShared() throws Exception {
+		for (int i = 0; i < 10; i++) {
+			Throwable state = create(IllegalStateException.class, 1)[0];
+			Throwable argument = create(IllegalArgumentException.class, 1)[0];
+			Assert.assertNotSame(walkbackField.get(state), walkbackField.get(argument));
+			state.getStackTrace();
+			argument.getStackTrace();
+			Assert.assertNotSame(stackTraceField.get(state), stackTraceField.get(argument));
+		}
+	}
+}
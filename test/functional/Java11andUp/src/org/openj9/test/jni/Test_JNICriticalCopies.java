@@ -0,0 +1,67 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jni;
+
+import java.util.zip.Adler32;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.jvm.Stats;
+
+/**
+ * Tests that the copies made by GetPrimitiveArrayCritical are counted in
+ * com.ibm.jvm.Stats. Run with -XX:+AlwaysCopyJNICritical, so that every call
+ * returns a copy. Adler32.update(byte[]) uses GetPrimitiveArrayCritical, and
+ * unlike CRC32 is not replaced by the JIT.
+ */
+@Test(groups = { "level.sanity" })
+public class Test_JNICriticalCopies {
+
+	private static final int COUNT = 100;
+
+	private static final int LENGTH = 4096;
+
+	private static Stats getStats() {
+		Stats stats = new Stats();
+		stats.getStats();
+		return stats;
+	}
+
+	@Test
+	public void test_arrayCopiesCounted() {
+		byte[] data = new byte[LENGTH];
+		Adler32 checksum = new Adler32();
+		Stats before = getStats();
+
+		for (int i = 0; i < COUNT; i++) {
+			checksum.update(data, 0, LENGTH);
+		}
+
+		Stats after = getStats();
+		long copies = after.getJNICriticalCopies() - before.getJNICriticalCopies();
+		long copyBytes = after.getJNICriticalCopyBytes() - before.getJNICriticalCopyBytes();
+		/* Other threads may make copies too, so the counters can only be checked from below. */
+		Assert.assertTrue(copies >= COUNT, "Only " + copies + " of " + COUNT + " copies counted");
+		Assert.assertTrue(copyBytes >= ((long)COUNT * LENGTH), "Only " + copyBytes + " bytes counted");
+	}
+}
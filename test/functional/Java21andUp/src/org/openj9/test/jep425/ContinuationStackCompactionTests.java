@@ -0,0 +1,163 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep425;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Test cases for -XX:+ContinuationStackCompaction, which moves the stack of a
+ * yielded virtual thread to a smaller stack and restores it when the thread is
+ * mounted again.
+ */
+@Test(groups = { "level.sanity" })
+public class ContinuationStackCompactionTests {
+
+	private static final int THREAD_COUNT = 32;
+
+	private static final int PARK_COUNT = 10;
+
+	/* Deep enough to grow the stack well past its initial size. */
+	private static final int GROW_DEPTH = 5000;
+
+	private static final int PARKED_DEPTH = 50;
+
+	/*
+	 * Grow the stack, then park with only a few frames live, so that each park
+	 * leaves a stack which can be compacted to less than half its size. The
+	 * frames live across the park are checked when the thread resumes.
+	 */
+	private static long work(int id) {
+		long total = 0;
+		for (int i = 0; i < PARK_COUNT; i++) {
+			total += recurse(id, GROW_DEPTH, false);
+			total += recurse(id, PARKED_DEPTH, true);
+		}
+		return total;
+	}
+
+	private static long recurse(int id, int depth, boolean park) {
+		long local = ((long)id << 32) | depth;
+		if (0 == depth) {
+			if (park) {
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+			}
+			return 0;
+		}
+		long result = recurse(id, depth - 1, park);
+		if (local != (((long)id << 32) | depth)) {
+			throw new AssertionError("Frame " + depth + " of thread " + id + " was corrupted");
+		}
+		return result + depth;
+	}
+
+	private static long expected() {
+		long perPark = ((long)GROW_DEPTH * (GROW_DEPTH + 1) / 2) + ((long)PARKED_DEPTH * (PARKED_DEPTH + 1) / 2);
+		return perPark * PARK_COUNT;
+	}
+
+	private static void runVirtualThreads() throws Exception {
+		final long[] results = new long[THREAD_COUNT];
+		final Throwable[] failures = new Throwable[THREAD_COUNT];
+		Thread[] threads = new Thread[THREAD_COUNT];
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			final int id = i;
+			threads[i] = Thread.ofVirtual().start(() -> {
+				try {
+					results[id] = work(id);
+				} catch (Throwable t) {
+					failures[id] = t;
+				}
+			});
+		}
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			threads[i].join();
+			if (null != failures[i]) {
+				throw new AssertionError("Virtual thread " + i + " failed", failures[i]);
+			}
+			if (expected() != results[i]) {
+				throw new AssertionError("Virtual thread " + i + " returned " + results[i] + ", expected " + expected());
+			}
+		}
+	}
+
+	/**
+	 * Run by the JVM launched in test_compactionCounters().
+	 */
+	public static void main(String[] args) throws Exception {
+		runVirtualThreads();
+	}
+
+	@Test
+	public void test_compactedStacksResume() throws Exception {
+		runVirtualThreads();
+	}
+
+	private static long readCounter(String output, String name) {
+		Matcher matcher = Pattern.compile(Pattern.quote(name) + ":\\s+(\\d+)").matcher(output);
+		Assert.assertTrue(matcher.find(), "Missing \"" + name + "\" in:\n" + output);
+		return Long.parseLong(matcher.group(1));
+	}
+
+	@Test
+	public void test_compactionCounters() throws Exception {
+		List<String> command = new ArrayList<>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+		command.add("-XX:+ContinuationStackCompaction");
+		command.add("-XX:ContinuationCache:printSummary");
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		command.add(ContinuationStackCompactionTests.class.getName());
+
+		Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+		StringBuilder output = new StringBuilder();
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+			String line;
+			while (null != (line = reader.readLine())) {
+				output.append(line).append('\n');
+			}
+		}
+		Assert.assertTrue(process.waitFor(5, TimeUnit.MINUTES), "Child JVM did not exit");
+		Assert.assertEquals(process.exitValue(), 0, "Child JVM failed:\n" + output);
+
+		String summary = output.toString();
+		long compactions = readCounter(summary, "Stack Compactions");
+		long inflations = readCounter(summary, "Stack Inflations");
+		long released = readCounter(summary, "Total Stack Bytes Released");
+		readCounter(summary, "Stack Bytes Saved At Exit");
+
+		Assert.assertTrue(compactions > 0, "No compactions:\n" + summary);
+		Assert.assertTrue(inflations > 0, "No inflations:\n" + summary);
+		Assert.assertTrue(inflations <= compactions, "More inflations than compactions:\n" + summary);
+		Assert.assertTrue(released > 0, "No stack bytes released:\n" + summary);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep454.downcall;
+package org.openj9.test.jep454.downcall;
+
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Measures the cost of simple downcalls. Run it with -XX:+FFIDirectDowncall (the
+ * default) and -XX:-FFIDirectDowncall to compare the direct call path against ffi_call.
+ *
+ * Usage: DirectDowncallBenchmark [iterations]
+ */
+public class DirectDowncallBenchmark {
+	private static final Linker linker = Linker.nativeLinker();
+
+	static {
+		System.loadLibrary("clinkerffitests");
+	}
+	private static final SymbolLookup nativeLibLookup = SymbolLookup.loaderLookup();
+
+	public static void main(String[] args) throws Throwable {
+		int iterations = (args.length > 0) ? Integer.parseInt(args[0]) : 10_000_000;
+
+		MethodHandle add2Ints = linker.downcallHandle(nativeLibLookup.find("add2Ints").get(),
+				FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT));
+		MethodHandle add2IntsCritical = linker.downcallHandle(nativeLibLookup.find("add2Ints").get(),
+				FunctionDescriptor.of(JAVA_INT, JAVA_INT, JAVA_INT), Linker.Option.critical(false));
+		MethodHandle add2Doubles = linker.downcallHandle(nativeLibLookup.find("add2Doubles").get(),
+				FunctionDescriptor.of(JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE));
+
+		/* Warm up so that the callers are compiled before measuring. */
+		for (int round = 0; round < 2; round++) {
+			boolean report = (1 == round);
+			long start = System.nanoTime();
+			int intSum = 0;
+			for (int i = 0; i < iterations; i++) {
+				intSum = (int)add2Ints.invokeExact(intSum, 1);
+			}
+			report(report, "add2Ints", start, iterations, intSum);
+
+			start = System.nanoTime();
+			intSum = 0;
+			for (int i = 0; i < iterations; i++) {
+				intSum = (int)add2IntsCritical.invokeExact(intSum, 1);
+			}
+			report(report, "add2Ints (critical)", start, iterations, intSum);
+
+			start = System.nanoTime();
+			double doubleSum = 0;
+			for (int i = 0; i < iterations; i++) {
+				doubleSum = (double)add2Doubles.invokeExact(doubleSum, 1.0D);
+			}
+			report(report, "add2Doubles", start, iterations, (long)doubleSum);
+		}
+	}
+
+	private static void report(boolean report, String name, long start, int iterations, long result) {
+		long elapsed = System.nanoTime() - start;
+		if (report) {
+			System.out.printf("%-20s %8.1f ns/call (result %d)%n", name, (double)elapsed / iterations, result);
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.jep454.downcall;
+package org.openj9.test.jep454.downcall;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.FunctionDescriptor;
+import java.lang.foreign.Linker;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.SymbolLookup;
+import static java.lang.foreign.ValueLayout.ADDRESS;
+import static java.lang.foreign.ValueLayout.JAVA_BOOLEAN;
+import static java.lang.foreign.ValueLayout.JAVA_DOUBLE;
+import static java.lang.foreign.ValueLayout.JAVA_FLOAT;
+import static java.lang.foreign.ValueLayout.JAVA_INT;
+import static java.lang.foreign.ValueLayout.JAVA_LONG;
+import static java.lang.foreign.ValueLayout.JAVA_SHORT;
+import java.lang.invoke.MethodHandle;
+
+/**
+ * Test cases for JEP 454: Foreign Linker API for downcalls whose arguments fill
+ * or overflow the argument registers, which exercises both the direct call path
+ * (-XX:+FFIDirectDowncall) and the libffi path in the VM.
+ */
+@Test(groups = { "level.sanity" })
+public class DirectDowncallTests {
+	private static Linker linker = Linker.nativeLinker();
+	private static Arena arena = Arena.ofAuto();
+
+	static {
+		System.loadLibrary("clinkerffitests");
+	}
+	private static final SymbolLookup nativeLibLookup = SymbolLookup.loaderLookup();
+	private static final SymbolLookup defaultLibLookup = linker.defaultLookup();
+
+	@Test
+	public void test_addMixedArgsInAllRegisters() throws Throwable {
+		FunctionDescriptor fd = FunctionDescriptor.of(JAVA_DOUBLE, JAVA_INT, JAVA_FLOAT, JAVA_LONG, JAVA_DOUBLE,
+				JAVA_SHORT, JAVA_FLOAT, ADDRESS, JAVA_DOUBLE, JAVA_BOOLEAN, JAVA_DOUBLE, JAVA_LONG, JAVA_FLOAT,
+				JAVA_DOUBLE, JAVA_DOUBLE);
+		MemorySegment functionSymbol = nativeLibLookup.find("addMixedArgsInAllRegisters").get();
+		MethodHandle mh = linker.downcallHandle(functionSymbol, fd);
+		MemorySegment intSegmt = arena.allocateFrom(JAVA_INT, 7);
+
+		double result = (double)mh.invokeExact(1, 2.5F, 3L, 4.25D, (short)-5, 6.5F, intSegmt,
+				8.125D, true, 10.5D, -11L, 12.25F, 13.5D, 14.75D);
+		Assert.assertEquals(result, 68.375D, 0.0001D);
+	}
+
+	@Test
+	public void test_addMixedArgsInAllRegisters_critical() throws Throwable {
+		FunctionDescriptor fd = FunctionDescriptor.of(JAVA_DOUBLE, JAVA_INT, JAVA_FLOAT, JAVA_LONG, JAVA_DOUBLE,
+				JAVA_SHORT, JAVA_FLOAT, ADDRESS, JAVA_DOUBLE, JAVA_BOOLEAN, JAVA_DOUBLE, JAVA_LONG, JAVA_FLOAT,
+				JAVA_DOUBLE, JAVA_DOUBLE);
+		MemorySegment functionSymbol = nativeLibLookup.find("addMixedArgsInAllRegisters").get();
+		MethodHandle mh = linker.downcallHandle(functionSymbol, fd, Linker.Option.critical(false));
+		MemorySegment intSegmt = arena.allocateFrom(JAVA_INT, 7);
+
+		double result = (double)mh.invokeExact(1, 2.5F, 3L, 4.25D, (short)-5, 6.5F, intSegmt,
+				8.125D, false, 10.5D, -11L, 12.25F, 13.5D, 14.75D);
+		Assert.assertEquals(result, 67.375D, 0.0001D);
+	}
+
+	@Test
+	public void test_addLongsAndDoublesPassedOnStack() throws Throwable {
+		FunctionDescriptor fd = FunctionDescriptor.of(JAVA_DOUBLE, JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_LONG,
+				JAVA_LONG, JAVA_LONG, JAVA_LONG, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE,
+				JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE, JAVA_DOUBLE);
+		MemorySegment functionSymbol = nativeLibLookup.find("addLongsAndDoublesPassedOnStack").get();
+		MethodHandle mh = linker.downcallHandle(functionSymbol, fd);
+
+		double result = (double)mh.invokeExact(1L, 2L, 3L, 4L, 5L, 6L, 7L,
+				0.5D, 1.5D, 2.5D, 3.5D, 4.5D, 5.5D, 6.5D, 7.5D, 8.5D);
+		Assert.assertEquals(result, 68.5D, 0.0001D);
+	}
+
+	@Test
+	public void test_snprintfWithVariadicDouble() throws Throwable {
+		MemorySegment functionSymbol = defaultLibLookup.find("snprintf").get();
+		FunctionDescriptor fd = FunctionDescriptor.of(JAVA_INT, ADDRESS, JAVA_LONG, ADDRESS, JAVA_DOUBLE, JAVA_INT);
+		MethodHandle mh = linker.downcallHandle(functionSymbol, fd, Linker.Option.firstVariadicArg(3));
+		MemorySegment bufferSegmt = arena.allocate(32);
+		MemorySegment formatSegmt = PrimitiveTypeTests1.allocateString("%.2f|%d");
+
+		int length = (int)mh.invokeExact(bufferSegmt, 32L, formatSegmt, 3.25D, 42);
+		Assert.assertEquals(length, 7);
+		Assert.assertEquals(bufferSegmt.getString(0), "3.25|42");
+	}
+}
@@ -0,0 +1,447 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.vectorapi;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+
+/**
+ * Compares the results of Vector API zero extending conversions, of
+ * VectorMask.laneIsSet() and of Vector.lane() and withLane() for each element
+ * type with the scalar computation. The kernels run often enough to be
+ * compiled, so that the JIT's expansion of the intrinsics is checked as well
+ * as the Java implementation.
+ */
+@Test(groups = { "level.sanity" })
+public class VectorConversionAndMaskTests {
+
+	private static final int ITERATIONS = 20000;
+
+	private static final int LENGTH = 64;
+
+	private static byte[] bytes() {
+		byte[] values = new byte[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			/* Cover both signs, the sign bit is what zero extension must clear. */
+			values[i] = (byte)((i * 37) - 128);
+		}
+		return values;
+	}
+
+	private static short[] shorts() {
+		short[] values = new short[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = (short)((i * 2011) - 32768);
+		}
+		return values;
+	}
+
+	private static int[] ints() {
+		int[] values = new int[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = (i * 0x3C6EF35F) ^ 0x80000000;
+		}
+		return values;
+	}
+
+	private static long[] longs() {
+		long[] values = new long[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = (i * 0x9E3779B97F4A7C15L) ^ 0x8000000000000000L;
+		}
+		return values;
+	}
+
+	private static float[] floats() {
+		float[] values = new float[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = (i - (LENGTH / 2)) * 1.375e5f;
+		}
+		/* Lanes are moved as raw bits, which must keep the sign of zero. */
+		values[1] = -0.0f;
+		return values;
+	}
+
+	private static double[] doubles() {
+		double[] values = new double[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			values[i] = (i - (LENGTH / 2)) * 1.375e200;
+		}
+		values[1] = -0.0;
+		return values;
+	}
+
+	private static void zeroExtendB2I(byte[] a, int[] r) {
+		for (int i = 0; i < LENGTH; i += ByteVector.SPECIES_64.length()) {
+			ByteVector v = ByteVector.fromArray(ByteVector.SPECIES_64, a, i);
+			IntVector w = (IntVector)v.convertShape(VectorOperators.ZERO_EXTEND_B2I, IntVector.SPECIES_256, 0);
+			w.intoArray(r, i);
+		}
+	}
+
+	private static void zeroExtendS2I(short[] a, int[] r) {
+		for (int i = 0; i < LENGTH; i += ShortVector.SPECIES_128.length()) {
+			ShortVector v = ShortVector.fromArray(ShortVector.SPECIES_128, a, i);
+			IntVector w = (IntVector)v.convertShape(VectorOperators.ZERO_EXTEND_S2I, IntVector.SPECIES_256, 0);
+			w.intoArray(r, i);
+		}
+	}
+
+	private static void zeroExtendI2L(int[] a, long[] r) {
+		for (int i = 0; i < LENGTH; i += IntVector.SPECIES_128.length()) {
+			IntVector v = IntVector.fromArray(IntVector.SPECIES_128, a, i);
+			LongVector w = (LongVector)v.convertShape(VectorOperators.ZERO_EXTEND_I2L, LongVector.SPECIES_256, 0);
+			w.intoArray(r, i);
+		}
+	}
+
+	private static void laneIsSet(int[] a, int[] b, boolean[] r) {
+		for (int i = 0; i < LENGTH; i += IntVector.SPECIES_256.length()) {
+			IntVector va = IntVector.fromArray(IntVector.SPECIES_256, a, i);
+			IntVector vb = IntVector.fromArray(IntVector.SPECIES_256, b, i);
+			VectorMask<Integer> m = va.compare(VectorOperators.LT, vb);
+			for (int lane = 0; lane < IntVector.SPECIES_256.length(); lane++) {
+				r[i + lane] = m.laneIsSet(lane);
+			}
+		}
+	}
+
+	private static void laneB(byte[] a, byte[] r) {
+		for (int i = 0; i < LENGTH; i += ByteVector.SPECIES_256.length()) {
+			ByteVector v = ByteVector.fromArray(ByteVector.SPECIES_256, a, i);
+			for (int lane = 0; lane < ByteVector.SPECIES_256.length(); lane++) {
+				r[i + lane] = v.lane(lane);
+			}
+		}
+	}
+
+	private static void laneS(short[] a, short[] r) {
+		for (int i = 0; i < LENGTH; i += ShortVector.SPECIES_256.length()) {
+			ShortVector v = ShortVector.fromArray(ShortVector.SPECIES_256, a, i);
+			for (int lane = 0; lane < ShortVector.SPECIES_256.length(); lane++) {
+				r[i + lane] = v.lane(lane);
+			}
+		}
+	}
+
+	private static void laneI(int[] a, int[] r) {
+		for (int i = 0; i < LENGTH; i += IntVector.SPECIES_256.length()) {
+			IntVector v = IntVector.fromArray(IntVector.SPECIES_256, a, i);
+			for (int lane = 0; lane < IntVector.SPECIES_256.length(); lane++) {
+				r[i + lane] = v.lane(lane);
+			}
+		}
+	}
+
+	private static void laneL(long[] a, long[] r) {
+		for (int i = 0; i < LENGTH; i += LongVector.SPECIES_256.length()) {
+			LongVector v = LongVector.fromArray(LongVector.SPECIES_256, a, i);
+			for (int lane = 0; lane < LongVector.SPECIES_256.length(); lane++) {
+				r[i + lane] = v.lane(lane);
+			}
+		}
+	}
+
+	private static void laneF(float[] a, float[] r) {
+		for (int i = 0; i < LENGTH; i += FloatVector.SPECIES_256.length()) {
+			FloatVector v = FloatVector.fromArray(FloatVector.SPECIES_256, a, i);
+			for (int lane = 0; lane < FloatVector.SPECIES_256.length(); lane++) {
+				r[i + lane] = v.lane(lane);
+			}
+		}
+	}
+
+	private static void laneD(double[] a, double[] r) {
+		for (int i = 0; i < LENGTH; i += DoubleVector.SPECIES_256.length()) {
+			DoubleVector v = DoubleVector.fromArray(DoubleVector.SPECIES_256, a, i);
+			for (int lane = 0; lane < DoubleVector.SPECIES_256.length(); lane++) {
+				r[i + lane] = v.lane(lane);
+			}
+		}
+	}
+
+	/* Build each vector a lane at a time from zero, so that every lane is written by withLane(). */
+	private static void withLaneB(byte[] a, byte[] r) {
+		for (int i = 0; i < LENGTH; i += ByteVector.SPECIES_256.length()) {
+			ByteVector v = ByteVector.zero(ByteVector.SPECIES_256);
+			for (int lane = 0; lane < ByteVector.SPECIES_256.length(); lane++) {
+				v = v.withLane(lane, a[i + lane]);
+			}
+			v.intoArray(r, i);
+		}
+	}
+
+	private static void withLaneS(short[] a, short[] r) {
+		for (int i = 0; i < LENGTH; i += ShortVector.SPECIES_256.length()) {
+			ShortVector v = ShortVector.zero(ShortVector.SPECIES_256);
+			for (int lane = 0; lane < ShortVector.SPECIES_256.length(); lane++) {
+				v = v.withLane(lane, a[i + lane]);
+			}
+			v.intoArray(r, i);
+		}
+	}
+
+	private static void withLaneI(int[] a, int[] r) {
+		for (int i = 0; i < LENGTH; i += IntVector.SPECIES_256.length()) {
+			IntVector v = IntVector.zero(IntVector.SPECIES_256);
+			for (int lane = 0; lane < IntVector.SPECIES_256.length(); lane++) {
+				v = v.withLane(lane, a[i + lane]);
+			}
+			v.intoArray(r, i);
+		}
+	}
+
+	private static void withLaneL(long[] a, long[] r) {
+		for (int i = 0; i < LENGTH; i += LongVector.SPECIES_256.length()) {
+			LongVector v = LongVector.zero(LongVector.SPECIES_256);
+			for (int lane = 0; lane < LongVector.SPECIES_256.length(); lane++) {
+				v = v.withLane(lane, a[i + lane]);
+			}
+			v.intoArray(r, i);
+		}
+	}
+
+	private static void withLaneF(float[] a, float[] r) {
+		for (int i = 0; i < LENGTH; i += FloatVector.SPECIES_256.length()) {
+			FloatVector v = FloatVector.zero(FloatVector.SPECIES_256);
+			for (int lane = 0; lane < FloatVector.SPECIES_256.length(); lane++) {
+				v = v.withLane(lane, a[i + lane]);
+			}
+			v.intoArray(r, i);
+		}
+	}
+
+	private static void withLaneD(double[] a, double[] r) {
+		for (int i = 0; i < LENGTH; i += DoubleVector.SPECIES_256.length()) {
+			DoubleVector v = DoubleVector.zero(DoubleVector.SPECIES_256);
+			for (int lane = 0; lane < DoubleVector.SPECIES_256.length(); lane++) {
+				v = v.withLane(lane, a[i + lane]);
+			}
+			v.intoArray(r, i);
+		}
+	}
+
+	@Test
+	public void testZeroExtendB2I() {
+		byte[] a = bytes();
+		int[] r = new int[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			zeroExtendB2I(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i] & 0xFF, "lane " + i);
+		}
+	}
+
+	@Test
+	public void testZeroExtendS2I() {
+		short[] a = shorts();
+		int[] r = new int[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			zeroExtendS2I(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i] & 0xFFFF, "lane " + i);
+		}
+	}
+
+	@Test
+	public void testZeroExtendI2L() {
+		int[] a = ints();
+		long[] r = new long[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			zeroExtendI2L(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i] & 0xFFFFFFFFL, "lane " + i);
+		}
+	}
+
+	@Test
+	public void testLaneIsSet() {
+		int[] a = ints();
+		int[] b = new int[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			b[i] = a[LENGTH - 1 - i];
+		}
+		boolean[] r = new boolean[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			laneIsSet(a, b, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i] < b[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testLaneByte() {
+		byte[] a = bytes();
+		byte[] r = new byte[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			laneB(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testLaneShort() {
+		short[] a = shorts();
+		short[] r = new short[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			laneS(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testLaneInt() {
+		int[] a = ints();
+		int[] r = new int[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			laneI(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testLaneLong() {
+		long[] a = longs();
+		long[] r = new long[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			laneL(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testLaneFloat() {
+		float[] a = floats();
+		float[] r = new float[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			laneF(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(Float.floatToRawIntBits(r[i]), Float.floatToRawIntBits(a[i]), "lane " + i);
+		}
+	}
+
+	@Test
+	public void testLaneDouble() {
+		double[] a = doubles();
+		double[] r = new double[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			laneD(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(Double.doubleToRawLongBits(r[i]), Double.doubleToRawLongBits(a[i]), "lane " + i);
+		}
+	}
+
+	@Test
+	public void testWithLaneByte() {
+		byte[] a = bytes();
+		byte[] r = new byte[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			withLaneB(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testWithLaneShort() {
+		short[] a = shorts();
+		short[] r = new short[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			withLaneS(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testWithLaneInt() {
+		int[] a = ints();
+		int[] r = new int[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			withLaneI(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testWithLaneLong() {
+		long[] a = longs();
+		long[] r = new long[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			withLaneL(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(r[i], a[i], "lane " + i);
+		}
+	}
+
+	@Test
+	public void testWithLaneFloat() {
+		float[] a = floats();
+		float[] r = new float[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			withLaneF(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(Float.floatToRawIntBits(r[i]), Float.floatToRawIntBits(a[i]), "lane " + i);
+		}
+	}
+
+	@Test
+	public void testWithLaneDouble() {
+		double[] a = doubles();
+		double[] r = new double[LENGTH];
+		for (int n = 0; n < ITERATIONS; n++) {
+			withLaneD(a, r);
+		}
+		for (int i = 0; i < LENGTH; i++) {
+			Assert.assertEquals(Double.doubleToRawLongBits(r[i]), Double.doubleToRawLongBits(a[i]), "lane " + i);
+		}
+	}
+}
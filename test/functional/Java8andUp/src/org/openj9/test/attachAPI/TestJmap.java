@@ -24,6 +24,7 @@ package org.openj9.test.attachAPI;
 
 import static org.openj9.test.attachAPI.TestConstants.TARGET_VM_CLASS;
 import static org.openj9.test.util.StringUtilities.searchSubstring;
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
@@ -59,6 +60,7 @@ public class TestJmap extends AttachApiTest {
 
 	private static final String HELLOWORLD_CLASSNAME = HelloWorld.class.getName();
 	private static final String JMAP_COMMAND = "jmap"; //$NON-NLS-1$
+	private static final int MARKER_COUNT = 100000;
 	private static String myId;
 	
 	/* test objects */
@@ -68,6 +70,16 @@ public class TestJmap extends AttachApiTest {
 	private String[][] objectArray;
 	private Integer[] objectVector;
 	private String[] expectedClasses;
+	private HistogramMarker[] markers;
+
+	/* Instances are spread across many heap regions, which are walked by different threads. */
+	private static final class HistogramMarker {
+		final int value;
+
+		HistogramMarker(int value) {
+			this.value = value;
+		}
+	}
 
 	@Test
 	public void testHisto() throws IOException {
@@ -83,6 +95,45 @@ public class TestJmap extends AttachApiTest {
 		checkHeapStats(jmapOutput);
 	}
 
+	/**
+	 * Check the totals of a histogram, which may be collected by several threads, against
+	 * the objects known to be on the heap. Run with -XX:ActiveProcessorCount=1 the same
+	 * checks cover the single threaded walk.
+	 */
+	@Test
+	public void testHistoTotals() throws IOException {
+		List<String> jmapOutput = runCommand(Arrays.asList(myId, "-histo")); //$NON-NLS-1$
+		logJmapOutput(jmapOutput);
+		long countSum = 0;
+		long sizeSum = 0;
+		long[] markerRow = null;
+		long[] markerArrayRow = null;
+		long[] totalRow = null;
+		for (String line : jmapOutput) {
+			String[] fields = line.trim().split("\\s+"); //$NON-NLS-1$
+			if ((fields.length == 4) && fields[0].matches("\\d+")) { //$NON-NLS-1$
+				long[] row = new long[] {Long.parseLong(fields[1]), Long.parseLong(fields[2])};
+				countSum += row[0];
+				sizeSum += row[1];
+				if (fields[3].endsWith("$HistogramMarker")) { //$NON-NLS-1$
+					markerRow = row;
+				} else if (fields[3].endsWith("$HistogramMarker;")) { //$NON-NLS-1$
+					markerArrayRow = row;
+				}
+			} else if ((fields.length == 3) && "Total".equals(fields[0])) { //$NON-NLS-1$
+				totalRow = new long[] {Long.parseLong(fields[1]), Long.parseLong(fields[2])};
+			}
+		}
+		assertNotNull(markerRow, "stats missing for " + HistogramMarker.class.getName()); //$NON-NLS-1$
+		assertNotNull(markerArrayRow, "stats missing for " + markers.getClass().getName()); //$NON-NLS-1$
+		assertNotNull(totalRow, "Total missing"); //$NON-NLS-1$
+		assertEquals(markerRow[0], MARKER_COUNT, "wrong number of HistogramMarker objects"); //$NON-NLS-1$
+		assertEquals(markerRow[1] % MARKER_COUNT, 0, "HistogramMarker objects differ in size"); //$NON-NLS-1$
+		assertEquals(markerArrayRow[0], 1, "wrong number of HistogramMarker arrays"); //$NON-NLS-1$
+		assertEquals(totalRow[0], countSum, "object count total does not match the classes"); //$NON-NLS-1$
+		assertEquals(totalRow[1], sizeSum, "size total does not match the classes"); //$NON-NLS-1$
+	}
+
 	@Test
 	public void testHeapHisto() throws AttachNotSupportedException, IOException {
 		TargetManager tgtMgr = new TargetManager(TARGET_VM_CLASS, null);
@@ -117,6 +168,10 @@ public class TestJmap extends AttachApiTest {
 		objectVector = new Integer[] {Integer.valueOf(10), Integer.valueOf(20)};
 		primitiveArray = new int[][] {{1, 2}, {3, 4}};
 		primitiveVector = new long[] {5, 6};
+		markers = new HistogramMarker[MARKER_COUNT];
+		for (int i = 0; i < MARKER_COUNT; i++) {
+			markers[i] = new HistogramMarker(i);
+		}
 		expectedClasses = new String[] {HELLOWORLD_CLASSNAME, 
 				primitiveArray.getClass().getName(),
 				primitiveVector.getClass().getName(),
@@ -169,6 +224,7 @@ public class TestJmap extends AttachApiTest {
 		log(Integer.toString(objectVector.hashCode()));
 		log(Integer.toString(primitiveArray.hashCode()));
 		log(Integer.toString(primitiveVector.hashCode()));
+		log(Integer.toString(markers[MARKER_COUNT - 1].value));
 	}
 
 	private void logJmapOutput(List<String> jmapOutput) {
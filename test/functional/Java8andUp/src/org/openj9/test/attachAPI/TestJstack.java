@@ -82,6 +82,51 @@ public class TestJstack extends AttachApiTest {
 		assertTrue(searchResult.isPresent(), "Method name missing"); //$NON-NLS-1$
 	}
 
+	/**
+	 * The thread dump is larger than one chunk of streamed output, so it arrives in several parts.
+	 */
+	@Test
+	public void testManyThreads() throws IOException, InterruptedException {
+		final int threadCount = 500;
+		final String threadNamePrefix = "TestJstack_waiter_"; //$NON-NLS-1$
+		final Object lock = new Object();
+		List<Thread> waiters = new ArrayList<>();
+		try {
+			for (int i = 0; i < threadCount; ++i) {
+				Thread waiter = new Thread(() -> {
+					synchronized (lock) {
+						try {
+							lock.wait();
+						} catch (InterruptedException e) {
+							/* done */
+						}
+					}
+				}, threadNamePrefix + i);
+				waiter.setDaemon(true);
+				waiter.start();
+				waiters.add(waiter);
+			}
+			String myId = TargetManager.getVmId();
+			List<String> jpsOutput = runCommand(Collections.singletonList(myId));
+			int outputLength = 0;
+			for (String s : jpsOutput) {
+				outputLength += s.length();
+			}
+			log("jstack output length: " + outputLength); //$NON-NLS-1$
+			for (int i = 0; i < threadCount; ++i) {
+				String threadName = "\"" + threadNamePrefix + i + "\""; //$NON-NLS-1$ //$NON-NLS-2$
+				assertTrue(StringUtilities.searchSubstring(threadName, jpsOutput).isPresent(), threadName + " missing"); //$NON-NLS-1$
+			}
+		} finally {
+			for (Thread waiter : waiters) {
+				waiter.interrupt();
+			}
+			for (Thread waiter : waiters) {
+				waiter.join();
+			}
+		}
+	}
+
 	@Test
 	public void testProperties() throws IOException {
 		Properties myProps = System.getProperties();
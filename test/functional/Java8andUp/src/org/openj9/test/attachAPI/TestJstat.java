@@ -25,6 +25,7 @@ package org.openj9.test.attachAPI;
 import org.testng.AssertJUnit;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +41,9 @@ public class TestJstat extends AttachApiTest {
 	private static final String JSTAT_COMMAND = "jstat"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS = "-class"; //$NON-NLS-1$
 	private static final String JSTAT_OPTION_CLASS_HEADER = "Class Loaded    Class Unloaded"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_COUNTERS = "-counters"; //$NON-NLS-1$
+	private static final String JSTAT_OPTION_COUNTERS_HEADER = "threads_live"; //$NON-NLS-1$
+	private static final String JSTAT_INTERVAL = "100ms"; //$NON-NLS-1$
 	Object syncObject = new Object();
 	private String vmId;
 
@@ -59,6 +63,61 @@ public class TestJstat extends AttachApiTest {
 		AssertJUnit.assertTrue(JSTAT_OPTION_CLASS_HEADER + " missing", searchResult.isPresent()); //$NON-NLS-1$
 	}
 
+	@Test
+	public void testOptionClassSampled() throws IOException {
+		final int sampleCount = 3;
+		List<String> jstatOutput = runCommand(Arrays.asList(JSTAT_OPTION_CLASS, vmId, JSTAT_INTERVAL, Integer.toString(sampleCount)));
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		List<long[]> samples = getSamples(jstatOutput, JSTAT_OPTION_CLASS_HEADER);
+		AssertJUnit.assertEquals("Wrong number of samples", sampleCount, samples.size()); //$NON-NLS-1$
+		for (long[] sample : samples) {
+			AssertJUnit.assertEquals("Wrong number of columns", 2, sample.length); //$NON-NLS-1$
+			AssertJUnit.assertTrue("No classes loaded", sample[0] > 0); //$NON-NLS-1$
+		}
+	}
+
+	@Test
+	public void testOptionCounters() throws IOException {
+		final int sampleCount = 2;
+		List<String> jstatOutput = runCommand(Arrays.asList(JSTAT_OPTION_COUNTERS, vmId, JSTAT_INTERVAL, Integer.toString(sampleCount)));
+		logOutput(jstatOutput, JSTAT_COMMAND);
+		List<long[]> samples = getSamples(jstatOutput, JSTAT_OPTION_COUNTERS_HEADER);
+		AssertJUnit.assertEquals("Wrong number of samples", sampleCount, samples.size()); //$NON-NLS-1$
+		/* uptime, heap used, heap committed, heap max, ..., threads live, threads daemon, threads peak, threads started */
+		long[] first = samples.get(0);
+		long[] second = samples.get(1);
+		AssertJUnit.assertEquals("Wrong number of columns", 13, first.length); //$NON-NLS-1$
+		AssertJUnit.assertTrue("Uptime did not increase", second[0] > first[0]); //$NON-NLS-1$
+		AssertJUnit.assertTrue("Heap used exceeds heap committed", first[1] <= first[2]); //$NON-NLS-1$
+		AssertJUnit.assertTrue("No live threads", first[9] > 0); //$NON-NLS-1$
+		AssertJUnit.assertTrue("Live threads exceed peak threads", first[9] <= first[11]); //$NON-NLS-1$
+	}
+
+	/**
+	 * Parse the rows of numbers following the header line.
+	 */
+	private static List<long[]> getSamples(List<String> jstatOutput, String header) {
+		List<long[]> samples = new ArrayList<>();
+		boolean foundHeader = false;
+		for (String line : jstatOutput) {
+			String trimmed = line.trim();
+			if (foundHeader) {
+				if (!trimmed.isEmpty()) {
+					String[] values = trimmed.split("\\s+"); //$NON-NLS-1$
+					long[] sample = new long[values.length];
+					for (int i = 0; i < values.length; ++i) {
+						sample[i] = Long.parseLong(values[i]);
+					}
+					samples.add(sample);
+				}
+			} else if (line.contains(header)) {
+				foundHeader = true;
+			}
+		}
+		AssertJUnit.assertTrue(header + " missing", foundHeader); //$NON-NLS-1$
+		return samples;
+	}
+
 	@BeforeSuite
 	protected void setupSuite() {
 		getJdkUtilityPath(JSTAT_COMMAND);
@@ -26,12 +26,18 @@ import org.testng.annotations.Test;
 import org.testng.annotations.BeforeMethod;
 import org.openj9.test.support.Support_ExtendedTestEnvironment;
 import org.testng.AssertJUnit;
+import org.testng.log4testng.Logger;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import com.ibm.oti.vm.VM;
 
 @Test(groups = { "level.sanity" })
 public class Test_ReferenceQueue {
+	private static final Logger logger = Logger.getLogger(Test_ReferenceQueue.class);
 	static Boolean b;
 	static Integer integer;
 	final boolean disableClearBeforeEnqueue =
@@ -137,6 +143,102 @@ public class Test_ReferenceQueue {
 		}
 	}
 
+	/**
+	 * @tests com.ibm.oti.vm.VMRefAccess#drain(ReferenceQueue, Reference[], int, int)
+	 */
+	@Test
+	public void test_drain() {
+		Object referent = new Object();
+		for (int i = 0; i < 10; i++) {
+			AssertJUnit.assertTrue("Enqueue failed.", new WeakReference(referent, rq).enqueue());
+		}
+		Reference[] refs = new Reference[6];
+		AssertJUnit.assertEquals("First drain.", 4, VM.getVMRefAccess().drain(rq, refs, 2, 4));
+		AssertJUnit.assertNull("Drain wrote before offset.", refs[1]);
+		for (int i = 2; i < 6; i++) {
+			AssertJUnit.assertNotNull("Drained reference missing.", refs[i]);
+			AssertJUnit.assertFalse("Drained reference still enqueued.", refs[i].isEnqueued());
+		}
+		AssertJUnit.assertEquals("Second drain.", 6, VM.getVMRefAccess().drain(rq, refs, 0, 6));
+		AssertJUnit.assertEquals("Drain of empty queue.", 0, VM.getVMRefAccess().drain(rq, refs, 0, 6));
+		AssertJUnit.assertNull("Queue is empty.", rq.poll());
+	}
+
+	/**
+	 * @tests java.lang.ref.ReferenceQueue#remove(long)
+	 *
+	 * Enqueue references from several threads while others drain them, some
+	 * in bulk and some waiting in remove(), and check that each reference is
+	 * removed exactly once. The throughput is logged.
+	 */
+	@Test
+	public void test_concurrentEnqueueRemove() throws InterruptedException {
+		final int producers = 4;
+		final int perProducer = 50000;
+		final int total = producers * perProducer;
+		final AtomicInteger removed = new AtomicInteger();
+		final CountDownLatch start = new CountDownLatch(1);
+		final Object referent = new Object();
+		final ReferenceQueue queue = rq;
+		Thread[] threads = new Thread[producers + 2];
+
+		for (int i = 0; i < producers; i++) {
+			threads[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						return;
+					}
+					for (int j = 0; j < perProducer; j++) {
+						new WeakReference(referent, queue).enqueue();
+					}
+				}
+			};
+		}
+		/* one consumer drains in bulk, the other waits for each reference */
+		threads[producers] = new Thread() {
+			public void run() {
+				Reference[] refs = new Reference[64];
+				while (removed.get() < total) {
+					int count = VM.getVMRefAccess().drain(queue, refs, 0, refs.length);
+					if (0 == count) {
+						Thread.yield();
+					} else {
+						removed.addAndGet(count);
+					}
+				}
+			}
+		};
+		threads[producers + 1] = new Thread() {
+			public void run() {
+				try {
+					while (removed.get() < total) {
+						if (null != queue.remove(10)) {
+							removed.incrementAndGet();
+						}
+					}
+				} catch (InterruptedException e) {
+					// finish early
+				}
+			}
+		};
+
+		for (Thread thread : threads) {
+			thread.start();
+		}
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Thread thread : threads) {
+			thread.join(60000);
+		}
+		long elapsed = System.nanoTime() - begin;
+
+		AssertJUnit.assertEquals("References removed.", total, removed.get());
+		AssertJUnit.assertNull("Queue is empty.", queue.poll());
+		logger.info("Enqueued and removed " + total + " references in " + (elapsed / 1000000) + "ms");
+	}
+
 	/**
 	 * @tests java.lang.ref.ReferenceQueue#ReferenceQueue()
 	 */
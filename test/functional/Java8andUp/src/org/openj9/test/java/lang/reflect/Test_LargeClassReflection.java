@@ -0,0 +1,151 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.java.lang.reflect;
+
+import static org.objectweb.asm.Opcodes.ACC_ABSTRACT;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import org.objectweb.asm.ClassWriter;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.testng.log4testng.Logger;
+
+/**
+ * Reflective lookups on a class that is large enough for the VM to use its
+ * hashed name index rather than a linear search.
+ */
+@Test(groups = { "level.sanity" })
+public class Test_LargeClassReflection {
+
+	private static Logger logger = Logger.getLogger(Test_LargeClassReflection.class);
+
+	private static final String CLASS_NAME = "LargeReflectionClass";
+
+	private static final int METHOD_COUNT = 5000;
+
+	private static final int FIELD_COUNT = 500;
+
+	private Class<?> largeClass;
+
+	static final class LargeClassLoader extends ClassLoader {
+		Class<?> define(String name, byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+
+	private static byte[] makeClassFile() {
+		ClassWriter cw = new ClassWriter(0);
+
+		cw.visit(V1_8, ACC_PUBLIC | ACC_ABSTRACT, CLASS_NAME, null, "java/lang/Object", null);
+		for (int i = 0; i < FIELD_COUNT; i++) {
+			int access = ((i % 2) == 0) ? ACC_PUBLIC : (ACC_PUBLIC | ACC_STATIC);
+			cw.visitField(access, "f" + i, "I", null, null).visitEnd();
+		}
+		for (int i = 0; i < METHOD_COUNT; i++) {
+			cw.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "m" + i, "()V", null, null).visitEnd();
+		}
+		/* overloads declared after the other methods */
+		cw.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "m7", "(I)V", null, null).visitEnd();
+		cw.visitMethod(ACC_PUBLIC | ACC_ABSTRACT, "m7", "(Ljava/lang/String;)I", null, null).visitEnd();
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	@BeforeClass
+	public void setUp() {
+		long start = System.nanoTime();
+		largeClass = new LargeClassLoader().define(CLASS_NAME, makeClassFile());
+		logger.debug("Defined " + CLASS_NAME + " in " + ((System.nanoTime() - start) / 1000) + "us");
+	}
+
+	/**
+	 * @tests java.lang.Class#getDeclaredMethod(String, Class...)
+	 */
+	@Test
+	public void test_getDeclaredMethod() throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < METHOD_COUNT; i++) {
+			Method method = largeClass.getDeclaredMethod("m" + i);
+			Assert.assertEquals(method.getName(), "m" + i);
+			Assert.assertEquals(method.getParameterTypes().length, 0);
+		}
+		logger.info("getDeclaredMethod() for " + METHOD_COUNT + " methods took "
+				+ ((System.nanoTime() - start) / 1000) + "us");
+
+		Method overload = largeClass.getDeclaredMethod("m7", int.class);
+		Assert.assertEquals(overload.getParameterTypes(), new Class<?>[] { int.class });
+		overload = largeClass.getDeclaredMethod("m7", String.class);
+		Assert.assertEquals(overload.getReturnType(), int.class);
+		Assert.assertTrue(Modifier.isAbstract(overload.getModifiers()));
+
+		try {
+			largeClass.getDeclaredMethod("m" + METHOD_COUNT);
+			Assert.fail("NoSuchMethodException expected");
+		} catch (NoSuchMethodException e) {
+			// expected
+		}
+		try {
+			largeClass.getDeclaredMethod("m7", long.class);
+			Assert.fail("NoSuchMethodException expected");
+		} catch (NoSuchMethodException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * @tests java.lang.Class#getMethod(String, Class...)
+	 */
+	@Test
+	public void test_getMethod() throws Exception {
+		Assert.assertEquals(largeClass.getMethod("m" + (METHOD_COUNT - 1)).getDeclaringClass(), largeClass);
+		Assert.assertEquals(largeClass.getMethod("hashCode").getDeclaringClass(), Object.class);
+	}
+
+	/**
+	 * @tests java.lang.Class#getDeclaredField(String)
+	 */
+	@Test
+	public void test_getDeclaredField() throws Exception {
+		long start = System.nanoTime();
+		for (int i = 0; i < FIELD_COUNT; i++) {
+			Field field = largeClass.getDeclaredField("f" + i);
+			Assert.assertEquals(field.getName(), "f" + i);
+			Assert.assertEquals(Modifier.isStatic(field.getModifiers()), (i % 2) != 0);
+		}
+		logger.info("getDeclaredField() for " + FIELD_COUNT + " fields took "
+				+ ((System.nanoTime() - start) / 1000) + "us");
+
+		try {
+			largeClass.getDeclaredField("m0");
+			Assert.fail("NoSuchFieldException expected");
+		} catch (NoSuchFieldException e) {
+			// expected
+		}
+	}
+}
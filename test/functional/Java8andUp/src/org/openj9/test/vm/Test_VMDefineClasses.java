@@ -0,0 +1,193 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package org.openj9.test.vm;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.ibm.oti.vm.VM;
+
+/**
+ * Tests for com.ibm.oti.vm.VM.defineClasses().
+ */
+@Test(groups = { "level.sanity" })
+public class Test_VMDefineClasses {
+
+	private static final int CLASS_COUNT = 64;
+
+	private static final String PACKAGE_NAME = "org.openj9.test.vm.defineclasses";
+
+	/**
+	 * Defines its classes with VM.defineClasses(), as a class loader would.
+	 */
+	private static final class BatchLoader extends ClassLoader {
+		BatchLoader() {
+			super(Test_VMDefineClasses.class.getClassLoader());
+		}
+
+		Class<?>[] defineAll(String[] classNames, byte[][] classReps) {
+			return VM.defineClasses(this, classNames, classReps, null);
+		}
+
+		Class<?>[] defineAllIn(ClassLoader loader, String[] classNames, byte[][] classReps) {
+			return VM.defineClasses(loader, classNames, classReps, null);
+		}
+
+		Class<?> findLoaded(String className) {
+			return findLoadedClass(className);
+		}
+	}
+
+	private static String className(int index) {
+		return PACKAGE_NAME + ".Batch" + index;
+	}
+
+	private static String[] classNames(int count) {
+		String[] classNames = new String[count];
+		for (int i = 0; i < count; i++) {
+			classNames[i] = className(i);
+		}
+		return classNames;
+	}
+
+	/*
+	 * Every odd numbered class extends the class before it, so the batch must be
+	 * defined in order for the superclasses to be found.
+	 */
+	private static byte[] generateClass(int index) {
+		String internalName = className(index).replace('.', '/');
+		String superName = ((index % 2) == 1) ? className(index - 1).replace('.', '/') : "java/lang/Object";
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+		cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, internalName, null, superName, null);
+
+		MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(Opcodes.ALOAD, 0);
+		mv.visitMethodInsn(Opcodes.INVOKESPECIAL, superName, "<init>", "()V", false);
+		mv.visitInsn(Opcodes.RETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		mv = cw.visitMethod(Opcodes.ACC_PUBLIC, "value", "()I", null, null);
+		mv.visitCode();
+		mv.visitLdcInsn(Integer.valueOf(index));
+		mv.visitInsn(Opcodes.IRETURN);
+		mv.visitMaxs(0, 0);
+		mv.visitEnd();
+
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	private static byte[][] generateClasses(int count) {
+		byte[][] classReps = new byte[count][];
+		for (int i = 0; i < count; i++) {
+			classReps[i] = generateClass(i);
+		}
+		return classReps;
+	}
+
+	@Test
+	public void test_defineClasses() throws Exception {
+		BatchLoader loader = new BatchLoader();
+		String[] classNames = classNames(CLASS_COUNT);
+		Class<?>[] classes = loader.defineAll(classNames, generateClasses(CLASS_COUNT));
+
+		Assert.assertEquals(classes.length, CLASS_COUNT);
+		for (int i = 0; i < CLASS_COUNT; i++) {
+			Class<?> clazz = classes[i];
+			Assert.assertEquals(clazz.getName(), classNames[i]);
+			Assert.assertSame(clazz.getClassLoader(), loader);
+			Assert.assertSame(loader.findLoaded(classNames[i]), clazz);
+			if ((i % 2) == 1) {
+				Assert.assertSame(clazz.getSuperclass(), classes[i - 1]);
+			}
+			Object instance = clazz.getDeclaredConstructor().newInstance();
+			Assert.assertEquals(clazz.getMethod("value").invoke(instance), Integer.valueOf(i));
+		}
+	}
+
+	@Test
+	public void test_defineClasses_stopsAtFirstFailure() {
+		final int badIndex = 5;
+		BatchLoader loader = new BatchLoader();
+		String[] classNames = classNames(CLASS_COUNT);
+		byte[][] classReps = generateClasses(CLASS_COUNT);
+		classReps[badIndex] = new byte[] { (byte)0xCA, (byte)0xFE, (byte)0xBA, (byte)0xBE, 0, 0 };
+
+		try {
+			loader.defineAll(classNames, classReps);
+			Assert.fail("ClassFormatError expected");
+		} catch (ClassFormatError e) {
+			// expected
+		}
+		for (int i = 0; i < CLASS_COUNT; i++) {
+			Class<?> clazz = loader.findLoaded(classNames[i]);
+			if (i < badIndex) {
+				Assert.assertNotNull(clazz, classNames[i] + " should have been defined");
+			} else {
+				Assert.assertNull(clazz, classNames[i] + " should not have been defined");
+			}
+		}
+	}
+
+	@Test
+	public void test_defineClasses_wrongName() {
+		BatchLoader loader = new BatchLoader();
+		String[] classNames = classNames(CLASS_COUNT);
+		byte[][] classReps = generateClasses(CLASS_COUNT);
+		classNames[2] = PACKAGE_NAME + ".NotBatch2";
+
+		try {
+			loader.defineAll(classNames, classReps);
+			Assert.fail("NoClassDefFoundError expected");
+		} catch (NoClassDefFoundError e) {
+			// expected
+		}
+		Assert.assertNotNull(loader.findLoaded(classNames[1]));
+		Assert.assertNull(loader.findLoaded(classNames[3]));
+	}
+
+	@Test
+	public void test_defineClasses_callerCheck() {
+		BatchLoader loader = new BatchLoader();
+		String[] classNames = classNames(2);
+		byte[][] classReps = generateClasses(2);
+
+		try {
+			VM.defineClasses(loader, classNames, classReps, null);
+			Assert.fail("SecurityException expected, the caller is not a class loader");
+		} catch (SecurityException e) {
+			// expected
+		}
+		try {
+			loader.defineAllIn(new ClassLoader() {}, classNames, classReps);
+			Assert.fail("SecurityException expected, the caller is not the class of the class loader");
+		} catch (SecurityException e) {
+			// expected
+		}
+		Assert.assertNull(loader.findLoaded(classNames[0]));
+	}
+}
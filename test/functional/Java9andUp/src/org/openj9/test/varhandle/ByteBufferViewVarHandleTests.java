@@ -2551,6 +2551,29 @@ public class ByteBufferViewVarHandleTests extends ViewVarHandleTests {
 		Assert.assertEquals((byte)40, _buffer.get(7));
 	}
 
+	/**
+	 * Read and write every element of a sliced {@link ByteBuffer} in a loop. Expect the same values
+	 * as the corresponding {@link ByteBuffer} accessors.
+	 */
+	@Test
+	public void testLoopOverSlicedByteBuffer() {
+		ByteBufferViewHelper.reset();
+
+		_buffer.mark();
+		_buffer.position(1);
+		ByteBuffer bufferSlice = _buffer.slice().order(_byteOrder);
+		_buffer.reset();
+
+		for (int i = 0; i <= (bufferSlice.limit() - Integer.BYTES); i++) {
+			Assert.assertEquals((int)vhInt.get(bufferSlice, i), bufferSlice.getInt(i));
+		}
+		for (int i = 0; i <= (bufferSlice.limit() - Long.BYTES); i++) {
+			vhLong.set(bufferSlice, i, (long)i);
+			Assert.assertEquals(bufferSlice.getLong(i), (long)i);
+		}
+		ByteBufferViewHelper.reset();
+	}
+
 	/**
 	 * Operate on a ByteBuffer which wraps an array with an offset. Expect the elements to <b>not</b> be shifted.
 	 */
@@ -0,0 +1,275 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.ras.tests;
+
+import static com.ibm.jvm.ras.tests.DumpAPISuite.deleteFile;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import junit.framework.TestCase;
+
+/**
+ * Checks javacores written with opts=LIGHT. Run with -Xdump:java:opts=LIGHT
+ * so that the command line form of the option is parsed as well.
+ */
+public class DumpAPILightJavaDumpTests extends TestCase {
+
+	private static final String LIGHT_MARKER = "1TIPREPINFO    Light javacore";
+
+	private static final Pattern PAUSE = Pattern.compile("^1TIDMPPAUSE    .*: (\\d+)us$");
+
+	private static final Pattern DURATION = Pattern.compile("^1TIDMPDURATION .*: (\\d+)ms$");
+
+	private static final String THREADS_SECTION = "0SECTION       THREADS subcomponent dump routine";
+
+	private static final String THREAD_INFO = "3XMTHREADINFO      \"";
+
+	private static final String JAVA_CALLSTACK = "3XMTHREADINFO3           Java callstack:";
+
+	private static final String OWNER_NAME = "LightJavaDump: lock owner";
+
+	private static final String BLOCKED_NAME = "LightJavaDump: blocked";
+
+	private static final String WAITING_NAME = "LightJavaDump: waiting";
+
+	/* Javacores name classes in stack frames with slashes. */
+	private static final String TEST_CLASS_NAME = DumpAPILightJavaDumpTests.class.getName().replace('.', '/');
+
+	private static final String END_OF_DUMP = "NULL           ---------------------- END OF DUMP -------------------------------------";
+
+	private long uid = System.currentTimeMillis();
+
+	private final Object lock = new Object();
+
+	private final Object waitLock = new Object();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private boolean released;
+
+	private Thread owner;
+
+	private Thread blocked;
+
+	private Thread waiting;
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		owner = new Thread(new Runnable() {
+			public void run() {
+				synchronized (lock) {
+					awaitRelease();
+				}
+			}
+		}, OWNER_NAME);
+		blocked = new Thread(new Runnable() {
+			public void run() {
+				synchronized (lock) {
+					/* Only gets here once the owner has been released. */
+				}
+			}
+		}, BLOCKED_NAME);
+		waiting = new Thread(new Runnable() {
+			public void run() {
+				synchronized (waitLock) {
+					while (!released) {
+						try {
+							waitLock.wait();
+						} catch (InterruptedException e) {
+							/* Keep waiting until released. */
+						}
+					}
+				}
+			}
+		}, WAITING_NAME);
+		owner.start();
+		waitForState(owner, Thread.State.WAITING);
+		blocked.start();
+		waitForState(blocked, Thread.State.BLOCKED);
+		waiting.start();
+		waitForState(waiting, Thread.State.WAITING);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		synchronized (waitLock) {
+			released = true;
+			waitLock.notifyAll();
+		}
+		release.countDown();
+		owner.join();
+		blocked.join();
+		waiting.join();
+		super.tearDown();
+	}
+
+	public void testLightAgentConfigured() {
+		String[] agents = com.ibm.jvm.Dump.queryDumpOptions();
+		for (String agent : agents) {
+			if (agent.startsWith("java:") && agent.contains("opts=LIGHT")) {
+				return;
+			}
+		}
+		fail("No java dump agent with opts=LIGHT, run with -Xdump:java:opts=LIGHT");
+	}
+
+	public void testLightJavaDump() throws Exception {
+		String userDir = System.getProperty("user.dir");
+		String lightName = userDir + File.separator + "javacore." + getName() + ".light." + uid + ".txt";
+
+		try {
+			String lightFile = com.ibm.jvm.Dump.triggerDump("java:file=" + lightName + ",opts=LIGHT");
+			assertEquals("Light javacore written to the wrong file", lightName, lightFile);
+
+			List<String> lines = readLines(lightName);
+			assertTrue("No \"" + LIGHT_MARKER + "\" line in " + lightName, indexOfPrefix(lines, LIGHT_MARKER, 0) >= 0);
+
+			long pauseMicros = parseLong(lines, PAUSE, lightName);
+			long durationMillis = parseLong(lines, DURATION, lightName);
+			/* The pause is part of the time taken to write the dump. */
+			assertTrue("1TIDMPPAUSE of " + pauseMicros + "us exceeds 1TIDMPDURATION of " + durationMillis + "ms",
+					(pauseMicros / 1000) <= durationMillis);
+
+			checkThreadsSection(lines, lightName);
+		} finally {
+			deleteFile(lightName, getName());
+		}
+	}
+
+	public void testDefaultJavaDumpIsNotLight() throws Exception {
+		String userDir = System.getProperty("user.dir");
+		String defaultName = userDir + File.separator + "javacore." + getName() + ".default." + uid + ".txt";
+
+		try {
+			String defaultFile = com.ibm.jvm.Dump.triggerDump("java:file=" + defaultName);
+			assertEquals("Javacore written to the wrong file", defaultName, defaultFile);
+
+			List<String> lines = readLines(defaultName);
+			assertEquals("Unexpected \"" + LIGHT_MARKER + "\" line in " + defaultName, -1, indexOfPrefix(lines, LIGHT_MARKER, 0));
+			assertEquals("Unexpected 1TIDMPPAUSE line in " + defaultName, -1, indexOfPrefix(lines, "1TIDMPPAUSE", 0));
+
+			checkThreadsSection(lines, defaultName);
+		} finally {
+			deleteFile(defaultName, getName());
+		}
+	}
+
+	/**
+	 * The THREADS section must be followed by the rest of the javacore and
+	 * list every test thread with its Java stack and what it is blocked on.
+	 */
+	private static void checkThreadsSection(List<String> lines, String fileName) {
+		int start = indexOfPrefix(lines, THREADS_SECTION, 0);
+		assertTrue("No THREADS section in " + fileName, start >= 0);
+		int end = indexOfPrefix(lines, "0SECTION", start + 1);
+		assertTrue("THREADS section is the last section in " + fileName, end > start);
+		assertTrue("No end of dump line in " + fileName, indexOfPrefix(lines, END_OF_DUMP, end) > end);
+		assertTrue("No thread details in the THREADS section of " + fileName,
+				indexOfPrefix(lines.subList(start, end), "1XMTHDINFO     Thread Details", 0) >= 0);
+
+		List<String> threads = lines.subList(start, end);
+		checkThread(threads, OWNER_NAME, "3XMTHREADBLOCK     Parked on:", fileName);
+		checkThread(threads, BLOCKED_NAME, "3XMTHREADBLOCK     Blocked on:", fileName);
+		checkThread(threads, WAITING_NAME, "3XMTHREADBLOCK     Waiting on:", fileName);
+	}
+
+	private static void checkThread(List<String> threads, String threadName, String blockPrefix, String fileName) {
+		int start = indexOfPrefix(threads, THREAD_INFO + threadName + "\"", 0);
+		assertTrue("Thread \"" + threadName + "\" missing from " + fileName, start >= 0);
+		int end = indexOfPrefix(threads, THREAD_INFO, start + 1);
+		if (end < 0) {
+			end = threads.size();
+		}
+		List<String> thread = threads.subList(start, end);
+		assertTrue("No \"" + blockPrefix + "\" line for \"" + threadName + "\" in " + fileName,
+				indexOfPrefix(thread, blockPrefix, 0) >= 0);
+		int stack = indexOfPrefix(thread, JAVA_CALLSTACK, 0);
+		assertTrue("No Java callstack for \"" + threadName + "\" in " + fileName, stack >= 0);
+		boolean foundFrame = false;
+		for (String line : thread.subList(stack, thread.size())) {
+			if (line.startsWith("4XESTACKTRACE") && line.contains(TEST_CLASS_NAME)) {
+				foundFrame = true;
+				break;
+			}
+		}
+		assertTrue("No test frame in the Java callstack of \"" + threadName + "\" in " + fileName, foundFrame);
+	}
+
+	private static long parseLong(List<String> lines, Pattern pattern, String fileName) {
+		for (String line : lines) {
+			Matcher matcher = pattern.matcher(line);
+			if (matcher.matches()) {
+				return Long.parseLong(matcher.group(1));
+			}
+		}
+		fail("No line matching \"" + pattern.pattern() + "\" in " + fileName);
+		return -1;
+	}
+
+	private static int indexOfPrefix(List<String> lines, String prefix, int from) {
+		for (int i = from; i < lines.size(); i++) {
+			if (lines.get(i).startsWith(prefix)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static List<String> readLines(String fileName) throws Exception {
+		List<String> lines = new ArrayList<String>();
+		BufferedReader in = new BufferedReader(new FileReader(fileName));
+		try {
+			String line;
+			while ((line = in.readLine()) != null) {
+				lines.add(line);
+			}
+		} finally {
+			in.close();
+		}
+		return lines;
+	}
+
+	private void awaitRelease() {
+		while (true) {
+			try {
+				release.await();
+				return;
+			} catch (InterruptedException e) {
+				/* Keep holding the lock until released. */
+			}
+		}
+	}
+
+	private static void waitForState(Thread thread, Thread.State state) throws InterruptedException {
+		while (thread.getState() != state) {
+			Thread.sleep(10);
+		}
+	}
+}
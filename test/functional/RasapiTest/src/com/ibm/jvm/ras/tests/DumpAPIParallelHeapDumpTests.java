@@ -0,0 +1,221 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package com.ibm.jvm.ras.tests;
+
+import static com.ibm.jvm.ras.tests.DumpAPISuite.deleteFile;
+import static com.ibm.jvm.ras.tests.DumpAPISuite.getContentType;
+
+import java.io.File;
+import java.util.Iterator;
+
+import junit.framework.TestCase;
+
+import com.ibm.dtfj.image.Image;
+import com.ibm.dtfj.image.ImageAddressSpace;
+import com.ibm.dtfj.image.ImageFactory;
+import com.ibm.dtfj.image.ImageProcess;
+import com.ibm.dtfj.java.JavaHeap;
+import com.ibm.dtfj.java.JavaObject;
+import com.ibm.dtfj.java.JavaReference;
+import com.ibm.dtfj.java.JavaRuntime;
+import com.ibm.jvm.ras.tests.DumpAPISuite.DumpType;
+
+/**
+ * Compares heap dumps written with opts=PHD+PARALLEL and with opts=PHD+GZIP
+ * to one written serially. Run with a region based GC policy so that the heap
+ * has enough regions for the dump to start its threads.
+ */
+public class DumpAPIParallelHeapDumpTests extends TestCase {
+
+	private static final int NODE_COUNT = 200000;
+
+	private static final String NODE_CLASS_NAME = Node.class.getName().replace('.', '/');
+
+	private long uid = System.currentTimeMillis();
+
+	/* Kept reachable so that both dumps contain every node. */
+	private static Node[] nodes;
+
+	private static final class Node {
+		final Node next;
+		final byte[] payload;
+
+		Node(Node next, int size) {
+			this.next = next;
+			this.payload = new byte[size];
+		}
+	}
+
+	/**
+	 * Counts taken while reading every object in a heap dump.
+	 */
+	private static final class HeapSummary {
+		long objects;
+		long nodes;
+		long nodeReferences;
+		boolean ordered = true;
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		Node previous = null;
+		nodes = new Node[NODE_COUNT];
+		for (int i = 0; i < NODE_COUNT; i++) {
+			/* Vary the sizes so that objects straddle the ends of the segments. */
+			previous = new Node(previous, i % 97);
+			nodes[i] = previous;
+		}
+		System.gc();
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		nodes = null;
+		super.tearDown();
+	}
+
+	public void testParallelHeapDumpMatchesSerialHeapDump() throws Exception {
+		String userDir = System.getProperty("user.dir");
+		String serialName = userDir + File.separator + "heapdump." + getName() + ".serial." + uid + ".phd";
+		String parallelName = userDir + File.separator + "heapdump." + getName() + ".parallel." + uid + ".phd";
+
+		try {
+			String serialFile = com.ibm.jvm.Dump.triggerDump("heap:file=" + serialName + ",opts=PHD");
+			String parallelFile = com.ibm.jvm.Dump.triggerDump("heap:file=" + parallelName + ",opts=PHD+PARALLEL");
+			assertEquals("Serial heap dump written to the wrong file", serialName, serialFile);
+			assertEquals("Parallel heap dump written to the wrong file", parallelName, parallelFile);
+
+			assertEquals("Expected file " + parallelName + " to contain a heap dump",
+					DumpType.PHD_HEAP_TYPE, getContentType(new File(parallelName)));
+
+			HeapSummary serial = readHeapDump(serialName);
+			HeapSummary parallel = readHeapDump(parallelName);
+
+			assertEquals("Serial heap dump has the wrong number of nodes", NODE_COUNT, serial.nodes);
+			assertEquals("Parallel heap dump has the wrong number of nodes", serial.nodes, parallel.nodes);
+			assertEquals("Parallel heap dump has the wrong number of node references", serial.nodeReferences, parallel.nodeReferences);
+			assertTrue("Objects in the serial heap dump are out of address order", serial.ordered);
+			assertTrue("Objects in the parallel heap dump are out of address order", parallel.ordered);
+			/* Only the dumps themselves allocate between the two, so the totals may differ by a few objects. */
+			assertTrue("Parallel heap dump has " + parallel.objects + " objects, serial heap dump has " + serial.objects,
+					Math.abs(parallel.objects - serial.objects) < (serial.objects / 100));
+		} finally {
+			deleteFile(serialName, getName());
+			deleteFile(parallelName, getName());
+		}
+	}
+
+	public void testCompressedHeapDumpsMatchSerialHeapDump() throws Exception {
+		String userDir = System.getProperty("user.dir");
+		String serialName = userDir + File.separator + "heapdump." + getName() + ".serial." + uid + ".phd";
+		String compressedName = userDir + File.separator + "heapdump." + getName() + ".gzip." + uid + ".phd";
+		String parallelName = userDir + File.separator + "heapdump." + getName() + ".parallel." + uid + ".phd";
+
+		try {
+			com.ibm.jvm.Dump.triggerDump("heap:file=" + serialName + ",opts=PHD");
+			String compressedFile = com.ibm.jvm.Dump.triggerDump("heap:file=" + compressedName + ",opts=PHD+GZIP");
+			String parallelFile = com.ibm.jvm.Dump.triggerDump("heap:file=" + parallelName + ",opts=PHD+PARALLEL+GZIP");
+			/* Readers recognise compressed heap dumps by the suffix the VM adds to their names. */
+			assertEquals("Compressed heap dump written to the wrong file", compressedName + ".gz", compressedFile);
+			assertEquals("Compressed parallel heap dump written to the wrong file", parallelName + ".gz", parallelFile);
+			assertFalse("Uncompressed heap dump " + compressedName + " written", new File(compressedName).exists());
+
+			HeapSummary serial = readHeapDump(serialName);
+			HeapSummary compressed = readHeapDump(compressedFile);
+			HeapSummary parallel = readHeapDump(parallelFile);
+
+			assertEquals("Compressed heap dump has the wrong number of nodes", serial.nodes, compressed.nodes);
+			assertEquals("Compressed heap dump has the wrong number of node references", serial.nodeReferences, compressed.nodeReferences);
+			assertTrue("Objects in the compressed heap dump are out of address order", compressed.ordered);
+			assertEquals("Compressed parallel heap dump has the wrong number of nodes", serial.nodes, parallel.nodes);
+			assertEquals("Compressed parallel heap dump has the wrong number of node references", serial.nodeReferences, parallel.nodeReferences);
+			assertTrue("Objects in the compressed parallel heap dump are out of address order", parallel.ordered);
+		} finally {
+			deleteFile(serialName, getName());
+			deleteFile(compressedName + ".gz", getName());
+			deleteFile(parallelName + ".gz", getName());
+		}
+	}
+
+	private static HeapSummary readHeapDump(String fileName) throws Exception {
+		HeapSummary summary = new HeapSummary();
+		Class<?> factoryClass = Class.forName("com.ibm.dtfj.phd.PHDImageFactory");
+		ImageFactory factory = (ImageFactory) factoryClass.getDeclaredConstructor().newInstance();
+		Image image = factory.getImage(new File(fileName));
+
+		try {
+			for (Iterator<?> spaces = image.getAddressSpaces(); spaces.hasNext();) {
+				Object space = spaces.next();
+				if (!(space instanceof ImageAddressSpace)) {
+					continue;
+				}
+				for (Iterator<?> processes = ((ImageAddressSpace) space).getProcesses(); processes.hasNext();) {
+					Object process = processes.next();
+					if (!(process instanceof ImageProcess)) {
+						continue;
+					}
+					for (Iterator<?> runtimes = ((ImageProcess) process).getRuntimes(); runtimes.hasNext();) {
+						Object runtime = runtimes.next();
+						if (runtime instanceof JavaRuntime) {
+							readHeaps((JavaRuntime) runtime, summary);
+						}
+					}
+				}
+			}
+		} finally {
+			image.close();
+		}
+		return summary;
+	}
+
+	private static void readHeaps(JavaRuntime runtime, HeapSummary summary) throws Exception {
+		for (Iterator<?> heaps = runtime.getHeaps(); heaps.hasNext();) {
+			Object heap = heaps.next();
+			if (!(heap instanceof JavaHeap)) {
+				fail("Corrupt heap in " + runtime + ": " + heap);
+			}
+			long previousAddress = 0;
+			for (Iterator<?> objects = ((JavaHeap) heap).getObjects(); objects.hasNext();) {
+				Object next = objects.next();
+				if (!(next instanceof JavaObject)) {
+					fail("Corrupt object in heap dump: " + next);
+				}
+				JavaObject object = (JavaObject) next;
+				long address = object.getID().getAddress();
+				if (address <= previousAddress) {
+					summary.ordered = false;
+				}
+				previousAddress = address;
+				summary.objects += 1;
+				if (NODE_CLASS_NAME.equals(object.getJavaClass().getName())) {
+					summary.nodes += 1;
+					for (Iterator<?> references = object.getReferences(); references.hasNext();) {
+						if (references.next() instanceof JavaReference) {
+							summary.nodeReferences += 1;
+						}
+					}
+				}
+			}
+		}
+	}
+}
@@ -22,7 +22,10 @@ package j9vm.test.benchmark.zipfile;
  * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
  */
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -32,6 +35,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.jar.*;
 
+import com.ibm.oti.vm.VM;
 
 public class ClassloadingBenchmark {
 	
@@ -71,7 +75,27 @@ public class ClassloadingBenchmark {
 	}
 
 	/**
-	 * @param args
+	 * Defines the test classes from the bytes in the jar, either one at a time
+	 * with defineClass() or as a single batch with VM.defineClasses().
+	 */
+	protected static class DefiningClassLoader extends ClassLoader {
+
+		protected Class[] defineAll(String[] classNames, byte[][] classReps, boolean batch) {
+			if (batch) {
+				return VM.defineClasses(this, classNames, classReps, null);
+			}
+			Class[] classes = new Class[classNames.length];
+			for (int i = 0; i < classNames.length; i++) {
+				classes[i] = defineClass(classNames[i], classReps[i], 0, classReps[i].length);
+			}
+			return classes;
+		}
+	}
+
+	/**
+	 * @param args the jar containing the test classes, optionally followed by
+	 * "define" to define the classes one at a time from their bytes, or "batch"
+	 * to define them as a single batch
 	 */
 	public static void main(String[] args) {
 		ClassloadingBenchmark runner = new ClassloadingBenchmark();
@@ -94,8 +118,14 @@ public class ClassloadingBenchmark {
 			}
 			
 			// get a all the entries in the jar
-			ZipRecord record = new ZipRecord(new ZipFile(args[0]));
+			ZipFile zipFile = new ZipFile(args[0]);
+			ZipRecord record = new ZipRecord(zipFile);
 			System.out.println("Loaded " + args[0] + " which contains " + record.getCount() + " test classes");
+
+			if (args.length > 1) {
+				defineClasses(zipFile, record, "batch".equals(args[1]));
+				return;
+			}
 		
 			// warm up to avoid resolve first time we run
 			System.nanoTime();
@@ -122,4 +152,41 @@ public class ClassloadingBenchmark {
 			e.printStackTrace();
 		}
 	}
+
+	/*
+	 * Time only the definition of the classes, the class files are read from the jar beforehand.
+	 */
+	private void defineClasses(ZipFile zipFile, ZipRecord record, boolean batch) throws IOException {
+		String[] classNames = new String[record.getCount()];
+		byte[][] classReps = new byte[classNames.length][];
+		Iterator classIter = record.iterator();
+		for (int i = 0; i < classNames.length; i++) {
+			classNames[i] = (String) classIter.next();
+			classReps[i] = readClassFile(zipFile, classNames[i]);
+		}
+
+		DefiningClassLoader loader = new DefiningClassLoader();
+		long startTime = System.nanoTime();
+		Class[] classes = loader.defineAll(classNames, classReps, batch);
+		long endTime = System.nanoTime();
+
+		System.out.println("Took " + (endTime-startTime) + " nanoseconds to define " + classes.length + " classes"
+				+ (batch ? " in a batch" : " one at a time"));
+	}
+
+	private static byte[] readClassFile(ZipFile zipFile, String className) throws IOException {
+		ZipEntry zipEntry = zipFile.getEntry(className.replace('.', '/') + ".class");
+		InputStream in = zipFile.getInputStream(zipEntry);
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int count = 0;
+			while ((count = in.read(buffer)) != -1) {
+				out.write(buffer, 0, count);
+			}
+			return out.toByteArray();
+		} finally {
+			in.close();
+		}
+	}
 }
@@ -0,0 +1,171 @@
+/*
+ * Copyright IBM Corp. and others 2026
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License 2.0 which accompanies this
+ * distribution and is available at https://www.eclipse.org/legal/epl-2.0/
+ * or the Apache License, Version 2.0 which accompanies this distribution and
+ * is available at https://www.apache.org/licenses/LICENSE-2.0.
+ *
+ * This Source Code may also be made available under the following
+ * Secondary Licenses when the conditions for such availability set
+ * forth in the Eclipse Public License, v. 2.0 are satisfied: GNU
+ * General Public License, version 2 with the GNU Classpath
+ * Exception [1] and GNU General Public License, version 2 with the
+ * OpenJDK Assembly Exception [2].
+ *
+ * [1] https://www.gnu.org/software/classpath/license.html
+ * [2] https://openjdk.org/legal/assembly-exception.html
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR Apache-2.0 OR GPL-2.0-only WITH Classpath-exception-2.0 OR GPL-2.0-only WITH OpenJDK-assembly-exception-1.0
+ */
+package j9vm.test.classloading;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Many threads look up already loaded classes with Class.forName() while
+ * another thread keeps defining classes, which inserts into the class tables
+ * under the VM-wide class table mutex. Lookups must always find the right
+ * class, and the lookup rate with and without the defining thread is printed
+ * so that runs with -XX:+FastClassHashTable and -XX:-FastClassHashTable can be
+ * compared.
+ */
+public class ClassTableContentionTest {
+	static final int READER_COUNT = 8;
+	static final long PHASE_MILLIS = 1000;
+
+	static final String[] NAMES = {
+		"java.lang.String",
+		"java.lang.Integer",
+		"java.util.ArrayList",
+		"java.util.HashMap",
+		"java.util.concurrent.ConcurrentHashMap",
+		"java.io.ByteArrayOutputStream",
+		"j9vm.test.classloading.ClassTableContentionTest",
+		"j9vm.test.classloading.ClassTableContentionTest$Payload",
+	};
+
+	public static class Payload {
+	}
+
+	static class DefiningLoader extends ClassLoader {
+		DefiningLoader() {
+			super(null);
+		}
+
+		Class<?> define(byte[] bytes) {
+			return defineClass(Payload.class.getName(), bytes, 0, bytes.length);
+		}
+	}
+
+	static volatile Throwable failure;
+
+	public static void main(String[] args) throws Exception {
+		ClassLoader loader = ClassTableContentionTest.class.getClassLoader();
+		Class<?>[] expected = new Class<?>[NAMES.length];
+		for (int i = 0; i < NAMES.length; i++) {
+			expected[i] = Class.forName(NAMES[i], false, loader);
+		}
+		byte[] payloadBytes = readClassBytes(Payload.class);
+
+		/* warm up so that the startup phase has ended and the lookup paths are compiled */
+		runPhase(loader, expected, null, PHASE_MILLIS / 2);
+
+		long quiet = runPhase(loader, expected, null, PHASE_MILLIS);
+		long contended = runPhase(loader, expected, payloadBytes, PHASE_MILLIS);
+
+		if (null != failure) {
+			throw new Error("Class lookup failed", failure);
+		}
+		System.out.println("Class.forName lookups/ms with " + READER_COUNT + " readers: "
+				+ (quiet / PHASE_MILLIS) + " quiet, "
+				+ (contended / PHASE_MILLIS) + " while defining classes");
+	}
+
+	static long runPhase(final ClassLoader loader, final Class<?>[] expected, final byte[] payloadBytes, long millis) throws Exception {
+		final AtomicBoolean stop = new AtomicBoolean();
+		final CountDownLatch start = new CountDownLatch(1);
+		final long[] counts = new long[READER_COUNT];
+		Thread[] readers = new Thread[READER_COUNT];
+		Thread definer = null;
+
+		for (int i = 0; i < READER_COUNT; i++) {
+			final int id = i;
+			readers[i] = new Thread() {
+				public void run() {
+					try {
+						start.await();
+						long count = 0;
+						int index = id;
+						while (!stop.get()) {
+							index = (index + 1) % NAMES.length;
+							if (expected[index] != Class.forName(NAMES[index], false, loader)) {
+								throw new Error("Wrong class for " + NAMES[index]);
+							}
+							count += 1;
+						}
+						counts[id] = count;
+					} catch (Throwable t) {
+						failure = t;
+					}
+				}
+			};
+			readers[i].start();
+		}
+		if (null != payloadBytes) {
+			definer = new Thread() {
+				public void run() {
+					try {
+						start.await();
+						while (!stop.get()) {
+							/* each loader gets its own table entry, added under the class table mutex */
+							new DefiningLoader().define(payloadBytes);
+						}
+					} catch (Throwable t) {
+						failure = t;
+					}
+				}
+			};
+			definer.start();
+		}
+
+		start.countDown();
+		Thread.sleep(millis);
+		stop.set(true);
+		for (int i = 0; i < READER_COUNT; i++) {
+			readers[i].join();
+		}
+		if (null != definer) {
+			definer.join();
+		}
+
+		long total = 0;
+		for (int i = 0; i < READER_COUNT; i++) {
+			total += counts[i];
+		}
+		return total;
+	}
+
+	static byte[] readClassBytes(Class<?> clazz) throws Exception {
+		String resource = clazz.getName().replace('.', '/') + ".class";
+		InputStream in = clazz.getClassLoader().getResourceAsStream(resource);
+		if (null == in) {
+			throw new Error("Cannot read " + resource);
+		}
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read = 0;
+			while ((read = in.read(buffer)) > 0) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		} finally {
+			in.close();
+		}
+	}
+}